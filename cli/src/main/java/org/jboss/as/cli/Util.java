@@ -70,6 +70,7 @@ public class Util {
 
     public static final String ACCESS_CONTROL = "access-control";
     public static final String ACCESS_TYPE = "access-type";
+    public static final String ADAPTIVE_ROLLING_TO_SERVERS = "adaptive-rolling-to-servers";
     public static final String ADD = "add";
     public static final String ADDRESS = "address";
     public static final String ADMIN_ONLY = "ADMIN_ONLY";
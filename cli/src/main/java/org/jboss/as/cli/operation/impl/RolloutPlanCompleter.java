@@ -164,6 +164,7 @@ public class RolloutPlanCompleter implements CommandLineCompleter {
         }
 
         if(lastGroup.endsOnPropertyListStart()) {
+            candidates.add(Util.ADAPTIVE_ROLLING_TO_SERVERS);
             candidates.add(Util.MAX_FAILED_SERVERS);
             candidates.add(Util.MAX_FAILURE_PERCENTAGE);
             candidates.add(Util.ROLLING_TO_SERVERS);
@@ -173,15 +174,19 @@ public class RolloutPlanCompleter implements CommandLineCompleter {
 
         // Only return the set of boolean properties
         if (lastGroup.endsOnNotOperator()) {
+            candidates.add(Util.ADAPTIVE_ROLLING_TO_SERVERS);
             candidates.add(Util.ROLLING_TO_SERVERS);
             return buffer.length();
         }
 
         if (lastGroup.hasProperties()) {
+            // rolling-to-servers and adaptive-rolling-to-servers are alternatives, only one of them is proposed
+            final boolean hasRolling = lastGroup.hasProperty(Util.ROLLING_TO_SERVERS)
+                    || lastGroup.hasProperty(Util.ADAPTIVE_ROLLING_TO_SERVERS);
             // To propose the right end character
             boolean containsAll = lastGroup.hasProperty(Util.MAX_FAILED_SERVERS)
                     && lastGroup.hasProperty(Util.MAX_FAILURE_PERCENTAGE)
-                    && lastGroup.hasProperty(Util.ROLLING_TO_SERVERS);
+                    && hasRolling;
 
             final String propValue = lastGroup.getLastPropertyValue();
             if(propValue != null) {
@@ -194,7 +199,7 @@ public class RolloutPlanCompleter implements CommandLineCompleter {
                     return buffer.length();
                 }
             } else if(lastGroup.endsOnPropertyValueSeparator()) {
-                if(Util.ROLLING_TO_SERVERS.equals(lastGroup.getLastPropertyName())) {
+                if(isRollingProperty(lastGroup.getLastPropertyName())) {
                     candidates.add(Util.FALSE);
                     candidates.add(containsAll ? ")" : ",");
                 }
@@ -206,7 +211,8 @@ public class RolloutPlanCompleter implements CommandLineCompleter {
                 if(!lastGroup.hasProperty(Util.MAX_FAILURE_PERCENTAGE)) {
                     candidates.add(Util.MAX_FAILURE_PERCENTAGE);
                 }
-                if(!lastGroup.hasProperty(Util.ROLLING_TO_SERVERS)) {
+                if(!hasRolling) {
+                    candidates.add(Util.ADAPTIVE_ROLLING_TO_SERVERS);
                     candidates.add(Util.ROLLING_TO_SERVERS);
                     candidates.add(Util.NOT_OPERATOR);
                 }
@@ -218,9 +224,9 @@ public class RolloutPlanCompleter implements CommandLineCompleter {
                 }
                 if(Util.MAX_FAILURE_PERCENTAGE.startsWith(propName)) {
                     candidates.add(Util.MAX_FAILURE_PERCENTAGE + '=');
-                } else if (Util.ROLLING_TO_SERVERS.equals(propName)) {
+                } else if (isRollingProperty(propName)) {
                     if (lastGroup.isLastPropertyNegated() && !containsAll) {
-                        candidates.add(Util.ROLLING_TO_SERVERS + ",");
+                        candidates.add(propName + ",");
                     } else {
                         candidates.add("=" + Util.FALSE);
                         if (!containsAll) {
@@ -232,6 +238,8 @@ public class RolloutPlanCompleter implements CommandLineCompleter {
 
                 } else if (Util.ROLLING_TO_SERVERS.startsWith(propName)) {
                     candidates.add(Util.ROLLING_TO_SERVERS);
+                } else if (Util.ADAPTIVE_ROLLING_TO_SERVERS.startsWith(propName)) {
+                    candidates.add(Util.ADAPTIVE_ROLLING_TO_SERVERS);
                 }
             }
             if (candidates.isEmpty() && containsAll) {
@@ -278,4 +286,7 @@ public class RolloutPlanCompleter implements CommandLineCompleter {
         return result;
     }
 
+    private static boolean isRollingProperty(String propName) {
+        return Util.ROLLING_TO_SERVERS.equals(propName) || Util.ADAPTIVE_ROLLING_TO_SERVERS.equals(propName);
+    }
 }
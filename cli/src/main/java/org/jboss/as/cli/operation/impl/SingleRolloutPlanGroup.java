@@ -201,6 +201,10 @@ public class SingleRolloutPlanGroup implements RolloutPlanGroup {
     public ModelNode toModelNode() throws CommandFormatException {
         ModelNode node = new ModelNode();
         if(props != null) {
+            if(Boolean.parseBoolean(props.get(Util.ROLLING_TO_SERVERS)) && Boolean.parseBoolean(props.get(Util.ADAPTIVE_ROLLING_TO_SERVERS))) {
+                throw new CommandFormatException("Group '" + groupName + "' can't have both " + Util.ROLLING_TO_SERVERS
+                        + " and " + Util.ADAPTIVE_ROLLING_TO_SERVERS + " set to true.");
+            }
             for(String propName : props.keySet()) {
                 node.get(propName).set(props.get(propName));
             }
@@ -105,6 +105,20 @@ public class DeployCompletionTestCase {
         assertThat("candidates should contain [name=] but not [id=]", candidates, allOf(hasItems("name="), not(hasItems("id="))));
     }
 
+    @Test
+    public void testCompleteAdaptiveRollingToServers() throws Exception {
+        ArrayList<String> candidates = complete("deploy --headers={rollout groupA(");
+        assertThat(candidates, hasItems("adaptive-rolling-to-servers", "rolling-to-servers"));
+
+        candidates = complete("deploy --headers={rollout groupA(ad");
+        assertThat(candidates, allOf(hasItems("adaptive-rolling-to-servers"), not(hasItems("rolling-to-servers"))));
+
+        // rolling-to-servers and adaptive-rolling-to-servers are alternatives
+        candidates = complete("deploy --headers={rollout groupA(adaptive-rolling-to-servers=true,");
+        assertThat(candidates, allOf(hasItems("max-failed-servers", "max-failure-percentage"),
+                not(hasItems("rolling-to-servers"))));
+    }
+
     @Test
     public void testPopulateRolloutHeaderRefFromNameAttribute() throws Exception {
         final Collection<ParsedOperationRequestHeader> headers = parseHeaders("{rollout name=foo}");
@@ -1074,6 +1074,27 @@ public class RolloutPlanParsingTestCase {
         assertEquals(expectedHeaders, node);
     }
 
+    @Test
+    public void testAdaptiveRollingToServers() throws Exception {
+
+        final ModelNode node = HeadersArgumentValueConverter.INSTANCE.fromString(ctx,
+                "{ rollout groupA(adaptive-rolling-to-servers=true,max-failed-servers=1)}");
+
+        final ModelNode expectedHeaders = new ModelNode();
+        final ModelNode group = new ModelNode();
+        group.get(Util.SERVER_GROUP).get("groupA").get(Util.ADAPTIVE_ROLLING_TO_SERVERS).set("true");
+        group.get(Util.SERVER_GROUP).get("groupA").get("max-failed-servers").set("1");
+        expectedHeaders.get(Util.ROLLOUT_PLAN).get(Util.IN_SERIES).add(group);
+
+        assertEquals(expectedHeaders, node);
+    }
+
+    @Test(expected = CommandFormatException.class)
+    public void testAdaptiveAndRollingToServers() throws Exception {
+        HeadersArgumentValueConverter.INSTANCE.fromString(ctx,
+                "{ rollout groupA(rolling-to-servers,adaptive-rolling-to-servers=true)}");
+    }
+
     @Test
     public void testRollout() throws Exception {
 
@@ -0,0 +1,138 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An {@link InputStream} over a region of a file, for use as an operation response attachment.
+ * <p>
+ * Consumers that write the attachment to a channel can check for this type and hand the
+ * {@link #getChannel() file channel} to {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}
+ * or an equivalent, letting the operating system copy the bytes without them passing through the heap. Such consumers
+ * should {@link #skip(long) skip} the bytes they transferred.
+ * </p>
+ */
+public final class FileRangeInputStream extends InputStream {
+
+    private final FileChannel channel;
+    private final long end;
+    private long position;
+
+    /**
+     * Creates a new stream.
+     *
+     * @param path   the file to read
+     * @param offset the offset of the first byte to read, if beyond the end of the file the stream is empty
+     * @param length the maximum number of bytes to read or {@code -1} to read up to what is currently the end of the file
+     *
+     * @throws IOException if the file cannot be opened
+     */
+    public FileRangeInputStream(final Path path, final long offset, final long length) throws IOException {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset");
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            final long size = channel.size();
+            this.position = Math.min(offset, size);
+            this.end = length < 0 ? size : Math.min(size, position + length);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the channel of the file. Reading from the channel does not change the position of this stream.
+     *
+     * @return the file channel
+     */
+    public FileChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Gets the offset in the file of the next byte to read.
+     *
+     * @return the position in the file
+     */
+    public synchronized long getPosition() {
+        return position;
+    }
+
+    /**
+     * Gets the number of bytes left to read.
+     *
+     * @return the number of remaining bytes
+     */
+    public synchronized long getRemaining() {
+        return end - position;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public synchronized int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        final long remaining = end - position;
+        if (remaining <= 0) {
+            return -1;
+        }
+        final int read = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, remaining)), position);
+        if (read < 0) {
+            // The file was truncated
+            position = end;
+            return -1;
+        }
+        position += read;
+        return read;
+    }
+
+    @Override
+    public synchronized long skip(final long n) {
+        final long skipped = Math.max(0L, Math.min(n, end - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public synchronized int available() {
+        return (int) Math.min(Integer.MAX_VALUE, end - position);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
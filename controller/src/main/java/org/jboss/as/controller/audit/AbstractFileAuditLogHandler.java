@@ -33,27 +33,91 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  *  All methods on this class should be called with {@link org.jboss.as.controller.audit.ManagedAuditLoggerImpl}'s lock taken.
+ *  <p>
+ *  The file is kept open between log items. How items reach the disk depends on the handler's {@link Durability} mode.
+ *  In the {@link Durability#BATCHED} and {@link Durability#ASYNC} modes the items are handed to a writer thread through
+ *  a bounded queue, and that thread also takes care of rotating the file. As the writer thread does not hold
+ *  {@link org.jboss.as.controller.audit.ManagedAuditLoggerImpl}'s lock, the file and the rotation state of the subclasses
+ *  are guarded by a lock of their own, which is always held when {@link #initializeAtStartup(File)},
+ *  {@link #rotateLogFile(File)} and {@link #logItemWritten(int)} are called.
  *
  * @author <a href="kabir.khan@jboss.com">Kabir Khan</a>
  * @author <a href="mailto:istudens@redhat.com">Ivo Studensky</a>
  */
 public abstract class AbstractFileAuditLogHandler extends AuditLogHandler {
     protected static final byte[] LINE_TERMINATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+    /** The default number of items that can wait for the writer thread */
+    public static final int DEFAULT_QUEUE_SIZE = 8192;
+    /** Maximum number of items written, and synced, in one go by the writer thread */
+    private static final int MAX_BATCH_SIZE = 512;
+
+    /**
+     * How the log items are written to the file.
+     */
+    public enum Durability {
+        /** Each item is written and synced to the disk by the thread logging it. This is the default. */
+        SYNC,
+        /** Items are written by a writer thread, which syncs the file to the disk once per batch of items. */
+        BATCHED,
+        /** Items are written by a writer thread, leaving it up to the operating system when they reach the disk. */
+        ASYNC
+    }
+
     private final PathManagerService pathManager;
     private final String path;
     private final String relativeTo;
+    private final Durability durability;
+    private final int queueSize;
 
     private volatile File file;
 
+    /** Guards the file, and the rotation state of the subclasses, against the writer thread */
+    private final Object fileLock = new Object();
+    private FileOutputStream output;
+    private FileChannel channel;
+
+    private volatile BlockingQueue<byte[]> queue;
+    /** Released once for every item queued, and by {@link #stop()} */
+    private volatile Semaphore queued;
+    private volatile boolean stopping;
+    private volatile Thread writerThread;
+    private final AtomicReference<Throwable> writerFailure = new AtomicReference<>();
+    private final LongAdder backPressureCount = new LongAdder();
+
     public AbstractFileAuditLogHandler(String name, String formatterName, int maxFailureCount, PathManagerService pathManager, String path, String relativeTo) {
+        this(name, formatterName, maxFailureCount, pathManager, path, relativeTo, Durability.SYNC, DEFAULT_QUEUE_SIZE);
+    }
+
+    /**
+     * @param durability how the log items are written to the file
+     * @param queueSize the number of items that can wait for the writer thread, not used in the {@link Durability#SYNC} mode
+     */
+    public AbstractFileAuditLogHandler(String name, String formatterName, int maxFailureCount, PathManagerService pathManager, String path, String relativeTo,
+                                       Durability durability, int queueSize) {
         super(name, formatterName, maxFailureCount);
         this.pathManager = pathManager;
         this.path = path;
         this.relativeTo = relativeTo;
+        this.durability = durability;
+        this.queueSize = queueSize;
+    }
+
+    Durability getDurability() {
+        return durability;
     }
 
     @Override
@@ -69,39 +133,245 @@ public abstract class AbstractFileAuditLogHandler extends AuditLogHandler {
                 parent.mkdirs();
             }
 
-            initializeAtStartup(file);
+            synchronized (fileLock) {
+                initializeAtStartup(file);
 
-            if (!file.exists()) {
-                createNewFile(file);
+                if (!file.exists()) {
+                    createNewFile(file);
+                }
             }
 
             this.file = file;
+
+            if (durability != Durability.SYNC) {
+                startWriter();
+            }
         }
 
-        rotateLogFile(file);
+        if (writerThread == null) {
+            synchronized (fileLock) {
+                rotateLogFile(file);
+            }
+        }
+        // else the file is rotated before writing each batch
     }
 
     protected abstract void initializeAtStartup(final File file);
     protected abstract void rotateLogFile(final File file);
 
+    /**
+     * Called once an item has been written to the file, with the same lock held as when {@link #rotateLogFile(File)}
+     * is called.
+     *
+     * @param length the number of bytes written, including the line terminator
+     */
+    protected void logItemWritten(final int length) {
+    }
+
     @Override
     void stop() {
+        stopWriter();
+        synchronized (fileLock) {
+            closeChannel();
+        }
         file = null;
     }
 
     @Override
     void writeLogItem(String formattedItem) throws IOException {
-        final FileOutputStream fos = new FileOutputStream(file, true);
-        final BufferedOutputStream output = new BufferedOutputStream(fos);
+        final byte[] item = encode(formattedItem);
+        final BlockingQueue<byte[]> queue = this.queue;
+        if (queue == null) {
+            synchronized (fileLock) {
+                try {
+                    final FileChannel channel = getChannel(file);
+                    writeFully(channel, new ByteBuffer[] {ByteBuffer.wrap(item)});
+                    // Force the file to sync
+                    channel.force(true);
+                } catch (IOException e) {
+                    // Start over with a fresh stream next time
+                    closeChannel();
+                    throw e;
+                }
+                logItemWritten(item.length);
+            }
+            return;
+        }
+        if (queue.offer(item)) {
+            queued.release();
+        } else {
+            // The writer thread can't keep up. Rather than waiting for room in the queue while holding the audit log lock,
+            // write this item, and the ones queued before it so they stay in order, from this thread.
+            backPressureCount.increment();
+            synchronized (fileLock) {
+                final List<byte[]> batch = new ArrayList<>(queue.size() + 1);
+                queue.drainTo(batch);
+                batch.add(item);
+                writeBatch(batch, file);
+            }
+        }
+        // Report any failure of the writer thread so it gets counted towards disabling this handler
+        final Throwable failure = writerFailure.getAndSet(null);
+        if (failure != null) {
+            throw failure instanceof IOException ? (IOException) failure : new IOException(failure);
+        }
+    }
+
+    @Override
+    int getPendingItemCount() {
+        final BlockingQueue<byte[]> queue = this.queue;
+        return queue == null ? 0 : queue.size();
+    }
+
+    @Override
+    long getBackPressureCount() {
+        return backPressureCount.sum();
+    }
+
+    private static byte[] encode(final String formattedItem) {
+        final byte[] bytes = formattedItem.getBytes(StandardCharsets.UTF_8);
+        final byte[] item = new byte[bytes.length + LINE_TERMINATOR.length];
+        System.arraycopy(bytes, 0, item, 0, bytes.length);
+        System.arraycopy(LINE_TERMINATOR, 0, item, bytes.length, LINE_TERMINATOR.length);
+        return item;
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer[] buffers) throws IOException {
+        int offset = 0;
+        while (offset < buffers.length) {
+            channel.write(buffers, offset, buffers.length - offset);
+            while (offset < buffers.length && !buffers[offset].hasRemaining()) {
+                offset++;
+            }
+        }
+    }
+
+    /** Called with the file lock held */
+    private FileChannel getChannel(final File file) throws IOException {
+        if (!file.exists()) {
+            // Deleted or moved away by something else, start a new one
+            createNewFile(file);
+        }
+        if (channel == null) {
+            output = new FileOutputStream(file, true);
+            channel = output.getChannel();
+        }
+        return channel;
+    }
+
+    /** Called with the file lock held */
+    private void closeChannel() {
+        IoUtils.safeClose(output);
+        output = null;
+        channel = null;
+    }
+
+    private void startWriter() {
+        final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(queueSize);
+        final Semaphore queued = new Semaphore(0);
+        final File file = this.file;
+        final Thread thread = new Thread(() -> drain(queue, queued, file), "Management audit log writer - " + name);
+        thread.setDaemon(true);
+        this.queue = queue;
+        this.queued = queued;
+        this.stopping = false;
+        this.writerThread = thread;
+        thread.start();
+    }
+
+    private void stopWriter() {
+        final Thread thread = writerThread;
+        if (thread == null) {
+            return;
+        }
+        boolean interrupted = false;
         try {
-            output.write(formattedItem.getBytes(StandardCharsets.UTF_8));
-            output.write(LINE_TERMINATOR);
+            // The writer thread writes everything queued so far before it finishes
+            stopping = true;
+            queued.release();
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            writerThread = null;
+            queue = null;
+            queued = null;
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
 
-            //Flush and force the file to sync
-            output.flush();
-            fos.getFD().sync();
+    /** Run by the writer thread */
+    private void drain(final BlockingQueue<byte[]> queue, final Semaphore queued, final File file) {
+        final List<byte[]> batch = new ArrayList<>();
+        try {
+            boolean stop = false;
+            while (!stop) {
+                queued.acquire();
+                // One pass writes everything queued so far. Reading the flag after draining the permits means a
+                // permit released by stop() can't be consumed without the flag being seen.
+                queued.drainPermits();
+                stop = stopping;
+                while (writeQueued(queue, batch, file)) {
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } finally {
-            IoUtils.safeClose(output);
+            synchronized (fileLock) {
+                closeChannel();
+            }
+        }
+    }
+
+    /**
+     * Run by the writer thread. Items are only ever taken from the queue with the file lock held, and written before
+     * it is released, so they reach the file in the order they were logged even if a logging thread writes some itself.
+     *
+     * @return {@code false} if there was nothing to write
+     */
+    private boolean writeQueued(final BlockingQueue<byte[]> queue, final List<byte[]> batch, final File file) {
+        synchronized (fileLock) {
+            queue.drainTo(batch, MAX_BATCH_SIZE);
+            if (batch.isEmpty()) {
+                return false;
+            }
+            try {
+                writeBatch(batch, file);
+            } catch (Throwable t) {
+                // Logging threads pick this up, see writeLogItem(String)
+                writerFailure.set(t);
+            }
+            return true;
+        }
+    }
+
+    /** Called with the file lock held */
+    private void writeBatch(final List<byte[]> batch, final File file) throws IOException {
+        try {
+            rotateLogFile(file);
+            final FileChannel channel = getChannel(file);
+            final ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+            for (int i = 0; i < buffers.length; i++) {
+                buffers[i] = ByteBuffer.wrap(batch.get(i));
+            }
+            writeFully(channel, buffers);
+            if (durability == Durability.BATCHED) {
+                // One sync for the whole batch
+                channel.force(true);
+            }
+        } catch (IOException | RuntimeException e) {
+            closeChannel();
+            throw e;
+        }
+        for (byte[] item : batch) {
+            logItemWritten(item.length);
         }
     }
 
@@ -123,6 +393,9 @@ public abstract class AbstractFileAuditLogHandler extends AuditLogHandler {
         if (!compare(relativeTo, otherHandler.relativeTo)){
             return true;
         }
+        if (durability != otherHandler.durability || queueSize != otherHandler.queueSize) {
+            return true;
+        }
         return false;
     }
 
@@ -160,6 +433,7 @@ public abstract class AbstractFileAuditLogHandler extends AuditLogHandler {
     }
 
     protected void rename(File file, File to) throws IOException {
+        closeChannel();
         if (!file.renameTo(to) && file.exists()) {
             copyFile(file, to);
             file.delete();
@@ -172,6 +446,7 @@ public abstract class AbstractFileAuditLogHandler extends AuditLogHandler {
      * @param file File to create
      */
     protected void createNewFile(final File file) {
+        closeChannel();
         try {
             file.createNewFile();
             setFileNotWorldReadablePermissions(file);
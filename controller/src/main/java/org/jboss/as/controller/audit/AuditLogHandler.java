@@ -124,6 +124,20 @@ abstract class AuditLogHandler {
         return failureCount;
     }
 
+    /**
+     * Gets the number of items that have been accepted by this handler but not yet written.
+     */
+    int getPendingItemCount() {
+        return 0;
+    }
+
+    /**
+     * Gets how many times logging had to wait for this handler to catch up with the items already accepted.
+     */
+    long getBackPressureCount() {
+        return 0;
+    }
+
     FailureCountHandler getFailureCountHandler() {
         return new StandardFailureCountHandler();
     }
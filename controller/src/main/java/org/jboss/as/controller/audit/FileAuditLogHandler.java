@@ -44,7 +44,12 @@ public class FileAuditLogHandler extends AbstractFileAuditLogHandler {
 
     public FileAuditLogHandler(String name, String formatterName, int maxFailureCount, PathManagerService pathManager,
                                String path, String relativeTo, boolean rotateAtStartup) {
-        super(name, formatterName, maxFailureCount, pathManager, path, relativeTo);
+        this(name, formatterName, maxFailureCount, pathManager, path, relativeTo, rotateAtStartup, Durability.SYNC, DEFAULT_QUEUE_SIZE);
+    }
+
+    public FileAuditLogHandler(String name, String formatterName, int maxFailureCount, PathManagerService pathManager,
+                               String path, String relativeTo, boolean rotateAtStartup, Durability durability, int queueSize) {
+        super(name, formatterName, maxFailureCount, pathManager, path, relativeTo, durability, queueSize);
         this.rotateAtStartup = rotateAtStartup;
     }
 
@@ -182,6 +182,26 @@ public interface ManagedAuditLogger extends AuditLogger {
      */
     boolean getHandlerDisabledDueToFailure(String name);
 
+    /**
+     * Get the number of items accepted by a handler but not yet written by it
+     *
+     * @param name the name of the handler
+     * @return the number of pending items
+     */
+    default int getHandlerPendingItemCount(String name) {
+        return 0;
+    }
+
+    /**
+     * Get how many times logging had to wait for a handler to catch up with the items it had already accepted
+     *
+     * @param name the name of the handler
+     * @return the back pressure count
+     */
+    default long getHandlerBackPressureCount(String name) {
+        return 0;
+    }
+
     /**
      * Gets a formatter by its name
      *
@@ -190,12 +190,8 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
     }
 
     public Status getLoggerStatus() {
-        config.lock();
-        try {
-            return config.getLoggerStatus();
-        } finally {
-            config.unlock();
-        }
+        // The status is volatile, so callers checking it before each event don't need to contend for the lock
+        return config.getLoggerStatus();
     }
 
 
@@ -497,6 +493,28 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         }
     }
 
+    @Override
+    public int getHandlerPendingItemCount(String name) {
+        config.lock();
+        try {
+            AuditLogHandler handler = config.getConfiguredHandler(name);
+            return handler.getPendingItemCount();
+        } finally {
+            config.unlock();
+        }
+    }
+
+    @Override
+    public long getHandlerBackPressureCount(String name) {
+        config.lock();
+        try {
+            AuditLogHandler handler = config.getConfiguredHandler(name);
+            return handler.getBackPressureCount();
+        } finally {
+            config.unlock();
+        }
+    }
+
 
     @Override
     public JsonAuditLogItemFormatter getJsonFormatter(String name) {
@@ -46,7 +46,12 @@ public class PeriodicRotatingFileAuditLogHandler extends AbstractFileAuditLogHan
     private String suffix;
 
     public PeriodicRotatingFileAuditLogHandler(final String name, final String formatterName, final int maxFailureCount, final PathManagerService pathManager, final String path, final String relativeTo, final String suffix, final TimeZone timeZone) {
-        super(name, formatterName, maxFailureCount, pathManager, path, relativeTo);
+        this(name, formatterName, maxFailureCount, pathManager, path, relativeTo, suffix, timeZone, Durability.SYNC, DEFAULT_QUEUE_SIZE);
+    }
+
+    public PeriodicRotatingFileAuditLogHandler(final String name, final String formatterName, final int maxFailureCount, final PathManagerService pathManager, final String path, final String relativeTo, final String suffix, final TimeZone timeZone,
+                                               final Durability durability, final int queueSize) {
+        super(name, formatterName, maxFailureCount, pathManager, path, relativeTo, durability, queueSize);
         this.suffix = suffix;       // remember the value just for the sake of the method isDifferent()
         if (timeZone != null)
             this.timeZone = timeZone;   // needed for setSuffix in the next step
@@ -26,7 +26,6 @@ import org.jboss.as.controller.services.path.PathManagerService;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 /**
  *  All methods on this class should be called with {@link org.jboss.as.controller.audit.ManagedAuditLoggerImpl}'s lock taken.
@@ -41,7 +40,12 @@ public class SizeRotatingFileAuditLogHandler extends AbstractFileAuditLogHandler
     private volatile long currentSize = 0;
 
     public SizeRotatingFileAuditLogHandler(final String name, final String formatterName, final int maxFailureCount, final PathManagerService pathManager, final String path, final String relativeTo, final long rotateSize, final int maxBackupIndex) {
-        super(name, formatterName, maxFailureCount, pathManager, path, relativeTo);
+        this(name, formatterName, maxFailureCount, pathManager, path, relativeTo, rotateSize, maxBackupIndex, Durability.SYNC, DEFAULT_QUEUE_SIZE);
+    }
+
+    public SizeRotatingFileAuditLogHandler(final String name, final String formatterName, final int maxFailureCount, final PathManagerService pathManager, final String path, final String relativeTo, final long rotateSize, final int maxBackupIndex,
+                                           final Durability durability, final int queueSize) {
+        super(name, formatterName, maxFailureCount, pathManager, path, relativeTo, durability, queueSize);
         this.rotateSize = rotateSize;
         this.maxBackupIndex = maxBackupIndex;
     }
@@ -84,10 +88,8 @@ public class SizeRotatingFileAuditLogHandler extends AbstractFileAuditLogHandler
     }
 
     @Override
-    void writeLogItem(String formattedItem) throws IOException {
-        super.writeLogItem(formattedItem);
-        currentSize += formattedItem.getBytes(StandardCharsets.UTF_8).length;
-        currentSize += LINE_TERMINATOR.length;
+    protected void logItemWritten(final int length) {
+        currentSize += length;
     }
 
     @Override
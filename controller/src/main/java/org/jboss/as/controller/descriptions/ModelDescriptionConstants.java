@@ -40,6 +40,7 @@ public class ModelDescriptionConstants {
     public static final String ACTIVE_OPERATION = "active-operation";
     public static final String ACTIVE_SERVER_GROUPS = "active-server-groups";
     public static final String ACTIVE_SOCKET_BINDING_GROUPS = "active-socket-binding-groups";
+    public static final String ADAPTIVE_ROLLING_TO_SERVERS = "adaptive-rolling-to-servers";
     public static final String ADD = "add";
     public static final String ADDRESS = "address";
     public static final String ADD_CONTENT = "add-content";
@@ -78,6 +79,7 @@ public class ModelDescriptionConstants {
     public static final String AUTHENTICATION_CONTEXT = "authentication-context";
     public static final String AUTHORIZATION = "authorization";
     public static final String AUTO_START = "auto-start";
+    public static final String BACK_PRESSURE_COUNT = "back-pressure-count";
     public static final String BASE_DN = "base-dn";
     public static final String BASE_ROLE = "base-role";
     public static final String BLOCKING = "blocking";
@@ -161,6 +163,7 @@ public class ModelDescriptionConstants {
     public static final String DOMAIN_UUID = "domain-uuid";
     public static final String DYNAMIC = "dynamic";
     public static final String DUMP_SERVICES = "dump-services";
+    public static final String DURABILITY = "durability";
     public static final String EMPTY = "empty";
     public static final String ENABLE = "enable";
     public static final String ENABLED = "enabled";
@@ -344,6 +347,7 @@ public class ModelDescriptionConstants {
     public static final String PATH = "path";
     public static final String PATHS = "paths";
     public static final String PERIODIC_ROTATING_FILE_HANDLER = "periodic-rotating-file-handler";
+    public static final String PENDING_ITEM_COUNT = "pending-item-count";
     public static final String PERMISSION_COMBINATION_POLICY = "permission-combination-policy";
     public static final String PERSIST_NAME = "persist-name";
     public static final String PATTERN = "pattern";
@@ -370,6 +374,7 @@ public class ModelDescriptionConstants {
     public static final String PROVIDER = "provider";
     public static final String PROXIES = "proxies";
     public static final String QUERY = "query";
+    public static final String QUEUE_SIZE = "queue-size";
     public static final String READ = "read";
     public static final String READ_ATTRIBUTE_OPERATION = "read-attribute";
     public static final String READ_ATTRIBUTE_GROUP_OPERATION = "read-attribute-group";
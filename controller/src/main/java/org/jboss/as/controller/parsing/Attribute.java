@@ -77,6 +77,7 @@ public enum Attribute {
     DIRECTORY_GROUPING("directory-grouping"),
     DESTINATION_PORT("destination-port"),
     DOMAIN_ORGANIZATION("domain-organization"),
+    DURABILITY("durability"),
     ENABLED("enabled"),
     ENABLED_CIPHER_SUITES("enabled-cipher-suites"),
     ENABLED_PROTOCOLS("enabled-protocols"),
@@ -153,6 +154,7 @@ public enum Attribute {
     PROFILE("profile"),
     PROTOCOL("protocol"),
     PROVIDER("provider"),
+    QUEUE_SIZE("queue-size"),
     REALM("realm"),
     RECONNECT_TIMEOUT("reconnect-timeout"),
     RECURSIVE("recursive"),
@@ -110,7 +110,7 @@ class OperationAttachmentsProxy implements Operation {
     }
 
     private static class ProxiedInputStream extends InputStream {
-        static final int BUFFER_SIZE = 8192;
+        static final int BUFFER_SIZE = 65536;
 
         private final int index;
         private final int batchId;
@@ -187,14 +187,8 @@ class OperationAttachmentsProxy implements Operation {
                                 ProtocolUtils.expectHeader(input, ModelControllerProtocol.PARAM_INPUTSTREAM_LENGTH);
                                 final int size = input.readInt();
                                 ProtocolUtils.expectHeader(input, ModelControllerProtocol.PARAM_INPUTSTREAM_CONTENTS);
-                                final byte[] buffer = new byte[BUFFER_SIZE];
-                                int totalRead = 0;
-                                while (totalRead < size) {
-                                    int len = Math.min(size - totalRead, buffer.length);
-                                    input.readFully(buffer, 0, len);
-                                    os.write(buffer, 0, len);
-                                    totalRead += len;
-                                }
+                                // Read the contents straight into the pipe, no intermediate copy
+                                pipe.writeFrom(input, size);
                                 os.close();
                             } catch (IOException e) {
                                 shutdown(e);
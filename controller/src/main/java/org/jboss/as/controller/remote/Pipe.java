@@ -21,6 +21,7 @@
  */
 package org.jboss.as.controller.remote;
 
+import java.io.DataInput;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InterruptedIOException;
@@ -309,6 +310,69 @@ final class Pipe {
 
 
 
+    /**
+     * Transfer bytes from the given input straight into the free region of the pipe's buffer, without
+     * going through an intermediate copy buffer. The free region is only ever touched by the writer, so
+     * the lock is only held to reserve and publish each chunk, not while the bytes are being read.
+     * Must only be called by the single writer of this pipe.
+     *
+     * @param input the input to read from
+     * @param length the number of bytes to transfer
+     * @throws IOException if the input could not be read, or the pipe was closed or killed
+     */
+    void writeFrom(final DataInput input, final int length) throws IOException {
+        final Object lock = this.lock;
+        final byte[] buffer = this.buffer;
+        final int bufLen = buffer.length;
+        int remaining = length;
+        while (remaining > 0) {
+            final int startPos;
+            final int cnt;
+            synchronized (lock) {
+                int size;
+                while ((size = this.size) == bufLen || killed || writeClosed) {
+                    if (killed) {
+                        throw ControllerLogger.ROOT_LOGGER.streamWasKilled();
+                    }
+                    if (writeClosed) {
+                        throw ControllerLogger.ROOT_LOGGER.streamWasClosed();
+                    }
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        final InterruptedIOException iioe = new InterruptedIOException();
+                        iioe.bytesTransferred = length - remaining;
+                        throw iioe;
+                    }
+                }
+                final int tail = this.tail;
+                final int pos = tail + size;
+                if (pos >= bufLen) {
+                    // content wraps, the free region is between its end and the tail
+                    startPos = pos - bufLen;
+                    cnt = Math.min(remaining, tail - startPos);
+                } else {
+                    // content doesn't wrap, write up to the end of the buffer
+                    startPos = pos;
+                    cnt = Math.min(remaining, bufLen - startPos);
+                }
+            }
+            input.readFully(buffer, startPos, cnt);
+            synchronized (lock) {
+                if (killed) {
+                    throw ControllerLogger.ROOT_LOGGER.streamWasKilled();
+                }
+                if (writeClosed) {
+                    throw ControllerLogger.ROOT_LOGGER.streamWasClosed();
+                }
+                this.size += cnt;
+                lock.notifyAll();
+            }
+            remaining -= cnt;
+        }
+    }
+
     /**
      * Get the input (read) side of the pipe.
      *
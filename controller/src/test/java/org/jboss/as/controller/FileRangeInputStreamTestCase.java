@@ -0,0 +1,131 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link FileRangeInputStream}.
+ */
+public class FileRangeInputStreamTestCase {
+
+    private static final int SIZE = 100;
+
+    private Path file;
+    private byte[] content;
+
+    @Before
+    public void createFile() throws IOException {
+        file = Files.createTempFile("file-range", ".bin");
+        content = new byte[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            content[i] = (byte) i;
+        }
+        Files.write(file, content);
+    }
+
+    @After
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testRanges() throws Exception {
+        assertRange(0, -1, 0, SIZE);
+        assertRange(0, SIZE, 0, SIZE);
+        assertRange(0, 0, 0, 0);
+        assertRange(10, -1, 10, SIZE);
+        assertRange(10, 20, 10, 30);
+        assertRange(SIZE - 1, 1, SIZE - 1, SIZE);
+        // Lengths past the end of the file stop at the end
+        assertRange(90, 20, 90, SIZE);
+        assertRange(0, Long.MAX_VALUE, 0, SIZE);
+        // Offsets at or past the end of the file give an empty stream
+        assertRange(SIZE, -1, SIZE, SIZE);
+        assertRange(SIZE + 10, 5, SIZE, SIZE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeOffset() throws Exception {
+        new FileRangeInputStream(file, -1, -1).close();
+    }
+
+    @Test
+    public void testSkip() throws Exception {
+        try (FileRangeInputStream in = new FileRangeInputStream(file, 10, 20)) {
+            assertEquals(5, in.skip(5));
+            assertEquals(15, in.getPosition());
+            assertEquals(15, in.getRemaining());
+            assertEquals(15, in.read());
+            // Skipping stops at the end of the range
+            assertEquals(14, in.skip(100));
+            assertEquals(0, in.getRemaining());
+            assertEquals(-1, in.read());
+            assertEquals(0, in.skip(1));
+        }
+    }
+
+    @Test
+    public void testGrowingFile() throws Exception {
+        try (FileRangeInputStream in = new FileRangeInputStream(file, 0, -1)) {
+            // Content appended after the stream was opened is not part of it
+            Files.write(file, new byte[10], StandardOpenOption.APPEND);
+            assertArrayEquals(content, readAll(in));
+        }
+    }
+
+    private void assertRange(final long offset, final long length, final int from, final int to) throws IOException {
+        try (FileRangeInputStream in = new FileRangeInputStream(file, offset, length)) {
+            assertEquals(from, in.getPosition());
+            assertEquals(to - from, in.getRemaining());
+            assertEquals(to - from, in.available());
+            assertArrayEquals("offset " + offset + ", length " + length, Arrays.copyOfRange(content, from, to), readAll(in));
+            assertEquals(-1, in.read());
+            assertEquals(0, in.getRemaining());
+        }
+    }
+
+    private static byte[] readAll(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // An odd buffer size, so the reads don't line up with the ranges
+        final byte[] buffer = new byte[7];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
@@ -25,6 +25,10 @@ package org.jboss.as.controller.audit;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.jboss.as.controller.services.path.PathManagerService;
 import org.junit.After;
@@ -65,6 +69,82 @@ public class FileAuditLogHandlerUnitTestCase {
         Assert.assertEquals("Log file was rotated but shouldn't have been", 1, confDir.list().length);
     }
 
+    @Test
+    public void testBatchedItemsWrittenOnStop() throws IOException {
+        testItemsWrittenOnStop(AbstractFileAuditLogHandler.Durability.BATCHED);
+    }
+
+    @Test
+    public void testAsyncItemsWrittenOnStop() throws IOException {
+        testItemsWrittenOnStop(AbstractFileAuditLogHandler.Durability.ASYNC);
+    }
+
+    private void testItemsWrittenOnStop(AbstractFileAuditLogHandler.Durability durability) throws IOException {
+        FileAuditLogHandler handler = new FileAuditLogHandler("name", "formatter", 0, pathManager, logFile.getPath(), null, false,
+                durability, AbstractFileAuditLogHandler.DEFAULT_QUEUE_SIZE);
+        List<String> items = writeItems(handler, 2000);
+        // stopping writes everything still queued
+        handler.stop();
+
+        Assert.assertEquals(0, handler.getPendingItemCount());
+        Assert.assertEquals(items, Files.readAllLines(logFile.toPath(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testFullQueueWrittenByLoggingThread() throws IOException {
+        FileAuditLogHandler handler = new FileAuditLogHandler("name", "formatter", 0, pathManager, logFile.getPath(), null, false,
+                AbstractFileAuditLogHandler.Durability.ASYNC, 1);
+        List<String> items = writeItems(handler, 2000);
+        handler.stop();
+
+        // the items written by the logging thread and the writer thread are still in order
+        Assert.assertEquals(items, Files.readAllLines(logFile.toPath(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testAsyncRotation() throws IOException {
+        SizeRotatingFileAuditLogHandler handler = new SizeRotatingFileAuditLogHandler("name", "formatter", 0, pathManager, logFile.getPath(), null,
+                1024, 100, AbstractFileAuditLogHandler.Durability.BATCHED, AbstractFileAuditLogHandler.DEFAULT_QUEUE_SIZE);
+        List<String> items = writeItems(handler, 1000);
+        handler.stop();
+
+        Assert.assertTrue("Log file wasn't rotated", new File(confDir, logFile.getName() + ".1").exists());
+        // every item is in exactly one of the files, in order
+        List<String> written = new ArrayList<>();
+        for (int i = 100; i >= 1; i--) {
+            File backup = new File(confDir, logFile.getName() + "." + i);
+            if (backup.exists()) {
+                written.addAll(Files.readAllLines(backup.toPath(), StandardCharsets.UTF_8));
+            }
+        }
+        written.addAll(Files.readAllLines(logFile.toPath(), StandardCharsets.UTF_8));
+        Assert.assertEquals(items, written);
+    }
+
+    @Test
+    public void testRestartAfterStop() throws IOException {
+        FileAuditLogHandler handler = new FileAuditLogHandler("name", "formatter", 0, pathManager, logFile.getPath(), null, false,
+                AbstractFileAuditLogHandler.Durability.BATCHED, AbstractFileAuditLogHandler.DEFAULT_QUEUE_SIZE);
+        List<String> items = writeItems(handler, 10);
+        handler.stop();
+        // a stopped handler starts a new writer thread when it is used again
+        items.addAll(writeItems(handler, 10));
+        handler.stop();
+
+        Assert.assertEquals(items, Files.readAllLines(logFile.toPath(), StandardCharsets.UTF_8));
+    }
+
+    private static List<String> writeItems(AbstractFileAuditLogHandler handler, int count) throws IOException {
+        List<String> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String item = "item " + i;
+            handler.initialize();
+            handler.writeLogItem(item);
+            items.add(item);
+        }
+        return items;
+    }
+
     private void initializeHandler(boolean rotateAtStartup) {
         FileAuditLogHandler auditLogHandler =
                 new FileAuditLogHandler("name", "formatter", 0, pathManager, logFile.getPath(), null, rotateAtStartup);
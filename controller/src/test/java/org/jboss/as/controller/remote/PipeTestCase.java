@@ -0,0 +1,84 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.controller.remote;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests of {@link Pipe}.
+ */
+public class PipeTestCase {
+
+    @Test
+    public void testWriteFromWrapsBuffer() throws Exception {
+        // Content several times larger than the pipe buffer, with a buffer size that doesn't divide it evenly
+        final byte[] content = new byte[100_000];
+        new Random(42).nextBytes(content);
+        final Pipe pipe = new Pipe(4093);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Void> writer = executor.submit(() -> {
+                pipe.writeFrom(new DataInputStream(new ByteArrayInputStream(content)), content.length);
+                pipe.getOut().close();
+                return null;
+            });
+            final ByteArrayOutputStream result = new ByteArrayOutputStream();
+            final InputStream in = pipe.getIn();
+            final byte[] buffer = new byte[1000];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                result.write(buffer, 0, read);
+            }
+            writer.get(10, TimeUnit.SECONDS);
+            assertArrayEquals(content, result.toByteArray());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWriteFromAfterReaderClosed() throws Exception {
+        final Pipe pipe = new Pipe(16);
+        pipe.getIn().close();
+        try {
+            pipe.writeFrom(new DataInputStream(new ByteArrayInputStream(new byte[64])), 64);
+            fail("Writing to a closed pipe should fail");
+        } catch (IOException expected) {
+            // expected
+        }
+    }
+}
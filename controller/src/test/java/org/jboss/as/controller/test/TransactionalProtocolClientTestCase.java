@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
@@ -36,6 +37,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.jboss.as.controller.MockModelController;
@@ -264,6 +266,48 @@ public class TransactionalProtocolClientTestCase {
         }
     }
 
+    @Test
+    public void testConcurrentOperationsOnOneChannel() throws Exception {
+        final CountDownLatch executing = new CountDownLatch(CLIENTS);
+        final TestOperationHandler handler = new TestOperationHandler() {
+            @Override
+            public void execute(ModelNode operation, OperationMessageHandler handler, OperationAttachments attachments) throws Exception {
+                executing.countDown();
+                // only passes once every operation reached the remote side, so they must overlap on the channel
+                if (!executing.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("operations were not executed concurrently");
+                }
+            }
+        };
+        final TestUpdateWrapper first = createTestClient(0, handler);
+        final MockController controller = first.getController();
+        controller.exclusive = false;
+        final List<TestUpdateWrapper> wrappers = new ArrayList<TestUpdateWrapper>();
+        wrappers.add(first);
+        for(int i = 1; i < CLIENTS; i++) {
+            wrappers.add(new TestUpdateWrapper(i, first.getClient(), controller));
+        }
+        final BlockingOperationListener listener = new BlockingOperationListener(CLIENTS);
+        for(final TestUpdateWrapper update : wrappers) {
+            update.execute(listener);
+        }
+        final List<TransactionalProtocolClient.PreparedOperation<TestUpdateWrapper>> preparedOps = new ArrayList<TransactionalProtocolClient.PreparedOperation<TestUpdateWrapper>>();
+        for(int i = 0; i < CLIENTS; i++) {
+            final TransactionalProtocolClient.PreparedOperation<TestUpdateWrapper> prepared = listener.retrievePreparedOperation();
+            Assert.assertFalse(prepared.isFailed());
+            preparedOps.add(prepared);
+        }
+        Assert.assertEquals(0, executing.getCount());
+        // complete them in a different order than they were prepared in, the responses are matched by batch id
+        Collections.reverse(preparedOps);
+        for(final TransactionalProtocolClient.PreparedOperation<TestUpdateWrapper> prepared : preparedOps) {
+            prepared.commit();
+        }
+        for(final TransactionalProtocolClient.PreparedOperation<TestUpdateWrapper> prepared : preparedOps) {
+            Assert.assertEquals(SUCCESS, prepared.getFinalResult().get().getResponseNode());
+        }
+    }
+
     @Test
     public void testSequentialGroup() throws Exception {
         //
@@ -423,6 +467,8 @@ public class TransactionalProtocolClientTestCase {
         private final ReentrantLock lock = new ReentrantLock();
         private final FutureResult<OperationContext.ResultAction> action = new FutureResult<>();
         private TestOperationHandler handler;
+        // whether operations are executed one at a time, holding the lock until they complete
+        private volatile boolean exclusive = true;
 
         OperationContext.ResultAction getAction() {
             try {
@@ -435,30 +481,43 @@ public class TransactionalProtocolClientTestCase {
         @Override
         public ModelNode execute(final ModelNode operation, final OperationMessageHandler messageHandler,
                                  final OperationTransactionControl control, final OperationAttachments attachments) {
+            if (!exclusive) {
+                return execute(operation, messageHandler, control, attachments, new FutureResult<OperationContext.ResultAction>());
+            }
             lock.lock(); try {
-                if(handler != null) {
-                    try {
-                        handler.execute(operation, messageHandler, attachments);
-                    } catch (Exception e) {
-                        throw new RuntimeException(e);
-                    }
-                }
-                control.operationPrepared(new OperationTransaction() {
-                    @Override
-                    public void commit() {
-                        action.setResult(OperationContext.ResultAction.KEEP);
-                    }
-
-                    @Override
-                    public void rollback() {
-                        action.setResult(OperationContext.ResultAction.ROLLBACK);
-                    }
-                }, SUCCESS);
-                return getAction() == OperationContext.ResultAction.KEEP ? SUCCESS : FAILURE;
+                return execute(operation, messageHandler, control, attachments, action);
             } finally {
                 lock.unlock();
             }
         }
+
+        private ModelNode execute(final ModelNode operation, final OperationMessageHandler messageHandler,
+                                  final OperationTransactionControl control, final OperationAttachments attachments,
+                                  final FutureResult<OperationContext.ResultAction> action) {
+            if(handler != null) {
+                try {
+                    handler.execute(operation, messageHandler, attachments);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            control.operationPrepared(new OperationTransaction() {
+                @Override
+                public void commit() {
+                    action.setResult(OperationContext.ResultAction.KEEP);
+                }
+
+                @Override
+                public void rollback() {
+                    action.setResult(OperationContext.ResultAction.ROLLBACK);
+                }
+            }, SUCCESS);
+            try {
+                return action.getIoFuture().getInterruptibly() == OperationContext.ResultAction.KEEP ? SUCCESS : FAILURE;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
     }
 
     private interface TestOperationHandler {
@@ -30,15 +30,15 @@ import static org.jboss.as.repository.PathUtil.getFileExtension;
 import static org.jboss.as.repository.PathUtil.isArchive;
 import static org.jboss.as.repository.PathUtil.resolveSecurely;
 
-import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.security.DigestOutputStream;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
@@ -67,9 +67,12 @@ import org.wildfly.common.Assert;
 public class ContentRepositoryImpl implements ContentRepository {
 
     protected static final String CONTENT = "content";
+    private static final int COPY_BUFFER_SIZE = 65536;
     private final File repoRoot;
     private final File tmpRoot;
     protected final MessageDigest messageDigest;
+    /** Buffer used to copy added content, guarded by {@link #messageDigest} */
+    private final byte[] copyBuffer = new byte[COPY_BUFFER_SIZE];
     private final Map<String, Set<ContentReference>> contentHashReferences = new HashMap<>();
     private final Map<String, ReentrantLock> lockedContents = new HashMap<>();
     private final Map<String, Long> obsoleteContents = new HashMap<>();
@@ -120,19 +123,23 @@ public class ContentRepositoryImpl implements ContentRepository {
         byte[] sha1Bytes;
         Path tmp = File.createTempFile(CONTENT, ".tmp", repoRoot).toPath();
         if (stream != null) {
-            try (OutputStream fos = Files.newOutputStream(tmp)) {
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
                 synchronized (messageDigest) {
                     messageDigest.reset();
-                    DigestOutputStream dos = new DigestOutputStream(fos, messageDigest);
-                    BufferedInputStream bis = new BufferedInputStream(stream);
-                    byte[] bytes = new byte[8192];
+                    // Digest and write from the same reused buffer, rather than layering buffered and digest streams
+                    final byte[] bytes = copyBuffer;
+                    final ByteBuffer buffer = ByteBuffer.wrap(bytes);
                     int read;
-                    while ((read = bis.read(bytes)) > -1) {
-                        dos.write(bytes, 0, read);
+                    while ((read = stream.read(bytes)) > -1) {
+                        messageDigest.update(bytes, 0, read);
+                        buffer.clear();
+                        buffer.limit(read);
+                        while (buffer.hasRemaining()) {
+                            out.write(buffer);
+                        }
                     }
-                    fos.flush();
+                    sha1Bytes = messageDigest.digest();
                 }
-                sha1Bytes = messageDigest.digest();
             }
         } else {//create a directory instead
             Files.delete(tmp);
@@ -23,17 +23,24 @@ package org.jboss.as.repository;
 
 import static org.jboss.as.protocol.mgmt.ProtocolUtils.expectHeader;
 
-import java.io.BufferedOutputStream;
 import java.io.DataInput;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.jboss.as.protocol.StreamUtils;
 import org.jboss.as.protocol.mgmt.ActiveOperation;
@@ -51,16 +58,30 @@ import org.jboss.logging.BasicLogger;
  */
 public abstract class RemoteFileRequestAndHandler {
 
+    private static final int BUFFER_SIZE = 65536;
+
     private final RemoteFileProtocolIdMapper protocol;
     private final Executor asyncExecutor;
+    private final TransferLimit transferLimit;
 
     protected RemoteFileRequestAndHandler(RemoteFileProtocolIdMapper protocol) {
         this(protocol, null);
     }
 
     protected RemoteFileRequestAndHandler(RemoteFileProtocolIdMapper protocol, Executor asyncExecutor) {
+        this(protocol, asyncExecutor, null);
+    }
+
+    /**
+     * @param protocol the protocol id mapper
+     * @param asyncExecutor the executor used to write responses, or {@code null} to use the context's executor
+     * @param transferLimit limits how many responses are written concurrently, or {@code null} for no limit. Only
+     *                      applied to responses written by {@code asyncExecutor}
+     */
+    protected RemoteFileRequestAndHandler(RemoteFileProtocolIdMapper protocol, Executor asyncExecutor, TransferLimit transferLimit) {
         this.protocol = protocol;
         this.asyncExecutor = asyncExecutor;
+        this.transferLimit = transferLimit;
     }
 
     public void sendRequest(FlushableDataOutput output, byte rootId, String filePath) throws IOException{
@@ -71,29 +92,108 @@ public abstract class RemoteFileRequestAndHandler {
 
     }
 
+    /**
+     * Sends a request for a file which also tells the remote side how much of each file was already received
+     * by an earlier, interrupted transfer into {@code transferDir}, so only the remaining bytes are sent back.
+     * The response must be read with {@link #handleRangeResponse}.
+     *
+     * @param output the output to write the request to
+     * @param rootId the root id
+     * @param filePath the path of the file to request
+     * @param transferDir the directory the files are received into, which only exists while a transfer is incomplete
+     * @throws IOException if the request could not be written
+     */
+    public void sendRangeRequest(FlushableDataOutput output, byte rootId, String filePath, File transferDir) throws IOException {
+        sendRequest(output, rootId, filePath);
+        final Map<String, Long> offsets = getReceivedFiles(transferDir);
+        output.writeByte(protocol.paramFileOffset());
+        output.writeInt(offsets.size());
+        for (Map.Entry<String, Long> entry : offsets.entrySet()) {
+            output.writeUTF(entry.getKey());
+            output.writeLong(entry.getValue());
+        }
+    }
+
     public void handleResponse(DataInput input, File localPath, BasicLogger log, ActiveOperation.ResultHandler<File> resultHandler, ManagementRequestContext<Void> context)
             throws IOException, CannotCreateLocalDirectoryException, DidNotReadEntireFileException{
+        receiveFiles(input, localPath, log, false, null);
+        resultHandler.done(localPath);
+    }
+
+    /**
+     * Handles the response to a {@link #sendRangeRequest range request}. The files are appended to what an earlier
+     * attempt left in {@code transferDir}, and only moved to {@code localPath} once all of them were received, after
+     * which {@code transferDir} is removed.
+     *
+     * @param input the input to read the response from
+     * @param localPath the local path the files are stored at
+     * @param transferDir the directory the files are received into, as passed to {@link #sendRangeRequest}
+     * @param log the logger
+     * @param verifier checks each file once it is completely received, before it is moved to {@code localPath}. May be {@code null}
+     * @param resultHandler the result handler
+     * @param context the request context
+     */
+    public void handleRangeResponse(DataInput input, File localPath, File transferDir, BasicLogger log, ReceivedFileVerifier verifier,
+                                    ActiveOperation.ResultHandler<File> resultHandler, ManagementRequestContext<Void> context)
+            throws IOException, CannotCreateLocalDirectoryException, DidNotReadEntireFileException{
+        final List<String> received = receiveFiles(input, transferDir, log, true, verifier);
+        if (received != null) {
+            if (received.isEmpty() && !localPath.isDirectory() && !localPath.mkdirs()) {
+                throw new CannotCreateLocalDirectoryException(localPath);
+            }
+            for (String path : received) {
+                final File staged = new File(transferDir, path);
+                final File file = new File(localPath, path);
+                if (staged.isDirectory()) {
+                    if (!file.isDirectory() && !file.mkdirs()) {
+                        throw new CannotCreateLocalDirectoryException(file);
+                    }
+                } else {
+                    if (!file.getParentFile().exists() && !file.getParentFile().mkdirs()) {
+                        throw new CannotCreateLocalDirectoryException(file.getParentFile());
+                    }
+                    Files.move(staged.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+        PathUtil.deleteRecursively(transferDir.toPath());
+        resultHandler.done(localPath);
+    }
+
+    /**
+     * @return the relative paths of the received files, {@code null} if the remote side did not find the file
+     */
+    private List<String> receiveFiles(DataInput input, File localPath, BasicLogger log, boolean ranged, ReceivedFileVerifier verifier)
+            throws IOException, CannotCreateLocalDirectoryException, DidNotReadEntireFileException {
         expectHeader(input, protocol.paramNumFiles());
         int numFiles = input.readInt();
         log.debugf("Received %d files for %s", numFiles, localPath);
         switch (numFiles) {
             case -1: { // Not found on DC
-                break;
+                return null;
             }
             case 0: { // Found on DC, but was an empty dir
-                if (!localPath.mkdirs()) {
+                if (!ranged && !localPath.mkdirs()) {
                     throw new CannotCreateLocalDirectoryException(localPath);
                 }
-                break;
+                return Collections.emptyList();
             }
             default: { // Found on DC
+                final List<String> received = new ArrayList<>(numFiles);
+                final byte[] buffer = new byte[BUFFER_SIZE];
+                long missing = 0L;
                 for (int i = 0; i < numFiles; i++) {
                     expectHeader(input, protocol.fileStart());
                     expectHeader(input, protocol.paramFilePath());
                     final String path = input.readUTF();
                     expectHeader(input, protocol.paramFileSize());
                     final long length = input.readLong();
-                    log.debugf("Received file [%s] of length %d", path, length);
+                    long offset = 0L;
+                    if (ranged) {
+                        expectHeader(input, protocol.paramFileOffset());
+                        offset = input.readLong();
+                    }
+                    log.debugf("Received file [%s] of length %d from offset %d", path, length, offset);
                     final File file = new File(localPath, path);
                     if (!file.getParentFile().exists() && !file.getParentFile().mkdirs()) {
                         throw new CannotCreateLocalDirectoryException(localPath.getParentFile());
@@ -101,34 +201,97 @@ public abstract class RemoteFileRequestAndHandler {
                     if(length == 0L) {
                         file.mkdir();
                     } else {
-                        long totalRead = 0;
-                        try (OutputStream fileOut = new BufferedOutputStream(new FileOutputStream(file))) {
-                            final byte[] buffer = new byte[8192];
-                            while (totalRead < length) {
-                                int len = Math.min((int) (length - totalRead), buffer.length);
-                                input.readFully(buffer, 0, len);
-                                fileOut.write(buffer, 0, len);
-                                totalRead += len;
-                            }
-                        }
-                        if (totalRead != length) {
-                            throw new DidNotReadEntireFileException((length - totalRead));
-                        }
+                        missing += receiveFile(input, path, file, length, offset, buffer, verifier);
                     }
                     expectHeader(input, protocol.fileEnd());
+                    received.add(path);
+                }
+                if (missing > 0L) {
+                    // the whole response was read, so the retry can ask for the dropped files from the start
+                    throw new DidNotReadEntireFileException(missing);
                 }
+                return received;
             }
         }
-        resultHandler.done(localPath);
+    }
+
+    /**
+     * @return the number of bytes of the file that are missing locally because the partially received file is shorter
+     * than the offset the remote side sent from, in which case the rest of the file is skipped and the partial file is
+     * removed so the next attempt transfers it in full
+     */
+    private long receiveFile(DataInput input, String path, File file, long length, long offset, byte[] buffer, ReceivedFileVerifier verifier)
+            throws IOException, DidNotReadEntireFileException {
+        long totalRead = offset;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            final long size = channel.size();
+            if (size < offset) {
+                skipFully(input, length - offset, buffer);
+                channel.close();
+                Files.deleteIfExists(file.toPath());
+                return offset - size;
+            }
+            channel.truncate(offset);
+            channel.position(offset);
+            final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            while (totalRead < length) {
+                int len = (int) Math.min(length - totalRead, buffer.length);
+                input.readFully(buffer, 0, len);
+                byteBuffer.clear();
+                byteBuffer.limit(len);
+                while (byteBuffer.hasRemaining()) {
+                    channel.write(byteBuffer);
+                }
+                totalRead += len;
+            }
+        }
+        if (totalRead != length) {
+            throw new DidNotReadEntireFileException((length - totalRead));
+        }
+        if (verifier != null) {
+            try {
+                verifier.verify(path, file);
+            } catch (IOException e) {
+                // don't resume from content known to be bad
+                Files.deleteIfExists(file.toPath());
+                throw e;
+            }
+        }
+        return 0L;
+    }
+
+    private static void skipFully(DataInput input, long length, byte[] buffer) throws IOException {
+        long remaining = length;
+        while (remaining > 0L) {
+            final int len = (int) Math.min(remaining, buffer.length);
+            input.readFully(buffer, 0, len);
+            remaining -= len;
+        }
     }
 
     public void handleRequest(final DataInput input, final RootFileReader reader,
                               final ActiveOperation.ResultHandler<Void> resultHandler,
                               final ManagementRequestContext<Void> context) throws IOException {
+        handleRequest(input, reader, resultHandler, context, false);
+    }
+
+    /**
+     * Handles a request sent by {@link #sendRangeRequest}, only sending the parts of the files the requester doesn't have yet.
+     */
+    public void handleRangeRequest(final DataInput input, final RootFileReader reader,
+                                   final ActiveOperation.ResultHandler<Void> resultHandler,
+                                   final ManagementRequestContext<Void> context) throws IOException {
+        handleRequest(input, reader, resultHandler, context, true);
+    }
+
+    private void handleRequest(final DataInput input, final RootFileReader reader,
+                               final ActiveOperation.ResultHandler<Void> resultHandler,
+                               final ManagementRequestContext<Void> context, final boolean ranged) throws IOException {
         expectHeader(input, protocol.paramRootId());
         final byte rootId = input.readByte();
         expectHeader(input, protocol.paramFilePath());
         final String filePath = input.readUTF();
+        final Map<String, Long> offsets = ranged ? readOffsets(input) : null;
 
         ManagementRequestContext.AsyncTask<Void> task = new ManagementRequestContext.AsyncTask<Void>() {
             @Override
@@ -136,7 +299,7 @@ public abstract class RemoteFileRequestAndHandler {
                 final File localPath = reader.readRootFile(rootId, filePath);
                 FlushableDataOutput output = context.writeMessage(ManagementResponseHeader.create(context.getRequestHeader()));
                 try {
-                    writeResponse(localPath, output);
+                    writeResponse(localPath, output, offsets);
                     output.close();
                     resultHandler.done(null); // call stack (AsyncTaskRunner created by ManagementRequestContext) handles failures
                 } finally {
@@ -147,78 +310,109 @@ public abstract class RemoteFileRequestAndHandler {
 
         if (asyncExecutor == null) {
             context.executeAsync(task);
-        } else {
+        } else if (transferLimit == null) {
             context.executeAsync(task, asyncExecutor);
+        } else {
+            context.executeAsync(task, transferLimit.limit(asyncExecutor));
         }
     }
 
-    private void writeResponse(final File localPath, final FlushableDataOutput output) throws IOException {
+    Map<String, Long> readOffsets(final DataInput input) throws IOException {
+        expectHeader(input, protocol.paramFileOffset());
+        final int size = input.readInt();
+        final Map<String, Long> offsets = new HashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            final String path = input.readUTF();
+            offsets.put(path, input.readLong());
+        }
+        return offsets;
+    }
+
+    void writeResponse(final File localPath, final FlushableDataOutput output, final Map<String, Long> offsets) throws IOException {
         output.writeByte(protocol.paramNumFiles());
         if (localPath == null || !localPath.exists()) {
             output.writeInt(-1);
         } else if (localPath.isFile()) {
             output.writeInt(1);
-            writeFile(localPath, localPath, output);
+            writeFile(localPath, localPath, output, offsets, new byte[BUFFER_SIZE]);
         } else {
             final List<File> childFiles = getChildFiles(localPath);
             output.writeInt(childFiles.size());
+            final byte[] buffer = new byte[BUFFER_SIZE];
             for (File child : childFiles) {
-                writeFile(localPath, child, output);
+                writeFile(localPath, child, output, offsets, buffer);
             }
         }
     }
 
-    private List<File> getChildFiles(final File base) {
+    private static List<File> getChildFiles(final File base) {
         final List<File> childFiles = new ArrayList<>();
         getChildFiles(base, childFiles);
         return childFiles;
     }
 
-    private void getChildFiles(final File base, final List<File> childFiles) {
+    private static void getChildFiles(final File base, final List<File> childFiles) {
         for (File child : base.listFiles()) {
+            // each entry is only sent once; files and empty directories used to be listed (and transferred) twice
             childFiles.add(child);
-            if (child.isFile() || isEmpty(child)) {
-                childFiles.add(child);
-            } else {
+            if (!child.isFile() && !isEmpty(child)) {
                 getChildFiles(child, childFiles);
             }
         }
     }
 
-    private boolean isEmpty(File file) {
+    private static Map<String, Long> getReceivedFiles(final File transferDir) {
+        if (transferDir == null || !transferDir.isDirectory()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Long> receivedFiles = new HashMap<>();
+        for (File file : getChildFiles(transferDir)) {
+            if (file.isFile()) {
+                receivedFiles.put(getRelativePath(transferDir, file), file.length());
+            }
+        }
+        return receivedFiles;
+    }
+
+    private static boolean isEmpty(File file) {
         return file.isDirectory() && (file.list() == null || file.list().length == 0);
     }
 
-    private String getRelativePath(final File parent, final File child) {
+    private static String getRelativePath(final File parent, final File child) {
         return child.getAbsolutePath().substring(parent.getAbsolutePath().length()+1);
     }
 
-    private void writeFile(final File localPath, final File file, final FlushableDataOutput output) throws IOException {
+    private void writeFile(final File localPath, final File file, final FlushableDataOutput output, final Map<String, Long> offsets, final byte[] buffer) throws IOException {
+        final String path = getRelativePath(localPath, file);
         output.writeByte(protocol.fileStart());
         output.writeByte(protocol.paramFilePath());
-        output.writeUTF(getRelativePath(localPath, file));
+        output.writeUTF(path);
         output.writeByte(protocol.paramFileSize());
-        if (file.isDirectory()) {
-            output.writeLong(0L);
+        final long length = file.isDirectory() ? 0L : file.length();
+        output.writeLong(length);
+        long offset = 0L;
+        if (offsets != null) {
+            final Long requested = offsets.get(path);
+            if (requested != null && requested > 0L && requested <= length) {
+                offset = requested;
+            }
+            output.writeByte(protocol.paramFileOffset());
+            output.writeLong(offset);
+        }
+        if (length == 0L) {
             output.writeByte(protocol.fileEnd());
             return;
-        } else {
-            output.writeLong(file.length());
         }
-        InputStream inputStream = null;
-        try {
-            inputStream = new FileInputStream(file);
-            byte[] buffer = new byte[8192];
+        try (FileInputStream inputStream = new FileInputStream(file)) {
+            if (offset > 0L) {
+                inputStream.getChannel().position(offset);
+            }
+            // never write more than the length announced above, even if the file has grown since
+            long remaining = length - offset;
             int len;
-            while ((len = inputStream.read(buffer)) != -1) {
+            while (remaining > 0L && (len = inputStream.read(buffer, 0, (int) Math.min(remaining, buffer.length))) != -1) {
                 output.write(buffer, 0, len);
-            }
-        } finally {
-            if (inputStream != null) {
-                try {
-                    inputStream.close();
-                } catch (IOException ignored) {
-                }
+                remaining -= len;
             }
         }
         output.writeByte(protocol.fileEnd());
@@ -234,6 +428,106 @@ public abstract class RemoteFileRequestAndHandler {
         byte paramFilePath();
         byte paramFileSize();
         byte fileEnd();
+
+        /**
+         * The header of the offset the remote side already has of a file, only used by range requests.
+         */
+        byte paramFileOffset();
+    }
+
+    /**
+     * Checks a file after it was completely received
+     */
+    public interface ReceivedFileVerifier {
+        /**
+         * @param path the path of the file relative to the requested root
+         * @param file the received file
+         * @throws IOException if the file is not valid, in which case it is discarded
+         */
+        void verify(String path, File file) throws IOException;
+    }
+
+    /**
+     * Caps how many responses are written concurrently, so serving a deployment to many hosts at once does not
+     * saturate the sender. Responses over the limit are queued and handed to their executor as earlier ones
+     * complete, rather than holding one of its threads while they wait.
+     */
+    public static final class TransferLimit {
+        private final int maxTransfers;
+        private final Deque<LimitedTask> waiting = new ArrayDeque<>();
+        private int running;
+
+        /**
+         * @param maxTransfers the maximum number of responses written at the same time
+         */
+        public TransferLimit(int maxTransfers) {
+            if (maxTransfers < 1) {
+                throw new IllegalArgumentException(String.valueOf(maxTransfers));
+            }
+            this.maxTransfers = maxTransfers;
+        }
+
+        /**
+         * Wraps an executor so the tasks given to it only run once fewer than the maximum number of transfers are running.
+         *
+         * @param executor the executor running the tasks
+         * @return the limited executor
+         */
+        public Executor limit(final Executor executor) {
+            return task -> {
+                final LimitedTask limited = new LimitedTask(executor, task);
+                synchronized (this) {
+                    if (running >= maxTransfers) {
+                        waiting.add(limited);
+                        return;
+                    }
+                    running++;
+                }
+                try {
+                    executor.execute(limited);
+                } catch (RejectedExecutionException e) {
+                    complete();
+                    throw e;
+                }
+            };
+        }
+
+        private void complete() {
+            final LimitedTask next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    running--;
+                    return;
+                }
+            }
+            // the finished task's slot is handed to the next one
+            try {
+                next.executor.execute(next);
+            } catch (RejectedExecutionException e) {
+                // it was already accepted, so run it here rather than losing it
+                next.run();
+            }
+        }
+
+        private class LimitedTask implements Runnable {
+            private final Executor executor;
+            private final Runnable task;
+
+            private LimitedTask(Executor executor, Runnable task) {
+                this.executor = executor;
+                this.task = task;
+            }
+
+            @Override
+            public void run() {
+                try {
+                    task.run();
+                } finally {
+                    complete();
+                }
+            }
+        }
     }
 
     /**
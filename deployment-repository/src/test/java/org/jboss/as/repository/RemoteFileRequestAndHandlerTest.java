@@ -0,0 +1,337 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.repository;
+
+import static org.jboss.as.protocol.mgmt.ProtocolUtils.expectHeader;
+import static org.jboss.as.repository.PathUtil.deleteRecursively;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.protocol.mgmt.ActiveOperation;
+import org.jboss.as.protocol.mgmt.FlushableDataOutput;
+import org.jboss.logging.Logger;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests resuming and limiting file transfers with {@link RemoteFileRequestAndHandler}.
+ */
+public class RemoteFileRequestAndHandlerTest {
+
+    private static final byte ROOT_ID = 0x10;
+    private static final String FILE_PATH = "deployment";
+
+    private static final RemoteFileRequestAndHandler.RemoteFileProtocolIdMapper MAPPER = new RemoteFileRequestAndHandler.RemoteFileProtocolIdMapper() {
+        public byte paramRootId() {
+            return 0x01;
+        }
+
+        public byte paramNumFiles() {
+            return 0x02;
+        }
+
+        public byte fileStart() {
+            return 0x03;
+        }
+
+        public byte paramFilePath() {
+            return 0x04;
+        }
+
+        public byte paramFileSize() {
+            return 0x05;
+        }
+
+        public byte fileEnd() {
+            return 0x06;
+        }
+
+        public byte paramFileOffset() {
+            return 0x07;
+        }
+    };
+
+    private final RemoteFileRequestAndHandler handler = new RemoteFileRequestAndHandler(MAPPER) {
+    };
+    private final File root = new File("target", "remote-file");
+    private final File source = new File(root, "source");
+    private final File target = new File(root, "target");
+    private final File transferDir = new File(root, "transfer");
+    private byte[] large;
+
+    @Before
+    public void createSource() throws IOException {
+        if (root.exists()) {
+            deleteRecursively(root.toPath());
+        }
+        large = new byte[200000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = (byte) i;
+        }
+        Files.createDirectories(source.toPath().resolve("lib"));
+        Files.createDirectories(source.toPath().resolve("empty"));
+        Files.write(source.toPath().resolve("content"), "content".getBytes("UTF-8"));
+        Files.write(source.toPath().resolve("lib").resolve("large.jar"), large);
+        // a file which happens to look like an unfinished transfer is still content
+        Files.write(source.toPath().resolve("lib").resolve("resource.part"), "part".getBytes("UTF-8"));
+    }
+
+    @After
+    public void deleteFiles() throws IOException {
+        deleteRecursively(root.toPath());
+    }
+
+    @Test
+    public void testTransfer() throws Exception {
+        Assert.assertTrue(requestOffsets().isEmpty());
+        final byte[] response = respond(requestOffsets());
+        receive(response);
+
+        assertTransferred();
+        Assert.assertFalse(transferDir.exists());
+    }
+
+    @Test
+    public void testInterruptedTransferIsResumed() throws Exception {
+        final byte[] response = respond(requestOffsets());
+        try {
+            receive(Arrays.copyOf(response, response.length / 2));
+            Assert.fail("The transfer should have failed");
+        } catch (EOFException expected) {
+            // the connection was lost
+        }
+        // nothing is visible until every file was received, and the transfer directory marks it as incomplete
+        Assert.assertFalse(target.exists());
+        Assert.assertTrue(transferDir.exists());
+
+        final Map<String, Long> offsets = requestOffsets();
+        Assert.assertEquals(Long.valueOf("content".length()), offsets.get("content"));
+        final long received = offsets.get("lib" + File.separator + "large.jar");
+        Assert.assertTrue(received > 0L && received < large.length);
+
+        final byte[] remainder = respond(offsets);
+        Assert.assertTrue(remainder.length < response.length - received + 1);
+        receive(remainder);
+
+        assertTransferred();
+        Assert.assertFalse(transferDir.exists());
+    }
+
+    @Test
+    public void testResumeFromChangedFile() throws Exception {
+        // an earlier attempt received more than the file now has, so it is sent again from the start
+        Files.createDirectories(transferDir.toPath());
+        Files.write(transferDir.toPath().resolve("content"), "content which was longer".getBytes("UTF-8"));
+
+        receive(respond(requestOffsets()));
+
+        assertTransferred();
+    }
+
+    @Test
+    public void testShortenedPartialFileIsTransferredAgain() throws Exception {
+        final byte[] response = respond(requestOffsets());
+        try {
+            receive(Arrays.copyOf(response, response.length / 2));
+            Assert.fail("The transfer should have failed");
+        } catch (EOFException expected) {
+            // the connection was lost
+        }
+        final File partial = new File(transferDir, "lib" + File.separator + "large.jar");
+        final byte[] remainder = respond(requestOffsets());
+        // the partial file loses data after the offsets were sent
+        Files.write(partial.toPath(), new byte[1]);
+        try {
+            receive(remainder);
+            Assert.fail("The transfer should have failed");
+        } catch (RemoteFileRequestAndHandler.DidNotReadEntireFileException expected) {
+            // the rest of the response was still read, the files after it were received
+        }
+        Assert.assertFalse(target.exists());
+        Assert.assertFalse(partial.exists());
+        Assert.assertFalse(requestOffsets().containsKey("lib" + File.separator + "large.jar"));
+
+        receive(respond(requestOffsets()));
+
+        assertTransferred();
+        Assert.assertFalse(transferDir.exists());
+    }
+
+    @Test
+    public void testRejectedFileIsNotResumed() throws Exception {
+        final byte[] response = respond(requestOffsets());
+        try {
+            receive(response, (path, file) -> {
+                if (path.equals("content")) {
+                    throw new IOException("corrupt");
+                }
+            });
+            Assert.fail("The transfer should have failed");
+        } catch (IOException expected) {
+            Assert.assertEquals("corrupt", expected.getMessage());
+        }
+        Assert.assertFalse(target.exists());
+        Assert.assertFalse(new File(transferDir, "content").exists());
+        Assert.assertFalse(requestOffsets().containsKey("content"));
+    }
+
+    @Test
+    public void testTransferLimit() {
+        final List<Runnable> submitted = new ArrayList<>();
+        final Executor executor = RemoteFileRequestAndHandlerTest.limit(2, submitted::add);
+        final AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            executor.execute(completed::incrementAndGet);
+        }
+        // the third transfer waits without taking a thread of the executor
+        Assert.assertEquals(2, submitted.size());
+
+        submitted.get(0).run();
+        Assert.assertEquals(1, completed.get());
+        Assert.assertEquals(3, submitted.size());
+
+        submitted.get(1).run();
+        submitted.get(2).run();
+        Assert.assertEquals(3, completed.get());
+
+        executor.execute(completed::incrementAndGet);
+        Assert.assertEquals(4, submitted.size());
+    }
+
+    @Test
+    public void testTransferLimitRejection() {
+        final List<Runnable> submitted = new ArrayList<>();
+        final AtomicInteger rejectAfter = new AtomicInteger(1);
+        final RemoteFileRequestAndHandler.TransferLimit limit = new RemoteFileRequestAndHandler.TransferLimit(1);
+        final Executor executor = limit.limit(task -> {
+            if (rejectAfter.getAndDecrement() <= 0) {
+                throw new RejectedExecutionException();
+            }
+            submitted.add(task);
+        });
+        final AtomicInteger completed = new AtomicInteger();
+        executor.execute(completed::incrementAndGet);
+        executor.execute(completed::incrementAndGet);
+        Assert.assertEquals(1, submitted.size());
+
+        // the waiting task was already accepted, so it runs in the completing thread when the executor rejects it
+        submitted.get(0).run();
+        Assert.assertEquals(2, completed.get());
+
+        // a rejected task gives its slot back
+        try {
+            executor.execute(completed::incrementAndGet);
+            Assert.fail("The task should have been rejected");
+        } catch (RejectedExecutionException expected) {
+            // expected
+        }
+        rejectAfter.set(1);
+        executor.execute(completed::incrementAndGet);
+        Assert.assertEquals(2, submitted.size());
+    }
+
+    private static Executor limit(int maxTransfers, Executor executor) {
+        return new RemoteFileRequestAndHandler.TransferLimit(maxTransfers).limit(executor);
+    }
+
+    private Map<String, Long> requestOffsets() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (StreamDataOutput output = new StreamDataOutput(bytes)) {
+            handler.sendRangeRequest(output, ROOT_ID, FILE_PATH, transferDir);
+        }
+        final DataInput input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        expectHeader(input, MAPPER.paramRootId());
+        Assert.assertEquals(ROOT_ID, input.readByte());
+        expectHeader(input, MAPPER.paramFilePath());
+        Assert.assertEquals(FILE_PATH, input.readUTF());
+        return handler.readOffsets(input);
+    }
+
+    private byte[] respond(Map<String, Long> offsets) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (StreamDataOutput output = new StreamDataOutput(bytes)) {
+            handler.writeResponse(source, output, offsets);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void receive(byte[] response) throws Exception {
+        receive(response, null);
+    }
+
+    private void receive(byte[] response, RemoteFileRequestAndHandler.ReceivedFileVerifier verifier) throws Exception {
+        final ResultHandler resultHandler = new ResultHandler();
+        handler.handleRangeResponse(new DataInputStream(new ByteArrayInputStream(response)), target, transferDir,
+                Logger.getLogger(RemoteFileRequestAndHandlerTest.class), verifier, resultHandler, null);
+        Assert.assertEquals(target, resultHandler.result);
+    }
+
+    private void assertTransferred() throws IOException {
+        Assert.assertArrayEquals("content".getBytes("UTF-8"), Files.readAllBytes(target.toPath().resolve("content")));
+        Assert.assertArrayEquals(large, Files.readAllBytes(target.toPath().resolve("lib").resolve("large.jar")));
+        Assert.assertArrayEquals("part".getBytes("UTF-8"), Files.readAllBytes(target.toPath().resolve("lib").resolve("resource.part")));
+        Assert.assertTrue(new File(target, "empty").isDirectory());
+    }
+
+    private static class StreamDataOutput extends DataOutputStream implements FlushableDataOutput {
+        StreamDataOutput(OutputStream out) {
+            super(out);
+        }
+    }
+
+    private static class ResultHandler implements ActiveOperation.ResultHandler<File> {
+        private File result;
+
+        @Override
+        public boolean done(File result) {
+            this.result = result;
+            return true;
+        }
+
+        @Override
+        public boolean failed(Throwable t) {
+            return false;
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -48,9 +48,12 @@ import io.undertow.util.HeaderMap;
 import io.undertow.util.HeaderValues;
 import io.undertow.util.Headers;
 import io.undertow.util.HttpString;
+import org.jboss.as.controller.FileRangeInputStream;
 import org.jboss.as.controller.client.OperationResponse;
 import org.jboss.dmr.ModelNode;
 import org.xnio.IoUtils;
+import org.xnio.channels.Channels;
+import org.xnio.channels.StreamSinkChannel;
 
 
 /**
@@ -109,9 +112,15 @@ public class DomainUtil {
 
         writeCacheHeaders(exchange, 200, operationParameter);
 
+        final InputStream stream = entry.getStream();
+        if (stream instanceof FileRangeInputStream) {
+            writeFileRangeResponse(exchange, operationResponse, (FileRangeInputStream) stream);
+            return;
+        }
+
         final Sender sender = exchange.getResponseSender();
         class ServeTask implements IoCallback, Runnable {
-            private final byte[] buffer = new byte[1024];//TODO: we should be pooling these
+            private final byte[] buffer = new byte[8192];//TODO: we should be pooling these
 
             public void run() {
                 try {
@@ -146,6 +155,30 @@ public class DomainUtil {
         new ServeTask().run();
     }
 
+    /**
+     * Sends a region of a file by letting the channel transfer it directly from the file, avoiding copying it
+     * through the heap.
+     */
+    private static void writeFileRangeResponse(final HttpServerExchange exchange, final OperationResponse operationResponse,
+                                               final FileRangeInputStream stream) {
+        final long count = stream.getRemaining();
+        exchange.getResponseHeaders().put(Headers.CONTENT_LENGTH, count);
+        final StreamSinkChannel channel = exchange.getResponseChannel();
+        try {
+            // Not in the IO thread (see the assertion in writeStreamResponse), so blocking here is fine
+            Channels.transferBlocking(channel, stream.getChannel(), stream.getPosition(), count);
+            stream.skip(count);
+            Channels.shutdownWritesBlocking(channel);
+        } catch (IOException e) {
+            if (!exchange.isResponseStarted()) {
+                exchange.setStatusCode(500);
+            }
+            IoUtils.safeClose(channel);
+        } finally {
+            IoUtils.safeClose(operationResponse);
+        }
+    }
+
     private static String determineMimeType(OperationResponse.StreamEntry entry, HttpServerExchange exchange) {
         // We see if the type provided by the response "matches" the ACCEPT header; if yes, use it
         // If not, use application/octet-stream to trigger the browser to treat it as a download
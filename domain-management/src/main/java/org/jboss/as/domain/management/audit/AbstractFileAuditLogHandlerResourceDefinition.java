@@ -36,6 +36,8 @@ import org.jboss.as.controller.audit.AbstractFileAuditLogHandler;
 import org.jboss.as.controller.audit.ManagedAuditLogger;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.controller.services.path.PathManagerService;
@@ -61,7 +63,35 @@ public abstract class AbstractFileAuditLogHandlerResourceDefinition extends Audi
         .setMinSize(1)
         .build();
 
-    protected static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[]{FORMATTER, PATH, RELATIVE_TO, MAX_FAILURE_COUNT};
+    public static final SimpleAttributeDefinition DURABILITY = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.DURABILITY, ModelType.STRING)
+        .setRequired(false)
+        .setAllowExpression(true)
+        .setDefaultValue(new ModelNode(AbstractFileAuditLogHandler.Durability.SYNC.name()))
+        .setValidator(new EnumValidator<>(AbstractFileAuditLogHandler.Durability.class, true, true))
+        .build();
+
+    public static final SimpleAttributeDefinition QUEUE_SIZE = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.QUEUE_SIZE, ModelType.INT)
+        .setRequired(false)
+        .setAllowExpression(true)
+        .setDefaultValue(new ModelNode(AbstractFileAuditLogHandler.DEFAULT_QUEUE_SIZE))
+        .setValidator(new IntRangeValidator(1, true, true))
+        .build();
+
+    public static final SimpleAttributeDefinition PENDING_ITEM_COUNT = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.PENDING_ITEM_COUNT, ModelType.INT)
+        .setRequired(true)
+        .setStorageRuntime()
+        .setRuntimeServiceNotRequired()
+        .build();
+
+    public static final SimpleAttributeDefinition BACK_PRESSURE_COUNT = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.BACK_PRESSURE_COUNT, ModelType.LONG)
+        .setRequired(true)
+        .setStorageRuntime()
+        .setRuntimeServiceNotRequired()
+        .build();
+
+    protected static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[]{FORMATTER, PATH, RELATIVE_TO, MAX_FAILURE_COUNT, DURABILITY, QUEUE_SIZE};
+
+    private static final AttributeDefinition[] RUNTIME_ATTRIBUTES = new AttributeDefinition[] {PENDING_ITEM_COUNT, BACK_PRESSURE_COUNT};
 
 
     public AbstractFileAuditLogHandlerResourceDefinition(ManagedAuditLogger auditLogger, PathManagerService pathManager, PathElement pathElement, ResourceDescriptionResolver descriptionResolver,
@@ -76,6 +106,14 @@ public abstract class AbstractFileAuditLogHandlerResourceDefinition extends Audi
         for (AttributeDefinition def : ATTRIBUTES) {
             resourceRegistration.registerReadWriteAttribute(def, null, write);
         }
+        HandlerRuntimeAttributeHandler runtime = new HandlerRuntimeAttributeHandler(auditLogger);
+        for (AttributeDefinition def : RUNTIME_ATTRIBUTES) {
+            resourceRegistration.registerMetric(def, runtime);
+        }
+    }
+
+    static AbstractFileAuditLogHandler.Durability resolveDurability(final OperationContext context, final ModelNode model) throws OperationFailedException {
+        return AbstractFileAuditLogHandler.Durability.valueOf(DURABILITY.resolveModelAttribute(context, model).asString());
     }
 
     protected abstract HandlerWriteAttributeHandler getWriteAttributeHandler(ManagedAuditLogger auditLogger, PathManagerService pathManager, AttributeDefinition... attributeDefinitions);
@@ -123,7 +123,7 @@ public class AuditLogHandlerResourceDefinition extends SimpleResourceDefinition
                 new HandlerRecycleHandler(auditLogger));
     }
 
-    private static class HandlerRuntimeAttributeHandler extends AbstractRuntimeOnlyHandler {
+    static class HandlerRuntimeAttributeHandler extends AbstractRuntimeOnlyHandler {
         private final ManagedAuditLogger auditLogger;
 
         HandlerRuntimeAttributeHandler(ManagedAuditLogger auditLogger) {
@@ -143,6 +143,10 @@ public class AuditLogHandlerResourceDefinition extends SimpleResourceDefinition
                 context.getResult().set(auditLogger.getHandlerFailureCount(handlerName));
             } else if (attr.equals(DISABLED_DUE_TO_FAILURE.getName())) {
                 context.getResult().set(auditLogger.getHandlerDisabledDueToFailure(handlerName));
+            } else if (attr.equals(ModelDescriptionConstants.PENDING_ITEM_COUNT)) {
+                context.getResult().set(auditLogger.getHandlerPendingItemCount(handlerName));
+            } else if (attr.equals(ModelDescriptionConstants.BACK_PRESSURE_COUNT)) {
+                context.getResult().set(auditLogger.getHandlerBackPressureCount(handlerName));
             }
         }
     }
@@ -95,7 +95,9 @@ public class FileAuditLogHandlerResourceDefinition extends AbstractFileAuditLogH
         final String formatterName = FORMATTER.resolveModelAttribute(context, model).asString();
         final int maxFailureCount = MAX_FAILURE_COUNT.resolveModelAttribute(context, model).asInt();
         final boolean rotateAtStartup = ROTATE_AT_STARTUP.resolveModelAttribute(context, model).asBoolean();
-        return new FileAuditLogHandler(name, formatterName, maxFailureCount, pathManager, path, relativeTo, rotateAtStartup);
+        final AbstractFileAuditLogHandler.Durability durability = resolveDurability(context, model);
+        final int queueSize = QUEUE_SIZE.resolveModelAttribute(context, model).asInt();
+        return new FileAuditLogHandler(name, formatterName, maxFailureCount, pathManager, path, relativeTo, rotateAtStartup, durability, queueSize);
     }
 
     protected static class FileAuditLogHandlerAddHandler extends AbstractFileAuditLogHandlerAddHandler {
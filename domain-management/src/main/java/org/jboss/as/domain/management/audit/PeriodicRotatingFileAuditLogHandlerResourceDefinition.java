@@ -98,7 +98,9 @@ public class PeriodicRotatingFileAuditLogHandlerResourceDefinition extends Abstr
         final String formatterName = FORMATTER.resolveModelAttribute(context, model).asString();
         final int maxFailureCount = MAX_FAILURE_COUNT.resolveModelAttribute(context, model).asInt();
         final String suffix = SUFFIX.resolveModelAttribute(context, model).asString();
-        return new PeriodicRotatingFileAuditLogHandler(name, formatterName, maxFailureCount, pathManager, path, relativeTo, suffix, /*default timeZone*/null);
+        final AbstractFileAuditLogHandler.Durability durability = resolveDurability(context, model);
+        final int queueSize = QUEUE_SIZE.resolveModelAttribute(context, model).asInt();
+        return new PeriodicRotatingFileAuditLogHandler(name, formatterName, maxFailureCount, pathManager, path, relativeTo, suffix, /*default timeZone*/null, durability, queueSize);
     }
 
     protected static class PeriodicRotatingFileAuditLogHandlerAddHandler extends AbstractFileAuditLogHandlerAddHandler {
@@ -109,7 +109,9 @@ public class SizeRotatingFileAuditLogHandlerResourceDefinition extends AbstractF
         final int maxFailureCount = MAX_FAILURE_COUNT.resolveModelAttribute(context, model).asInt();
         final long rotateSize = SizeValidator.parseSize(ROTATE_SIZE.resolveModelAttribute(context, model));
         final int maxBackupIndex = MAX_BACKUP_INDEX.resolveModelAttribute(context, model).asInt();
-        return new SizeRotatingFileAuditLogHandler(name, formatterName, maxFailureCount, pathManager, path, relativeTo, rotateSize, maxBackupIndex);
+        final AbstractFileAuditLogHandler.Durability durability = resolveDurability(context, model);
+        final int queueSize = QUEUE_SIZE.resolveModelAttribute(context, model).asInt();
+        return new SizeRotatingFileAuditLogHandler(name, formatterName, maxFailureCount, pathManager, path, relativeTo, rotateSize, maxBackupIndex, durability, queueSize);
     }
 
     protected static class SizeRotatingFileAuditLogHandlerAddHandler extends AbstractFileAuditLogHandlerAddHandler {
@@ -115,6 +115,14 @@ final class AuditLogXml_5 implements AuditLogXml {
                     FileAuditLogHandlerResourceDefinition.ROTATE_AT_STARTUP.parseAndSetParameter(value, add, reader);
                     break;
                 }
+                case DURABILITY: {
+                    FileAuditLogHandlerResourceDefinition.DURABILITY.parseAndSetParameter(value, add, reader);
+                    break;
+                }
+                case QUEUE_SIZE: {
+                    FileAuditLogHandlerResourceDefinition.QUEUE_SIZE.parseAndSetParameter(value, add, reader);
+                    break;
+                }
                 default: {
                     throw unexpectedAttribute(reader, i);
                 }
@@ -136,6 +144,8 @@ final class AuditLogXml_5 implements AuditLogXml {
             FileAuditLogHandlerResourceDefinition.PATH.marshallAsAttribute(handler, writer);
             FileAuditLogHandlerResourceDefinition.RELATIVE_TO.marshallAsAttribute(handler, writer);
             FileAuditLogHandlerResourceDefinition.ROTATE_AT_STARTUP.marshallAsAttribute(handler, writer);
+            FileAuditLogHandlerResourceDefinition.DURABILITY.marshallAsAttribute(handler, writer);
+            FileAuditLogHandlerResourceDefinition.QUEUE_SIZE.marshallAsAttribute(handler, writer);
             writer.writeEndElement();
         }
     }
@@ -339,6 +349,12 @@ final class AuditLogXml_5 implements AuditLogXml {
                 case MAX_BACKUP_INDEX:
                     SizeRotatingFileAuditLogHandlerResourceDefinition.MAX_BACKUP_INDEX.parseAndSetParameter(value, add, reader);
                     break;
+                case DURABILITY:
+                    SizeRotatingFileAuditLogHandlerResourceDefinition.DURABILITY.parseAndSetParameter(value, add, reader);
+                    break;
+                case QUEUE_SIZE:
+                    SizeRotatingFileAuditLogHandlerResourceDefinition.QUEUE_SIZE.parseAndSetParameter(value, add, reader);
+                    break;
                 default:
                     throw unexpectedAttribute(reader, i);
             }
@@ -376,6 +392,12 @@ final class AuditLogXml_5 implements AuditLogXml {
                 case SUFFIX:
                     PeriodicRotatingFileAuditLogHandlerResourceDefinition.SUFFIX.parseAndSetParameter(value, add, reader);
                     break;
+                case DURABILITY:
+                    PeriodicRotatingFileAuditLogHandlerResourceDefinition.DURABILITY.parseAndSetParameter(value, add, reader);
+                    break;
+                case QUEUE_SIZE:
+                    PeriodicRotatingFileAuditLogHandlerResourceDefinition.QUEUE_SIZE.parseAndSetParameter(value, add, reader);
+                    break;
                 default:
                     throw unexpectedAttribute(reader, i);
             }
@@ -720,6 +742,8 @@ final class AuditLogXml_5 implements AuditLogXml {
                     PeriodicRotatingFileAuditLogHandlerResourceDefinition.PATH.marshallAsAttribute(handler, writer);
                     PeriodicRotatingFileAuditLogHandlerResourceDefinition.RELATIVE_TO.marshallAsAttribute(handler, writer);
                     PeriodicRotatingFileAuditLogHandlerResourceDefinition.SUFFIX.marshallAsAttribute(handler, writer);
+                    PeriodicRotatingFileAuditLogHandlerResourceDefinition.DURABILITY.marshallAsAttribute(handler, writer);
+                    PeriodicRotatingFileAuditLogHandlerResourceDefinition.QUEUE_SIZE.marshallAsAttribute(handler, writer);
                     writer.writeEndElement();
                 }
             }
@@ -734,6 +758,8 @@ final class AuditLogXml_5 implements AuditLogXml {
                     SizeRotatingFileAuditLogHandlerResourceDefinition.RELATIVE_TO.marshallAsAttribute(handler, writer);
                     SizeRotatingFileAuditLogHandlerResourceDefinition.ROTATE_SIZE.marshallAsAttribute(handler, writer);
                     SizeRotatingFileAuditLogHandlerResourceDefinition.MAX_BACKUP_INDEX.marshallAsAttribute(handler, writer);
+                    SizeRotatingFileAuditLogHandlerResourceDefinition.DURABILITY.marshallAsAttribute(handler, writer);
+                    SizeRotatingFileAuditLogHandlerResourceDefinition.QUEUE_SIZE.marshallAsAttribute(handler, writer);
                     writer.writeEndElement();
                 }
             }
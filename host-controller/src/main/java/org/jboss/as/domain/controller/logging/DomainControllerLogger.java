@@ -22,8 +22,10 @@
 
 package org.jboss.as.domain.controller.logging;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADAPTIVE_ROLLING_TO_SERVERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CONCURRENT_GROUPS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.IN_SERIES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLLING_TO_SERVERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_GROUP;
 import static org.jboss.logging.Logger.Level.WARN;
 
@@ -802,4 +804,15 @@ public interface DomainControllerLogger extends BasicLogger {
 
     @Message(id = 97, value = "Cannot explode a subdeployment of an unexploded deployment")
     OperationFailedException cannotExplodeSubDeploymentOfUnexplodedDeployment();
+
+    /**
+     * Creates an exception message indicating that a server group in a rollout plan has both rolling and adaptive
+     * rolling to servers enabled.
+     *
+     * @param serverGroupSpec the complete string representation of the server group in the rollout plan
+     *
+     * @return the error message
+     */
+    @Message(id = 98, value = ROLLING_TO_SERVERS + " and " + ADAPTIVE_ROLLING_TO_SERVERS + " can't both be true: %s")
+    String rollingAndAdaptiveRollingToServers(String serverGroupSpec);
 }
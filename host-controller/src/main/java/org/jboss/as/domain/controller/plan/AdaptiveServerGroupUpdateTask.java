@@ -0,0 +1,127 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.domain.controller.plan;
+
+import java.net.InetAddress;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.BlockingTimeout;
+import org.jboss.as.controller.remote.TransactionalProtocolClient;
+import org.jboss.as.domain.controller.ServerIdentity;
+import org.jboss.as.domain.controller.logging.DomainControllerLogger;
+import org.wildfly.security.auth.server.SecurityIdentity;
+
+/**
+ * Updates the servers of a group in batches, starting with a single canary server. Each batch whose servers all
+ * prepared successfully doubles the size of the next one; a batch with a failure or timeout falls back to a single
+ * server. Once the {@link ServerUpdatePolicy} no longer allows any more failures the remaining servers are skipped.
+ */
+class AdaptiveServerGroupUpdateTask extends AbstractServerGroupRolloutTask implements Runnable {
+
+    public AdaptiveServerGroupUpdateTask(List<ServerUpdateTask> tasks, ServerUpdatePolicy updatePolicy,
+                                         ServerTaskExecutor executor, SecurityIdentity securityIdentity, InetAddress sourceAddress, BlockingTimeout blockingTimeout) {
+        super(tasks, updatePolicy, executor, securityIdentity, sourceAddress, blockingTimeout);
+    }
+
+    @Override
+    public void execute() {
+        final ServerTaskExecutor.ServerOperationListener listener = new ServerTaskExecutor.ServerOperationListener();
+        final Iterator<ServerUpdateTask> iterator = tasks.iterator();
+        int batchSize = 1;
+        boolean interrupted = false;
+        while (!interrupted && iterator.hasNext()) {
+            final Map<ServerIdentity, ServerUpdateTask> outstanding = new HashMap<>();
+            int preparedTimeout = 0;
+            while (outstanding.size() < batchSize && iterator.hasNext()) {
+                final ServerUpdateTask task = iterator.next();
+                final ServerIdentity identity = task.getServerIdentity();
+                if (!updatePolicy.canUpdateServer(identity)) {
+                    DomainControllerLogger.HOST_CONTROLLER_LOGGER.tracef("Skipping server update task for %s", identity);
+                    continue;
+                }
+                // Execute the task
+                int serverTimeout = executor.executeTask(listener, task);
+                if (serverTimeout > -1) {
+                    outstanding.put(identity, task);
+                    if (serverTimeout > preparedTimeout) {
+                        preparedTimeout = serverTimeout;
+                    }
+                }
+            }
+
+            boolean batchFailed = false;
+            long deadline = System.currentTimeMillis() + preparedTimeout;
+            long remaining = preparedTimeout;
+            while (!interrupted && !outstanding.isEmpty() && remaining > 0) {
+                try {
+                    // Wait for the prepared results of the batch
+                    final TransactionalProtocolClient.PreparedOperation<ServerTaskExecutor.ServerOperation> prepared = listener.retrievePreparedOperation(remaining, TimeUnit.MILLISECONDS);
+                    if (prepared == null) {
+                        // timed out
+                        break;
+                    }
+                    final ServerIdentity identity = prepared.getOperation().getIdentity();
+                    recordPreparedOperation(identity, prepared);
+                    outstanding.remove(identity);
+                    if (prepared.isFailed()) {
+                        batchFailed = true;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+                remaining = deadline - System.currentTimeMillis();
+            }
+
+            if (!outstanding.isEmpty()) {
+                batchFailed = true;
+                if (interrupted) {
+                    DomainControllerLogger.HOST_CONTROLLER_LOGGER.interruptedAwaitingPreparedResponse(getClass().getSimpleName(), outstanding.keySet());
+                } else {
+                    DomainControllerLogger.HOST_CONTROLLER_LOGGER.timedOutAwaitingPreparedResponse(getClass().getSimpleName(), preparedTimeout, outstanding.keySet());
+                }
+                for (Map.Entry<ServerIdentity, ServerUpdateTask> entry : outstanding.entrySet()) {
+                    ServerIdentity identity = entry.getKey();
+                    executor.cancelTask(identity);
+                    if (!interrupted) {
+                        handlePreparePhaseTimeout(identity, entry.getValue(), preparedTimeout);
+                    }
+                }
+            }
+
+            if (batchFailed) {
+                batchSize = 1;
+            } else if (batchSize <= Integer.MAX_VALUE / 2) {
+                batchSize *= 2;
+            }
+            DomainControllerLogger.HOST_CONTROLLER_LOGGER.tracef("Next batch size for server group %s is %d", updatePolicy.getServerGroupName(), batchSize);
+        }
+
+        if(interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
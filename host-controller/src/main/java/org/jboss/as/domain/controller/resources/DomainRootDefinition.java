@@ -21,6 +21,7 @@
 */
 package org.jboss.as.domain.controller.resources;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADAPTIVE_ROLLING_TO_SERVERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CONCURRENT_GROUPS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DOMAIN;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.IN_SERIES;
@@ -356,7 +357,7 @@ public class DomainRootDefinition extends SimpleResourceDefinition {
     }
 
     public static class RolloutPlanValidator implements ParameterValidator {
-        private static final List<String> ALLOWED_SERVER_GROUP_CHILDREN = Arrays.asList(ROLLING_TO_SERVERS, MAX_FAILURE_PERCENTAGE, MAX_FAILED_SERVERS);
+        private static final List<String> ALLOWED_SERVER_GROUP_CHILDREN = Arrays.asList(ROLLING_TO_SERVERS, ADAPTIVE_ROLLING_TO_SERVERS, MAX_FAILURE_PERCENTAGE, MAX_FAILED_SERVERS);
         @Override
         public void validateParameter(String parameterName, ModelNode plan) throws OperationFailedException {
             Assert.assertNotNull(plan);
@@ -419,6 +420,10 @@ public class DomainRootDefinition extends SimpleResourceDefinition {
                     if(!ALLOWED_SERVER_GROUP_CHILDREN.containsAll(specKeys)) {
                         throw new OperationFailedException(DomainControllerLogger.ROOT_LOGGER.unrecognizedChildren(SERVER_GROUP, ALLOWED_SERVER_GROUP_CHILDREN.toString(), specKeys.toString()));
                     }
+                    if(serverGroup.hasDefined(ROLLING_TO_SERVERS) && serverGroup.get(ROLLING_TO_SERVERS).asBoolean()
+                            && serverGroup.hasDefined(ADAPTIVE_ROLLING_TO_SERVERS) && serverGroup.get(ADAPTIVE_ROLLING_TO_SERVERS).asBoolean()) {
+                        throw new OperationFailedException(DomainControllerLogger.ROOT_LOGGER.rollingAndAdaptiveRollingToServers(serverGroup.toString()));
+                    }
                 } catch(IllegalArgumentException e) {// ignore?
                 }
             }
@@ -1223,6 +1223,11 @@ public class DomainModelControllerService extends AbstractControllerService impl
             return getServerInventory().determineServerStatus(serverName);
         }
 
+        @Override
+        public long getServerStartDuration(String serverName) {
+            return getServerInventory().getServerStartDuration(serverName);
+        }
+
         @Override
         public ServerStatus startServer(String serverName, ModelNode domainModel) {
             return getServerInventory().startServer(serverName, domainModel);
@@ -1553,6 +1558,11 @@ public class DomainModelControllerService extends AbstractControllerService impl
                 return ServerStatus.STOPPED;
             }
 
+            @Override
+            public long getServerStartDuration(String serverName) {
+                return -1;
+            }
+
             @Override
             public ServerStatus startServer(String serverName, ModelNode domainModel) {
                 return ServerStatus.STOPPED;
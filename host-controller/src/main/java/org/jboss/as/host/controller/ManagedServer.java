@@ -42,6 +42,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.controller.CurrentOperationIdHolder;
 import org.jboss.as.controller.PathAddress;
@@ -135,9 +136,12 @@ class ManagedServer {
     private volatile InternalState requiredState = InternalState.STOPPED;
     private volatile InternalState internalState = InternalState.STOPPED;
 
-    private volatile int operationID = CurrentOperationIdHolder.getCurrentOperationID();
+    private volatile int operationID = currentOperationID(0);
     private volatile ManagedServerBootConfiguration bootConfiguration;
     private volatile boolean unstable;
+    /** {@link System#nanoTime()} of the last start request, or {@code -1} once the server has started */
+    private volatile long startRequestTime = -1;
+    private volatile long startDuration = -1;
 
     private final PathAddress address;
 
@@ -219,6 +223,24 @@ class ManagedServer {
         }
     }
 
+    /**
+     * Gets the id of the operation executing on the current thread, if any. Servers may also be started outside of
+     * an operation, e.g. by the host's server start scheduler.
+     */
+    private static int currentOperationID(final int defaultID) {
+        final Integer current = CurrentOperationIdHolder.getCurrentOperationID();
+        return current == null ? defaultID : current;
+    }
+
+    /**
+     * Gets how long the last start of the server took, from the start request until the server reported it had started.
+     *
+     * @return the duration in milliseconds, or {@code -1} if the server has not completed a start
+     */
+    long getStartDuration() {
+        return startDuration;
+    }
+
     boolean isRequiresReload() {
         return requiresReload;
     }
@@ -259,9 +281,10 @@ class ManagedServer {
                 throw new IllegalStateException();
             }
         }
-        operationID = CurrentOperationIdHolder.getCurrentOperationID();
+        operationID = currentOperationID(operationID);
         bootConfiguration = factory.createConfiguration();
         requiredState = InternalState.SERVER_STARTED;
+        startRequestTime = System.nanoTime();
         ROOT_LOGGER.startingServer(serverName);
         transition();
     }
@@ -449,6 +472,13 @@ class ManagedServer {
 
     synchronized void serverStarted(final TransitionTask task) {
         internalSetState(task, InternalState.SERVER_STARTING, InternalState.SERVER_STARTED);
+        if (internalState == InternalState.SERVER_STARTED) {
+            final long requested = startRequestTime;
+            if (requested != -1) {
+                startDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requested);
+                startRequestTime = -1;
+            }
+        }
     }
 
     synchronized void serverStartFailed() {
@@ -803,7 +833,7 @@ class ManagedServer {
             final HostControllerEnvironment environment = bootConfiguration.getHostControllerEnvironment();
             final int processId = bootConfiguration.getServerProcessId();
             // Add the process to the process controller
-            processControllerClient.addProcess(serverProcessName, processId, authKey, command.toArray(new String[command.size()]), environment.getHomeDir().getAbsolutePath(), env);
+            processControllerClient.addProcess(serverProcessName, processId, authKey, command.toArray(new String[command.size()]), environment.getHomeDir().getAbsolutePath(), env, bootConfiguration.isStandby());
             return true;
         }
 
@@ -99,6 +99,11 @@ public class ManagedServerBootCmdFactory implements ManagedServerBootConfigurati
         EMPTY.setEmptyList();
         EMPTY.protect();
     }
+    /**
+     * Boot time system property set on a server config to have the process controller keep a pre-launched
+     * process ready for the next start of the server.
+     */
+    private static final String STANDBY_PROP = "jboss.domain.server.standby";
     private static final String EXCLUDED_PROPERTIES_PROP = "jboss.host.server-excluded-properties";
     private static Set<String> getExcludedHostProperties() {
         String excluded = System.getProperty(EXCLUDED_PROPERTIES_PROP);
@@ -266,6 +271,7 @@ public class ManagedServerBootCmdFactory implements ManagedServerBootConfigurati
                 command.addAll(commandPrefix);
         }
 
+        final int javaCommandIndex = command.size();
         command.add(getJavaCommand());
 
         command.add("-D[" + ManagedServer.getServerProcessName(serverName) + "]");
@@ -344,6 +350,12 @@ public class ManagedServerBootCmdFactory implements ManagedServerBootConfigurati
             ROOT_LOGGER.serverLoggingConfigurationFileNotFound(serverName);
         }
 
+        // The archive options differ between launches, so they are left out of commands built for comparison
+        if (includeProcessId && Boolean.parseBoolean(bootTimeProperties.get(ServerClassDataSharing.ENABLED_PROP))) {
+            command.addAll(ServerClassDataSharing.getJvmOptions(serverName, command.get(javaCommandIndex),
+                    environment.getHomeDir(), environment.getModulePath(), new File(dataDir)));
+        }
+
         command.add("-jar");
         command.add(getAbsolutePath(environment.getHomeDir(), "jboss-modules.jar"));
         command.add("-mp");
@@ -410,6 +422,11 @@ public class ManagedServerBootCmdFactory implements ManagedServerBootConfigurati
         return suspend;
     }
 
+    @Override
+    public boolean isStandby() {
+        return Boolean.parseBoolean(getAllSystemProperties(true).get(STANDBY_PROP));
+    }
+
     @Override
     public int getServerProcessId() {
         return processId;
@@ -47,12 +47,13 @@ public interface ManagedServerBootConfiguration {
      * Get server launch command.
      * <p>
      * The command can optionally omit the usual arg that reports the server's
-     * semi-unique {@link #getServerProcessId() process id}. Omitting this allows comparison of launch
-     * commands without having to account for the fact that process ids for the same logical server
-     * will be different for different launches.
+     * semi-unique {@link #getServerProcessId() process id}, as well as the class data sharing options.
+     * Omitting these allows comparison of launch commands without having to account for the fact that
+     * they will be different for different launches of the same logical server.
      *
      * @param includeProcessId {@code true} if the command should include a {@code -D} arg
-     *                         reporting the {@link #getServerProcessId() server process id}.
+     *                         reporting the {@link #getServerProcessId() server process id}, and the
+     *                         class data sharing options if enabled.
      *
      * @return the launch command
      */
@@ -93,4 +94,11 @@ public interface ManagedServerBootConfiguration {
      * @return the id
      */
     int getServerProcessId();
+
+    /**
+     * Gets whether the process controller should keep a pre-launched process ready for the next start of the server.
+     *
+     * @return {@code true} if a standby process should be used
+     */
+    boolean isStandby();
 }
@@ -40,8 +40,13 @@ import static org.jboss.as.host.controller.logging.HostControllerLogger.ROOT_LOG
 
 import java.io.DataInput;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -106,6 +111,7 @@ import org.jboss.as.remoting.management.ManagementRemotingServices;
 import org.jboss.as.repository.ContentReference;
 import org.jboss.as.repository.ContentRepository;
 import org.jboss.as.repository.HostFileRepository;
+import org.jboss.as.repository.RemoteFileRequestAndHandler;
 import org.jboss.as.repository.RemoteFileRequestAndHandler.CannotCreateLocalDirectoryException;
 import org.jboss.as.repository.RemoteFileRequestAndHandler.DidNotReadEntireFileException;
 import org.jboss.as.version.ProductConfig;
@@ -142,6 +148,13 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
     private static final int CONNECTION_TIMEOUT_DEFAULT = 30000;
     private static final String CONNECTION_TIMEOUT_PROPERTY = "jboss.host.domain.connection.timeout";
     private static final int CONNECTION_TIMEOUT = getSystemProperty(CONNECTION_TIMEOUT_PROPERTY, CONNECTION_TIMEOUT_DEFAULT);
+    /** Name of the file managed content is stored in, within its deployment root */
+    private static final String DEPLOYMENT_CONTENT_FILE = "content";
+    private static final int FILE_TRANSFER_ATTEMPTS_DEFAULT = 3;
+    private static final String FILE_TRANSFER_ATTEMPTS_PROPERTY = "jboss.host.domain.file-transfer.attempts";
+    private static final int FILE_TRANSFER_ATTEMPTS = Math.max(1, getSystemProperty(FILE_TRANSFER_ATTEMPTS_PROPERTY, FILE_TRANSFER_ATTEMPTS_DEFAULT));
+    /** Directory within the domain temp dir files are received into until their transfer is complete */
+    private static final String FILE_TRANSFERS_DIR = "file-transfers";
 
     //private static final ModelNode APPLY_EXTENSIONS = new ModelNode();
     private static final ModelNode APPLY_DOMAIN_MODEL = new ModelNode();
@@ -712,45 +725,87 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
 
         @Override
         public byte getOperationType() {
-            return DomainControllerProtocol.GET_FILE_REQUEST;
+            return DomainControllerProtocol.GET_FILE_RANGE_REQUEST;
         }
 
         @Override
         protected void sendRequest(ActiveOperation.ResultHandler<File> resultHandler, ManagementRequestContext<Void> context, FlushableDataOutput output) throws IOException {
             output.write(DomainControllerProtocol.PARAM_HOST_ID);
             output.writeUTF(localHostInfo.getLocalHostName());
-            DomainRemoteFileRequestAndHandler.INSTANCE.sendRequest(output, rootId, filePath);
+            // Only ask for what an earlier interrupted attempt didn't already receive
+            DomainRemoteFileRequestAndHandler.INSTANCE.sendRangeRequest(output, rootId, filePath, getTransferDir(rootId, filePath));
         }
 
         @Override
         public void handleRequest(DataInput input, ActiveOperation.ResultHandler<File> resultHandler, ManagementRequestContext<Void> context) throws IOException {
-            final File localPath;
+            final File localPath = getLocalPath();
+            final RemoteFileRequestAndHandler.ReceivedFileVerifier verifier;
+            if (rootId == DomainControllerProtocol.PARAM_ROOT_ID_DEPLOYMENT) {
+                verifier = (path, file) -> verifyDeploymentContent(filePath, path, file);
+            } else {
+                verifier = null;
+            }
+            try {
+                DomainRemoteFileRequestAndHandler.INSTANCE.handleRangeResponse(input, localPath, getTransferDir(rootId, filePath),
+                        ROOT_LOGGER, verifier, resultHandler, context);
+            } catch (CannotCreateLocalDirectoryException e) {
+                throw HostControllerLogger.ROOT_LOGGER.cannotCreateLocalDirectory(e.getDir());
+            } catch (DidNotReadEntireFileException e) {
+                throw HostControllerLogger.ROOT_LOGGER.didNotReadEntireFile(e.getMissing());
+            }
+        }
+
+        private File getLocalPath() {
             switch (rootId) {
                 case DomainControllerProtocol.PARAM_ROOT_ID_FILE: {
-                    localPath = localFileRepository.getFile(filePath);
-                    break;
+                    return localFileRepository.getFile(filePath);
                 }
                 case DomainControllerProtocol.PARAM_ROOT_ID_CONFIGURATION: {
-                    localPath = localFileRepository.getConfigurationFile(filePath);
-                    break;
+                    return localFileRepository.getConfigurationFile(filePath);
                 }
                 case DomainControllerProtocol.PARAM_ROOT_ID_DEPLOYMENT: {
                     byte[] hash = HashUtil.hexStringToByteArray(filePath);
-                    localPath = localFileRepository.getDeploymentRoot(new ContentReference(filePath, hash));
-                    break;
+                    return localFileRepository.getDeploymentRoot(new ContentReference(filePath, hash));
                 }
                 default: {
-                    localPath = null;
+                    return null;
                 }
             }
-            try {
-                DomainRemoteFileRequestAndHandler.INSTANCE.handleResponse(input, localPath, ROOT_LOGGER, resultHandler, context);
-            } catch (CannotCreateLocalDirectoryException e) {
-                throw HostControllerLogger.ROOT_LOGGER.cannotCreateLocalDirectory(e.getDir());
-            } catch (DidNotReadEntireFileException e) {
-                throw HostControllerLogger.ROOT_LOGGER.didNotReadEntireFile(e.getMissing());
+        }
+    }
+
+    /**
+     * Gets the directory a file is received into before it is moved to the repository. It only exists while a transfer
+     * of the file is incomplete.
+     */
+    private File getTransferDir(final byte rootId, final String filePath) {
+        return new File(tempDir, FILE_TRANSFERS_DIR + File.separatorChar + rootId + File.separatorChar + filePath);
+    }
+
+    /**
+     * Checks that received deployment content matches the hash it was requested by. Only managed content stored as a
+     * single file can be checked this way, the hash of exploded content is not a plain digest of the received files.
+     */
+    private static void verifyDeploymentContent(final String hexHash, final String path, final File file) throws IOException {
+        if (!DEPLOYMENT_CONTENT_FILE.equals(path)) {
+            return;
+        }
+        final MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        final byte[] buffer = new byte[65536];
+        try (InputStream in = new FileInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, read);
             }
         }
+        if (!Arrays.equals(HashUtil.hexStringToByteArray(hexHash), messageDigest.digest())) {
+            throw HostControllerLogger.ROOT_LOGGER.receivedContentDoesNotMatchHash(hexHash);
+        }
     }
 
     static class RemoteFileRepository implements HostFileRepository {
@@ -780,7 +835,7 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
         @Override
         public File getDeploymentRoot(ContentReference reference) {
             File file = localFileRepository.getDeploymentRoot(reference);
-            if(! file.exists()) {
+            if(! file.exists() || remoteFileRepositoryExecutor.isTransferIncomplete(reference.getHexHash(), DomainControllerProtocol.PARAM_ROOT_ID_DEPLOYMENT)) {
                 return getFile(reference.getHexHash(), DomainControllerProtocol.PARAM_ROOT_ID_DEPLOYMENT);
             }
             return file;
@@ -802,15 +857,33 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
 
     interface RemoteFileRepositoryExecutor {
         File getFile(final String relativePath, final byte repoId, HostFileRepository localFileRepository);
+
+        /**
+         * Checks whether an earlier transfer of a file was interrupted, so the local copy may not be complete.
+         */
+        boolean isTransferIncomplete(final String relativePath, final byte repoId);
     }
 
     private final RemoteFileRepositoryExecutor remoteFileRepositoryExecutor = new RemoteFileRepositoryExecutor() {
+        public boolean isTransferIncomplete(final String relativePath, final byte repoId) {
+            return getTransferDir(repoId, relativePath).exists();
+        }
+
         public File getFile(final String relativePath, final byte repoId, HostFileRepository localFileRepository) {
             if(connection.isConnected()) {
-                try {
-                    return handler.executeRequest(new GetFileRequest(repoId, relativePath, localFileRepository), null).getResult().get();
-                } catch (Exception e) {
-                    throw HostControllerLogger.ROOT_LOGGER.failedToGetFileFromRemoteRepository(e);
+                // An interrupted transfer leaves its partially received files behind, so a retry only fetches the remainder
+                for (int attempt = 1; ; attempt++) {
+                    try {
+                        return handler.executeRequest(new GetFileRequest(repoId, relativePath, localFileRepository), null).getResult().get();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw HostControllerLogger.ROOT_LOGGER.failedToGetFileFromRemoteRepository(e);
+                    } catch (Exception e) {
+                        if (attempt >= FILE_TRANSFER_ATTEMPTS || !connection.isConnected()) {
+                            throw HostControllerLogger.ROOT_LOGGER.failedToGetFileFromRemoteRepository(e);
+                        }
+                        ROOT_LOGGER.debugf(e, "Attempt %d to get %s from the remote repository failed, retrying", attempt, relativePath);
+                    }
                 }
             } else {
                 final File file = localFileRepository.getFile(relativePath);
@@ -0,0 +1,233 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.host.controller;
+
+import static org.jboss.as.host.controller.logging.HostControllerLogger.ROOT_LOGGER;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.as.process.DefaultJvmUtils;
+
+/**
+ * Manages the class data sharing archive of a managed server.
+ * <p>
+ * The first launch of a server has its JVM dump the classes it loaded into a dynamic archive in the server's data
+ * directory when it exits, and later launches map that archive instead of loading and verifying the classes again.
+ * The archive file is named after a digest of the JVM build and of the installation: the modules jar, the patching
+ * metadata in {@code .installation} and every file under the module path. Any change to those yields a new name,
+ * so the archive is recreated, and archives with other names are deleted.
+ * <p>
+ * Dynamic archives require Java 13 or later. On Java 19 or later the JVM is left to create the archive and to
+ * recreate it should it no longer be usable.
+ */
+final class ServerClassDataSharing {
+
+    /**
+     * Boot time system property enabling class data sharing for a server. It can be set in the domain, server group,
+     * host or server config model, or as a system property of the host controller.
+     */
+    static final String ENABLED_PROP = "jboss.domain.server.class-data-sharing";
+
+    static final String ARCHIVE_DIR = "class-data-sharing";
+    private static final String ARCHIVE_SUFFIX = ".jsa";
+    private static final int MIN_DYNAMIC_ARCHIVE_VERSION = 13;
+    private static final int MIN_AUTO_CREATE_VERSION = 19;
+
+    private ServerClassDataSharing() {
+    }
+
+    /**
+     * Gets the JVM options that make a server launch use, or create, its class data sharing archive.
+     *
+     * @param serverName  the name of the server
+     * @param javaCommand the java executable the server is launched with
+     * @param homeDir     the installation's home directory
+     * @param modulePath  the module path the server is launched with
+     * @param dataDir     the server's data directory
+     *
+     * @return the options, or an empty list if the server's JVM cannot use a dynamic archive
+     */
+    static List<String> getJvmOptions(final String serverName, final String javaCommand, final File homeDir, final String modulePath, final File dataDir) {
+        final Path javaHome = getJavaHome(javaCommand);
+        final Path release = javaHome.resolve("release");
+        final int version;
+        try {
+            version = Files.exists(release) ? getFeatureVersion(release) : -1;
+        } catch (IOException e) {
+            ROOT_LOGGER.cannotPrepareClassDataSharing(e, serverName);
+            return Collections.emptyList();
+        }
+        if (version < MIN_DYNAMIC_ARCHIVE_VERSION) {
+            ROOT_LOGGER.classDataSharingNotSupported(serverName, javaHome);
+            return Collections.emptyList();
+        }
+        try {
+            final Path archiveDir = dataDir.toPath().resolve(ARCHIVE_DIR);
+            final Path archive = archiveDir.resolve(getArchiveKey(release, homeDir.toPath(), modulePath) + ARCHIVE_SUFFIX);
+            Files.createDirectories(archiveDir);
+            deleteStaleArchives(archiveDir, archive);
+            final List<String> options = new ArrayList<>(2);
+            if (version >= MIN_AUTO_CREATE_VERSION) {
+                options.add("-XX:+AutoCreateSharedArchive");
+                options.add("-XX:SharedArchiveFile=" + archive);
+            } else if (Files.exists(archive)) {
+                options.add("-XX:SharedArchiveFile=" + archive);
+            } else {
+                options.add("-XX:ArchiveClassesAtExit=" + archive);
+            }
+            ROOT_LOGGER.debugf("Class data sharing options for server %s: %s", serverName, options);
+            return options;
+        } catch (IOException | RuntimeException e) {
+            ROOT_LOGGER.cannotPrepareClassDataSharing(e, serverName);
+            return Collections.emptyList();
+        }
+    }
+
+    private static Path getJavaHome(final String javaCommand) {
+        final Path command = Paths.get(javaCommand);
+        if (command.getParent() != null) {
+            // <java home>/bin/java
+            final Path home = command.toAbsolutePath().getParent().getParent();
+            if (home != null) {
+                return home;
+            }
+        }
+        // Plain "java" from the path; assume it is the JVM the host controller runs in
+        return Paths.get(DefaultJvmUtils.getCurrentJvmHome());
+    }
+
+    /**
+     * Gets the feature version, e.g. {@code 8} or {@code 17}, of a JVM from its {@code release} file.
+     *
+     * @return the version, or {@code -1} if the file does not name one
+     */
+    static int getFeatureVersion(final Path release) throws IOException {
+        for (String line : Files.readAllLines(release, StandardCharsets.UTF_8)) {
+            if (line.startsWith("JAVA_VERSION=")) {
+                String version = line.substring("JAVA_VERSION=".length()).replace("\"", "").trim();
+                if (version.startsWith("1.")) {
+                    version = version.substring(2);
+                }
+                int end = 0;
+                while (end < version.length() && Character.isDigit(version.charAt(end))) {
+                    end++;
+                }
+                return end == 0 ? -1 : Integer.parseInt(version.substring(0, end));
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Computes the digest naming the archive from everything that makes an archive stale.
+     */
+    static String getArchiveKey(final Path release, final Path homeDir, final String modulePath) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(Files.readAllBytes(release));
+        final Path modulesJar = homeDir.resolve("jboss-modules.jar");
+        if (Files.exists(modulesJar)) {
+            update(digest, modulesJar.getFileName(), Files.readAttributes(modulesJar, BasicFileAttributes.class));
+        }
+        // The patching metadata, i.e. the installed identity and the patches applied to each layer
+        final Path installation = homeDir.resolve(".installation");
+        if (Files.isDirectory(installation)) {
+            for (Path conf : listFiles(installation)) {
+                if (conf.getFileName().toString().endsWith(".conf")) {
+                    digest.update(installation.relativize(conf).toString().getBytes(StandardCharsets.UTF_8));
+                    digest.update(Files.readAllBytes(conf));
+                }
+            }
+        }
+        for (String root : modulePath.split(File.pathSeparator)) {
+            final Path moduleRoot = Paths.get(root);
+            if (Files.isDirectory(moduleRoot)) {
+                for (Path file : listFiles(moduleRoot)) {
+                    update(digest, moduleRoot.relativize(file), Files.readAttributes(file, BasicFileAttributes.class));
+                }
+            }
+        }
+        final StringBuilder sb = new StringBuilder();
+        final byte[] bytes = digest.digest();
+        for (int i = 0; i < 16; i++) {
+            sb.append(Character.forDigit((bytes[i] >> 4) & 0xf, 16)).append(Character.forDigit(bytes[i] & 0xf, 16));
+        }
+        return sb.toString();
+    }
+
+    private static void update(final MessageDigest digest, final Path name, final BasicFileAttributes attributes) {
+        digest.update(name.toString().getBytes(StandardCharsets.UTF_8));
+        final long size = attributes.size();
+        final long lastModified = attributes.lastModifiedTime().toMillis();
+        for (int i = 0; i < 8; i++) {
+            digest.update((byte) (size >>> (i << 3)));
+            digest.update((byte) (lastModified >>> (i << 3)));
+        }
+    }
+
+    /**
+     * Lists the regular files in a directory tree, in a stable order.
+     */
+    private static List<Path> listFiles(final Path dir) throws IOException {
+        final List<Path> files = new ArrayList<>();
+        Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                if (attrs.isRegularFile()) {
+                    files.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        Collections.sort(files);
+        return files;
+    }
+
+    private static void deleteStaleArchives(final Path archiveDir, final Path archive) throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(archiveDir, "*" + ARCHIVE_SUFFIX)) {
+            for (Path file : stream) {
+                if (!file.equals(archive)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+}
@@ -85,6 +85,15 @@ public interface ServerInventory {
      */
     ServerStatus determineServerStatus(final String serverName);
 
+    /**
+     * Get how long the last start of the server with the given name took.
+     *
+     * @param serverName  the server name. Cannot be {@code null}
+     *
+     * @return the duration in milliseconds, or {@code -1} if the server is unknown or has not completed a start
+     */
+    long getServerStartDuration(final String serverName);
+
     /**
      * Start the server with the given name. Note that returning from this method does not mean the server
      * is completely started; it usually will only be in the process of starting, having received all startup instructions.
@@ -179,6 +179,12 @@ public class ServerInventoryImpl implements ServerInventory {
         return server.getState();
     }
 
+    @Override
+    public long getServerStartDuration(final String serverName) {
+        final ManagedServer server = servers.get(serverName);
+        return server == null ? -1 : server.getStartDuration();
+    }
+
     @Override
     public ServerStatus startServer(final String serverName, final ModelNode domainModel) {
         return startServer(serverName, domainModel, false, false);
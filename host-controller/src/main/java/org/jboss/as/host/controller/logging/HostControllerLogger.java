@@ -1415,4 +1415,50 @@ public interface HostControllerLogger extends BasicLogger {
     @Message(id = 210, value = "A slave host controller may not be added using add(). Please add a host, omitting this parameter, and configure the remote domain controller using write-attribute.")
     OperationFailedException cannotAddSlaveHostAfterBoot();
 
+    @Message(id = 211, value = "Deployment content received from the domain controller does not match its hash %s")
+    IOException receivedContentDoesNotMatchHash(String hash);
+
+    /**
+     * Logs an informational message indicating how many servers are being started and how many of them may start
+     * concurrently.
+     *
+     * @param servers       the number of servers to start
+     * @param maxConcurrent the maximum number of servers starting at the same time
+     */
+    @LogMessage(level = INFO)
+    @Message(id = 212, value = "Starting %d servers, at most %d at a time")
+    void startingServers(int servers, int maxConcurrent);
+
+    /**
+     * Logs a warning message indicating class data sharing was requested for a server whose JVM cannot create
+     * a dynamic archive.
+     *
+     * @param serverName the name of the server
+     * @param javaHome   the Java home of the server's JVM
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 213, value = "Class data sharing is enabled for server %s, but the JVM in %s cannot create dynamic archives. The server will be launched without a shared archive.")
+    void classDataSharingNotSupported(String serverName, Path javaHome);
+
+    /**
+     * Logs a warning message indicating the class data sharing archive of a server could not be prepared.
+     *
+     * @param cause      the cause of the error
+     * @param serverName the name of the server
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 214, value = "Failed to prepare the class data sharing archive of server %s. The server will be launched without a shared archive.")
+    void cannotPrepareClassDataSharing(@Cause Throwable cause, String serverName);
+
+    /**
+     * Logs a warning message indicating a server is still starting after the start timeout, so that it no longer
+     * holds back the start of other servers.
+     *
+     * @param serverName the name of the server
+     * @param timeout    the start timeout in seconds
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 215, value = "Server %s is still starting after %d seconds; starting the next server")
+    void serverStartTimedOut(String serverName, long timeout);
+
 }
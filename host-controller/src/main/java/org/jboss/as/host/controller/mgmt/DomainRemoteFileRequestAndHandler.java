@@ -24,6 +24,7 @@ package org.jboss.as.host.controller.mgmt;
 import java.util.concurrent.Executor;
 
 import org.jboss.as.repository.RemoteFileRequestAndHandler;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  *
@@ -55,12 +56,41 @@ public class DomainRemoteFileRequestAndHandler extends RemoteFileRequestAndHandl
         public byte fileEnd() {
             return DomainControllerProtocol.FILE_END;
         }
+
+        public byte paramFileOffset() {
+            return DomainControllerProtocol.PARAM_FILE_OFFSET;
+        }
     };
 
+    /**
+     * System property capping how many files the master serves to slaves concurrently, so rolling out a deployment
+     * to many hosts at once does not saturate the domain controller. Unlimited if not set.
+     */
+    static final String MAX_CONCURRENT_TRANSFERS = "jboss.domain.master.max-concurrent-file-transfers";
+
     public static final DomainRemoteFileRequestAndHandler INSTANCE = new DomainRemoteFileRequestAndHandler(null);
 
     public DomainRemoteFileRequestAndHandler(Executor asyncExecutor) {
-        super(MAPPER, asyncExecutor);
+        this(asyncExecutor, null);
+    }
+
+    public DomainRemoteFileRequestAndHandler(Executor asyncExecutor, TransferLimit transferLimit) {
+        super(MAPPER, asyncExecutor, transferLimit);
+    }
+
+    /**
+     * Creates the limit configured by {@link #MAX_CONCURRENT_TRANSFERS}.
+     *
+     * @return the limit, or {@code null} if transfers are not limited
+     */
+    static TransferLimit createTransferLimit() {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(MAX_CONCURRENT_TRANSFERS, null);
+        try {
+            final int maxTransfers = value == null ? 0 : Integer.parseInt(value);
+            return maxTransfers > 0 ? new TransferLimit(maxTransfers) : null;
+        } catch (NumberFormatException ignored) {
+            return null;
+        }
     }
 
 }
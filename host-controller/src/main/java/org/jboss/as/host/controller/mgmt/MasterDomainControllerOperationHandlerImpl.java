@@ -42,6 +42,7 @@ import org.jboss.as.protocol.mgmt.RequestProcessingException;
 import org.jboss.as.repository.ContentReference;
 import org.jboss.as.repository.HostFileRepository;
 import org.jboss.as.repository.RemoteFileRequestAndHandler.RootFileReader;
+import org.jboss.as.repository.RemoteFileRequestAndHandler.TransferLimit;
 
 /**
  * Handles for requests from slave DC to master DC on the 'domain' channel.
@@ -52,10 +53,13 @@ class MasterDomainControllerOperationHandlerImpl implements ManagementRequestHan
 
     private final DomainController domainController;
     private final Executor asyncExecutor;
+    private final TransferLimit transferLimit;
 
-    public MasterDomainControllerOperationHandlerImpl(final DomainController domainController, final Executor asyncExecutor) {
+    public MasterDomainControllerOperationHandlerImpl(final DomainController domainController, final Executor asyncExecutor,
+                                                      final TransferLimit transferLimit) {
         this.domainController = domainController;
         this.asyncExecutor = asyncExecutor;
+        this.transferLimit = transferLimit;
     }
 
     @Override
@@ -67,7 +71,10 @@ class MasterDomainControllerOperationHandlerImpl implements ManagementRequestHan
                 return new UnregisterOperation();
             } case DomainControllerProtocol.GET_FILE_REQUEST: {
                 handlers.registerActiveOperation(header.getBatchId(), null);
-                return new GetFileOperation();
+                return new GetFileOperation(false);
+            } case DomainControllerProtocol.GET_FILE_RANGE_REQUEST: {
+                handlers.registerActiveOperation(header.getBatchId(), null);
+                return new GetFileOperation(true);
             } case DomainControllerProtocol.SERVER_INSTABILITY_REQUEST: {
                 handlers.registerActiveOperation(header.getBatchId(), null);
                 return new ServerUnstableHandler();
@@ -95,7 +102,12 @@ class MasterDomainControllerOperationHandlerImpl implements ManagementRequestHan
 
     private class GetFileOperation extends AbstractHostRequestHandler {
 
-        private final DomainRemoteFileRequestAndHandler remoteSupport = new DomainRemoteFileRequestAndHandler(asyncExecutor);
+        private final DomainRemoteFileRequestAndHandler remoteSupport = new DomainRemoteFileRequestAndHandler(asyncExecutor, transferLimit);
+        private final boolean ranged;
+
+        private GetFileOperation(final boolean ranged) {
+            this.ranged = ranged;
+        }
 
         @Override
         void handleRequest(String hostId, DataInput input, ActiveOperation.ResultHandler<Void> resultHandler, ManagementRequestContext<Void> context) throws IOException {
@@ -122,7 +134,11 @@ class MasterDomainControllerOperationHandlerImpl implements ManagementRequestHan
                 }
             };
 
-            remoteSupport.handleRequest(input, reader, resultHandler, context);
+            if (ranged) {
+                remoteSupport.handleRangeRequest(input, reader, resultHandler, context);
+            } else {
+                remoteSupport.handleRequest(input, reader, resultHandler, context);
+            }
         }
     }
 
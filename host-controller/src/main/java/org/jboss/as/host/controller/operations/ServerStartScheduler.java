@@ -0,0 +1,296 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.host.controller.operations;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BLOCKING;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_CONFIG;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.jboss.as.host.controller.logging.HostControllerLogger.ROOT_LOGGER;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.management.ObjectName;
+
+import org.jboss.as.controller.ModelControllerClientFactory;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.client.ModelControllerClient;
+import org.jboss.as.controller.client.helpers.domain.ServerStatus;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.host.controller.DomainModelControllerService;
+import org.jboss.as.host.controller.HostControllerService;
+import org.jboss.as.host.controller.ServerInventory;
+import org.jboss.as.protocol.StreamUtils;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceTarget;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+import org.jboss.msc.value.InjectedValue;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Starts the auto-start servers of a booting host concurrently, but with no more servers starting at the same time
+ * than the machine can reasonably handle. Unless configured, the limit is the number of available processors, further
+ * reduced if the physical memory cannot accommodate that many servers. Servers are started in the configured
+ * order of their server groups; servers of groups that are not listed follow in configuration order.
+ * <p>
+ * The first servers are started from the boot operation so that, as before, it returns once they are starting. If
+ * servers remain, the scheduler is installed as a service that checks the running starts on the host controller's
+ * scheduled executor, and starts the next servers with the {@code start} operation, which reads the current model.
+ * A start that takes longer than the start timeout no longer counts against the limit. The service removes itself once
+ * all servers are started, and stops with the host controller.
+ */
+final class ServerStartScheduler implements Service<Void> {
+
+    static final ServiceName SERVICE_NAME = HostControllerService.HC_SERVICE_NAME.append("server-start-scheduler");
+
+    static final String MAX_CONCURRENT_STARTS = "org.jboss.as.host.start.servers.max-concurrent";
+    /** The physical memory in megabytes assumed to be needed by a starting server */
+    static final String MEMORY_PER_SERVER = "org.jboss.as.host.start.servers.memory-per-server";
+    /** Comma separated list of server group names, the servers of which are started first */
+    static final String GROUP_ORDER = "org.jboss.as.host.start.servers.group-order";
+    /** Seconds after which a server that is still starting no longer counts against the limit */
+    static final String START_TIMEOUT = "org.jboss.as.host.start.servers.timeout";
+
+    private static final long DEFAULT_MEMORY_PER_SERVER = 512;
+    private static final int DEFAULT_START_TIMEOUT = 600;
+    private static final long CHECK_INTERVAL = 250;
+
+    private final InjectedValue<ScheduledExecutorService> scheduledExecutor = new InjectedValue<>();
+    private final InjectedValue<ExecutorService> executor = new InjectedValue<>();
+    private final InjectedValue<ModelControllerClientFactory> clientFactory = new InjectedValue<>();
+
+    private final ServerInventory serverInventory;
+    private final PathAddress hostAddress;
+    private final int maxConcurrentStarts;
+    private final long startTimeout;
+    private final Deque<String> pending;
+    /** The servers counted as starting, mapped to the {@link System#nanoTime()} their start was requested at */
+    private final Map<String, Long> starting = new LinkedHashMap<>();
+
+    private volatile ModelControllerClient client;
+    private volatile ScheduledFuture<?> check;
+
+    ServerStartScheduler(final ServerInventory serverInventory, final PathAddress hostAddress, final List<String> serverNames,
+                         final int maxConcurrentStarts, final long startTimeout, final TimeUnit unit) {
+        this.serverInventory = serverInventory;
+        this.hostAddress = hostAddress;
+        this.pending = new ArrayDeque<>(serverNames);
+        this.maxConcurrentStarts = maxConcurrentStarts;
+        this.startTimeout = unit.toNanos(startTimeout);
+    }
+
+    /**
+     * Creates a scheduler for the given servers, using the configured group order, concurrency limit and start timeout.
+     *
+     * @param serverInventory the server inventory
+     * @param hostAddress the address of the host the servers belong to
+     * @param serverGroups the names of the servers to start mapped to their server group, in configuration order
+     * @return the scheduler
+     */
+    static ServerStartScheduler create(final ServerInventory serverInventory, final PathAddress hostAddress, final Map<String, String> serverGroups) {
+        final List<String> groupOrder = new ArrayList<>();
+        final String order = WildFlySecurityManager.getPropertyPrivileged(GROUP_ORDER, null);
+        if (order != null) {
+            for (String group : order.split(",")) {
+                group = group.trim();
+                if (!group.isEmpty()) {
+                    groupOrder.add(group);
+                }
+            }
+        }
+        final int startTimeout = intProperty(START_TIMEOUT, DEFAULT_START_TIMEOUT);
+        return new ServerStartScheduler(serverInventory, hostAddress, prioritize(serverGroups, groupOrder), maxConcurrentStarts(),
+                startTimeout > 0 ? startTimeout : DEFAULT_START_TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Orders the servers by the position of their server group in the given group order. Servers of groups that are
+     * not in the group order come last; the configuration order is kept otherwise.
+     */
+    static List<String> prioritize(final Map<String, String> serverGroups, final List<String> groupOrder) {
+        final List<String> serverNames = new ArrayList<>(serverGroups.keySet());
+        if (!groupOrder.isEmpty()) {
+            // stable sort
+            Collections.sort(serverNames, (a, b) -> Integer.compare(rank(serverGroups.get(a), groupOrder), rank(serverGroups.get(b), groupOrder)));
+        }
+        return serverNames;
+    }
+
+    private static int rank(final String group, final List<String> groupOrder) {
+        final int index = group == null ? -1 : groupOrder.indexOf(group);
+        return index == -1 ? groupOrder.size() : index;
+    }
+
+    static int maxConcurrentStarts() {
+        final int configured = intProperty(MAX_CONCURRENT_STARTS, 0);
+        if (configured > 0) {
+            return configured;
+        }
+        int limit = Runtime.getRuntime().availableProcessors();
+        // Free memory is not used as the OS may report memory used for caches as not free
+        final long physicalMemory = totalPhysicalMemory();
+        final long memoryPerServer = intProperty(MEMORY_PER_SERVER, (int) DEFAULT_MEMORY_PER_SERVER) * 1024L * 1024L;
+        if (physicalMemory > 0 && memoryPerServer > 0) {
+            limit = (int) Math.min(limit, physicalMemory / memoryPerServer);
+        }
+        return Math.max(1, limit);
+    }
+
+    private static int intProperty(final String name, final int defaultValue) {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(name, null);
+        try {
+            return value == null ? defaultValue : Integer.parseInt(value.trim());
+        } catch (NumberFormatException ignored) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Reads the physical memory size from the platform's operating system MBean, where the JVM provides it.
+     *
+     * @return the physical memory in bytes, or {@code -1} if not available
+     */
+    private static long totalPhysicalMemory() {
+        try {
+            final Object value = ManagementFactory.getPlatformMBeanServer()
+                    .getAttribute(new ObjectName(ManagementFactory.OPERATING_SYSTEM_MXBEAN_NAME), "TotalPhysicalMemorySize");
+            return value instanceof Number ? ((Number) value).longValue() : -1;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Starts as many servers as allowed with the given model. If servers remain, installs the scheduler to start them
+     * once running starts complete.
+     *
+     * @param domainModel the domain model of the boot operation
+     * @param target the target to install the scheduler with
+     */
+    void start(final ModelNode domainModel, final ServiceTarget target) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        ROOT_LOGGER.startingServers(pending.size(), Math.min(maxConcurrentStarts, pending.size()));
+        if (startAvailable(serverName -> serverInventory.startServer(serverName, domainModel, false, false))) {
+            target.addService(SERVICE_NAME, this)
+                    .addDependency(HostControllerService.HC_SCHEDULED_EXECUTOR_SERVICE_NAME, ScheduledExecutorService.class, scheduledExecutor)
+                    .addDependency(HostControllerService.HC_EXECUTOR_SERVICE_NAME, ExecutorService.class, executor)
+                    .addDependency(DomainModelControllerService.CLIENT_FACTORY_SERVICE_NAME, ModelControllerClientFactory.class, clientFactory)
+                    .install();
+        }
+    }
+
+    @Override
+    public void start(final StartContext context) {
+        client = clientFactory.getValue().createSuperUserClient(executor.getValue());
+        final ServiceController<?> controller = context.getController();
+        check = scheduledExecutor.getValue().scheduleWithFixedDelay(() -> {
+            if (!startAvailable(this::startWithCurrentModel)) {
+                controller.setMode(ServiceController.Mode.REMOVE);
+            }
+        }, CHECK_INTERVAL, CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop(final StopContext context) {
+        check.cancel(false);
+        StreamUtils.safeClose(client);
+        synchronized (this) {
+            if (!pending.isEmpty()) {
+                ROOT_LOGGER.debugf("Server start scheduler stopped; servers %s were not started", pending);
+            }
+        }
+    }
+
+    @Override
+    public Void getValue() {
+        return null;
+    }
+
+    /**
+     * Starts as many pending servers as allowed. A start is complete once the server is no longer starting, whether
+     * it started or failed, or once it has taken longer than the start timeout.
+     *
+     * @param starter starts a server
+     * @return {@code true} if servers remain to be started
+     */
+    synchronized boolean startAvailable(final ServerStarter starter) {
+        final long now = System.nanoTime();
+        for (Iterator<Map.Entry<String, Long>> it = starting.entrySet().iterator(); it.hasNext();) {
+            final Map.Entry<String, Long> entry = it.next();
+            if (serverInventory.determineServerStatus(entry.getKey()) != ServerStatus.STARTING) {
+                it.remove();
+            } else if (now - entry.getValue() > startTimeout) {
+                ROOT_LOGGER.serverStartTimedOut(entry.getKey(), TimeUnit.NANOSECONDS.toSeconds(startTimeout));
+                it.remove();
+            }
+        }
+        while (starting.size() < maxConcurrentStarts && !pending.isEmpty()) {
+            final String serverName = pending.poll();
+            try {
+                starter.start(serverName);
+                starting.put(serverName, System.nanoTime());
+            } catch (Exception e) {
+                ROOT_LOGGER.failedToStartServer(e, serverName);
+            }
+        }
+        return !pending.isEmpty();
+    }
+
+    /**
+     * Starts a server with the {@code start} operation, so that the server is launched with the current model.
+     */
+    private void startWithCurrentModel(final String serverName) throws Exception {
+        final ModelNode op = Util.createEmptyOperation(ServerStartHandler.OPERATION_NAME, hostAddress.append(PathElement.pathElement(SERVER_CONFIG, serverName)));
+        op.get(BLOCKING).set(false);
+        final ModelNode result = client.execute(op);
+        if (!SUCCESS.equals(result.get(OUTCOME).asString())) {
+            throw new OperationFailedException(result.get(FAILURE_DESCRIPTION));
+        }
+    }
+
+    @FunctionalInterface
+    interface ServerStarter {
+
+        void start(String serverName) throws Exception;
+    }
+}
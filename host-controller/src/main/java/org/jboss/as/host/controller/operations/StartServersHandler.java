@@ -20,10 +20,12 @@ package org.jboss.as.host.controller.operations;
 
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.AUTO_START;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.GROUP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_CONFIG;
 import static org.jboss.as.host.controller.logging.HostControllerLogger.ROOT_LOGGER;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.jboss.as.controller.OperationContext;
@@ -46,7 +48,8 @@ import org.jboss.dmr.Property;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
- * Starts or reconnect all auto-start servers (at boot).
+ * Starts or reconnect all auto-start servers (at boot). Unless sequential starts are configured, servers are started
+ * concurrently by a {@link ServerStartScheduler}.
  *
  * @author Brian Stansberry (c) 2011 Red Hat Inc.
  */
@@ -109,33 +112,43 @@ public class StartServersHandler implements OperationStepHandler {
     }
 
     private void cleanStartServers(final ModelNode servers, final ModelNode domainModel, OperationContext context) throws OperationFailedException {
+        final Map<String, String> serverGroups = new LinkedHashMap<>();
         for(final Property serverProp : servers.asPropertyList()) {
             String serverName = serverProp.getName();
             if (ServerConfigResourceDefinition.AUTO_START.resolveModelAttribute(context, serverProp.getValue()).asBoolean(true)) {
-                try {
-                    serverInventory.startServer(serverName, domainModel, START_BLOCKING, false);
-                } catch (Exception e) {
-                    ROOT_LOGGER.failedToStartServer(e, serverName);
-                }
+                serverGroups.put(serverName, serverProp.getValue().get(GROUP).asString());
             }
         }
+        startServers(serverGroups, domainModel, context);
     }
 
     private void restartedHcStartOrReconnectServers(final ModelNode servers, final ModelNode domainModel, final OperationContext context){
         Map<String, ProcessInfo> processInfos = serverInventory.determineRunningProcesses();
+        final Map<String, String> serverGroups = new LinkedHashMap<>();
         for(final String serverName : servers.keys()) {
             ProcessInfo info = processInfos.get(serverInventory.getServerProcessName(serverName));
             boolean auto = servers.get(serverName, AUTO_START).asBoolean(true);
             if (info == null && auto) {
+                serverGroups.put(serverName, servers.get(serverName, GROUP).asString());
+            } else if (info != null){
+                // Reconnect the server using the current authKey
+                serverInventory.reconnectServer(serverName, domainModel, info.getAuthKey(), info.isRunning(), info.isStopping());
+            }
+        }
+        startServers(serverGroups, domainModel, context);
+    }
+
+    private void startServers(final Map<String, String> serverGroups, final ModelNode domainModel, final OperationContext context) {
+        if (START_BLOCKING) {
+            for (String serverName : serverGroups.keySet()) {
                 try {
-                    serverInventory.startServer(serverName, domainModel, START_BLOCKING, false);
+                    serverInventory.startServer(serverName, domainModel, true, false);
                 } catch (Exception e) {
                     ROOT_LOGGER.failedToStartServer(e, serverName);
                 }
-            } else if (info != null){
-                // Reconnect the server using the current authKey
-                serverInventory.reconnectServer(serverName, domainModel, info.getAuthKey(), info.isRunning(), info.isStopping());
             }
+        } else {
+            ServerStartScheduler.create(serverInventory, context.getCurrentAddress(), serverGroups).start(domainModel, context.getServiceTarget());
         }
     }
 }
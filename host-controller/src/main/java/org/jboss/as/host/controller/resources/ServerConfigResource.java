@@ -27,6 +27,8 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.jboss.as.controller.ControlledProcessState;
 import org.jboss.as.controller.client.helpers.domain.ServerStatus;
 import org.jboss.as.controller.registry.DelegatingResource;
@@ -45,16 +47,14 @@ public class ServerConfigResource extends DelegatingResource {
     private final String serverName;
     private final ControlledProcessState processState;
     private final Path autoStartDataDir;
+    /** The auto-start value last persisted to the marker files, shared with the clones of this resource */
+    private final AtomicReference<Boolean> persistedAutoStart;
 
     private static final String STOPPED_EXT = ".stopped";
     private static final String STARTED_EXT = ".started";
 
     public ServerConfigResource(ServerInventory serverInventory, ControlledProcessState processState, String serverName, File domainDataDir, Resource delegate) {
-        super(delegate);
-        this.serverInventory = serverInventory;
-        this.serverName = serverName;
-        this.processState = processState;
-        this.autoStartDataDir = domainDataDir.toPath().resolve("auto-start");
+        this(serverInventory, processState, serverName, domainDataDir.toPath().resolve("auto-start"), delegate, new AtomicReference<>());
         try {
             if (Files.notExists(autoStartDataDir)) {
                 Files.createDirectory(autoStartDataDir);
@@ -64,6 +64,16 @@ public class ServerConfigResource extends DelegatingResource {
         }
     }
 
+    private ServerConfigResource(ServerInventory serverInventory, ControlledProcessState processState, String serverName, Path autoStartDataDir,
+                                 Resource delegate, AtomicReference<Boolean> persistedAutoStart) {
+        super(delegate);
+        this.serverInventory = serverInventory;
+        this.serverName = serverName;
+        this.processState = processState;
+        this.autoStartDataDir = autoStartDataDir;
+        this.persistedAutoStart = persistedAutoStart;
+    }
+
     @Override
     public ModelNode getModel() {
         assert serverName != null && !serverName.isEmpty() : "ServerName is null";
@@ -95,23 +105,27 @@ public class ServerConfigResource extends DelegatingResource {
         Path stoppedFile = autoStartDataDir.resolve(serverName + STOPPED_EXT);
         if (serverInventory != null && shouldUpdateAutoStart(model)) {
             ServerStatus status = serverInventory.determineServerStatus(serverName);
-            try {
-                if (status == ServerStatus.STARTED || status == ServerStatus.STARTING) {
-                    if (Files.notExists(startedFile)) {
-                        Files.createFile(startedFile);
-                    }
-                    Files.deleteIfExists(stoppedFile);
-                    model.get(AUTO_START).set(true);
-                } else if (status == ServerStatus.STOPPED || status == ServerStatus.STOPPING) {
-                    if (Files.notExists(stoppedFile)) {
-                        Files.createFile(stoppedFile);
+            final boolean autoStart;
+            if (status == ServerStatus.STARTED || status == ServerStatus.STARTING) {
+                autoStart = true;
+            } else if (status == ServerStatus.STOPPED || status == ServerStatus.STOPPING) {
+                autoStart = false;
+            } else {
+                return;
+            }
+            // The model is read on every (runtime) read of the resource, only touch the marker files if the value changed
+            if (!Boolean.valueOf(autoStart).equals(persistedAutoStart.get())) {
+                try {
+                    if (Files.notExists(autoStart ? startedFile : stoppedFile)) {
+                        Files.createFile(autoStart ? startedFile : stoppedFile);
                     }
-                    Files.deleteIfExists(startedFile);
-                    model.get(AUTO_START).set(false);
+                    Files.deleteIfExists(autoStart ? stoppedFile : startedFile);
+                    persistedAutoStart.set(autoStart);
+                } catch (IOException ex) {
+                    HostControllerLogger.ROOT_LOGGER.couldNotPersistAutoStartServerStatus(ex);
                 }
-            } catch (IOException ex) {
-                HostControllerLogger.ROOT_LOGGER.couldNotPersistAutoStartServerStatus(ex);
             }
+            model.get(AUTO_START).set(autoStart);
         }
     }
 
@@ -123,7 +137,7 @@ public class ServerConfigResource extends DelegatingResource {
     @Override
     public Resource clone() {
         Resource delegate = super.clone();
-        return new ServerConfigResource(serverInventory, processState, serverName, autoStartDataDir.getParent().toFile(), delegate);
+        return new ServerConfigResource(serverInventory, processState, serverName, autoStartDataDir, delegate, persistedAutoStart);
     }
 
 }
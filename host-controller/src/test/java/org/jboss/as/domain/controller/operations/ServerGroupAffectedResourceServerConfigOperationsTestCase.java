@@ -542,6 +542,11 @@ public class ServerGroupAffectedResourceServerConfigOperationsTestCase extends A
             return ServerStatus.STARTED;
         }
 
+        @Override
+        public long getServerStartDuration(String serverName) {
+            return -1;
+        }
+
         @Override
         public ServerStatus startServer(String serverName, ModelNode domainModel) {
             throw new UnsupportedOperationException("Not supported yet.");
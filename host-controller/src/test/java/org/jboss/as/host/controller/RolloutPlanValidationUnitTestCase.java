@@ -21,6 +21,7 @@
  */
 package org.jboss.as.host.controller;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADAPTIVE_ROLLING_TO_SERVERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CONCURRENT_GROUPS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.IN_SERIES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAX_FAILED_SERVERS;
@@ -171,6 +172,33 @@ public class RolloutPlanValidationUnitTestCase {
         validateRolloutPlanStructure(rolloutPlan);
     }
 
+    @Test
+    public void testServerGroupWithAdaptiveRollingToServers() throws Exception {
+        final ModelNode rolloutPlan = new ModelNode();
+        final ModelNode inSeries = rolloutPlan.get(ROLLOUT_PLAN, IN_SERIES);
+        final ModelNode group = inSeries.add().get(SERVER_GROUP).get("group1");
+        group.get(ADAPTIVE_ROLLING_TO_SERVERS).set(true);
+        group.get(MAX_FAILED_SERVERS).set(1);
+        validateRolloutPlanStructure(rolloutPlan);
+    }
+
+    @Test
+    public void testServerGroupWithRollingAndAdaptiveRollingToServers() throws Exception {
+        final ModelNode rolloutPlan = new ModelNode();
+        final ModelNode inSeries = rolloutPlan.get(ROLLOUT_PLAN, IN_SERIES);
+        final ModelNode group = inSeries.add().get(SERVER_GROUP).get("group1");
+        group.get(ROLLING_TO_SERVERS).set(true);
+        group.get(ADAPTIVE_ROLLING_TO_SERVERS).set(true);
+        try {
+            validateRolloutPlanStructure(rolloutPlan);
+            Assert.fail("rolling-to-servers and adaptive-rolling-to-servers");
+        } catch(OperationFailedException expected) {
+        }
+
+        group.get(ROLLING_TO_SERVERS).set(false);
+        validateRolloutPlanStructure(rolloutPlan);
+    }
+
     @Test
     public void testServerGroupWithUnrecognizedProp() throws Exception {
         final ModelNode rolloutPlan = new ModelNode();
@@ -0,0 +1,167 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.host.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ServerClassDataSharing}.
+ */
+public class ServerClassDataSharingTestCase {
+
+    private Path root;
+    private Path javaHome;
+    private Path homeDir;
+    private Path modulesDir;
+    private Path dataDir;
+
+    @Before
+    public void setup() throws IOException {
+        root = Files.createTempDirectory("cds");
+        javaHome = Files.createDirectories(root.resolve("jdk"));
+        homeDir = Files.createDirectories(root.resolve("wildfly"));
+        modulesDir = Files.createDirectories(homeDir.resolve("modules").resolve("org").resolve("test").resolve("main"));
+        dataDir = Files.createDirectories(homeDir.resolve("domain").resolve("servers").resolve("test-server").resolve("data"));
+        Files.write(homeDir.resolve("jboss-modules.jar"), new byte[16]);
+        Files.write(modulesDir.resolve("module.xml"), "<module/>".getBytes(StandardCharsets.UTF_8));
+        Files.createDirectories(homeDir.resolve(".installation"));
+        writeIdentity("base");
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                Files.delete(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    @Test
+    public void testFeatureVersion() throws Exception {
+        assertEquals(8, version("1.8.0_292"));
+        assertEquals(11, version("11"));
+        assertEquals(17, version("17.0.2"));
+        assertEquals(21, version("21-ea"));
+    }
+
+    @Test
+    public void testCreateThenUseArchive() throws Exception {
+        writeRelease("17.0.2");
+        List<String> options = getJvmOptions();
+        assertEquals(1, options.size());
+        assertTrue(options.get(0), options.get(0).startsWith("-XX:ArchiveClassesAtExit="));
+
+        // The archive is written when the server's JVM exits
+        final Path archive = archive(options.get(0));
+        Files.write(archive, new byte[16]);
+        options = getJvmOptions();
+        assertEquals(Collections.singletonList("-XX:SharedArchiveFile=" + archive), options);
+    }
+
+    @Test
+    public void testPatchInvalidatesArchive() throws Exception {
+        writeRelease("17.0.2");
+        final Path archive = archive(getJvmOptions().get(0));
+        Files.write(archive, new byte[16]);
+
+        writeIdentity("base,one-off-1");
+        final List<String> options = getJvmOptions();
+        assertTrue(options.get(0), options.get(0).startsWith("-XX:ArchiveClassesAtExit="));
+        assertNotEquals(archive, archive(options.get(0)));
+        assertFalse(Files.exists(archive));
+    }
+
+    @Test
+    public void testModuleChangeInvalidatesArchive() throws Exception {
+        final String key = ServerClassDataSharing.getArchiveKey(writeRelease("17.0.2"), homeDir, homeDir.resolve("modules").toString());
+        Files.write(modulesDir.resolve("test.jar"), new byte[8]);
+        assertNotEquals(key, ServerClassDataSharing.getArchiveKey(javaHome.resolve("release"), homeDir, homeDir.resolve("modules").toString()));
+    }
+
+    @Test
+    public void testAutoCreate() throws Exception {
+        writeRelease("21.0.1");
+        final List<String> options = getJvmOptions();
+        assertEquals(2, options.size());
+        assertEquals("-XX:+AutoCreateSharedArchive", options.get(0));
+        assertTrue(options.get(1), options.get(1).startsWith("-XX:SharedArchiveFile="));
+    }
+
+    @Test
+    public void testUnsupportedJvm() throws Exception {
+        writeRelease("11.0.12");
+        assertTrue(getJvmOptions().isEmpty());
+        Files.delete(javaHome.resolve("release"));
+        assertTrue(getJvmOptions().isEmpty());
+    }
+
+    private List<String> getJvmOptions() {
+        final String javaCommand = javaHome.resolve("bin").resolve("java").toString();
+        return ServerClassDataSharing.getJvmOptions("test-server", javaCommand, homeDir.toFile(), homeDir.resolve("modules").toString(), dataDir.toFile());
+    }
+
+    private Path archive(final String option) {
+        final Path archive = new File(option.substring(option.indexOf('=') + 1)).toPath();
+        assertEquals(dataDir.resolve(ServerClassDataSharing.ARCHIVE_DIR), archive.getParent());
+        return archive;
+    }
+
+    private int version(final String version) throws IOException {
+        return ServerClassDataSharing.getFeatureVersion(writeRelease(version));
+    }
+
+    private Path writeRelease(final String version) throws IOException {
+        return Files.write(javaHome.resolve("release"), ("IMPLEMENTOR=\"Test\"\nJAVA_VERSION=\"" + version + "\"\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeIdentity(final String patches) throws IOException {
+        Files.write(homeDir.resolve(".installation").resolve("identity.conf"), ("patches=" + patches + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+}
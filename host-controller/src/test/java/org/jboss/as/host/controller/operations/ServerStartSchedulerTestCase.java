@@ -0,0 +1,131 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.host.controller.operations;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.client.helpers.domain.ServerStatus;
+import org.jboss.as.host.controller.ServerInventory;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ServerStartScheduler}.
+ */
+public class ServerStartSchedulerTestCase {
+
+    @Test
+    public void testGroupOrder() {
+        final Map<String, String> servers = new LinkedHashMap<>();
+        servers.put("a1", "a");
+        servers.put("b1", "b");
+        servers.put("c1", "c");
+        servers.put("a2", "a");
+        servers.put("b2", "b");
+        Assert.assertEquals(Arrays.asList("b1", "b2", "a1", "a2", "c1"), ServerStartScheduler.prioritize(servers, Arrays.asList("b", "a")));
+        Assert.assertEquals(Arrays.asList("a1", "b1", "c1", "a2", "b2"), ServerStartScheduler.prioritize(servers, Collections.<String>emptyList()));
+    }
+
+    @Test
+    public void testConcurrencyLimit() {
+        final Map<String, ServerStatus> statuses = new HashMap<>();
+        final List<String> started = new ArrayList<>();
+        final ServerStartScheduler scheduler = new ServerStartScheduler(inventory(statuses), PathAddress.EMPTY_ADDRESS,
+                Arrays.asList("s1", "s2", "s3", "s4", "s5"), 2, 1, TimeUnit.HOURS);
+        final ServerStartScheduler.ServerStarter starter = serverName -> {
+            statuses.put(serverName, ServerStatus.STARTING);
+            started.add(serverName);
+        };
+
+        Assert.assertTrue(scheduler.startAvailable(starter));
+        Assert.assertEquals(Arrays.asList("s1", "s2"), started);
+        // Nothing more starts while both servers are starting
+        Assert.assertTrue(scheduler.startAvailable(starter));
+        Assert.assertEquals(Arrays.asList("s1", "s2"), started);
+
+        statuses.put("s1", ServerStatus.STARTED);
+        Assert.assertTrue(scheduler.startAvailable(starter));
+        Assert.assertEquals(Arrays.asList("s1", "s2", "s3"), started);
+
+        // A failed start frees its slot as well
+        statuses.put("s2", ServerStatus.FAILED);
+        statuses.put("s3", ServerStatus.STARTED);
+        Assert.assertFalse(scheduler.startAvailable(starter));
+        Assert.assertEquals(Arrays.asList("s1", "s2", "s3", "s4", "s5"), started);
+    }
+
+    @Test
+    public void testFailedStart() {
+        final Map<String, ServerStatus> statuses = new HashMap<>();
+        final List<String> started = new ArrayList<>();
+        final ServerStartScheduler scheduler = new ServerStartScheduler(inventory(statuses), PathAddress.EMPTY_ADDRESS,
+                Arrays.asList("s1", "s2", "s3"), 1, 1, TimeUnit.HOURS);
+
+        // A server that cannot be started does not take a slot
+        Assert.assertTrue(scheduler.startAvailable(serverName -> {
+            if (serverName.equals("s1")) {
+                throw new IllegalStateException();
+            }
+            statuses.put(serverName, ServerStatus.STARTING);
+            started.add(serverName);
+        }));
+        Assert.assertEquals(Collections.singletonList("s2"), started);
+    }
+
+    @Test
+    public void testStartTimeout() throws Exception {
+        final Map<String, ServerStatus> statuses = new HashMap<>();
+        final List<String> started = new ArrayList<>();
+        final ServerStartScheduler scheduler = new ServerStartScheduler(inventory(statuses), PathAddress.EMPTY_ADDRESS,
+                Arrays.asList("s1", "s2"), 1, 50, TimeUnit.MILLISECONDS);
+        final ServerStartScheduler.ServerStarter starter = serverName -> {
+            statuses.put(serverName, ServerStatus.STARTING);
+            started.add(serverName);
+        };
+
+        Assert.assertTrue(scheduler.startAvailable(starter));
+        Assert.assertEquals(Collections.singletonList("s1"), started);
+        Thread.sleep(100);
+        // The server is still starting, but no longer holds back the next one
+        Assert.assertFalse(scheduler.startAvailable(starter));
+        Assert.assertEquals(Arrays.asList("s1", "s2"), started);
+    }
+
+    private ServerInventory inventory(final Map<String, ServerStatus> statuses) {
+        return (ServerInventory) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {ServerInventory.class}, (proxy, method, args) -> {
+            if (method.getName().equals("determineServerStatus")) {
+                return statuses.getOrDefault((String) args[0], ServerStatus.STOPPED);
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
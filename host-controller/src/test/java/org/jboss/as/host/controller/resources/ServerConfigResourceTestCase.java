@@ -0,0 +1,115 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.host.controller.resources;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.AUTO_START;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.UPDATE_AUTO_START_WITH_SERVER_STATUS;
+
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.jboss.as.controller.ControlledProcessState;
+import org.jboss.as.controller.client.helpers.domain.ServerStatus;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.host.controller.ServerInventory;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests of the auto-start marker files of {@link ServerConfigResource}.
+ */
+public class ServerConfigResourceTestCase {
+
+    private static final String SERVER_NAME = "server-one";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private ServerStatus status = ServerStatus.STARTING;
+
+    @Test
+    public void testMarkerFilesFollowAutoStart() throws Exception {
+        final File domainDataDir = folder.newFolder();
+        final Path startedFile = domainDataDir.toPath().resolve("auto-start").resolve(SERVER_NAME + ".started");
+        final Path stoppedFile = domainDataDir.toPath().resolve("auto-start").resolve(SERVER_NAME + ".stopped");
+        final Resource resource = createResource(domainDataDir);
+
+        Assert.assertTrue(resource.getModel().get(AUTO_START).asBoolean());
+        Assert.assertTrue(Files.exists(startedFile));
+        Assert.assertFalse(Files.exists(stoppedFile));
+
+        // STARTING to STARTED doesn't change the derived auto-start value, so the files aren't touched again
+        Files.delete(startedFile);
+        status = ServerStatus.STARTED;
+        Assert.assertTrue(resource.getModel().get(AUTO_START).asBoolean());
+        Assert.assertFalse(Files.exists(startedFile));
+
+        status = ServerStatus.STOPPING;
+        Assert.assertFalse(resource.getModel().get(AUTO_START).asBoolean());
+        Assert.assertTrue(Files.exists(stoppedFile));
+        Assert.assertFalse(Files.exists(startedFile));
+
+        // The clones share what was persisted
+        Files.delete(stoppedFile);
+        status = ServerStatus.STOPPED;
+        Assert.assertFalse(resource.clone().getModel().get(AUTO_START).asBoolean());
+        Assert.assertFalse(Files.exists(stoppedFile));
+
+        status = ServerStatus.STARTED;
+        Assert.assertTrue(resource.clone().getModel().get(AUTO_START).asBoolean());
+        Assert.assertTrue(Files.exists(startedFile));
+    }
+
+    @Test
+    public void testUndeterminedStatus() throws Exception {
+        final File domainDataDir = folder.newFolder();
+        status = ServerStatus.FAILED;
+        final Resource resource = createResource(domainDataDir);
+
+        Assert.assertTrue(resource.getModel().get(AUTO_START).asBoolean());
+        try (Stream<Path> files = Files.list(domainDataDir.toPath().resolve("auto-start"))) {
+            Assert.assertEquals(0, files.count());
+        }
+    }
+
+    private Resource createResource(final File domainDataDir) {
+        final ServerInventory inventory = (ServerInventory) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {ServerInventory.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("determineServerStatus")) {
+                        return status;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        final ControlledProcessState processState = new ControlledProcessState(true);
+        processState.setRunning();
+        final Resource delegate = Resource.Factory.create();
+        delegate.getModel().get(AUTO_START).set(true);
+        delegate.getModel().get(UPDATE_AUTO_START_WITH_SERVER_STATUS).set(true);
+        return new ServerConfigResource(inventory, processState, SERVER_NAME, domainDataDir, delegate);
+    }
+}
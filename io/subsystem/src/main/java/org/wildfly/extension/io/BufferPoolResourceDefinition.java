@@ -30,6 +30,7 @@ import java.util.Collection;
 import java.util.List;
 
 import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.OperationContext;
@@ -40,6 +41,7 @@ import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
@@ -47,10 +49,12 @@ import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import org.jboss.msc.value.InjectedValue;
+import org.wildfly.extension.io.logging.IOLogger;
 import org.xnio.Pool;
 
 import io.undertow.connector.ByteBufferPool;
@@ -107,14 +111,27 @@ class BufferPoolResourceDefinition extends PersistentResourceDefinition {
             .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
             .setAllowExpression(true)
             .build();
+    static final SimpleAttributeDefinition THREAD_LOCAL_CACHE = new SimpleAttributeDefinitionBuilder(Constants.THREAD_LOCAL_CACHE, ModelType.BOOLEAN, true)
+            .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(false))
+            .build();
 
 
+    private static final AttributeDefinition ALLOCATED_COUNT = new SimpleAttributeDefinitionBuilder("allocated-count", ModelType.LONG).setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L)).build();
+    private static final AttributeDefinition IN_USE_COUNT = new SimpleAttributeDefinitionBuilder("in-use-count", ModelType.INT).setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0)).build();
+    private static final AttributeDefinition PEAK_IN_USE_COUNT = new SimpleAttributeDefinitionBuilder("peak-in-use-count", ModelType.INT).setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0)).build();
+
     /*<buffer-pool name="default" buffer-size="1024" buffers-per-slice="1024"/>*/
 
     static List<SimpleAttributeDefinition> ATTRIBUTES = Arrays.asList(
             BUFFER_SIZE,
             BUFFER_PER_SLICE,
-            DIRECT_BUFFERS
+            DIRECT_BUFFERS,
+            THREAD_LOCAL_CACHE
     );
 
 
@@ -142,6 +159,15 @@ class BufferPoolResourceDefinition extends PersistentResourceDefinition {
         resourceRegistration.registerCapability(IO_BYTE_BUFFER_POOL_RUNTIME_CAPABILITY);
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        BufferPoolMetricsHandler metricsHandler = new BufferPoolMetricsHandler();
+        resourceRegistration.registerMetric(ALLOCATED_COUNT, metricsHandler);
+        resourceRegistration.registerMetric(IN_USE_COUNT, metricsHandler);
+        resourceRegistration.registerMetric(PEAK_IN_USE_COUNT, metricsHandler);
+    }
+
     private static class BufferPoolAdd extends AbstractAddStepHandler {
 
         private BufferPoolAdd() {
@@ -159,8 +185,9 @@ class BufferPoolResourceDefinition extends PersistentResourceDefinition {
             final int bufferSize = bufferSizeModel.isDefined() ? bufferSizeModel.asInt() : defaultBufferSize;
             final int bufferPerSlice = bufferPerSliceModel.isDefined() ? bufferPerSliceModel.asInt() : defaultBuffersPerRegion;
             final boolean direct = directModel.isDefined() ? directModel.asBoolean() : defaultDirectBuffers;
+            final boolean threadLocalCache = THREAD_LOCAL_CACHE.resolveModelAttribute(context, model).asBoolean();
 
-            final BufferPoolService service = new BufferPoolService(bufferSize, bufferPerSlice, direct);
+            final BufferPoolService service = new BufferPoolService(name, bufferSize, bufferPerSlice, direct, threadLocalCache);
             context.getCapabilityServiceTarget().addCapability(IO_POOL_RUNTIME_CAPABILITY, service)
                     .setInitialMode(ServiceController.Mode.ON_DEMAND)
                     .install();
@@ -175,6 +202,33 @@ class BufferPoolResourceDefinition extends PersistentResourceDefinition {
         }
     }
 
+    private static class BufferPoolMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            ServiceName serviceName = IO_POOL_RUNTIME_CAPABILITY.getCapabilityServiceName(context.getCurrentAddressValue(), Pool.class);
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(serviceName);
+            // The pool is on demand, so there is nothing to count until something uses it
+            if (controller == null || controller.getState() != ServiceController.State.UP) {
+                return;
+            }
+            CountingBufferPool pool = ((BufferPoolService) controller.getService()).getCountingPool();
+            if (pool == null) {
+                return;
+            }
+            String name = operation.require(ModelDescriptionConstants.NAME).asString();
+            if (ALLOCATED_COUNT.getName().equals(name)) {
+                context.getResult().set(pool.getAllocatedCount());
+            } else if (IN_USE_COUNT.getName().equals(name)) {
+                context.getResult().set(pool.getInUseCount());
+            } else if (PEAK_IN_USE_COUNT.getName().equals(name)) {
+                context.getResult().set(pool.getPeakInUseCount());
+            } else {
+                throw new OperationFailedException(IOLogger.ROOT_LOGGER.noMetrics());
+            }
+        }
+    }
+
     private static final class ByteBufferPoolService implements Service<ByteBufferPool> {
 
         final InjectedValue<Pool> bufferPool = new InjectedValue<>();
@@ -38,30 +38,61 @@ import org.xnio.Pool;
  * @author <a href="mailto:tomaz.cerar@redhat.com">Tomaz Cerar</a> (c) 2013 Red Hat Inc.
  */
 public class BufferPoolService implements Service<Pool<ByteBuffer>> {
-    private volatile Pool<ByteBuffer> bufferPool;
+    private volatile CountingBufferPool bufferPool;
+    private volatile ThreadLocalBufferPool threadLocalBufferPool;
     /*<buffer-pool name="default" buffer-size="2048" buffers-per-slice="512"/>*/
     private final int bufferSize;
     private final int buffersPerSlice;
     private final boolean directBuffers;
+    private final String name;
+    private final boolean threadLocalCache;
 
     public BufferPoolService(int bufferSize, int buffersPerSlice, final boolean directBuffers) {
+        this(null, bufferSize, buffersPerSlice, directBuffers, false);
+    }
+
+    /**
+     * @param name the name of the pool
+     * @param threadLocalCache whether the free buffers are cached by the threads using them, see {@link ThreadLocalBufferPool}
+     */
+    public BufferPoolService(String name, int bufferSize, int buffersPerSlice, final boolean directBuffers, final boolean threadLocalCache) {
+        this.name = name;
         this.bufferSize = bufferSize;
         this.buffersPerSlice = buffersPerSlice;
         this.directBuffers = directBuffers;
+        this.threadLocalCache = threadLocalCache;
     }
 
     @Override
     public void start(StartContext context) throws StartException {
-        bufferPool = new ByteBufferSlicePool(directBuffers ? BufferAllocator.DIRECT_BYTE_BUFFER_ALLOCATOR : BufferAllocator.BYTE_BUFFER_ALLOCATOR, bufferSize, buffersPerSlice * bufferSize);
+        final BufferAllocator<ByteBuffer> allocator = directBuffers ? BufferAllocator.DIRECT_BYTE_BUFFER_ALLOCATOR : BufferAllocator.BYTE_BUFFER_ALLOCATOR;
+        if (threadLocalCache) {
+            threadLocalBufferPool = new ThreadLocalBufferPool(name, allocator, bufferSize, buffersPerSlice);
+            bufferPool = new CountingBufferPool(threadLocalBufferPool, true);
+        } else {
+            bufferPool = new CountingBufferPool(new ByteBufferSlicePool(allocator, bufferSize, buffersPerSlice * bufferSize));
+        }
     }
 
     @Override
     public void stop(StopContext context) {
-
+        // Don't leave the cached buffers behind in the threads, which may outlive the pool
+        final ThreadLocalBufferPool threadLocalBufferPool = this.threadLocalBufferPool;
+        if (threadLocalBufferPool != null) {
+            threadLocalBufferPool.close();
+            this.threadLocalBufferPool = null;
+        }
     }
 
     @Override
     public Pool<ByteBuffer> getValue() throws IllegalStateException, IllegalArgumentException {
         return bufferPool;
     }
+
+    /**
+     * Gets the pool counting the allocated buffers, or {@code null} if the service is not started.
+     */
+    CountingBufferPool getCountingPool() {
+        return bufferPool;
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.xnio.Pool;
+import org.xnio.Pooled;
+
+/**
+ * A buffer pool counting the buffers allocated from the pool it wraps, and how many of them are still in use.
+ * <p>
+ * A buffer is in use until it is freed, discarded or closed. Buffers which are dropped without being released, and
+ * collected by the garbage collector, remain counted as in use.
+ * <p>
+ * The threads allocating buffers contend on the count of buffers in use, which is fine in front of a pool synchronizing
+ * them anyway. In front of a pool which doesn't, such as {@link ThreadLocalBufferPool}, the pool can be striped: the
+ * allocated and released buffers are then counted separately in {@link LongAdder}s, and the peak is only sampled when
+ * the counts are read.
+ */
+@SuppressWarnings("deprecation")
+class CountingBufferPool implements Pool<ByteBuffer> {
+
+    private final Pool<ByteBuffer> delegate;
+    private final LongAdder allocatedCount = new LongAdder();
+    private final LongAdder releasedCount = new LongAdder();
+    /** The exact number of buffers in use, or {@code null} if striped */
+    private final AtomicInteger inUseCount;
+    private final AtomicInteger peakInUseCount = new AtomicInteger();
+
+    CountingBufferPool(final Pool<ByteBuffer> delegate) {
+        this(delegate, false);
+    }
+
+    /**
+     * Creates the pool.
+     *
+     * @param delegate the pool to allocate the buffers from
+     * @param striped whether the threads shouldn't contend on the count of buffers in use
+     */
+    CountingBufferPool(final Pool<ByteBuffer> delegate, final boolean striped) {
+        this.delegate = delegate;
+        this.inUseCount = striped ? null : new AtomicInteger();
+    }
+
+    @Override
+    public Pooled<ByteBuffer> allocate() {
+        final Pooled<ByteBuffer> pooled = delegate.allocate();
+        allocatedCount.increment();
+        if (inUseCount != null) {
+            final int inUse = inUseCount.incrementAndGet();
+            // Only contend on the peak while it grows
+            if (inUse > peakInUseCount.get()) {
+                peakInUseCount.accumulateAndGet(inUse, Math::max);
+            }
+        }
+        return new CountedPooled(this, pooled);
+    }
+
+    /**
+     * Gets the number of buffers allocated since the pool was created.
+     */
+    long getAllocatedCount() {
+        return allocatedCount.sum();
+    }
+
+    /**
+     * Gets the number of allocated buffers not released yet.
+     */
+    int getInUseCount() {
+        if (inUseCount != null) {
+            return inUseCount.get();
+        }
+        // Read the released buffers first, so a buffer released meanwhile is never counted as released only
+        final long released = releasedCount.sum();
+        return (int) (allocatedCount.sum() - released);
+    }
+
+    /**
+     * Gets the largest number of buffers in use at the same time since the pool was created, or the largest number
+     * read so far if the pool is striped.
+     */
+    int getPeakInUseCount() {
+        if (inUseCount == null) {
+            return peakInUseCount.accumulateAndGet(getInUseCount(), Math::max);
+        }
+        return peakInUseCount.get();
+    }
+
+    private void released() {
+        if (inUseCount != null) {
+            inUseCount.decrementAndGet();
+        } else {
+            releasedCount.increment();
+        }
+    }
+
+    private static final class CountedPooled implements Pooled<ByteBuffer> {
+        private static final AtomicIntegerFieldUpdater<CountedPooled> RELEASED = AtomicIntegerFieldUpdater.newUpdater(CountedPooled.class, "released");
+
+        private final CountingBufferPool pool;
+        private final Pooled<ByteBuffer> pooled;
+        @SuppressWarnings("unused")
+        private volatile int released;
+
+        CountedPooled(final CountingBufferPool pool, final Pooled<ByteBuffer> pooled) {
+            this.pool = pool;
+            this.pooled = pooled;
+        }
+
+        @Override
+        public void discard() {
+            pooled.discard();
+            release();
+        }
+
+        @Override
+        public void free() {
+            pooled.free();
+            release();
+        }
+
+        @Override
+        public ByteBuffer getResource() throws IllegalStateException {
+            return pooled.getResource();
+        }
+
+        @Override
+        public void close() {
+            pooled.close();
+            release();
+        }
+
+        private void release() {
+            // A buffer may be released more than once, e.g. freed then closed
+            if (RELEASED.compareAndSet(this, 0, 1)) {
+                pool.released();
+            }
+        }
+    }
+}
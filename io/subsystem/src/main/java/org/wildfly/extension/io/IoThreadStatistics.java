@@ -0,0 +1,120 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.io;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Works out how busy the I/O threads of a worker are, from the CPU time they used between two reads.
+ * <p>
+ * An I/O thread which waits for its channels to be ready doesn't use any CPU, so the share of the elapsed time spent on
+ * the CPU approximates the share spent handling I/O. Nothing is recorded by the I/O threads themselves; the CPU times
+ * are only read from the JVM when the ratios are read, at most once a second.
+ */
+class IoThreadStatistics {
+
+    /** The I/O threads of an XNIO worker are named after the worker, followed by this and their index */
+    private static final String IO_THREAD_NAME = " I/O-";
+    private static final long MIN_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final ThreadGroup threadGroup;
+
+    // Guarded by this
+    private long lastTime;
+    private Map<Long, Long> lastCpuTimes = Collections.emptyMap();
+    private Map<String, Double> busyRatios = Collections.emptyMap();
+
+    /**
+     * Creates the statistics of the I/O threads of a worker.
+     *
+     * @param threadGroup the thread group of the worker
+     */
+    IoThreadStatistics(final ThreadGroup threadGroup) {
+        this.threadGroup = threadGroup;
+        this.lastTime = System.nanoTime();
+    }
+
+    /**
+     * Gets the share of the time each I/O thread was busy since the previous read, or since the worker started.
+     *
+     * @return the ratios between 0 and 1 by thread name, or {@code null} if the JVM doesn't measure the CPU time of threads
+     */
+    synchronized Map<String, Double> getBusyRatios() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!threadMXBean.isThreadCpuTimeSupported() || !threadMXBean.isThreadCpuTimeEnabled()) {
+            return null;
+        }
+        final long time = System.nanoTime();
+        final long elapsed = time - lastTime;
+        if (elapsed < MIN_INTERVAL && !busyRatios.isEmpty()) {
+            return busyRatios;
+        }
+        final Thread[] threads = new Thread[threadGroup.activeCount() + 1];
+        final int count = threadGroup.enumerate(threads);
+        final Map<Long, Long> cpuTimes = new HashMap<>();
+        final Map<String, Double> ratios = new TreeMap<>();
+        for (int i = 0; i < count; i++) {
+            final Thread thread = threads[i];
+            if (!thread.getName().contains(IO_THREAD_NAME)) {
+                continue;
+            }
+            final long cpuTime = threadMXBean.getThreadCpuTime(thread.getId());
+            if (cpuTime < 0) {
+                // The thread just terminated
+                continue;
+            }
+            cpuTimes.put(thread.getId(), cpuTime);
+            // A thread started after the previous read used all its CPU time since then
+            final Long lastCpuTime = lastCpuTimes.get(thread.getId());
+            final long used = cpuTime - (lastCpuTime == null ? 0 : lastCpuTime);
+            ratios.put(thread.getName(), elapsed > 0 ? Math.min(1.0, (double) used / elapsed) : 0.0);
+        }
+        lastTime = time;
+        lastCpuTimes = cpuTimes;
+        busyRatios = Collections.unmodifiableMap(ratios);
+        return busyRatios;
+    }
+
+    /**
+     * Gets the share of the time the I/O threads were busy since the previous read, on average.
+     *
+     * @return the ratio between 0 and 1, or {@code null} if the JVM doesn't measure the CPU time of threads
+     */
+    Double getAverageBusyRatio() {
+        final Map<String, Double> ratios = getBusyRatios();
+        if (ratios == null) {
+            return null;
+        }
+        double total = 0;
+        for (double ratio : ratios.values()) {
+            total += ratio;
+        }
+        return ratios.isEmpty() ? 0.0 : total / ratios.size();
+    }
+}
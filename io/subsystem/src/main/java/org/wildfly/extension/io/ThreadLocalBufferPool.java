@@ -0,0 +1,378 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.io;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.wildfly.extension.io.logging.IOLogger;
+import org.xnio.BufferAllocator;
+import org.xnio.Pool;
+import org.xnio.Pooled;
+
+/**
+ * A buffer pool caching free buffers in the threads using them, rather than in queues shared by all the threads.
+ * <p>
+ * Each thread has a magazine of up to {@value #MAGAZINE_SIZE} buffers, which it allocates from and frees to without
+ * contending with the other threads. When its magazine is empty, a thread takes a full one from a depot shared by the threads, and when
+ * its magazine is full, it moves it to the depot, so the threads only contend on the depot once every
+ * {@value #MAGAZINE_SIZE} operations. A buffer freed by another thread than the one which allocated it simply goes into
+ * the magazine of the thread freeing it, and reaches the other threads through the depot; this handles a thread
+ * reading requests while another one writes the responses, for example. If the depot is empty as well, a new slice of
+ * memory is allocated and cut into buffers, like {@link org.xnio.ByteBufferSlicePool} does.
+ * <p>
+ * The magazines are registered with the pool. Before a new slice is allocated, the buffers cached by threads which have
+ * terminated are moved to the depot. Once the pool is {@linkplain #close() closed}, e.g. when its service stops on a
+ * reload, the depot and the magazines are emptied and the buffers freed afterwards are dropped, so that no buffer is
+ * left behind in a thread which outlives the pool.
+ * <p>
+ * If debug logging is enabled for the subsystem when the pool is created, the pool also records where each buffer was
+ * allocated, and logs a warning if the buffer is garbage collected without having been freed.
+ */
+@SuppressWarnings("deprecation")
+class ThreadLocalBufferPool implements Pool<ByteBuffer> {
+
+    /** The number of buffers cached by each thread, and moved to and from the depot at once */
+    static final int MAGAZINE_SIZE = 32;
+
+    private final String name;
+    private final BufferAllocator<ByteBuffer> allocator;
+    private final int bufferSize;
+    private final int buffersPerSlice;
+    private final ConcurrentLinkedQueue<ByteBuffer[]> depot = new ConcurrentLinkedQueue<>();
+    private final Set<Magazine> registeredMagazines = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final ThreadLocal<Magazine> magazines = ThreadLocal.withInitial(this::registerMagazine);
+    private final LeakDetector leakDetector;
+    private volatile boolean closed;
+
+    /**
+     * Creates the pool.
+     *
+     * @param name the name of the pool, used when logging leaks
+     * @param allocator the allocator of the slices
+     * @param bufferSize the size of each buffer
+     * @param buffersPerSlice the number of buffers cut from each slice
+     */
+    ThreadLocalBufferPool(final String name, final BufferAllocator<ByteBuffer> allocator, final int bufferSize, final int buffersPerSlice) {
+        this(name, allocator, bufferSize, buffersPerSlice, IOLogger.ROOT_LOGGER.isDebugEnabled());
+    }
+
+    ThreadLocalBufferPool(final String name, final BufferAllocator<ByteBuffer> allocator, final int bufferSize, final int buffersPerSlice,
+                          final boolean detectLeaks) {
+        this.name = name;
+        this.allocator = allocator;
+        this.bufferSize = bufferSize;
+        this.buffersPerSlice = buffersPerSlice;
+        this.leakDetector = detectLeaks ? new LeakDetector() : null;
+    }
+
+    @Override
+    public Pooled<ByteBuffer> allocate() {
+        if (closed) {
+            return new PooledBuffer(this, allocator.allocate(bufferSize));
+        }
+        final Magazine magazine = magazines.get();
+        ByteBuffer buffer = magazine.pop();
+        if (buffer == null) {
+            ByteBuffer[] full = depot.poll();
+            if (full == null) {
+                reclaimMagazines();
+                full = depot.poll();
+            }
+            if (full != null) {
+                magazine.load(full);
+                buffer = magazine.pop();
+            }
+            if (buffer == null) {
+                buffer = allocateSlice(magazine);
+            }
+        }
+        return new PooledBuffer(this, buffer);
+    }
+
+    private void free(final ByteBuffer buffer) {
+        if (closed) {
+            return;
+        }
+        buffer.clear();
+        final Magazine magazine = magazines.get();
+        if (!magazine.push(buffer)) {
+            unload(magazine);
+            magazine.push(buffer);
+        }
+    }
+
+    /**
+     * Drops the cached buffers, in the depot and in the magazines of all the threads. The buffers allocated afterwards
+     * are not cached.
+     */
+    void close() {
+        closed = true;
+        for (Magazine magazine : registeredMagazines) {
+            magazine.drain();
+        }
+        registeredMagazines.clear();
+        depot.clear();
+    }
+
+    private Magazine registerMagazine() {
+        final Magazine magazine = new Magazine(Thread.currentThread());
+        registeredMagazines.add(magazine);
+        if (closed) {
+            // Registered while the pool was being closed
+            magazine.drain();
+        }
+        return magazine;
+    }
+
+    /**
+     * Moves the buffers cached by the threads which have terminated to the depot.
+     */
+    private void reclaimMagazines() {
+        for (Magazine magazine : registeredMagazines) {
+            if (!magazine.isAlive() && registeredMagazines.remove(magazine)) {
+                final ByteBuffer[] buffers = magazine.drain();
+                if (buffers.length > 0) {
+                    depot.add(buffers);
+                }
+            }
+        }
+    }
+
+    /**
+     * Cuts a new slice into buffers, keeping the others in the magazine of the thread.
+     */
+    private ByteBuffer allocateSlice(final Magazine magazine) {
+        final ByteBuffer slice = allocator.allocate(bufferSize * buffersPerSlice);
+        for (int i = 1; i < buffersPerSlice; i++) {
+            final ByteBuffer buffer = cut(slice, i);
+            if (!magazine.push(buffer)) {
+                unload(magazine);
+                magazine.push(buffer);
+            }
+        }
+        return cut(slice, 0);
+    }
+
+    private void unload(final Magazine magazine) {
+        final ByteBuffer[] full = magazine.unload();
+        if (full != null) {
+            depot.add(full);
+        }
+    }
+
+    private ByteBuffer cut(final ByteBuffer slice, final int index) {
+        final ByteBuffer duplicate = slice.duplicate();
+        duplicate.position(index * bufferSize);
+        duplicate.limit((index + 1) * bufferSize);
+        return duplicate.slice();
+    }
+
+    /**
+     * The free buffers cached by a thread. Only that thread allocates from and frees to it, so {@link #pop()} and
+     * {@link #push(ByteBuffer)} take no lock: they are the hot path of the pool. Another thread only ever
+     * {@linkplain #drain() drains} the magazine, by swapping its array out, and the owner swaps a full array for an empty
+     * one the same way, so a drained magazine is never refilled. A buffer the owner pushes into the array concurrently
+     * swapped out is simply dropped with it, and one it pops from it is handed out once more, which is harmless since the
+     * pool is closed.
+     */
+    private static final class Magazine {
+        private static final AtomicReferenceFieldUpdater<Magazine, ByteBuffer[]> BUFFERS =
+                AtomicReferenceFieldUpdater.newUpdater(Magazine.class, ByteBuffer[].class, "buffers");
+        private static final ByteBuffer[] NONE = new ByteBuffer[0];
+
+        private final WeakReference<Thread> thread;
+        /** The cached buffers, {@code null} once the magazine is drained */
+        private volatile ByteBuffer[] buffers = new ByteBuffer[MAGAZINE_SIZE];
+        /** Only used by the owner thread, or by another one once the owner has terminated */
+        private int count;
+
+        Magazine(final Thread thread) {
+            this.thread = new WeakReference<>(thread);
+        }
+
+        boolean isAlive() {
+            final Thread thread = this.thread.get();
+            return thread != null && thread.isAlive();
+        }
+
+        ByteBuffer pop() {
+            final ByteBuffer[] buffers = this.buffers;
+            if (buffers == null || count == 0) {
+                return null;
+            }
+            final ByteBuffer buffer = buffers[--count];
+            buffers[count] = null;
+            return buffer;
+        }
+
+        /**
+         * Adds a buffer, dropping it if the magazine was drained.
+         *
+         * @return {@code false} if the magazine is full
+         */
+        boolean push(final ByteBuffer buffer) {
+            final ByteBuffer[] buffers = this.buffers;
+            if (buffers == null) {
+                return true;
+            }
+            if (count == buffers.length) {
+                return false;
+            }
+            buffers[count++] = buffer;
+            return true;
+        }
+
+        /**
+         * Replaces the empty magazine with a full one from the depot.
+         */
+        void load(final ByteBuffer[] full) {
+            final ByteBuffer[] empty = buffers;
+            if (empty != null && BUFFERS.compareAndSet(this, empty, full)) {
+                count = full.length;
+            }
+        }
+
+        /**
+         * Replaces the full magazine with an empty one, returning the full one for the depot.
+         *
+         * @return the full magazine, or {@code null} if the magazine was drained
+         */
+        ByteBuffer[] unload() {
+            final ByteBuffer[] full = buffers;
+            if (full == null || !BUFFERS.compareAndSet(this, full, new ByteBuffer[MAGAZINE_SIZE])) {
+                return null;
+            }
+            count = 0;
+            return full;
+        }
+
+        /**
+         * Empties the magazine for good, returning the buffers it held. These are only accurate if the owner thread has
+         * terminated; otherwise the caller just drops them.
+         */
+        ByteBuffer[] drain() {
+            final ByteBuffer[] buffers = BUFFERS.getAndSet(this, null);
+            return buffers == null ? NONE : Arrays.copyOf(buffers, count);
+        }
+    }
+
+    private static final class PooledBuffer implements Pooled<ByteBuffer> {
+        private static final AtomicIntegerFieldUpdater<PooledBuffer> RELEASED = AtomicIntegerFieldUpdater.newUpdater(PooledBuffer.class, "released");
+
+        private final ThreadLocalBufferPool pool;
+        private final ByteBuffer buffer;
+        private final LeakReference leak;
+        @SuppressWarnings("unused")
+        private volatile int released;
+
+        PooledBuffer(final ThreadLocalBufferPool pool, final ByteBuffer buffer) {
+            this.pool = pool;
+            this.buffer = buffer;
+            this.leak = pool.leakDetector != null ? pool.leakDetector.track(this) : null;
+        }
+
+        @Override
+        public void discard() {
+            release();
+        }
+
+        @Override
+        public void free() {
+            if (release()) {
+                pool.free(buffer);
+            }
+        }
+
+        @Override
+        public ByteBuffer getResource() throws IllegalStateException {
+            if (RELEASED.get(this) != 0) {
+                throw IOLogger.ROOT_LOGGER.bufferFreed();
+            }
+            return buffer;
+        }
+
+        @Override
+        public void close() {
+            free();
+        }
+
+        private boolean release() {
+            if (!RELEASED.compareAndSet(this, 0, 1)) {
+                return false;
+            }
+            if (leak != null) {
+                pool.leakDetector.untrack(leak);
+            }
+            return true;
+        }
+    }
+
+    private static final class LeakReference extends PhantomReference<PooledBuffer> {
+        final Throwable allocation = new Throwable();
+
+        LeakReference(final PooledBuffer referent, final ReferenceQueue<PooledBuffer> queue) {
+            super(referent, queue);
+        }
+    }
+
+    /**
+     * Tracks the buffers in use, to find the ones collected without being freed.
+     */
+    private final class LeakDetector {
+        private final ReferenceQueue<PooledBuffer> queue = new ReferenceQueue<>();
+        private final Set<LeakReference> references = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+        LeakReference track(final PooledBuffer pooled) {
+            poll();
+            final LeakReference reference = new LeakReference(pooled, queue);
+            references.add(reference);
+            return reference;
+        }
+
+        void untrack(final LeakReference reference) {
+            references.remove(reference);
+            reference.clear();
+        }
+
+        private void poll() {
+            Reference<? extends PooledBuffer> reference;
+            while ((reference = queue.poll()) != null) {
+                // A buffer freed concurrently is no longer tracked
+                if (references.remove(reference)) {
+                    IOLogger.ROOT_LOGGER.bufferLeaked(((LeakReference) reference).allocation, name);
+                }
+            }
+        }
+    }
+}
@@ -44,6 +44,7 @@ import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.PersistentResourceDefinition;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleMapAttributeDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
@@ -116,6 +117,12 @@ class WorkerResourceDefinition extends PersistentResourceDefinition {
             .setUndefinedMetricValue(new ModelNode(0)).build();
     private static final AttributeDefinition BUSY_WORKER_THREAD_COUNT = new SimpleAttributeDefinitionBuilder("busy-task-thread-count", ModelType.INT).setStorageRuntime()
             .setUndefinedMetricValue(new ModelNode(0)).build();
+    private static final AttributeDefinition CONNECTION_COUNT = new SimpleAttributeDefinitionBuilder("connection-count", ModelType.INT).setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0)).build();
+    private static final AttributeDefinition IO_THREAD_BUSY_RATIO = new SimpleAttributeDefinitionBuilder("io-thread-busy-ratio", ModelType.DOUBLE, true).setStorageRuntime()
+            .build();
+    private static final AttributeDefinition IO_THREAD_BUSY_RATIOS = new SimpleMapAttributeDefinition.Builder("io-thread-busy-ratios", ModelType.DOUBLE, true).setStorageRuntime()
+            .build();
 
 
     static final Map<String, OptionAttributeDefinition> ATTRIBUTES_BY_XMLNAME;
@@ -193,6 +200,9 @@ class WorkerResourceDefinition extends PersistentResourceDefinition {
         resourceRegistration.registerMetric(IO_THREAD_COUNT, metricsHandler);
         resourceRegistration.registerMetric(QUEUE_SIZE, metricsHandler);
         resourceRegistration.registerMetric(BUSY_WORKER_THREAD_COUNT, metricsHandler);
+        resourceRegistration.registerMetric(CONNECTION_COUNT, metricsHandler);
+        resourceRegistration.registerMetric(IO_THREAD_BUSY_RATIO, metricsHandler);
+        resourceRegistration.registerMetric(IO_THREAD_BUSY_RATIOS, metricsHandler);
     }
 
     @Override
@@ -294,8 +304,17 @@ class WorkerResourceDefinition extends PersistentResourceDefinition {
 
         @Override
         void executeWithWorker(OperationContext context, ModelNode operation, XnioWorker worker) throws OperationFailedException {
-            XnioWorkerMXBean metrics = worker.getMXBean();
             String name = operation.require(ModelDescriptionConstants.NAME).asString();
+            if (IO_THREAD_BUSY_RATIO.getName().equals(name) || IO_THREAD_BUSY_RATIOS.getName().equals(name)) {
+                // Measured by the service rather than by XNIO
+                WorkerService service = getWorkerService(context);
+                IoThreadStatistics statistics = service != null ? service.getIoThreadStatistics() : null;
+                if (statistics != null) {
+                    setIoThreadMetricValue(name, statistics, context.getResult());
+                }
+                return;
+            }
+            XnioWorkerMXBean metrics = worker.getMXBean();
             context.getResult().set(getMetricValue(name, metrics));
         }
     }
@@ -322,6 +341,15 @@ class WorkerResourceDefinition extends PersistentResourceDefinition {
         return controller.getValue();
     }
 
+    private static WorkerService getWorkerService(OperationContext context) {
+        ServiceName serviceName = IO_WORKER_RUNTIME_CAPABILITY.getCapabilityServiceName(context.getCurrentAddressValue(), XnioWorker.class);
+        ServiceController<?> controller = context.getServiceRegistry(false).getService(serviceName);
+        if (controller == null || controller.getState() != ServiceController.State.UP) {
+            return null;
+        }
+        return (WorkerService) controller.getService();
+    }
+
     private static XnioWorkerMXBean getMetrics(ServiceRegistry serviceRegistry, String name) {
         XnioWorker worker = getXnioWorker(serviceRegistry, name);
         if (worker != null && worker.getMXBean() != null) {
@@ -344,11 +372,34 @@ class WorkerResourceDefinition extends PersistentResourceDefinition {
             return new ModelNode(metric.getWorkerQueueSize());
         } else if (BUSY_WORKER_THREAD_COUNT.getName().equals(attributeName)) {
             return new ModelNode(metric.getBusyWorkerThreadCount());
+        } else if (CONNECTION_COUNT.getName().equals(attributeName)) {
+            int count = 0;
+            for (XnioServerMXBean serverMXBean : metric.getServerMXBeans()) {
+                count += serverMXBean.getConnectionCount();
+            }
+            return new ModelNode(count);
         } else {
             throw new OperationFailedException(IOLogger.ROOT_LOGGER.noMetrics());
         }
     }
 
+    private static void setIoThreadMetricValue(String attributeName, IoThreadStatistics statistics, ModelNode result) {
+        if (IO_THREAD_BUSY_RATIO.getName().equals(attributeName)) {
+            Double ratio = statistics.getAverageBusyRatio();
+            if (ratio != null) {
+                result.set(ratio);
+            }
+        } else {
+            Map<String, Double> ratios = statistics.getBusyRatios();
+            if (ratios != null) {
+                result.setEmptyObject();
+                for (Map.Entry<String, Double> entry : ratios.entrySet()) {
+                    result.get(entry.getKey()).set(entry.getValue());
+                }
+            }
+        }
+    }
+
     static class WorkerResource extends DelegatingResource {
         private final ServiceRegistry serviceRegistry;
         private final PathAddress pathAddress;
@@ -41,6 +41,7 @@ import org.xnio.XnioWorker;
 public class WorkerService implements Service<XnioWorker> {
     private final XnioWorker.Builder builder;
     private XnioWorker worker;
+    private volatile IoThreadStatistics ioThreadStatistics;
     private volatile StopContext stopContext;
 
     /**
@@ -57,7 +58,12 @@ public class WorkerService implements Service<XnioWorker> {
     @Override
     public void start(StartContext startContext) throws StartException {
         builder.setTerminationTask(this::stopDone);
+        if (builder.getThreadGroup() == null) {
+            // Group the threads of the worker, so its I/O threads can be found to measure how busy they are
+            builder.setThreadGroup(new ThreadGroup(builder.getWorkerName()));
+        }
         worker = builder.build();
+        ioThreadStatistics = new IoThreadStatistics(builder.getThreadGroup());
     }
 
     @Override
@@ -66,6 +72,7 @@ public class WorkerService implements Service<XnioWorker> {
         context.asynchronous();
         worker.shutdown();
         worker = null;
+        ioThreadStatistics = null;
     }
 
     private void stopDone() {
@@ -79,6 +86,13 @@ public class WorkerService implements Service<XnioWorker> {
         return builder.getBindAddressConfigurations();
     }
 
+    /**
+     * Gets the statistics of the I/O threads of the worker, or {@code null} if the worker is not started.
+     */
+    IoThreadStatistics getIoThreadStatistics() {
+        return ioThreadStatistics;
+    }
+
     @Override
     public XnioWorker getValue() throws IllegalStateException, IllegalArgumentException {
         return worker;
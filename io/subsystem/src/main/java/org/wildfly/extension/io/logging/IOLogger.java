@@ -33,6 +33,7 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -75,4 +76,11 @@ public interface IOLogger extends BasicLogger {
 
     @Message(id = 7, value = "Unexpected bind address conflict in resource \"%s\" when attempting to establish binding for destination %s to %s: a binding of %s already existed")
     OperationFailedException unexpectedBindAddressConflict(PathAddress currentAddress, CidrAddress cidrAddress, InetSocketAddress bindAddress, InetSocketAddress existing);
+
+    @LogMessage(level = WARN)
+    @Message(id = 8, value = "A buffer of buffer pool '%s' was garbage collected without being freed; it was allocated at the location in the stack trace")
+    void bufferLeaked(@Cause Throwable allocation, String poolName);
+
+    @Message(id = 9, value = "Buffer was already freed")
+    IllegalStateException bufferFreed();
 }
@@ -0,0 +1,59 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.io;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.xnio.BufferAllocator;
+import org.xnio.ByteBufferSlicePool;
+import org.xnio.Pooled;
+
+/**
+ * Tests of {@link CountingBufferPool}.
+ */
+public class CountingBufferPoolTestCase {
+
+    @Test
+    public void testCounts() {
+        final CountingBufferPool pool = new CountingBufferPool(new ByteBufferSlicePool(BufferAllocator.BYTE_BUFFER_ALLOCATOR, 16, 64));
+        final Pooled<ByteBuffer> first = pool.allocate();
+        final Pooled<ByteBuffer> second = pool.allocate();
+        Assert.assertEquals(16, first.getResource().capacity());
+        Assert.assertEquals(2, pool.getAllocatedCount());
+        Assert.assertEquals(2, pool.getInUseCount());
+
+        first.free();
+        // Releasing a buffer again doesn't count twice
+        first.close();
+        Assert.assertEquals(1, pool.getInUseCount());
+        second.discard();
+        Assert.assertEquals(0, pool.getInUseCount());
+
+        pool.allocate().free();
+        Assert.assertEquals(3, pool.getAllocatedCount());
+        Assert.assertEquals(0, pool.getInUseCount());
+        Assert.assertEquals(2, pool.getPeakInUseCount());
+    }
+}
@@ -57,12 +57,12 @@ public class IOSubsystemTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXml() throws IOException {
-        return readResource("io-2.0.xml");
+        return readResource("io-3.0.xml");
     }
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-io_2_0.xsd";
+        return "schema/wildfly-io_3_0.xsd";
     }
 
     @Override
@@ -96,6 +96,16 @@ public class IOSubsystemTestCase extends AbstractSubsystemBaseTest {
         ModelNode op = Util.createOperation("read-resource", addr);
         op.get("include-runtime").set(true);
         mainServices.executeOperation(op);
+
+        op = Util.getReadAttributeOperation(addr, "io-thread-busy-ratios");
+        ModelNode result = mainServices.executeOperation(op);
+        Assert.assertEquals(result.toString(), "success", result.get("outcome").asString());
+        if (result.hasDefined("result")) {
+            Assert.assertEquals(worker.getIoThreadCount(), result.get("result").keys().size());
+        }
+        op = Util.getReadAttributeOperation(addr, "connection-count");
+        result = mainServices.executeOperation(op);
+        Assert.assertEquals(0, result.get("result").asInt());
     }
 
     @Override
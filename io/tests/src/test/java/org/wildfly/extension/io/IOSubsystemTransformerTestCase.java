@@ -21,6 +21,7 @@ package org.wildfly.extension.io;
 import static org.jboss.as.model.test.ModelTestControllerVersion.EAP_7_0_0;
 import static org.jboss.as.model.test.ModelTestControllerVersion.EAP_7_1_0;
 import static org.junit.Assert.assertTrue;
+import static org.wildfly.extension.io.IOExtension.BUFFER_POOL_PATH;
 import static org.wildfly.extension.io.IOExtension.SUBSYSTEM_PATH;
 import static org.wildfly.extension.io.IOExtension.WORKER_PATH;
 
@@ -100,24 +101,8 @@ public class IOSubsystemTransformerTestCase extends AbstractSubsystemBaseTest {
 
     @Test
     public void testRejectingTransformersEAP_7_0_0() throws Exception {
-        testRejectingTransformers(EAP_7_0_0);
-    }
-
-    private void testRejectingTransformers(ModelTestControllerVersion controllerVersion) throws Exception {
-        ModelVersion modelVersion = controllerVersion.getSubsystemModelVersion(getMainSubsystemName());
-        //Boot up empty controllers with the resources needed for the ops coming from the xml to work
-        KernelServicesBuilder builder = createKernelServicesBuilder(createAdditionalInitialization());
-        builder.createLegacyKernelServicesBuilder(createAdditionalInitialization(), controllerVersion, modelVersion)
-                .addMavenResourceURL(controllerVersion.getCoreMavenGroupId() + ":wildfly-io:" + controllerVersion.getCoreVersion())
-                .dontPersistXml();
-
-        KernelServices mainServices = builder.build();
-        assertTrue(mainServices.isSuccessfulBoot());
-        assertTrue(mainServices.getLegacyServices(modelVersion).isSuccessfulBoot());
-
-        List<ModelNode> ops = builder.parseXmlResource("io-1.1-reject.xml");
         PathAddress subsystemAddress = PathAddress.pathAddress(SUBSYSTEM_PATH);
-        ModelTestUtils.checkFailedTransformedBootOperations(mainServices, modelVersion, ops, new FailedOperationTransformationConfig()
+        testRejectingTransformers(EAP_7_0_0, "io-1.1-reject.xml", new FailedOperationTransformationConfig()
                 .addFailedAttribute(subsystemAddress.append(WORKER_PATH),
                         new FailedOperationTransformationConfig.RejectExpressionsConfig(
                                 WorkerResourceDefinition.STACK_SIZE,
@@ -132,4 +117,34 @@ public class IOSubsystemTransformerTestCase extends AbstractSubsystemBaseTest {
         );
     }
 
+    @Test
+    public void testRejectingTransformersEAP_7_1_0() throws Exception {
+        // thread-local-cache is discarded when false, and rejected when true or an expression
+        PathAddress subsystemAddress = PathAddress.pathAddress(SUBSYSTEM_PATH);
+        testRejectingTransformers(EAP_7_1_0, "io-3.0-reject.xml", new FailedOperationTransformationConfig()
+                .addFailedAttribute(subsystemAddress.append(BUFFER_POOL_PATH.getKey(), "cached"),
+                        new FailedOperationTransformationConfig.NewAttributesConfig(BufferPoolResourceDefinition.THREAD_LOCAL_CACHE)
+                )
+                .addFailedAttribute(subsystemAddress.append(BUFFER_POOL_PATH.getKey(), "expression"),
+                        new FailedOperationTransformationConfig.NewAttributesConfig(BufferPoolResourceDefinition.THREAD_LOCAL_CACHE)
+                )
+        );
+    }
+
+    private void testRejectingTransformers(ModelTestControllerVersion controllerVersion, String xml, FailedOperationTransformationConfig config) throws Exception {
+        ModelVersion modelVersion = controllerVersion.getSubsystemModelVersion(getMainSubsystemName());
+        //Boot up empty controllers with the resources needed for the ops coming from the xml to work
+        KernelServicesBuilder builder = createKernelServicesBuilder(createAdditionalInitialization());
+        builder.createLegacyKernelServicesBuilder(createAdditionalInitialization(), controllerVersion, modelVersion)
+                .addMavenResourceURL(controllerVersion.getCoreMavenGroupId() + ":wildfly-io:" + controllerVersion.getCoreVersion())
+                .dontPersistXml();
+
+        KernelServices mainServices = builder.build();
+        assertTrue(mainServices.isSuccessfulBoot());
+        assertTrue(mainServices.getLegacyServices(modelVersion).isSuccessfulBoot());
+
+        List<ModelNode> ops = builder.parseXmlResource(xml);
+        ModelTestUtils.checkFailedTransformedBootOperations(mainServices, modelVersion, ops, config);
+    }
+
 }
@@ -0,0 +1,188 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.io;
+
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.xnio.BufferAllocator;
+import org.xnio.Pooled;
+
+/**
+ * Tests of {@link ThreadLocalBufferPool}.
+ */
+public class ThreadLocalBufferPoolTestCase {
+
+    private static final int BUFFER_SIZE = 16;
+    private static final int BUFFERS_PER_SLICE = 100;
+
+    @Test
+    public void testAllocate() {
+        final ThreadLocalBufferPool pool = new ThreadLocalBufferPool("test", BufferAllocator.BYTE_BUFFER_ALLOCATOR, BUFFER_SIZE, BUFFERS_PER_SLICE, true);
+        final Pooled<ByteBuffer> pooled = pool.allocate();
+        final ByteBuffer buffer = pooled.getResource();
+        Assert.assertEquals(BUFFER_SIZE, buffer.capacity());
+        Assert.assertEquals(BUFFER_SIZE, buffer.remaining());
+        buffer.put((byte) 1);
+        pooled.free();
+        // Freeing again is harmless
+        pooled.close();
+        try {
+            pooled.getResource();
+            Assert.fail("Buffer should have been freed");
+        } catch (IllegalStateException expected) {
+        }
+
+        // The thread gets its last freed buffer back, cleared
+        final Pooled<ByteBuffer> again = pool.allocate();
+        Assert.assertSame(buffer, again.getResource());
+        Assert.assertEquals(BUFFER_SIZE, again.getResource().remaining());
+        again.free();
+    }
+
+    @Test
+    public void testDistinctBuffers() {
+        final ThreadLocalBufferPool pool = new ThreadLocalBufferPool("test", BufferAllocator.BYTE_BUFFER_ALLOCATOR, BUFFER_SIZE, BUFFERS_PER_SLICE, false);
+        final Map<ByteBuffer, Boolean> buffers = new IdentityHashMap<>();
+        final List<Pooled<ByteBuffer>> allocated = new ArrayList<>();
+        // More than a slice, so the magazine is moved to the depot and taken back
+        for (int i = 0; i < BUFFERS_PER_SLICE * 3; i++) {
+            final Pooled<ByteBuffer> pooled = pool.allocate();
+            Assert.assertNull(buffers.put(pooled.getResource(), Boolean.TRUE));
+            allocated.add(pooled);
+        }
+        for (Pooled<ByteBuffer> pooled : allocated) {
+            pooled.free();
+        }
+        buffers.clear();
+        for (int i = 0; i < BUFFERS_PER_SLICE * 3; i++) {
+            Assert.assertNull(buffers.put(pool.allocate().getResource(), Boolean.TRUE));
+        }
+    }
+
+    @Test
+    public void testCrossThreadFree() throws Exception {
+        final ThreadLocalBufferPool pool = new ThreadLocalBufferPool("test", BufferAllocator.BYTE_BUFFER_ALLOCATOR, BUFFER_SIZE, BUFFERS_PER_SLICE, false);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Map<ByteBuffer, Boolean> buffers = new IdentityHashMap<>();
+            final List<Pooled<ByteBuffer>> allocated = new ArrayList<>();
+            for (int i = 0; i < BUFFERS_PER_SLICE; i++) {
+                final Pooled<ByteBuffer> pooled = pool.allocate();
+                buffers.put(pooled.getResource(), Boolean.TRUE);
+                allocated.add(pooled);
+            }
+            // Another thread frees the buffers, which reach this thread through the depot
+            final Future<?> freed = executor.submit(() -> allocated.forEach(Pooled::free));
+            freed.get();
+            int reused = 0;
+            for (int i = 0; i < BUFFERS_PER_SLICE; i++) {
+                if (buffers.containsKey(pool.allocate().getResource())) {
+                    reused++;
+                }
+            }
+            // All but the buffers still cached by the other thread
+            Assert.assertTrue(String.valueOf(reused), reused >= BUFFERS_PER_SLICE - ThreadLocalBufferPool.MAGAZINE_SIZE);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testTerminatedThread() throws Exception {
+        final CountingAllocator allocator = new CountingAllocator();
+        final ThreadLocalBufferPool pool = new ThreadLocalBufferPool("test", allocator, BUFFER_SIZE, 10, false);
+        final Map<ByteBuffer, Boolean> buffers = new IdentityHashMap<>();
+        final Thread thread = new Thread(() -> {
+            final List<Pooled<ByteBuffer>> allocated = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                allocated.add(pool.allocate());
+            }
+            for (Pooled<ByteBuffer> pooled : allocated) {
+                buffers.put(pooled.getResource(), Boolean.TRUE);
+                pooled.free();
+            }
+        });
+        thread.start();
+        thread.join();
+        Assert.assertEquals(1, allocator.slices.get());
+
+        // The buffers cached by the terminated thread are used before a new slice is allocated
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(buffers.containsKey(pool.allocate().getResource()));
+        }
+        Assert.assertEquals(1, allocator.slices.get());
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        final CountingAllocator allocator = new CountingAllocator();
+        final ThreadLocalBufferPool pool = new ThreadLocalBufferPool("test", allocator, BUFFER_SIZE, 10, false);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // The buffers are cached by a thread which outlives the pool
+            final WeakReference<ByteBuffer> cached = executor.submit(() -> {
+                final Pooled<ByteBuffer> pooled = pool.allocate();
+                final WeakReference<ByteBuffer> reference = new WeakReference<>(pooled.getResource());
+                pooled.free();
+                return reference;
+            }).get();
+
+            pool.close();
+            for (int i = 0; i < 10 && cached.get() != null; i++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+            Assert.assertNull("Buffer still cached after the pool was closed", cached.get());
+
+            // The buffers allocated once the pool is closed are not cached
+            final Pooled<ByteBuffer> pooled = pool.allocate();
+            final ByteBuffer buffer = pooled.getResource();
+            Assert.assertEquals(BUFFER_SIZE, buffer.capacity());
+            pooled.free();
+            Assert.assertNotSame(buffer, pool.allocate().getResource());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static final class CountingAllocator implements BufferAllocator<ByteBuffer> {
+        private final AtomicInteger slices = new AtomicInteger();
+
+        @Override
+        public ByteBuffer allocate(final int size) {
+            slices.incrementAndGet();
+            return ByteBuffer.allocate(size);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.io;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.xnio.BufferAllocator;
+import org.xnio.ByteBufferSlicePool;
+import org.xnio.Pool;
+import org.xnio.Pooled;
+
+/**
+ * Compares the allocate and free throughput of {@link ThreadLocalBufferPool} with {@link ByteBufferSlicePool}, which
+ * the buffer pools use without the thread-local cache, for one thread and for several threads sharing the pool. Each
+ * thread holds a few buffers at a time, like a worker thread reading a request while writing a response. The fastest of
+ * several rounds is printed rather than asserted, since they depend on the machine.
+ */
+@SuppressWarnings("deprecation")
+public class ThreadLocalBufferPoolThroughputTestCase {
+
+    private static final int BUFFER_SIZE = 1024;
+    private static final int BUFFERS_PER_SLICE = 64;
+    private static final int HELD = 4;
+    private static final int ROUNDS = 5;
+    private static final int ITERATIONS = 1000000;
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    @Test
+    public void testOneThread() throws Exception {
+        compare(1);
+    }
+
+    @Test
+    public void testSharedPool() throws Exception {
+        compare(THREADS);
+    }
+
+    private void compare(final int threads) throws Exception {
+        // The first rounds warm up the compiler, the fastest round of each pool is reported
+        long sliceNanos = Long.MAX_VALUE;
+        long threadLocalNanos = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            sliceNanos = Math.min(sliceNanos, run(slicePool(), threads, ITERATIONS));
+            threadLocalNanos = Math.min(threadLocalNanos, run(threadLocalPool(), threads, ITERATIONS));
+        }
+        System.out.printf("allocate and free with %d threads: slice pool %d ops/ms, thread-local pool %d ops/ms%n",
+                threads, opsPerMilli(threads, sliceNanos), opsPerMilli(threads, threadLocalNanos));
+    }
+
+    private static Pool<ByteBuffer> slicePool() {
+        return new ByteBufferSlicePool(BufferAllocator.BYTE_BUFFER_ALLOCATOR, BUFFER_SIZE, BUFFER_SIZE * BUFFERS_PER_SLICE);
+    }
+
+    private static Pool<ByteBuffer> threadLocalPool() {
+        return new ThreadLocalBufferPool("test", BufferAllocator.BYTE_BUFFER_ALLOCATOR, BUFFER_SIZE, BUFFERS_PER_SLICE, false);
+    }
+
+    /**
+     * Runs the iterations in each of the threads at once, returning the time taken by all of them.
+     */
+    private static long run(final Pool<ByteBuffer> pool, final int threads, final int iterations) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CyclicBarrier barrier = new CyclicBarrier(threads + 1);
+            final List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    return allocateAndFree(pool, iterations);
+                }));
+            }
+            barrier.await();
+            final long start = System.nanoTime();
+            for (Future<Long> future : futures) {
+                Assert.assertEquals((long) BUFFER_SIZE * iterations, future.get().longValue());
+            }
+            return System.nanoTime() - start;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long allocateAndFree(final Pool<ByteBuffer> pool, final int iterations) {
+        @SuppressWarnings("unchecked")
+        final Pooled<ByteBuffer>[] held = new Pooled[HELD];
+        long sum = 0;
+        for (int i = 0; i < iterations; i++) {
+            final int slot = i % HELD;
+            if (held[slot] != null) {
+                held[slot].free();
+            }
+            held[slot] = pool.allocate();
+            sum += held[slot].getResource().remaining();
+        }
+        for (Pooled<ByteBuffer> pooled : held) {
+            pooled.free();
+        }
+        return sum;
+    }
+
+    private static long opsPerMilli(final int threads, final long nanos) {
+        return (long) threads * ITERATIONS * TimeUnit.MILLISECONDS.toNanos(1) / Math.max(nanos, 1L);
+    }
+}
@@ -38,7 +38,6 @@ import org.jboss.as.jmx.model.ConfiguredDomains;
 import org.jboss.as.jmx.model.ManagementModelIntegration;
 import org.jboss.as.jmx.model.ModelControllerMBeanServerPlugin;
 import org.jboss.as.server.Services;
-import org.jboss.as.server.jmx.MBeanServerPlugin;
 import org.jboss.as.server.jmx.PluggableMBeanServer;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceController;
@@ -76,7 +75,7 @@ public class MBeanServerService implements Service<PluggableMBeanServer> {
     private final boolean isMasterHc;
     private final JmxEffect jmxEffect;
     private PluggableMBeanServer mBeanServer;
-    private MBeanServerPlugin showModelPlugin;
+    private ModelControllerMBeanServerPlugin showModelPlugin;
 
     private MBeanServerService(final String resolvedDomainName, final String expressionsDomainName, final boolean legacyWithProperPropertyFormat,
                                final boolean coreMBeanSensitivity,
@@ -139,6 +138,10 @@ public class MBeanServerService implements Service<PluggableMBeanServer> {
     /** {@inheritDoc} */
     public synchronized void stop(final StopContext context) {
         mBeanServer.removePlugin(showModelPlugin);
+        if (showModelPlugin != null) {
+            showModelPlugin.stop();
+            showModelPlugin = null;
+        }
         mBeanServer = null;
     }
 
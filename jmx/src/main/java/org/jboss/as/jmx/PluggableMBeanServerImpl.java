@@ -53,9 +53,11 @@ import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.function.Supplier;
 
 import javax.management.Attribute;
@@ -113,7 +115,7 @@ class PluggableMBeanServerImpl implements PluggableMBeanServer {
     private final MBeanServerDelegate rootMBeanServerDelegate;
     private volatile ManagedAuditLogger auditLogger;
 
-    private final Set<MBeanServerPlugin> delegates = new CopyOnWriteArraySet<MBeanServerPlugin>();
+    private volatile RoutingTable delegates = RoutingTable.EMPTY;
 
     private volatile JmxAuthorizer authorizer;
     private volatile Supplier<SecurityIdentity> securityIdentitySupplier;
@@ -150,13 +152,13 @@ class PluggableMBeanServerImpl implements PluggableMBeanServer {
     }
 
     @Override
-    public void addPlugin(MBeanServerPlugin delegate) {
-        delegates.add(delegate);
+    public synchronized void addPlugin(MBeanServerPlugin delegate) {
+        delegates = delegates.add(delegate);
     }
 
     @Override
-    public void removePlugin(MBeanServerPlugin delegate) {
-        delegates.remove(delegate);
+    public synchronized void removePlugin(MBeanServerPlugin delegate) {
+        delegates = delegates.remove(delegate);
     }
 
     @Override
@@ -512,12 +514,10 @@ class PluggableMBeanServerImpl implements PluggableMBeanServer {
         try {
             //No authorization needed to get the names of the domains
             ArrayList<String> result = new ArrayList<String>();
-            if (delegates.size() > 0) {
-                for (MBeanServerPlugin delegate : delegates) {
-                    String[] domains = delegate.getDomains();
-                    if (domains.length > 0) {
-                        result.addAll(Arrays.asList(domains));
-                    }
+            for (MBeanServerPlugin delegate : delegates.plugins) {
+                String[] domains = delegate.getDomains();
+                if (domains.length > 0) {
+                    result.addAll(Arrays.asList(domains));
                 }
             }
             result.addAll(Arrays.asList(rootMBeanServer.getDomains()));
@@ -538,14 +538,12 @@ class PluggableMBeanServerImpl implements PluggableMBeanServer {
         boolean shouldLog = false;
         try {
             int i = 0;
-            if (delegates.size() > 0) {
-                for (MBeanServerPlugin delegate : delegates) {
-                    //Only include the count if the user is authorized to see the beans in the domain
-                    if (authorizeMBeanOperation(delegate, ObjectName.WILDCARD, GET_MBEAN_COUNT, null, JmxAction.Impact.READ_ONLY, false)) {
-                        i += delegate.getMBeanCount();
-                        if (delegate.shouldAuditLog()) {
-                            shouldLog = true;
-                        }
+            for (MBeanServerPlugin delegate : delegates.plugins) {
+                //Only include the count if the user is authorized to see the beans in the domain
+                if (authorizeMBeanOperation(delegate, ObjectName.WILDCARD, GET_MBEAN_COUNT, null, JmxAction.Impact.READ_ONLY, false)) {
+                    i += delegate.getMBeanCount();
+                    if (delegate.shouldAuditLog()) {
+                        shouldLog = true;
                     }
                 }
             }
@@ -761,15 +759,13 @@ class PluggableMBeanServerImpl implements PluggableMBeanServer {
         Boolean shouldAuditLog = null;
         final boolean readOnly = true;
         try {
-            if (delegates.size() > 0) {
-                for (MBeanServerPlugin delegate : delegates) {
-                    if (delegate.accepts(name) && delegate.isRegistered(name)) {
-                        authorizeMBeanOperation(delegate, name, IS_REGISTERED, null, JmxAction.Impact.READ_ONLY);
-                        if (delegate.shouldAuditLog()) {
-                            shouldAuditLog = true;
-                        }
-                        return true;
+            for (MBeanServerPlugin delegate : delegates.getCandidates(name)) {
+                if (delegate.accepts(name) && delegate.isRegistered(name)) {
+                    authorizeMBeanOperation(delegate, name, IS_REGISTERED, null, JmxAction.Impact.READ_ONLY);
+                    if (delegate.shouldAuditLog()) {
+                        shouldAuditLog = true;
                     }
+                    return true;
                 }
             }
             // check if it's registered with the root (a.k.a platform) MBean server
@@ -794,15 +790,13 @@ class PluggableMBeanServerImpl implements PluggableMBeanServer {
         boolean shouldAuditLog = false;
         try {
             Set<ObjectInstance> result = new HashSet<ObjectInstance>();
-            if (delegates.size() > 0) {
-                for (MBeanServerPlugin delegate : delegates) {
-                    if (name == null || (name.getDomain() != null && delegate.accepts(name))) {
-                        //Only include the mbeans if the user is authorized to see the beans in the domain
-                        if (authorizeMBeanOperation(delegate, name, QUERY_MBEANS, null, JmxAction.Impact.READ_ONLY, false)) {
-                            result.addAll(delegate.queryMBeans(name, query));
-                            if (delegate.shouldAuditLog()) {
-                                shouldAuditLog = true;
-                            }
+            for (MBeanServerPlugin delegate : delegates.getCandidates(name)) {
+                if (name == null || (name.getDomain() != null && delegate.accepts(name))) {
+                    //Only include the mbeans if the user is authorized to see the beans in the domain
+                    if (authorizeMBeanOperation(delegate, name, QUERY_MBEANS, null, JmxAction.Impact.READ_ONLY, false)) {
+                        result.addAll(delegate.queryMBeans(name, query));
+                        if (delegate.shouldAuditLog()) {
+                            shouldAuditLog = true;
                         }
                     }
                 }
@@ -830,15 +824,13 @@ class PluggableMBeanServerImpl implements PluggableMBeanServer {
         boolean shouldAuditLog = false;
         try {
             Set<ObjectName> result = new HashSet<ObjectName>();
-            if (delegates.size() > 0) {
-                for (MBeanServerPlugin delegate : delegates) {
-                    if (name == null || (name.getDomain() != null && delegate.accepts(name))) {
-                        //Only include the mbeans if the user is authorized to see the beans in the domain
-                        if (authorizeMBeanOperation(delegate, name, QUERY_NAMES, null, JmxAction.Impact.READ_ONLY, false)) {
-                            result.addAll(delegate.queryNames(name, query));
-                            if (delegate.shouldAuditLog()) {
-                                shouldAuditLog = true;
-                            }
+            for (MBeanServerPlugin delegate : delegates.getCandidates(name)) {
+                if (name == null || (name.getDomain() != null && delegate.accepts(name))) {
+                    //Only include the mbeans if the user is authorized to see the beans in the domain
+                    if (authorizeMBeanOperation(delegate, name, QUERY_NAMES, null, JmxAction.Impact.READ_ONLY, false)) {
+                        result.addAll(delegate.queryNames(name, query));
+                        if (delegate.shouldAuditLog()) {
+                            shouldAuditLog = true;
                         }
                     }
                 }
@@ -904,7 +896,7 @@ class PluggableMBeanServerImpl implements PluggableMBeanServer {
 
         //Find the MBeanServerPlugin delegate which should have been used for the registered delegate
         MBeanServerPlugin shouldHaveUsedDelegate = null;
-        for (MBeanServerPlugin delegate : delegates) {
+        for (MBeanServerPlugin delegate : delegates.getCandidates(registeredName)) {
             if (delegate.accepts(registeredName)) {
                 shouldHaveUsedDelegate = delegate;
             }
@@ -1097,11 +1089,9 @@ class PluggableMBeanServerImpl implements PluggableMBeanServer {
         if (name == null) {
             throw JmxLogger.ROOT_LOGGER.objectNameCantBeNull();
         }
-        if (delegates.size() > 0) {
-            for (MBeanServerPlugin delegate : delegates) {
-                if (delegate.accepts(name) && delegate.isRegistered(name)) {
-                    return delegate;
-                }
+        for (MBeanServerPlugin delegate : delegates.getCandidates(name)) {
+            if (delegate.accepts(name) && delegate.isRegistered(name)) {
+                return delegate;
             }
         }
         if (rootMBeanServer.isRegistered(name)) {
@@ -1115,18 +1105,16 @@ class PluggableMBeanServerImpl implements PluggableMBeanServer {
             return rootMBeanServer;
         }
 
-        if (delegates.size() > 0) {
-            for (MBeanServerPlugin delegate : delegates) {
-                if (delegate.accepts(name)) {
-                    return delegate;
-                }
+        for (MBeanServerPlugin delegate : delegates.getCandidates(name)) {
+            if (delegate.accepts(name)) {
+                return delegate;
             }
         }
         return rootMBeanServer;
     }
 
     private boolean shouldAuditLog(MBeanServerPlugin delegate, boolean readOnly) {
-        if (auditLogger != null) {
+        if (isAuditLogEnabled()) {
             if (delegate == null) {
                 return true;
             }
@@ -1176,7 +1164,19 @@ class PluggableMBeanServerImpl implements PluggableMBeanServer {
         return false;
     }
 
+    /**
+     * Checks whether calls may get audit logged, so the record does not have to be put together when the JMX audit log
+     * is not configured or is disabled.
+     */
+    private boolean isAuditLogEnabled() {
+        final ManagedAuditLogger auditLogger = this.auditLogger;
+        return auditLogger != null && auditLogger != AuditLogger.NO_OP_LOGGER && auditLogger.getLoggerStatus() != AuditLogger.Status.DISABLED;
+    }
+
     void log(boolean readOnly, Throwable error, String methodName, String[] methodSignature, Object...methodParams) {
+        if (!isAuditLogEnabled()) {
+            return;
+        }
         final String userId = securityIdentitySupplier != null ? securityIdentitySupplier.get().getPrincipal().getName() : null;
         if (WildFlySecurityManager.isChecking()) {
             doPrivileged(new LogAction(userId, auditLogger, readOnly, error, methodName, methodSignature, methodParams));
@@ -1249,6 +1249,85 @@ class PluggableMBeanServerImpl implements PluggableMBeanServer {
         return rootMBeanServerDelegate;
     }
 
+    /**
+     * An immutable snapshot of the plugins, indexed by the domains they {@linkplain MBeanServerPlugin#getAcceptedDomains() accept}
+     * so a call for an mbean only asks the plugins which may handle its domain. A new table is created when a plugin is
+     * added or removed.
+     */
+    private static final class RoutingTable {
+
+        static final RoutingTable EMPTY = new RoutingTable(new MBeanServerPlugin[0]);
+
+        /** All plugins in the order they were added */
+        final MBeanServerPlugin[] plugins;
+        /** The plugins which did not tell their domains */
+        private final MBeanServerPlugin[] anyDomain;
+        /** The plugins which may handle each of the known domains, including the ones in anyDomain */
+        private final Map<String, MBeanServerPlugin[]> byDomain;
+
+        private RoutingTable(MBeanServerPlugin[] plugins) {
+            this.plugins = plugins;
+            final List<Set<String>> acceptedDomains = new ArrayList<>(plugins.length);
+            final List<MBeanServerPlugin> anyDomain = new ArrayList<>();
+            final Set<String> domains = new HashSet<>();
+            for (MBeanServerPlugin plugin : plugins) {
+                final Set<String> accepted = plugin.getAcceptedDomains();
+                acceptedDomains.add(accepted);
+                if (accepted == null) {
+                    anyDomain.add(plugin);
+                } else {
+                    domains.addAll(accepted);
+                }
+            }
+            this.anyDomain = anyDomain.toArray(new MBeanServerPlugin[anyDomain.size()]);
+            this.byDomain = new HashMap<>();
+            for (String domain : domains) {
+                final List<MBeanServerPlugin> candidates = new ArrayList<>();
+                for (int i = 0; i < plugins.length; i++) {
+                    final Set<String> accepted = acceptedDomains.get(i);
+                    if (accepted == null || accepted.contains(domain)) {
+                        candidates.add(plugins[i]);
+                    }
+                }
+                byDomain.put(domain, candidates.toArray(new MBeanServerPlugin[candidates.size()]));
+            }
+        }
+
+        RoutingTable add(MBeanServerPlugin plugin) {
+            for (MBeanServerPlugin existing : plugins) {
+                if (existing.equals(plugin)) {
+                    return this;
+                }
+            }
+            final MBeanServerPlugin[] added = Arrays.copyOf(plugins, plugins.length + 1);
+            added[plugins.length] = plugin;
+            return new RoutingTable(added);
+        }
+
+        RoutingTable remove(MBeanServerPlugin plugin) {
+            final List<MBeanServerPlugin> remaining = new ArrayList<>(Arrays.asList(plugins));
+            if (!remaining.remove(plugin)) {
+                return this;
+            }
+            return new RoutingTable(remaining.toArray(new MBeanServerPlugin[remaining.size()]));
+        }
+
+        /**
+         * Gets the plugins which may handle an mbean, in the order they were added. They still need to be asked whether
+         * they {@linkplain MBeanServerPlugin#accepts(ObjectName) accept} the name.
+         *
+         * @param name the name of the mbean. May be {@code null} or a pattern
+         * @return the plugins
+         */
+        MBeanServerPlugin[] getCandidates(ObjectName name) {
+            if (name == null || name.isDomainPattern()) {
+                return plugins;
+            }
+            final MBeanServerPlugin[] candidates = byDomain.get(name.getDomain());
+            return candidates != null ? candidates : anyDomain;
+        }
+    }
+
     static final class LogAction implements PrivilegedAction<Void> {
         final String userId;
         final ManagedAuditLogger auditLogger;
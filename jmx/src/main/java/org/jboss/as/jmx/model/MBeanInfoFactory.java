@@ -48,9 +48,10 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.TYP
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -88,7 +89,6 @@ import org.jboss.as.controller.registry.NotificationEntry;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.registry.OperationEntry.Flag;
 import org.jboss.as.jmx.logging.JmxLogger;
-import org.jboss.as.jmx.model.ChildAddOperationFinder.ChildAddOperationEntry;
 import org.jboss.as.server.deployment.DeploymentUploadStreamAttachmentHandler;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -113,7 +113,6 @@ public class MBeanInfoFactory {
     private final ConfiguredDomains configuredDomains;
     private final MutabilityChecker mutabilityChecker;
     private final ImmutableManagementResourceRegistration resourceRegistration;
-    private final ModelNode providedDescription;
     private final PathAddress pathAddress;
     private final boolean legacy;
 
@@ -124,23 +123,49 @@ public class MBeanInfoFactory {
         this.mutabilityChecker = mutabilityChecker;
         this.legacy = configuredDomains.isLegacyDomain(name);
         this.resourceRegistration = resourceRegistration;
-        DescriptionProvider provider = resourceRegistration.getModelDescription(PathAddress.EMPTY_ADDRESS);
-        providedDescription = provider != null ? provider.getModelDescription(null) : new ModelNode();
         this.pathAddress = address;
     }
 
-    static MBeanInfo createMBeanInfo(final ObjectName name, final TypeConverters converters, final ConfiguredDomains configuredDomains, final MutabilityChecker mutabilityChecker, final PathAddress address, final ImmutableManagementResourceRegistration resourceRegistration) throws InstanceNotFoundException{
-        return new MBeanInfoFactory(name, converters, configuredDomains, mutabilityChecker, address, resourceRegistration).createMBeanInfo();
+    /**
+     * Creates the MBeanInfo of a resource. The parts derived from the resource registration alone, which are the same
+     * for every resource it registers, are taken from the cache.
+     *
+     * @param cache the parts created earlier, keyed by resource registration. Must only be used with the same
+     *              {@code converters}
+     */
+    static MBeanInfo createMBeanInfo(final ObjectName name, final TypeConverters converters, final ConfiguredDomains configuredDomains, final MutabilityChecker mutabilityChecker, final PathAddress address, final ImmutableManagementResourceRegistration resourceRegistration,
+                                     final Map<ImmutableManagementResourceRegistration, ResourceInfo> cache) throws InstanceNotFoundException{
+        final MBeanInfoFactory factory = new MBeanInfoFactory(name, converters, configuredDomains, mutabilityChecker, address, resourceRegistration);
+        final List<Set<?>> signature = ResourceInfo.getSignature(resourceRegistration);
+        ResourceInfo resourceInfo = cache.get(resourceRegistration);
+        // Attributes, operations and children can be registered and unregistered at runtime
+        if (resourceInfo == null || !resourceInfo.signature.equals(signature)) {
+            resourceInfo = factory.createResourceInfo(signature);
+            cache.put(resourceRegistration, resourceInfo);
+        }
+        return factory.createMBeanInfo(resourceInfo);
     }
 
-    private MBeanInfo createMBeanInfo() {
+    private MBeanInfo createMBeanInfo(final ResourceInfo resourceInfo) {
+        final Descriptor mbeanDescriptor = createMBeanDescriptor();
         return new OpenMBeanInfoSupport(ModelControllerMBeanHelper.CLASS_NAME,
-                getDescription(providedDescription),
-                getAttributes(),
+                resourceInfo.description,
+                getAttributes(resourceInfo),
                 getConstructors(),
-                getOperations(),
-                getNotifications(),
-                createMBeanDescriptor());
+                getOperations(resourceInfo, mbeanDescriptor),
+                resourceInfo.notifications,
+                mbeanDescriptor);
+    }
+
+    private ResourceInfo createResourceInfo(final List<Set<?>> signature) {
+        DescriptionProvider provider = resourceRegistration.getModelDescription(PathAddress.EMPTY_ADDRESS);
+        ModelNode providedDescription = provider != null ? provider.getModelDescription(null) : new ModelNode();
+        return new ResourceInfo(signature,
+                getDescription(providedDescription),
+                getAttributeInfos(providedDescription),
+                getOperationInfos(),
+                getChildAddOperationInfos(),
+                getNotifications());
     }
 
 
@@ -155,20 +180,39 @@ public class MBeanInfoFactory {
         return description;
     }
 
-    private OpenMBeanAttributeInfo[] getAttributes() {
-        List<OpenMBeanAttributeInfo> infos = new LinkedList<OpenMBeanAttributeInfo>();
+    private OpenMBeanAttributeInfo[] getAttributes(final ResourceInfo resourceInfo) {
+        final boolean mutable = mutabilityChecker.mutable(pathAddress);
+        final Descriptor expressionsAllowed = createAttributeDescriptor(true);
+        final Descriptor expressionsNotAllowed = createAttributeDescriptor(false);
+        OpenMBeanAttributeInfo[] infos = new OpenMBeanAttributeInfo[resourceInfo.attributes.size()];
+        for (int i = 0; i < infos.length; i++) {
+            final AttributeInfo attribute = resourceInfo.attributes.get(i);
+            infos[i] = new OpenMBeanAttributeInfoSupport(
+                    attribute.name,
+                    attribute.description,
+                    attribute.type,
+                    true,
+                    mutable && attribute.readWrite,
+                    false,
+                    attribute.expressionsAllowed ? expressionsAllowed : expressionsNotAllowed);
+        }
+        return infos;
+    }
+
+    private List<AttributeInfo> getAttributeInfos(ModelNode providedDescription) {
+        List<AttributeInfo> infos = new ArrayList<AttributeInfo>();
         if (providedDescription.hasDefined(ATTRIBUTES)) {
             for (final String name : providedDescription.require(ATTRIBUTES).keys()) {
-                OpenMBeanAttributeInfo attributeInfo = getAttribute(name);
+                AttributeInfo attributeInfo = getAttributeInfo(providedDescription, name);
                 if (attributeInfo != null) {
-                    infos.add(getAttribute(name));
+                    infos.add(attributeInfo);
                 }
             }
         }
-        return infos.toArray(new OpenMBeanAttributeInfo[infos.size()]);
+        return infos;
     }
 
-    private OpenMBeanAttributeInfo getAttribute(String name) {
+    private AttributeInfo getAttributeInfo(ModelNode providedDescription, String name) {
         final String escapedName = NameConverter.convertToCamelCase(name);
         ModelNode attribute = providedDescription.require(ATTRIBUTES).require(name);
         AttributeAccess access = resourceRegistration.getAttributeAccess(PathAddress.EMPTY_ADDRESS, name);
@@ -179,16 +223,14 @@ public class MBeanInfoFactory {
                 return null;
             }
         }
-        final boolean writable = mutabilityChecker.mutable(pathAddress) && (access != null && access.getAccessType() == AccessType.READ_WRITE);
+        final boolean readWrite = access != null && access.getAccessType() == AccessType.READ_WRITE;
 
-        return new OpenMBeanAttributeInfoSupport(
+        return new AttributeInfo(
                 escapedName,
                 getDescription(attribute),
                 converters.convertToMBeanType(attribute),
-                true,
-                writable,
-                false,
-                createAttributeDescriptor(attribute));
+                readWrite,
+                attribute.hasDefined(EXPRESSIONS_ALLOWED) && attribute.get(EXPRESSIONS_ALLOWED).asBoolean());
     }
 
     private OpenMBeanConstructorInfo[] getConstructors() {
@@ -196,16 +238,14 @@ public class MBeanInfoFactory {
         return null;
     }
 
-    private OpenMBeanOperationInfo[] getOperations() {
+    private OpenMBeanOperationInfo[] getOperations(final ResourceInfo resourceInfo, final Descriptor descriptor) {
         final boolean root = pathAddress.size() == 0;
+        final boolean mutable = mutabilityChecker.mutable(pathAddress);
 
         //TODO include inherited/global operations?
         List<OpenMBeanOperationInfo> ops = new ArrayList<OpenMBeanOperationInfo>();
-        for (Map.Entry<String, OperationEntry> entry : resourceRegistration.getOperationDescriptions(PathAddress.EMPTY_ADDRESS, false).entrySet()) {
-            final String opName = entry.getKey();
-            if (opName.equals(ADD) || opName.equals(DESCRIBE)) {
-                continue;
-            }
+        for (OperationInfo operation : resourceInfo.operations) {
+            final String opName = operation.operationName;
             if (root) {
                 if (opName.equals(READ_RESOURCE_OPERATION) || opName.equals(READ_ATTRIBUTE_OPERATION) ||
                         opName.equals(READ_RESOURCE_DESCRIPTION_OPERATION) || opName.equals(READ_CHILDREN_NAMES_OPERATION) ||
@@ -218,27 +258,48 @@ public class MBeanInfoFactory {
                     continue;
                 }
             }
-            final OperationEntry opEntry = entry.getValue();
-            if (mutabilityChecker.mutable(pathAddress) || opEntry.getFlags().contains(Flag.READ_ONLY) || opEntry.getFlags().contains(Flag.RUNTIME_ONLY)) {
-                ops.add(getOperation(NameConverter.convertToCamelCase(entry.getKey()), null, opEntry));
+            if (mutable || operation.readOnly) {
+                ops.add(operation.createOperationInfo(descriptor));
+            }
+        }
+        for (Map.Entry<PathElement, OperationInfo> entry : resourceInfo.childAddOperations.entrySet()) {
+            if (mutabilityChecker.mutable(pathAddress.append(entry.getKey()))) {
+                ops.add(entry.getValue().createOperationInfo(descriptor));
             }
         }
-        addChildAddOperations(ops, resourceRegistration);
         return ops.toArray(new OpenMBeanOperationInfo[ops.size()]);
     }
 
-    private void addChildAddOperations(List<OpenMBeanOperationInfo> ops, ImmutableManagementResourceRegistration resourceRegistration) {
-        for (Map.Entry<PathElement, ChildAddOperationEntry> entry : ChildAddOperationFinder.findAddChildOperations(pathAddress, mutabilityChecker, resourceRegistration).entrySet()) {
-            OpenMBeanParameterInfo addWildcardChildName = null;
-            if (entry.getValue().getElement().isWildcard()) {
-                addWildcardChildName = new OpenMBeanParameterInfoSupport("name", "The name of the " + entry.getValue().getElement().getKey() + " to add.", SimpleType.STRING);
+    private List<OperationInfo> getOperationInfos() {
+        List<OperationInfo> ops = new ArrayList<OperationInfo>();
+        for (Map.Entry<String, OperationEntry> entry : resourceRegistration.getOperationDescriptions(PathAddress.EMPTY_ADDRESS, false).entrySet()) {
+            final String opName = entry.getKey();
+            if (opName.equals(ADD) || opName.equals(DESCRIBE)) {
+                continue;
             }
+            ops.add(getOperation(opName, NameConverter.convertToCamelCase(opName), null, entry.getValue()));
+        }
+        return ops;
+    }
 
-            ops.add(getOperation(NameConverter.createValidAddOperationName(entry.getKey()), addWildcardChildName, entry.getValue().getOperationEntry()));
+    private Map<PathElement, OperationInfo> getChildAddOperationInfos() {
+        // Whether the children are mutable depends on the address of the resource, so check that for each resource
+        Map<PathElement, OperationInfo> ops = new LinkedHashMap<PathElement, OperationInfo>();
+        for (PathElement childElement : resourceRegistration.getChildAddresses(PathAddress.EMPTY_ADDRESS)) {
+            final ImmutableManagementResourceRegistration childReg = resourceRegistration.getSubModel(PathAddress.pathAddress(childElement));
+            final OperationEntry childAdd = childReg.getOperationDescriptions(PathAddress.EMPTY_ADDRESS, false).get(ADD);
+            if (childAdd != null) {
+                OpenMBeanParameterInfo addWildcardChildName = null;
+                if (childElement.isWildcard()) {
+                    addWildcardChildName = new OpenMBeanParameterInfoSupport("name", "The name of the " + childElement.getKey() + " to add.", SimpleType.STRING);
+                }
+                ops.put(childElement, getOperation(ADD, NameConverter.createValidAddOperationName(childElement), addWildcardChildName, childAdd));
+            }
         }
+        return ops;
     }
 
-    private OpenMBeanOperationInfo getOperation(String name, OpenMBeanParameterInfo addWildcardChildName, OperationEntry entry) {
+    private OperationInfo getOperation(String operationName, String name, OpenMBeanParameterInfo addWildcardChildName, OperationEntry entry) {
         ModelNode opNode = entry.getDescriptionProvider().getModelDescription(null);
         OpenMBeanParameterInfo[] params = getParameterInfos(opNode);
         if (addWildcardChildName != null) {
@@ -247,13 +308,14 @@ public class MBeanInfoFactory {
             System.arraycopy(params, 0, newParams, 1, params.length);
             params = newParams;
         }
-        return new OpenMBeanOperationInfoSupport(
+        return new OperationInfo(
+                operationName,
                 name,
                 getDescription(opNode),
                 params,
                 getReturnType(opNode),
                 entry.getFlags().contains(Flag.READ_ONLY) ? MBeanOperationInfo.INFO : MBeanOperationInfo.UNKNOWN,
-                createOperationDescriptor());
+                entry.getFlags().contains(Flag.READ_ONLY) || entry.getFlags().contains(Flag.RUNTIME_ONLY));
     }
 
     private OpenMBeanParameterInfo[] getParameterInfos(ModelNode opNode) {
@@ -377,22 +439,15 @@ public class MBeanInfoFactory {
         return new ImmutableDescriptor(descriptions);
     }
 
-    private Descriptor createAttributeDescriptor(ModelNode attribute) {
+    private Descriptor createAttributeDescriptor(boolean allowExpressions) {
         Map<String, String> descriptions = new HashMap<String, String>();
         addMBeanExpressionSupport(descriptions);
-        Boolean allowExpressions = attribute.hasDefined(EXPRESSIONS_ALLOWED) && attribute.get(EXPRESSIONS_ALLOWED).asBoolean();
-        descriptions.put(DESC_EXPRESSIONS_ALLOWED, allowExpressions.toString());
+        descriptions.put(DESC_EXPRESSIONS_ALLOWED, String.valueOf(allowExpressions));
         descriptions.put(DESC_EXPRESSIONS_ALLOWED_DESC, allowExpressions ?
                 JmxLogger.ROOT_LOGGER.descriptorAttributeExpressionsAllowedTrue() : JmxLogger.ROOT_LOGGER.descriptorAttributeExpressionsAllowedFalse());
         return new ImmutableDescriptor(descriptions);
     }
 
-    private Descriptor createOperationDescriptor() {
-        Map<String, String> descriptions = new HashMap<String, String>();
-        addMBeanExpressionSupport(descriptions);
-        return new ImmutableDescriptor(descriptions);
-    }
-
     private void addMBeanExpressionSupport(Map<String, String> descriptions) {
         if (legacy) {
             descriptions.put(DESC_MBEAN_EXPR, "true");
@@ -412,4 +467,75 @@ public class MBeanInfoFactory {
             }
         }
     }
+
+    /**
+     * The parts of the MBeanInfo that only depend on the resource registration.
+     */
+    static final class ResourceInfo {
+        private final List<Set<?>> signature;
+        private final String description;
+        private final List<AttributeInfo> attributes;
+        private final List<OperationInfo> operations;
+        private final Map<PathElement, OperationInfo> childAddOperations;
+        private final MBeanNotificationInfo[] notifications;
+
+        private ResourceInfo(List<Set<?>> signature, String description, List<AttributeInfo> attributes, List<OperationInfo> operations,
+                             Map<PathElement, OperationInfo> childAddOperations, MBeanNotificationInfo[] notifications) {
+            this.signature = signature;
+            this.description = description;
+            this.attributes = attributes;
+            this.operations = operations;
+            this.childAddOperations = childAddOperations;
+            this.notifications = notifications;
+        }
+
+        private static List<Set<?>> getSignature(ImmutableManagementResourceRegistration resourceRegistration) {
+            return Arrays.<Set<?>>asList(
+                    resourceRegistration.getAttributeNames(PathAddress.EMPTY_ADDRESS),
+                    resourceRegistration.getOperationDescriptions(PathAddress.EMPTY_ADDRESS, false).keySet(),
+                    resourceRegistration.getChildAddresses(PathAddress.EMPTY_ADDRESS),
+                    resourceRegistration.getNotificationDescriptions(PathAddress.EMPTY_ADDRESS, true).keySet());
+        }
+    }
+
+    private static final class AttributeInfo {
+        private final String name;
+        private final String description;
+        private final OpenType<?> type;
+        private final boolean readWrite;
+        private final boolean expressionsAllowed;
+
+        private AttributeInfo(String name, String description, OpenType<?> type, boolean readWrite, boolean expressionsAllowed) {
+            this.name = name;
+            this.description = description;
+            this.type = type;
+            this.readWrite = readWrite;
+            this.expressionsAllowed = expressionsAllowed;
+        }
+    }
+
+    private static final class OperationInfo {
+        private final String operationName;
+        private final String name;
+        private final String description;
+        private final OpenMBeanParameterInfo[] params;
+        private final OpenType<?> returnType;
+        private final int impact;
+        private final boolean readOnly;
+
+        private OperationInfo(String operationName, String name, String description, OpenMBeanParameterInfo[] params,
+                              OpenType<?> returnType, int impact, boolean readOnly) {
+            this.operationName = operationName;
+            this.name = name;
+            this.description = description;
+            this.params = params;
+            this.returnType = returnType;
+            this.impact = impact;
+            this.readOnly = readOnly;
+        }
+
+        private OpenMBeanOperationInfo createOperationInfo(Descriptor descriptor) {
+            return new OpenMBeanOperationInfoSupport(name, description, params, returnType, impact, descriptor);
+        }
+    }
 }
@@ -24,23 +24,32 @@ package org.jboss.as.jmx.model;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_MECHANISM;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES_ONLY;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_DEFAULTS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REPLY_PROPERTIES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REQUEST_PROPERTIES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
 
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import javax.management.Attribute;
 import javax.management.AttributeList;
@@ -64,6 +73,7 @@ import org.jboss.as.controller.ModelController.OperationTransactionControl;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.descriptions.DescriptionProvider;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.registry.OperationEntry.Flag;
@@ -94,6 +104,12 @@ public class ModelControllerMBeanHelper {
     private final String domain;
     private final ObjectInstance rootObjectInstance;
     private final ManagementModelIntegration.ManagementModelProvider managementModelProvider;
+    // The attribute descriptions of each resource registration, which would otherwise be resolved for every attribute read
+    private final Map<ImmutableManagementResourceRegistration, AttributeDescriptions> attributeDescriptions =
+            Collections.synchronizedMap(new WeakHashMap<ImmutableManagementResourceRegistration, AttributeDescriptions>());
+    private final Map<ImmutableManagementResourceRegistration, MBeanInfoFactory.ResourceInfo> mbeanInfos =
+            Collections.synchronizedMap(new WeakHashMap<ImmutableManagementResourceRegistration, MBeanInfoFactory.ResourceInfo>());
+    private final ObjectNameIndex objectNameIndex;
 
     ModelControllerMBeanHelper(TypeConverters converters, ConfiguredDomains configuredDomains, String domain,
                                ModelController controller, MutabilityChecker mutabilityChecker,
@@ -106,6 +122,16 @@ public class ModelControllerMBeanHelper {
         this.mutabilityChecker = mutabilityChecker;
         this.managementModelProvider = managementModelProvider;
         this.rootObjectInstance = ModelControllerMBeanHelper.createRootObjectInstance(domain);
+        this.objectNameIndex = new ObjectNameIndex(domain);
+    }
+
+    /**
+     * Notifies the helper that a resource was removed from the model.
+     *
+     * @param address the address of the resource
+     */
+    void resourceRemoved(PathAddress address) {
+        objectNameIndex.remove(address);
     }
 
     int getMBeanCount() {
@@ -166,7 +192,7 @@ public class ModelControllerMBeanHelper {
             result = new HashSet<>(basic.size());
             for (ObjectInstance oi : basic) {
 
-                MBeanServer oldServer = setQueryExpServer(query, mbeanServer);
+                MBeanServer oldServer = setQueryExpServer(query, createQueryMBeanServer(mbeanServer, oi.getObjectName()));
                 try {
                     if (query.apply(oi.getObjectName())) {
                         result.add(oi);
@@ -209,7 +235,7 @@ public class ModelControllerMBeanHelper {
         } else {
             result = new HashSet<>(basic.size());
             for (ObjectName on : basic) {
-                MBeanServer oldServer = setQueryExpServer(query, mbeanServer);
+                MBeanServer oldServer = setQueryExpServer(query, createQueryMBeanServer(mbeanServer, on));
                 try {
                     if (query.apply(on)) {
                         result.add(on);
@@ -224,6 +250,15 @@ public class ModelControllerMBeanHelper {
         return result;
     }
 
+    /**
+     * Wraps the mbean server a query is evaluated against so that the attributes of the mbean being matched are all
+     * read with a single operation, however many of them the query refers to.
+     */
+    private MBeanServer createQueryMBeanServer(final MBeanServer mbeanServer, final ObjectName name) {
+        return (MBeanServer) Proxy.newProxyInstance(MBeanServer.class.getClassLoader(), new Class<?>[] {MBeanServer.class},
+                new QueryMBeanServerHandler(mbeanServer, name));
+    }
+
     /**  Set the mbean server on the QueryExp and try and pass back any previously set one */
     private static MBeanServer setQueryExpServer(QueryExp query, MBeanServer toSet) {
         // We assume the QueryExp is a QueryEval subclass or uses the QueryEval thread local
@@ -236,11 +271,11 @@ public class ModelControllerMBeanHelper {
 
 
     PathAddress resolvePathAddress(final ObjectName name) {
-        return ObjectNameAddressUtil.resolvePathAddress(rootObjectInstance.getObjectName(), getRootResourceAndRegistration().getResource(), name);
+        return objectNameIndex.resolvePathAddress(rootObjectInstance.getObjectName(), getRootResourceAndRegistration().getResource(), name);
     }
 
     private PathAddress resolvePathAddress(final ObjectName name, ManagementModelIntegration.ResourceAndRegistration reg) {
-        return ObjectNameAddressUtil.resolvePathAddress(rootObjectInstance.getObjectName(), reg.getResource(), name);
+        return objectNameIndex.resolvePathAddress(rootObjectInstance.getObjectName(), reg.getResource(), name);
     }
 
     /**
@@ -262,7 +297,7 @@ public class ModelControllerMBeanHelper {
         }
         // Ensure the resource is addressable; fail if not
         accessControlUtil.getResourceAccessWithInstanceNotFoundExceptionIfNotAccessible(name, address, true);
-        return MBeanInfoFactory.createMBeanInfo(name, converters, configuredDomains, mutabilityChecker, address, getMBeanRegistration(address, reg));
+        return MBeanInfoFactory.createMBeanInfo(name, converters, configuredDomains, mutabilityChecker, address, getMBeanRegistration(address, reg), mbeanInfos);
     }
 
     Object getAttribute(final ObjectName name, final String attribute)  throws AttributeNotFoundException, InstanceNotFoundException, ReflectionException {
@@ -282,10 +317,25 @@ public class ModelControllerMBeanHelper {
             throw JmxLogger.ROOT_LOGGER.mbeanNotFound(name);
         }
         final ResourceAccessControl accessControl = accessControlUtil.getResourceAccessWithInstanceNotFoundExceptionIfNotAccessible(name, address, false);
+        final ImmutableManagementResourceRegistration registration = getMBeanRegistration(address, reg);
+        // Runtime attributes are only included in the read-resource if it saves reading several of them one by one,
+        // as including them has every runtime attribute of the resource calculated
+        int runtimeAttributes = 0;
+        final ModelNode descriptions = getAttributeDescriptions(address, registration);
+        for (String attribute : attributes) {
+            try {
+                if (isRuntimeAttribute(registration, findAttributeName(descriptions, attribute))) {
+                    runtimeAttributes++;
+                }
+            } catch (AttributeNotFoundException e) {
+                throw new ReflectionException(e);
+            }
+        }
+        final AttributeReader reader = new AttributeReader(address, registration, accessControl, runtimeAttributes > 1);
         AttributeList list = new AttributeList();
         for (String attribute : attributes) {
             try {
-                list.add(new Attribute(attribute, getAttribute(reg, address, attribute, accessControl)));
+                list.add(new Attribute(attribute, reader.read(attribute)));
             } catch (AttributeNotFoundException e) {
                 throw new ReflectionException(e);
             }
@@ -295,18 +345,20 @@ public class ModelControllerMBeanHelper {
 
     private Object getAttribute(final ManagementModelIntegration.ResourceAndRegistration reg, final PathAddress address, final String attribute, final ResourceAccessControl accessControl)  throws ReflectionException, AttributeNotFoundException, InstanceNotFoundException {
         final ImmutableManagementResourceRegistration registration = getMBeanRegistration(address, reg);
-        final DescriptionProvider provider = registration.getModelDescription(PathAddress.EMPTY_ADDRESS);
-        if (provider == null) {
-            throw JmxLogger.ROOT_LOGGER.descriptionProviderNotFound(address);
-        }
-        final ModelNode description = provider.getModelDescription(null);
-        final String attributeName = findAttributeName(description.get(ATTRIBUTES), attribute);
+        final ModelNode descriptions = getAttributeDescriptions(address, registration);
+        final String attributeName = findReadableAttributeName(descriptions, attribute, accessControl);
+        return converters.fromModelNode(descriptions.require(attributeName).clone(), readAttribute(address, attributeName));
+    }
 
+    private String findReadableAttributeName(final ModelNode descriptions, final String attribute, final ResourceAccessControl accessControl) throws AttributeNotFoundException {
+        final String attributeName = findAttributeName(descriptions, attribute);
         if (!accessControl.isReadableAttribute(attributeName)) {
             throw JmxLogger.ROOT_LOGGER.notAuthorizedToReadAttribute(attributeName);
         }
+        return attributeName;
+    }
 
-
+    private ModelNode readAttribute(final PathAddress address, final String attributeName) throws AttributeNotFoundException {
         ModelNode op = new ModelNode();
         op.get(OP).set(READ_ATTRIBUTE_OPERATION);
         op.get(OP_ADDR).set(address.toModelNode());
@@ -316,8 +368,31 @@ public class ModelControllerMBeanHelper {
         if (error != null) {
             throw new AttributeNotFoundException(error);
         }
+        return result.get(RESULT);
+    }
+
+    /**
+     * Gets the descriptions of the attributes of a resource, keyed by attribute name. The returned node is shared and
+     * must not be modified.
+     */
+    private ModelNode getAttributeDescriptions(final PathAddress address, final ImmutableManagementResourceRegistration registration) throws InstanceNotFoundException {
+        final Set<String> attributeNames = registration.getAttributeNames(PathAddress.EMPTY_ADDRESS);
+        AttributeDescriptions cached = attributeDescriptions.get(registration);
+        // Attributes can be registered and unregistered at runtime, which makes the cached description stale
+        if (cached == null || !cached.attributeNames.equals(attributeNames)) {
+            final DescriptionProvider provider = registration.getModelDescription(PathAddress.EMPTY_ADDRESS);
+            if (provider == null) {
+                throw JmxLogger.ROOT_LOGGER.descriptionProviderNotFound(address);
+            }
+            cached = new AttributeDescriptions(attributeNames, provider.getModelDescription(null).get(ATTRIBUTES));
+            attributeDescriptions.put(registration, cached);
+        }
+        return cached.descriptions;
+    }
 
-        return converters.fromModelNode(description.require(ATTRIBUTES).require(attributeName), result.get(RESULT));
+    private static boolean isRuntimeAttribute(final ImmutableManagementResourceRegistration registration, final String attributeName) {
+        final AttributeAccess access = registration.getAttributeAccess(PathAddress.EMPTY_ADDRESS, attributeName);
+        return access != null && access.getStorageType() == AttributeAccess.Storage.RUNTIME;
     }
 
 
@@ -356,12 +431,8 @@ public class ModelControllerMBeanHelper {
 
     private void setAttribute(final ManagementModelIntegration.ResourceAndRegistration reg, final PathAddress address, final Attribute attribute, ResourceAccessControl accessControl)  throws InvalidAttributeValueException, AttributeNotFoundException, InstanceNotFoundException {
         final ImmutableManagementResourceRegistration registration = getMBeanRegistration(address, reg);
-        final DescriptionProvider provider = registration.getModelDescription(PathAddress.EMPTY_ADDRESS);
-        if (provider == null) {
-            throw JmxLogger.ROOT_LOGGER.descriptionProviderNotFound(address);
-        }
-        final ModelNode description = provider.getModelDescription(null);
-        final String attributeName = findAttributeName(description.get(ATTRIBUTES), attribute.getName());
+        final ModelNode descriptions = getAttributeDescriptions(address, registration);
+        final String attributeName = findAttributeName(descriptions, attribute.getName());
 
         if (!mutabilityChecker.mutable(address)) {
             throw JmxLogger.ROOT_LOGGER.attributeNotWritable(attribute);
@@ -376,7 +447,7 @@ public class ModelControllerMBeanHelper {
         op.get(OP_ADDR).set(address.toModelNode());
         op.get(NAME).set(attributeName);
         try {
-            op.get(VALUE).set(converters.toModelNode(description.require(ATTRIBUTES).require(attributeName), attribute.getValue()));
+            op.get(VALUE).set(converters.toModelNode(descriptions.require(attributeName).clone(), attribute.getValue()));
         } catch (ClassCastException e) {
             throw JmxLogger.ROOT_LOGGER.invalidAttributeType(e, attribute.getName());
         }
@@ -630,7 +701,7 @@ public class ModelControllerMBeanHelper {
             }
 
             ObjectName result = null;
-            ObjectName toMatch = ObjectNameAddressUtil.createObjectName(domain, address, creationContext);
+            ObjectName toMatch = objectNameIndex.getObjectName(address, creationContext);
             if (baseName == null) {
                 result = toMatch;
             } else if (address.size() == 0) {
@@ -668,4 +739,101 @@ public class ModelControllerMBeanHelper {
             return result;
         }
     }
+
+    private static final class AttributeDescriptions {
+        private final Set<String> attributeNames;
+        private final ModelNode descriptions;
+
+        private AttributeDescriptions(final Set<String> attributeNames, final ModelNode descriptions) {
+            this.attributeNames = attributeNames;
+            this.descriptions = descriptions;
+        }
+    }
+
+    /**
+     * Reads the attributes of a resource with a single read-resource operation, executed when the first attribute is
+     * read. Attributes missing from its result, e.g. as the read-resource failed, are read one by one.
+     */
+    private final class AttributeReader {
+        private final PathAddress address;
+        private final ImmutableManagementResourceRegistration registration;
+        private final ResourceAccessControl accessControl;
+        private final boolean includeRuntime;
+        private ModelNode values;
+
+        private AttributeReader(final PathAddress address, final ImmutableManagementResourceRegistration registration,
+                                final ResourceAccessControl accessControl, final boolean includeRuntime) {
+            this.address = address;
+            this.registration = registration;
+            this.accessControl = accessControl;
+            this.includeRuntime = includeRuntime;
+        }
+
+        Object read(final String attribute) throws ReflectionException, AttributeNotFoundException, InstanceNotFoundException {
+            final ModelNode descriptions = getAttributeDescriptions(address, registration);
+            final String attributeName = findReadableAttributeName(descriptions, attribute, accessControl);
+            final ModelNode value;
+            if (!includeRuntime && isRuntimeAttribute(registration, attributeName)) {
+                value = readAttribute(address, attributeName);
+            } else {
+                final ModelNode values = readResource();
+                value = values.has(attributeName) ? values.get(attributeName) : readAttribute(address, attributeName);
+            }
+            return converters.fromModelNode(descriptions.require(attributeName).clone(), value);
+        }
+
+        private ModelNode readResource() {
+            if (values == null) {
+                ModelNode op = new ModelNode();
+                op.get(OP).set(READ_RESOURCE_OPERATION);
+                op.get(OP_ADDR).set(address.toModelNode());
+                op.get(ATTRIBUTES_ONLY).set(true);
+                op.get(INCLUDE_RUNTIME).set(includeRuntime);
+                op.get(INCLUDE_DEFAULTS).set(true);
+                ModelNode result = execute(op);
+                values = getFailureDescription(result) == null && result.hasDefined(RESULT) ? result.get(RESULT) : new ModelNode();
+            }
+            return values;
+        }
+    }
+
+    /**
+     * Serves the attributes of the mbean a query is evaluated for from an {@link AttributeReader}, and passes any other
+     * call on to the real mbean server.
+     */
+    private final class QueryMBeanServerHandler implements InvocationHandler {
+        private final MBeanServer delegate;
+        private final ObjectName name;
+        private AttributeReader reader;
+
+        private QueryMBeanServerHandler(final MBeanServer delegate, final ObjectName name) {
+            this.delegate = delegate;
+            this.name = name;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if ("getAttribute".equals(method.getName()) && args.length == 2 && name.equals(args[0]) && args[1] instanceof String) {
+                return getReader().read((String) args[1]);
+            }
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private AttributeReader getReader() throws InstanceNotFoundException {
+            if (reader == null) {
+                final ManagementModelIntegration.ResourceAndRegistration reg = getRootResourceAndRegistration();
+                final PathAddress address = resolvePathAddress(name, reg);
+                if (address == null) {
+                    throw JmxLogger.ROOT_LOGGER.mbeanNotFound(name);
+                }
+                final ResourceAccessControl accessControl = accessControlUtil.getResourceAccessWithInstanceNotFoundExceptionIfNotAccessible(name, address, false);
+                reader = new AttributeReader(address, getMBeanRegistration(address, reg), accessControl, false);
+            }
+            return reader;
+        }
+    }
 }
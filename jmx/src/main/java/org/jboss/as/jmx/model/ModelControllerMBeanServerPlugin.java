@@ -24,7 +24,10 @@ package org.jboss.as.jmx.model;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESOURCE_ADDED_NOTIFICATION;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
@@ -77,6 +80,8 @@ public class ModelControllerMBeanServerPlugin extends BaseMBeanServerPlugin {
     private final ModelControllerMBeanHelper exprHelper;
     private final NotificationHandlerRegistry notificationRegistry;
     private final AtomicLong notificationSequenceNumber = new AtomicLong(0);
+    private final ResourceRemovedNotificationHandler removedHandler;
+    private final List<ResourceRegistrationNotificationHandler> registrationHandlers = new ArrayList<>();
 
     public ModelControllerMBeanServerPlugin(final MBeanServer mbeanServer,
                                             final ConfiguredDomains configuredDomains, ModelController controller, NotificationHandlerRegistry notificationHandlerRegistry, final MBeanServerDelegate delegate,
@@ -95,6 +100,10 @@ public class ModelControllerMBeanServerPlugin extends BaseMBeanServerPlugin {
                 new ModelControllerMBeanHelper(TypeConverters.createExpressionTypeConverters(), configuredDomains,
                         configuredDomains.getExprDomain(), controller, mutabilityChecker, managementModelProvider) : null;
 
+        // Keep the helpers' ObjectName indexes free of removed resources
+        removedHandler = new ResourceRemovedNotificationHandler(legacyHelper, exprHelper);
+        notificationRegistry.registerNotificationHandler(NotificationHandlerRegistration.ANY_ADDRESS, removedHandler, removedHandler);
+
         // JMX notifications for MBean registration/unregistration are emitted by the MBeanServerDelegate and not by the
         // MBeans itself. If we have a reference on the delegate, we add a listener for any WildFly resource address
         // that converts the resource-added and resource-removed notifications to MBeanServerNotification and send them
@@ -103,10 +112,22 @@ public class ModelControllerMBeanServerPlugin extends BaseMBeanServerPlugin {
             for (String domain : configuredDomains.getDomains()) {
                 ResourceRegistrationNotificationHandler handler = new ResourceRegistrationNotificationHandler(delegate, domain);
                 notificationRegistry.registerNotificationHandler(NotificationHandlerRegistration.ANY_ADDRESS, handler, handler);
+                registrationHandlers.add(handler);
             }
         }
     }
 
+    /**
+     * Unregisters the notification handlers registered by this plugin, once it is removed from the MBeanServer.
+     */
+    public void stop() {
+        notificationRegistry.unregisterNotificationHandler(NotificationHandlerRegistration.ANY_ADDRESS, removedHandler, removedHandler);
+        for (ResourceRegistrationNotificationHandler handler : registrationHandlers) {
+            notificationRegistry.unregisterNotificationHandler(NotificationHandlerRegistration.ANY_ADDRESS, handler, handler);
+        }
+        registrationHandlers.clear();
+    }
+
     @Override
     public boolean accepts(ObjectName objectName) {
         String domain = objectName.getDomain();
@@ -126,6 +147,11 @@ public class ModelControllerMBeanServerPlugin extends BaseMBeanServerPlugin {
         return false;
     }
 
+    @Override
+    public Set<String> getAcceptedDomains() {
+        return new HashSet<>(Arrays.asList(configuredDomains.getDomains()));
+    }
+
     @Override
     public boolean shouldAuditLog() {
         return false;
@@ -437,6 +463,32 @@ public class ModelControllerMBeanServerPlugin extends BaseMBeanServerPlugin {
         }
     }
 
+    /**
+     * Handle resource-removed notifications by dropping the removed resources from the helpers' ObjectName indexes
+     */
+    private static class ResourceRemovedNotificationHandler implements NotificationHandler, NotificationFilter {
+
+        private final ModelControllerMBeanHelper[] helpers;
+
+        private ResourceRemovedNotificationHandler(ModelControllerMBeanHelper... helpers) {
+            this.helpers = helpers;
+        }
+
+        @Override
+        public void handleNotification(Notification notification) {
+            for (ModelControllerMBeanHelper helper : helpers) {
+                if (helper != null) {
+                    helper.resourceRemoved(notification.getSource());
+                }
+            }
+        }
+
+        @Override
+        public boolean isNotificationEnabled(Notification notification) {
+            return notification.getType().equals(ModelDescriptionConstants.RESOURCE_REMOVED_NOTIFICATION);
+        }
+    }
+
     private static boolean isResourceAddedOrRemovedNotification(Notification notification) {
         return notification.getType().equals(RESOURCE_ADDED_NOTIFICATION) ||
                 notification.getType().equals(ModelDescriptionConstants.RESOURCE_REMOVED_NOTIFICATION);
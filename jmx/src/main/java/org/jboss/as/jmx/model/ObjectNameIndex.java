@@ -0,0 +1,211 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jmx.model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.management.ObjectName;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.registry.Resource;
+
+/**
+ * Maps the addresses of the resources of a JMX domain to their ObjectNames and back, so neither has to be worked out
+ * again each time a resource is queried or accessed.
+ * <p>
+ * The entries are kept in a tree of the indexed addresses, so that the entries of a removed resource and of its
+ * children are dropped without looking at the other entries. Entries are dropped when the resource-removed
+ * notification for their resource, or for one of its parents, is received. Not every resource emits notifications,
+ * e.g. runtime resources registered by deployments, so a resolved address is also checked against the model before
+ * it is used, and the index is cleared once it holds {@link #MAX_ENTRIES} entries.
+ */
+class ObjectNameIndex {
+
+    static final int MAX_ENTRIES = 10000;
+
+    private final String domain;
+    private final int maxEntries;
+    // Guarded by this
+    private final Node root = new Node();
+    private final Map<ObjectName, PathAddress> addresses = new HashMap<>();
+    private int size;
+
+    ObjectNameIndex(final String domain) {
+        this(domain, MAX_ENTRIES);
+    }
+
+    ObjectNameIndex(final String domain, final int maxEntries) {
+        this.domain = domain;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Gets the ObjectName of a resource, creating it if it is not indexed yet.
+     *
+     * @param address the address of the resource
+     * @param context the context to create the ObjectName with. May be {@code null}
+     *
+     * @return the ObjectName
+     */
+    ObjectName getObjectName(final PathAddress address, final ObjectNameAddressUtil.ObjectNameCreationContext context) {
+        synchronized (this) {
+            final Node node = find(address);
+            if (node != null && node.name != null) {
+                return node.name;
+            }
+        }
+        final ObjectName name = ObjectNameAddressUtil.createObjectName(domain, address, context);
+        synchronized (this) {
+            put(address, name);
+        }
+        return name;
+    }
+
+    /**
+     * Gets the address of the resource with an ObjectName.
+     *
+     * @param domainRoot   the ObjectName of the root resource
+     * @param rootResource the root resource of the model
+     * @param name         the ObjectName
+     *
+     * @return the address or {@code null} if no resource has the ObjectName
+     */
+    PathAddress resolvePathAddress(final ObjectName domainRoot, final Resource rootResource, final ObjectName name) {
+        PathAddress address;
+        synchronized (this) {
+            address = addresses.get(name);
+        }
+        if (address != null && exists(rootResource, address)) {
+            return address;
+        }
+        address = ObjectNameAddressUtil.resolvePathAddress(domainRoot, rootResource, name);
+        if (address != null) {
+            synchronized (this) {
+                put(address, name);
+            }
+        }
+        return address;
+    }
+
+    /**
+     * Drops the entries of a removed resource and of its children.
+     *
+     * @param removed the address of the removed resource
+     */
+    synchronized void remove(final PathAddress removed) {
+        if (removed.size() == 0) {
+            clear();
+            return;
+        }
+        final Node parent = find(removed.getParent());
+        final Node node = parent == null || parent.children == null ? null : parent.children.remove(removed.getLastElement());
+        if (node == null) {
+            return;
+        }
+        final Deque<Node> nodes = new ArrayDeque<>();
+        nodes.push(node);
+        while (!nodes.isEmpty()) {
+            final Node current = nodes.pop();
+            if (current.name != null) {
+                addresses.remove(current.name);
+                size--;
+            }
+            if (current.children != null) {
+                for (Node child : current.children.values()) {
+                    nodes.push(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of indexed resources.
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    private void put(final PathAddress address, final ObjectName name) {
+        Node node = find(address);
+        if (node != null && node.name != null) {
+            if (node.name.equals(name)) {
+                return;
+            }
+            addresses.remove(node.name);
+            size--;
+        } else if (size >= maxEntries) {
+            clear();
+            node = null;
+        }
+        if (node == null) {
+            node = root;
+            for (PathElement element : address) {
+                if (node.children == null) {
+                    node.children = new HashMap<>();
+                }
+                node = node.children.computeIfAbsent(element, e -> new Node());
+            }
+        }
+        node.name = name;
+        addresses.put(name, address);
+        size++;
+    }
+
+    private Node find(final PathAddress address) {
+        Node node = root;
+        for (PathElement element : address) {
+            node = node.children == null ? null : node.children.get(element);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private void clear() {
+        root.name = null;
+        root.children = null;
+        addresses.clear();
+        size = 0;
+    }
+
+    private static boolean exists(final Resource rootResource, final PathAddress address) {
+        Resource current = rootResource;
+        for (PathElement element : address) {
+            current = current.getChild(element);
+            if (current == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Node {
+        private ObjectName name;
+        private Map<PathElement, Node> children;
+    }
+}
@@ -601,6 +601,29 @@ public class ModelControllerMBeanTestCase extends AbstractSubsystemTest {
         Assert.assertEquals(BigDecimal.valueOf(2.0), compositeData.get("bigdecimal-value"));
     }
 
+    @Test
+    public void testGetAttributesStandalone() throws Exception {
+        MBeanServerConnection connection = setupAndGetConnection(new MBeanInfoAdditionalInitialization(ProcessType.STANDALONE_SERVER, new TestExtension()));
+
+        ObjectName name = createObjectName(LEGACY_DOMAIN + ":subsystem=test");
+        connection.setAttribute(name, new Attribute("undefinedInt", 103));
+        String[] attributeNames = {"roInt", "undefinedInt", "int", "bigdec", "boolean", "string", "long", "type", "complex"};
+        AttributeList list = connection.getAttributes(name, attributeNames);
+        Assert.assertEquals(attributeNames.length, list.size());
+        for (int i = 0; i < attributeNames.length; i++) {
+            Attribute attribute = (Attribute) list.get(i);
+            Assert.assertEquals(attributeNames[i], attribute.getName());
+            Assert.assertEquals(attributeNames[i], connection.getAttribute(name, attributeNames[i]), attribute.getValue());
+        }
+
+        try {
+            connection.getAttributes(name, new String[] {"int", "nonExistent"});
+            Assert.fail("nonExistent attribute found");
+        } catch (Exception expected) {
+            //expected
+        }
+    }
+
     @Test
     public void testReadWriteAttributeDomain() throws Exception {
         MBeanServerConnection connection = setupAndGetConnection(new MBeanInfoAdditionalInitialization(ProcessType.DOMAIN_SERVER, new TestExtension()));
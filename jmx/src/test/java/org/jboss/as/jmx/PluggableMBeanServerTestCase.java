@@ -105,6 +105,21 @@ public class PluggableMBeanServerTestCase extends AbstractSubsystemTest {
         reservedDomainTest("jboss.as.expr:bean=test-null", NAME);
     }
 
+    @Test
+    public void testUnreservedDomainMBeanRegistration() throws Exception {
+        // Domains only starting like the reserved ones are handled by the platform mbean server
+        for (String name : new String[] {"jboss.as.other:bean=test", "jboss:bean=test"}) {
+            ObjectName objName = createName(name);
+            server.registerMBean(new TestBean2(), objName);
+            Assert.assertTrue(server.isRegistered(objName));
+            Assert.assertNotNull(server.getMBeanInfo(objName));
+            server.unregisterMBean(objName);
+            assertNoMBean(objName);
+        }
+        Assert.assertTrue(server.isRegistered(createName("jboss.as:subsystem=jmx")));
+        Assert.assertTrue(server.isRegistered(createName("jboss.as.expr:subsystem=jmx")));
+    }
+
     private void reservedDomainTest(String name, ObjectName originalObjectName) throws Exception {
         ObjectName objName = createName(name);
         assertNoMBean(objName);
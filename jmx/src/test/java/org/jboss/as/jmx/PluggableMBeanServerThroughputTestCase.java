@@ -0,0 +1,132 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.jmx;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.jboss.as.server.jmx.MBeanServerPlugin;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Compares the {@code getAttribute} throughput of {@link PluggableMBeanServerImpl} with the server it wraps, for an
+ * mbean of the wrapped server while plugins for other domains are installed. The numbers are printed rather than
+ * asserted, since they depend on the machine; what is asserted is that the plugins are never asked about the mbean.
+ */
+public class PluggableMBeanServerThroughputTestCase {
+
+    private static final int PLUGINS = 20;
+    private static final int WARMUP = 50000;
+    private static final int ITERATIONS = 200000;
+    private static final ObjectName NAME = createName("test.throughput:type=Counter");
+
+    private final AtomicInteger accepts = new AtomicInteger();
+    private MBeanServer root;
+    private PluggableMBeanServerImpl pluggable;
+
+    @Before
+    public void createServers() throws Exception {
+        root = MBeanServerFactory.newMBeanServer();
+        root.registerMBean(new Counter(), NAME);
+        pluggable = new PluggableMBeanServerImpl(root, null);
+        for (int i = 0; i < PLUGINS; i++) {
+            pluggable.addPlugin(createPlugin("test.plugin" + i));
+        }
+    }
+
+    @Test
+    public void testGetAttribute() throws Exception {
+        run(root, WARMUP);
+        run(pluggable, WARMUP);
+        final long rootNanos = run(root, ITERATIONS);
+        final long pluggableNanos = run(pluggable, ITERATIONS);
+        System.out.printf("getAttribute with %d plugins for other domains: platform %d ops/ms, pluggable %d ops/ms%n",
+                PLUGINS, opsPerMilli(rootNanos), opsPerMilli(pluggableNanos));
+        Assert.assertEquals(0, accepts.get());
+    }
+
+    private long run(final MBeanServer server, final int iterations) throws Exception {
+        final long start = System.nanoTime();
+        long sum = 0;
+        for (int i = 0; i < iterations; i++) {
+            sum += (Integer) server.getAttribute(NAME, "Value");
+        }
+        final long time = System.nanoTime() - start;
+        Assert.assertEquals(42L * iterations, sum);
+        return time;
+    }
+
+    private static long opsPerMilli(final long nanos) {
+        return ITERATIONS * TimeUnit.MILLISECONDS.toNanos(1) / Math.max(nanos, 1L);
+    }
+
+    private MBeanServerPlugin createPlugin(final String domain) {
+        final InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "accepts":
+                    accepts.incrementAndGet();
+                    return domain.equals(((ObjectName) args[0]).getDomain());
+                case "getAcceptedDomains":
+                    return Collections.singleton(domain);
+                case "isRegistered":
+                case "shouldAuditLog":
+                case "shouldAuthorize":
+                    return false;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        };
+        return (MBeanServerPlugin) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {MBeanServerPlugin.class}, handler);
+    }
+
+    private static ObjectName createName(final String name) {
+        try {
+            return ObjectName.getInstance(name);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public interface CounterMBean {
+        int getValue();
+    }
+
+    public static class Counter implements CounterMBean {
+        @Override
+        public int getValue() {
+            return 42;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jmx.model;
+
+import static org.jboss.as.controller.PathElement.pathElement;
+
+import javax.management.ObjectName;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.registry.Resource;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ObjectNameIndex}.
+ */
+public class ObjectNameIndexTestCase {
+
+    private static final String DOMAIN = "jboss.as";
+    private static final ObjectName ROOT_NAME = ModelControllerMBeanHelper.createRootObjectName(DOMAIN);
+    private static final PathElement TOP_ONE = pathElement("top", "one");
+    private static final PathElement BOTTOM_TWO = pathElement("bottom", "two");
+    private static final PathElement TOP_THREE = pathElement("top", "three");
+
+    @Test
+    public void testObjectNames() {
+        final ObjectNameIndex index = new ObjectNameIndex(DOMAIN);
+        final PathAddress top = PathAddress.pathAddress(TOP_ONE);
+        final PathAddress bottom = top.append(BOTTOM_TWO);
+
+        final ObjectName topName = index.getObjectName(top, null);
+        final ObjectName bottomName = index.getObjectName(bottom, null);
+        Assert.assertEquals(ObjectNameAddressUtil.createObjectName(DOMAIN, bottom), bottomName);
+        Assert.assertSame(topName, index.getObjectName(top, null));
+        Assert.assertSame(bottomName, index.getObjectName(bottom, null));
+
+        // Removing a resource drops its children as well
+        index.remove(top);
+        Assert.assertEquals(0, index.size());
+        Assert.assertNotSame(topName, index.getObjectName(top, null));
+        Assert.assertNotSame(bottomName, index.getObjectName(bottom, null));
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        final ObjectNameIndex index = new ObjectNameIndex(DOMAIN);
+        final Resource root = Resource.Factory.create();
+        final Resource top = Resource.Factory.create();
+        root.registerChild(TOP_ONE, top);
+        top.registerChild(BOTTOM_TWO, Resource.Factory.create());
+        root.registerChild(TOP_THREE, Resource.Factory.create());
+        final PathAddress bottom = PathAddress.pathAddress(TOP_ONE, BOTTOM_TWO);
+        final PathAddress other = PathAddress.pathAddress(TOP_THREE);
+
+        final ObjectName otherName = index.getObjectName(other, null);
+        Assert.assertEquals(bottom, index.resolvePathAddress(ROOT_NAME, root, new ObjectName(DOMAIN + ":top=one,bottom=two")));
+        Assert.assertEquals(2, index.size());
+
+        // Removing a resource which was not indexed leaves the index as it is
+        index.remove(PathAddress.pathAddress(pathElement("top", "four")));
+        Assert.assertEquals(2, index.size());
+
+        // Only the entries of the removed resource and of its children are dropped, in both directions
+        index.remove(PathAddress.pathAddress(TOP_ONE));
+        Assert.assertEquals(1, index.size());
+        Assert.assertSame(otherName, index.getObjectName(other, null));
+        Assert.assertEquals(other, index.resolvePathAddress(ROOT_NAME, root, otherName));
+        Assert.assertEquals(1, index.size());
+
+        index.remove(PathAddress.EMPTY_ADDRESS);
+        Assert.assertEquals(0, index.size());
+    }
+
+    @Test
+    public void testMaxEntries() {
+        final ObjectNameIndex index = new ObjectNameIndex(DOMAIN, 2);
+        final PathAddress top = PathAddress.pathAddress(TOP_ONE);
+        final PathAddress bottom = top.append(BOTTOM_TWO);
+        final PathAddress other = PathAddress.pathAddress(TOP_THREE);
+
+        index.getObjectName(top, null);
+        index.getObjectName(bottom, null);
+        Assert.assertEquals(2, index.size());
+
+        // The index is cleared rather than growing beyond its maximum size
+        final ObjectName otherName = index.getObjectName(other, null);
+        Assert.assertEquals(1, index.size());
+        Assert.assertSame(otherName, index.getObjectName(other, null));
+    }
+
+    @Test
+    public void testResolvePathAddress() throws Exception {
+        final ObjectNameIndex index = new ObjectNameIndex(DOMAIN);
+        final Resource root = Resource.Factory.create();
+        final Resource top = Resource.Factory.create();
+        root.registerChild(TOP_ONE, top);
+        top.registerChild(BOTTOM_TWO, Resource.Factory.create());
+        final PathAddress bottom = PathAddress.pathAddress(TOP_ONE, BOTTOM_TWO);
+
+        Assert.assertEquals(bottom, index.resolvePathAddress(ROOT_NAME, root, new ObjectName(DOMAIN + ":top=one,bottom=two")));
+        // Same ObjectName with the properties in another order
+        Assert.assertEquals(bottom, index.resolvePathAddress(ROOT_NAME, root, new ObjectName(DOMAIN + ":bottom=two,top=one")));
+        Assert.assertEquals(PathAddress.EMPTY_ADDRESS, index.resolvePathAddress(ROOT_NAME, root, ROOT_NAME));
+
+        // A resource removed without a notification is not resolved
+        top.removeChild(BOTTOM_TWO);
+        Assert.assertNull(index.resolvePathAddress(ROOT_NAME, root, new ObjectName(DOMAIN + ":top=one,bottom=two")));
+        Assert.assertNull(index.resolvePathAddress(ROOT_NAME, root, new ObjectName("other:top=one")));
+    }
+}
@@ -45,10 +45,12 @@ public class DomainCommandBuilder extends AbstractCommandBuilder<DomainCommandBu
     private static final String DOMAIN_BASE_DIR = "jboss.domain.base.dir";
     private static final String DOMAIN_CONFIG_DIR = "jboss.domain.config.dir";
     private static final String DOMAIN_LOG_DIR = "jboss.domain.log.dir";
+    private static final String SERVER_CLASS_DATA_SHARING = "jboss.domain.server.class-data-sharing";
 
     private Path hostControllerJavaHome;
     private Path serverJavaHome;
     private Path baseDir;
+    private String serverClassDataSharingArg;
     private final Arguments hostControllerJavaOpts;
     private final Arguments processControllerJavaOpts;
 
@@ -726,6 +728,25 @@ public class DomainCommandBuilder extends AbstractCommandBuilder<DomainCommandBu
         return serverJavaHome;
     }
 
+    /**
+     * Set to {@code true} to have the host controller launch the servers with a class data sharing archive. The
+     * archive is created in the data directory of each server by its first launch, and used by later launches.
+     * <p/>
+     * Note this requires servers to run on Java 13 or later. On older JVMs the servers are launched without an archive.
+     *
+     * @param b {@code true} to use class data sharing for the servers
+     *
+     * @return the builder
+     */
+    public DomainCommandBuilder setServerClassDataSharing(final boolean b) {
+        if (b) {
+            serverClassDataSharingArg = "-D" + SERVER_CLASS_DATA_SHARING + "=true";
+        } else {
+            serverClassDataSharingArg = null;
+        }
+        return this;
+    }
+
     @Override
     public List<String> buildArguments() {
         final List<String> cmd = new ArrayList<>();
@@ -761,6 +782,9 @@ public class DomainCommandBuilder extends AbstractCommandBuilder<DomainCommandBu
 
         // HOST_CONTROLLER_JAVA_OPTS
         cmd.addAll(hostControllerJavaOpts.asList());
+        if (serverClassDataSharingArg != null) {
+            cmd.add(serverClassDataSharingArg);
+        }
 
         cmd.add("--");
         cmd.add("-default-jvm");
@@ -74,6 +74,7 @@ enum Element {
     PROPERTY("property"),
     QUEUE_LENGTH(AsyncHandlerResourceDefinition.QUEUE_LENGTH),
     REPLACE(CommonAttributes.REPLACE),
+    RING_BUFFER_ASYNC_HANDLER(RingBufferAsyncHandlerResourceDefinition.RING_BUFFER_ASYNC_HANDLER),
     ROOT_LOGGER(RootLoggerResourceDefinition.ROOT_LOGGER_PATH_NAME),
     ROTATE_SIZE(SizeRotatingHandlerResourceDefinition.ROTATE_SIZE),
     SERVER_ADDRESS(SyslogHandlerResourceDefinition.SERVER_ADDRESS),
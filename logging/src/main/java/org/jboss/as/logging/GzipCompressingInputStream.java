@@ -0,0 +1,118 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Enumeration;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterInputStream;
+
+/**
+ * Compresses another stream into the gzip format as it is read, so the compressed content never needs to be held
+ * in memory as a whole.
+ */
+final class GzipCompressingInputStream extends SequenceInputStream {
+
+    private static final byte[] HEADER = {
+            0x1f, (byte) 0x8b, // magic
+            Deflater.DEFLATED,
+            0, // flags
+            0, 0, 0, 0, // modification time
+            0, // extra flags
+            (byte) 0xff // unknown OS
+    };
+
+    private final Deflater deflater;
+
+    GzipCompressingInputStream(final InputStream in) {
+        this(in, new CRC32(), new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+    }
+
+    private GzipCompressingInputStream(final InputStream in, final CRC32 crc, final Deflater deflater) {
+        super(new Parts(in, crc, deflater));
+        this.deflater = deflater;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * The header, the compressed content and the trailer. The trailer is only created once the content has been read.
+     */
+    private static class Parts implements Enumeration<InputStream> {
+        private final CheckedInputStream content;
+        private final CRC32 crc;
+        private final Deflater deflater;
+        private int next;
+
+        Parts(final InputStream in, final CRC32 crc, final Deflater deflater) {
+            this.content = new CheckedInputStream(in, crc);
+            this.crc = crc;
+            this.deflater = deflater;
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            return next < 3;
+        }
+
+        @Override
+        public InputStream nextElement() {
+            switch (next++) {
+                case 0:
+                    return new ByteArrayInputStream(HEADER);
+                case 1:
+                    return new DeflaterInputStream(content, deflater, 8192);
+                case 2:
+                    return new ByteArrayInputStream(trailer());
+                default:
+                    throw new IllegalStateException();
+            }
+        }
+
+        private byte[] trailer() {
+            final byte[] trailer = new byte[8];
+            writeInt(trailer, 0, crc.getValue());
+            writeInt(trailer, 4, deflater.getBytesRead());
+            return trailer;
+        }
+
+        private static void writeInt(final byte[] b, final int offset, final long value) {
+            // little endian, as required by the gzip format
+            for (int i = 0; i < 4; i++) {
+                b[offset + i] = (byte) (value >> (i * 8));
+            }
+        }
+    }
+}
@@ -59,6 +59,7 @@ import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.logging.logging.LoggingLogger;
 import org.jboss.as.logging.logmanager.Log4jAppenderHandler;
 import org.jboss.as.logging.logmanager.PropertySorter;
+import org.jboss.as.logging.logmanager.RingBufferAsyncHandler;
 import org.jboss.as.logging.resolvers.ModelNodeResolver;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.Property;
@@ -73,6 +74,7 @@ import org.jboss.logmanager.config.PojoConfiguration;
 import org.jboss.logmanager.config.PropertyConfigurable;
 import org.jboss.logmanager.formatters.PatternFormatter;
 import org.jboss.logmanager.handlers.AsyncHandler;
+import org.jboss.modules.Module;
 import org.jboss.modules.ModuleIdentifier;
 import org.jboss.modules.ModuleLoadException;
 import org.jboss.modules.ModuleLoader;
@@ -209,6 +211,10 @@ final class HandlerOperations {
             if (type == null) {
                 className = CLASS.resolveModelAttribute(context, model).asString();
                 moduleName = MODULE.resolveModelAttribute(context, model).asString();
+            } else if (RingBufferAsyncHandler.class.equals(type) && Module.forClass(HandlerOperations.class) != null) {
+                // The handler is not visible to the log manager's module
+                className = type.getName();
+                moduleName = "org.jboss.as.logging";
             } else {
                 className = type.getName();
                 moduleName = null;
@@ -273,6 +279,10 @@ final class HandlerOperations {
                 if (!skip)
                     handleProperty(attribute, context, model, logContextConfiguration, configuration);
             }
+            if (RingBufferAsyncHandler.class.getName().equals(className)) {
+                // Register the handler so its metrics can be read
+                configuration.setPropertyValueString("name", RingBufferAsyncHandlerResourceDefinition.getRegisteredName(LoggingOperations.getAddress(operation)));
+            }
 
             // It's important that properties are written in the correct order, reorder the properties if
             // needed before the commit.
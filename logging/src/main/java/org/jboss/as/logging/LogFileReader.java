@@ -0,0 +1,473 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Reads lines from log files for the {@code read-log-file} operations.
+ * <p>
+ * Line feeds are located by scanning the raw bytes of the file in large blocks, so only the lines actually returned
+ * are decoded. Tailing walks backwards from the end of the file. When a large number of lines is skipped a sparse
+ * index of line offsets, extended incrementally as the file grows, is used to seek close to the first line to return.
+ * </p>
+ * <p>
+ * Encodings where a line feed is not the single byte {@code 0x0A} are read by decoding the file from the start.
+ * </p>
+ * <p>
+ * Lines end at a line feed, a carriage return before it is not part of the line. Unlike
+ * {@link BufferedReader#readLine()} a carriage return alone does not end a line, so the lines counted by the index
+ * are the lines returned.
+ * </p>
+ */
+final class LogFileReader {
+
+    private static final int BLOCK_SIZE = 64 * 1024;
+    /** Number of lines between two entries of a line index */
+    static final int INDEX_INTERVAL = 1000;
+    private static final int MAX_INDEXED_FILES = 32;
+    /** Number of bytes at the beginning of a file checked to tell whether it has been replaced */
+    private static final int HEAD_SIZE = 4096;
+
+    private static final Map<Path, LineIndex> INDEXES = new LinkedHashMap<Path, LineIndex>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Path, LineIndex> eldest) {
+            return size() > MAX_INDEXED_FILES;
+        }
+    };
+
+    private LogFileReader() {
+    }
+
+    /**
+     * Reads lines from the file.
+     *
+     * @param file          the file to read
+     * @param encoding      the encoding of the file or {@code null} to use the system default
+     * @param tail          {@code true} to count the lines from the end of the file
+     * @param skip          the number of lines to skip
+     * @param numberOfLines the maximum number of lines to return or {@code -1} for all of them
+     *
+     * @return the lines in the order they appear in the file
+     *
+     * @throws IOException if the file could not be read
+     */
+    static List<String> readLines(final File file, final String encoding, final boolean tail, final int skip, final int numberOfLines) throws IOException {
+        if (numberOfLines == 0) {
+            return Collections.emptyList();
+        }
+        // we should stick with the default here and not use UTF-8. The encoding on the file handler does not
+        // default to UTF-8 but the system default.
+        final Charset charset = resolveCharset(encoding);
+        if (!isLineFeedSingleByte(charset)) {
+            return readDecodedLines(file.toPath(), charset, tail, skip, numberOfLines);
+        }
+        final Path path = file.toPath();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (tail) {
+                if (skip >= INDEX_INTERVAL) {
+                    final LineIndex index = getIndex(path, channel);
+                    final long total = index.lineCount(channel);
+                    final long last = total - skip;
+                    if (last <= 0) {
+                        return Collections.emptyList();
+                    }
+                    final long first = numberOfLines < 0 ? 0 : Math.max(0, last - numberOfLines);
+                    final long offset = index.offsetOf(channel, first);
+                    if (offset < 0) {
+                        return Collections.emptyList();
+                    }
+                    return readForward(channel, offset, charset, (int) (last - first));
+                }
+                return readBackward(channel, charset, skip, numberOfLines);
+            }
+            final long offset;
+            if (skip >= INDEX_INTERVAL) {
+                offset = getIndex(path, channel).offsetOf(channel, skip);
+            } else {
+                offset = skipLines(channel, 0L, skip);
+            }
+            if (offset < 0) {
+                return Collections.emptyList();
+            }
+            return readForward(channel, offset, charset, numberOfLines);
+        }
+    }
+
+    static Charset resolveCharset(final String encoding) throws UnsupportedEncodingException {
+        if (encoding == null) {
+            return Charset.defaultCharset();
+        }
+        try {
+            return Charset.forName(encoding);
+        } catch (IllegalArgumentException e) {
+            throw new UnsupportedEncodingException(encoding);
+        }
+    }
+
+    static boolean isLineFeedSingleByte(final Charset charset) {
+        if (!charset.canEncode()) {
+            return false;
+        }
+        // Also make sure the byte can't be part of another character, which rules out UTF-16 and UTF-32
+        final byte[] lf = "\n".getBytes(charset);
+        final byte[] a = "a".getBytes(charset);
+        return lf.length == 1 && lf[0] == '\n' && a.length == 1;
+    }
+
+    /**
+     * Reads the lines starting at the offset, which must be the beginning of a line.
+     */
+    private static List<String> readForward(final FileChannel channel, final long offset, final Charset charset, final int numberOfLines) throws IOException {
+        final List<String> lines = numberOfLines < 0 ? new ArrayList<>() : new ArrayList<>(Math.min(numberOfLines, 1024));
+        final long size = channel.size();
+        final ByteBuffer block = ByteBuffer.allocate(BLOCK_SIZE);
+        long lineStart = offset;
+        long position = offset;
+        while (position < size && lines.size() != numberOfLines) {
+            readFully(channel, block, position, (int) Math.min(BLOCK_SIZE, size - position));
+            if (!block.hasRemaining()) {
+                break;
+            }
+            for (int i = 0; i < block.limit() && lines.size() != numberOfLines; i++) {
+                if (block.get(i) == '\n') {
+                    final long lineEnd = position + i;
+                    if (lineStart >= position) {
+                        // The whole line is in the block
+                        final int from = (int) (lineStart - position);
+                        final int length = i > from && block.get(i - 1) == '\r' ? i - from - 1 : i - from;
+                        lines.add(new String(block.array(), from, length, charset));
+                    } else {
+                        lines.add(decodeLine(channel, lineStart, lineEnd, charset));
+                    }
+                    lineStart = lineEnd + 1;
+                }
+            }
+            position += block.limit();
+        }
+        // A last line without a line feed
+        if (lines.size() != numberOfLines && lineStart < position) {
+            lines.add(decodeLine(channel, lineStart, position, charset));
+        }
+        return lines;
+    }
+
+    /**
+     * Walks backwards from the end of the file, decoding only the lines that are returned.
+     */
+    private static List<String> readBackward(final FileChannel channel, final Charset charset, final int skip, final int numberOfLines) throws IOException {
+        final long size = channel.size();
+        if (size == 0L) {
+            return Collections.emptyList();
+        }
+        final Deque<String> lines = new ArrayDeque<>();
+        final ByteBuffer block = ByteBuffer.allocate((int) Math.min(BLOCK_SIZE, size));
+        long lineEnd = size;
+        long blockEnd = size;
+        // A line feed terminating the last line doesn't start another line
+        if (readByte(channel, size - 1) == '\n') {
+            lineEnd = size - 1;
+            blockEnd = size - 1;
+        }
+        int lineCount = 0;
+        while (blockEnd > 0) {
+            final long blockStart = Math.max(0L, blockEnd - block.capacity());
+            readFully(channel, block, blockStart, (int) (blockEnd - blockStart));
+            for (int i = block.limit() - 1; i >= 0; i--) {
+                if (block.get(i) == '\n') {
+                    final long lineStart = blockStart + i + 1;
+                    if (lineCount++ >= skip) {
+                        lines.addFirst(decodeLine(channel, lineStart, lineEnd, charset));
+                        if (lines.size() == numberOfLines) {
+                            return new ArrayList<>(lines);
+                        }
+                    }
+                    lineEnd = lineStart - 1;
+                }
+            }
+            blockEnd = blockStart;
+        }
+        // The first line of the file
+        if (lineCount >= skip) {
+            lines.addFirst(decodeLine(channel, 0L, lineEnd, charset));
+        }
+        return new ArrayList<>(lines);
+    }
+
+    private static String decodeLine(final FileChannel channel, final long start, final long end, final Charset charset) throws IOException {
+        long length = end - start;
+        if (length > 0 && readByte(channel, end - 1) == '\r') {
+            length--;
+        }
+        if (length == 0) {
+            return "";
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate((int) length);
+        readFully(channel, buffer, start, (int) length);
+        return new String(buffer.array(), 0, buffer.limit(), charset);
+    }
+
+    /**
+     * Scans forward from the offset, which must be the beginning of a line, past the given number of line feeds.
+     *
+     * @return the offset of the line after the skipped ones or {@code -1} if the file has fewer lines
+     */
+    private static long skipLines(final FileChannel channel, final long offset, final long count) throws IOException {
+        if (count == 0) {
+            return offset;
+        }
+        final long size = channel.size();
+        final ByteBuffer block = ByteBuffer.allocate(BLOCK_SIZE);
+        long remaining = count;
+        long position = offset;
+        while (position < size) {
+            readFully(channel, block, position, (int) Math.min(BLOCK_SIZE, size - position));
+            for (int i = 0; i < block.limit(); i++) {
+                if (block.get(i) == '\n' && --remaining == 0) {
+                    final long next = position + i + 1;
+                    return next < size ? next : -1L;
+                }
+            }
+            position += block.limit();
+        }
+        return -1L;
+    }
+
+    private static byte readByte(final FileChannel channel, final long position) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(1);
+        readFully(channel, buffer, position, 1);
+        return buffer.get(0);
+    }
+
+    static void readFully(final FileChannel channel, final ByteBuffer buffer, final long position, final int length) throws IOException {
+        buffer.clear().limit(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * The slow path for encodings which can't be scanned byte by byte.
+     */
+    private static List<String> readDecodedLines(final Path path, final Charset charset, final boolean tail, final int skip, final int numberOfLines) throws IOException {
+        final List<String> lines = numberOfLines < 0 ? new ArrayList<>() : new ArrayList<>(Math.min(numberOfLines, 1024));
+        try (BufferedReader reader = Files.newBufferedReader(path, charset)) {
+            final StringBuilder builder = new StringBuilder();
+            String line;
+            if (tail) {
+                // Keep only what could still be part of the result, the window moves as the file is read
+                final Deque<String> window = new ArrayDeque<>();
+                while ((line = readLine(reader, builder)) != null) {
+                    window.addLast(line);
+                    if (numberOfLines >= 0 && window.size() > numberOfLines + skip) {
+                        window.removeFirst();
+                    }
+                }
+                for (int i = 0; i < skip && !window.isEmpty(); i++) {
+                    window.removeLast();
+                }
+                lines.addAll(window);
+            } else {
+                int lineCount = 0;
+                while (lines.size() != numberOfLines && (line = readLine(reader, builder)) != null) {
+                    if (++lineCount <= skip) continue;
+                    lines.add(line);
+                }
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Reads a line ending at a line feed, the way the file is split when its bytes are scanned.
+     *
+     * @return the line without the line feed and a carriage return before it or {@code null} at the end of the file
+     */
+    private static String readLine(final BufferedReader reader, final StringBuilder builder) throws IOException {
+        builder.setLength(0);
+        int c;
+        while ((c = reader.read()) >= 0 && c != '\n') {
+            builder.append((char) c);
+        }
+        if (c < 0 && builder.length() == 0) {
+            return null;
+        }
+        final int length = builder.length();
+        if (length > 0 && builder.charAt(length - 1) == '\r') {
+            builder.setLength(length - 1);
+        }
+        return builder.toString();
+    }
+
+    private static LineIndex getIndex(final Path path, final FileChannel channel) throws IOException {
+        final long size = channel.size();
+        synchronized (INDEXES) {
+            LineIndex index = INDEXES.get(path);
+            // Log files are only appended to, anything else means it's been rotated and replaced
+            if (index == null || !index.isValidFor(path, channel, size)) {
+                index = new LineIndex(FileIdentity.of(path, channel));
+                INDEXES.put(path, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Identifies the file an index was built for. The creation time can't be used for this as on some file systems
+     * it is the time of the last modification, instead the beginning of the file has to be unchanged. A file
+     * truncated and written again in place keeps its file key but not its first records.
+     */
+    static final class FileIdentity {
+        private final Object fileKey;
+        private final int headLength;
+        private final long headChecksum;
+
+        private FileIdentity(final Object fileKey, final int headLength, final long headChecksum) {
+            this.fileKey = fileKey;
+            this.headLength = headLength;
+            this.headChecksum = headChecksum;
+        }
+
+        static FileIdentity of(final Path path, final FileChannel channel) throws IOException {
+            final Object fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+            final int headLength = (int) Math.min(HEAD_SIZE, channel.size());
+            return new FileIdentity(fileKey, headLength, checksum(channel, headLength));
+        }
+
+        /**
+         * Checks whether the file is still the one identified, it may have grown since.
+         */
+        boolean matches(final Path path, final FileChannel channel) throws IOException {
+            final Object fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+            if (fileKey != null ? !fileKey.equals(this.fileKey) : this.fileKey != null) {
+                return false;
+            }
+            return channel.size() >= headLength && checksum(channel, headLength) == headChecksum;
+        }
+
+        private static long checksum(final FileChannel channel, final int length) throws IOException {
+            final ByteBuffer buffer = ByteBuffer.allocate(length);
+            readFully(channel, buffer, 0L, length);
+            final CRC32 crc = new CRC32();
+            crc.update(buffer.array(), 0, buffer.limit());
+            return crc.getValue();
+        }
+    }
+
+    /**
+     * Byte offsets of every {@link #INDEX_INTERVAL}th line of a file.
+     */
+    static final class LineIndex {
+        private final FileIdentity identity;
+        private long[] offsets = new long[16];
+        private int entries = 1; // line 0 starts at offset 0
+        /** Offset up to which the file has been scanned, always the beginning of a line */
+        private long scanned;
+        /** Number of line feeds before {@link #scanned} */
+        private long lineFeeds;
+
+        LineIndex(final FileIdentity identity) {
+            this.identity = identity;
+        }
+
+        synchronized boolean isValidFor(final Path path, final FileChannel channel, final long size) throws IOException {
+            return size >= scanned && identity.matches(path, channel);
+        }
+
+        /**
+         * Gets the number of lines in the file, scanning what has been appended since the last call.
+         */
+        synchronized long lineCount(final FileChannel channel) throws IOException {
+            final long size = channel.size();
+            update(channel, size);
+            // A last line without a line feed is still a line
+            return scanned < size ? lineFeeds + 1 : lineFeeds;
+        }
+
+        /**
+         * Gets the offset of a line.
+         *
+         * @return the offset or {@code -1} if the file has fewer lines
+         */
+        synchronized long offsetOf(final FileChannel channel, final long line) throws IOException {
+            final int entry = (int) (line / INDEX_INTERVAL);
+            if (entry >= entries) {
+                update(channel, channel.size());
+            }
+            final int closest = Math.min(entry, entries - 1);
+            return skipLines(channel, offsets[closest], line - (long) closest * INDEX_INTERVAL);
+        }
+
+        private void update(final FileChannel channel, final long size) throws IOException {
+            if (scanned >= size) {
+                return;
+            }
+            final ByteBuffer block = ByteBuffer.allocate(BLOCK_SIZE);
+            long position = scanned;
+            while (position < size) {
+                readFully(channel, block, position, (int) Math.min(BLOCK_SIZE, size - position));
+                if (!block.hasRemaining()) {
+                    break;
+                }
+                for (int i = 0; i < block.limit(); i++) {
+                    if (block.get(i) == '\n') {
+                        lineFeeds++;
+                        scanned = position + i + 1;
+                        if (lineFeeds % INDEX_INTERVAL == 0) {
+                            if (entries == offsets.length) {
+                                offsets = Arrays.copyOf(offsets, entries * 2);
+                            }
+                            offsets[entries++] = scanned;
+                        }
+                    }
+                }
+                position += block.limit();
+            }
+            // A partially written last line is scanned again next time
+        }
+    }
+}
@@ -24,12 +24,11 @@ package org.jboss.as.logging;
 
 import static org.jboss.as.logging.CommonAttributes.ENCODING;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.RandomAccessFile;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
 import java.nio.file.FileVisitOption;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
@@ -38,13 +37,21 @@ import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.CaseParameterCorrector;
+import org.jboss.as.controller.FileRangeInputStream;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationContext.ResultHandler;
 import org.jboss.as.controller.OperationFailedException;
@@ -60,12 +67,16 @@ import org.jboss.as.controller.access.constraint.SensitivityClassification;
 import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.services.path.PathManager;
 import org.jboss.as.logging.logging.LoggingLogger;
+import org.jboss.as.logging.validators.LogLevelValidator;
 import org.jboss.as.server.ServerEnvironment;
+import org.jboss.as.server.Services;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
 
 /**
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
@@ -124,6 +135,69 @@ class LogFileResourceDefinition extends SimpleResourceDefinition {
             .setRuntimeOnly()
             .build();
 
+    static final SimpleAttributeDefinition OFFSET = SimpleAttributeDefinitionBuilder.create("offset", ModelType.LONG, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(0L))
+            .setValidator(new LongRangeValidator(0L, true))
+            .build();
+
+    static final SimpleAttributeDefinition LENGTH = SimpleAttributeDefinitionBuilder.create("length", ModelType.LONG, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(-1L))
+            .setValidator(new LongRangeValidator(-1L, true))
+            .build();
+
+    static final SimpleAttributeDefinition COMPRESS = SimpleAttributeDefinitionBuilder.create("compress", ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(false))
+            .build();
+
+    static final SimpleOperationDefinition STREAM_LOG_FILE = new SimpleOperationDefinitionBuilder("stream-log-file", LoggingExtension.getResourceDescriptionResolver())
+            .addAccessConstraint(VIEW_SERVER_LOGS)
+            .setParameters(OFFSET, LENGTH, COMPRESS)
+            .setReplyType(ModelType.STRING)
+            .setReadOnly()
+            .setRuntimeOnly()
+            .build();
+
+    static final SimpleAttributeDefinition PATTERN = SimpleAttributeDefinitionBuilder.create("pattern", ModelType.STRING, true)
+            .setAllowExpression(true)
+            .build();
+
+    static final SimpleAttributeDefinition LEVEL = SimpleAttributeDefinitionBuilder.create("level", ModelType.STRING, true)
+            .setAllowExpression(true)
+            .setCorrector(CaseParameterCorrector.TO_UPPER)
+            .setValidator(new LogLevelValidator(true, true))
+            .build();
+
+    static final SimpleAttributeDefinition FROM = SimpleAttributeDefinitionBuilder.create("from", ModelType.STRING, true)
+            .setAllowExpression(true)
+            .build();
+
+    static final SimpleAttributeDefinition TO = SimpleAttributeDefinitionBuilder.create("to", ModelType.STRING, true)
+            .setAllowExpression(true)
+            .build();
+
+    static final SimpleAttributeDefinition TIMESTAMP_FORMAT = SimpleAttributeDefinitionBuilder.create("timestamp-format", ModelType.STRING, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(LogFileSearch.DEFAULT_TIMESTAMP_FORMAT))
+            .build();
+
+    static final SimpleAttributeDefinition MAX_RESULTS = SimpleAttributeDefinitionBuilder.create("max-results", ModelType.INT, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(1000))
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+
+    static final SimpleOperationDefinition SEARCH_LOG_FILE = new SimpleOperationDefinitionBuilder("search-log-file", LoggingExtension.getResourceDescriptionResolver())
+            .addAccessConstraint(VIEW_SERVER_LOGS)
+            .setParameters(ENCODING, PATTERN, LEVEL, FROM, TO, TIMESTAMP_FORMAT, MAX_RESULTS)
+            .setReplyType(ModelType.LIST)
+            .setReplyValueType(ModelType.OBJECT)
+            .setReadOnly()
+            .setRuntimeOnly()
+            .build();
+
     static final PathElement LOG_FILE_PATH = PathElement.pathElement("log-file");
 
     private final PathManager pathManager;
@@ -139,6 +213,8 @@ class LogFileResourceDefinition extends SimpleResourceDefinition {
     public void registerOperations(final ManagementResourceRegistration resourceRegistration) {
         super.registerOperations(resourceRegistration);
         resourceRegistration.registerOperationHandler(READ_LOG_FILE, new ReadLogFileOperation(pathManager));
+        resourceRegistration.registerOperationHandler(STREAM_LOG_FILE, new StreamLogFileOperation(pathManager));
+        resourceRegistration.registerOperationHandler(SEARCH_LOG_FILE, new SearchLogFileOperation(pathManager));
 
     }
 
@@ -173,7 +249,7 @@ class LogFileResourceDefinition extends SimpleResourceDefinition {
                 validateFile(context, logDir, name);
                 final Path path = Paths.get(logDir, name);
                 try {
-                    String uuid = context.attachResultStream("text/plain", Files.newInputStream(path));
+                    String uuid = context.attachResultStream("text/plain", new FileRangeInputStream(path, 0L, -1L));
                     context.getResult().set(uuid);
                 } catch (IOException e) {
                     throw new RuntimeException(e);
@@ -244,12 +320,7 @@ class LogFileResourceDefinition extends SimpleResourceDefinition {
 
             // Read the contents of the log file
             try {
-                final List<String> lines;
-                if (numberOfLines == 0) {
-                    lines = Collections.emptyList();
-                } else {
-                    lines = readLines(path, encoding, tail, skip, numberOfLines);
-                }
+                final List<String> lines = LogFileReader.readLines(path, encoding, tail, skip, numberOfLines);
                 final ModelNode result = context.getResult().setEmptyList();
                 for (String line : lines) {
                     result.add(line);
@@ -259,99 +330,143 @@ class LogFileResourceDefinition extends SimpleResourceDefinition {
             }
             context.completeStep(ResultHandler.NOOP_RESULT_HANDLER);
         }
+    }
+
+    /**
+     * Attaches a range of a log file, optionally gzip compressed, to the response.
+     * <p/>
+     * Uncompressed content is attached as a {@link FileRangeInputStream}, which allows it to be sent without copying
+     * it through the heap where the transport supports that.
+     */
+    static class StreamLogFileOperation implements OperationStepHandler {
+
+        private final PathManager pathManager;
+
+        private StreamLogFileOperation(final PathManager pathManager) {
+            this.pathManager = pathManager;
+        }
 
-        private List<String> readLines(final File file, final String encoding, final boolean tail, final int skip, final int numberOfLines) throws IOException {
-            final List<String> lines;
-            if (numberOfLines < 0) {
-                lines = new ArrayList<>();
-            } else {
-                lines = new ArrayList<>(numberOfLines);
+        @Override
+        public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            final String fileName = LoggingOperations.getAddressName(operation);
+            final String logDir = pathManager.getPathEntry(ServerEnvironment.SERVER_LOG_DIR).resolvePath();
+            validateFile(context, logDir, fileName);
+            for (AttributeDefinition attribute : STREAM_LOG_FILE.getParameters()) {
+                attribute.validateOperation(operation);
             }
-            try (
-                    final InputStream in = (tail ? new LifoFileInputStream(file) : Files.newInputStream(file.toPath()));
-                    /* we should stick with the default here and not use UTF-8.
-                    The encoding on the file handler does not default to UTF-8 but the system default.
-                    I think here we should stick with the system default unless explicitly defined.
-                    I could see a UTF-8 default possibly being problematic on IBM bases systems.
-                     */
-                    final InputStreamReader isr = (encoding == null ? new InputStreamReader(in) : new InputStreamReader(in, encoding));
-                    final BufferedReader reader = new BufferedReader(isr)
-            ) {
-                int lineCount = 0;
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    if (++lineCount <= skip) continue;
-                    if (lines.size() == numberOfLines) break;
-                    lines.add(line);
-                }
-                if (tail) {
-                    Collections.reverse(lines);
-                }
-                return lines;
+            final long offset = OFFSET.resolveModelAttribute(context, operation).asLong();
+            final long length = LENGTH.resolveModelAttribute(context, operation).asLong();
+            final boolean compress = COMPRESS.resolveModelAttribute(context, operation).asBoolean();
+            final Path path = Paths.get(logDir, fileName);
+            if (Files.notExists(path)) {
+                throw LoggingLogger.ROOT_LOGGER.logFileNotFound(fileName, logDir);
+            }
+            try {
+                final String uuid = context.attachResultStream(compress ? "application/gzip" : "text/plain", openStream(path, offset, length, compress));
+                context.getResult().set(uuid);
+            } catch (IOException e) {
+                throw LoggingLogger.ROOT_LOGGER.failedToReadLogFile(e, fileName);
             }
+            context.completeStep(ResultHandler.NOOP_RESULT_HANDLER);
+        }
+
+        /**
+         * Opens a range of a file.
+         *
+         * @param path     the file
+         * @param offset   the offset of the first byte
+         * @param length   the maximum number of bytes or {@code -1} for up to the end of the file
+         * @param compress whether the range is gzip compressed
+         *
+         * @return the stream
+         *
+         * @throws IOException if the file cannot be opened
+         */
+        static InputStream openStream(final Path path, final long offset, final long length, final boolean compress) throws IOException {
+            final InputStream in = new FileRangeInputStream(path, offset, length);
+            return compress ? new GzipCompressingInputStream(in) : in;
         }
     }
 
-    static final class LifoFileInputStream extends InputStream {
-        private final RandomAccessFile raf;
-        private final long len;
-        private long start;
-        private long end;
-        private long pos;
-
-        LifoFileInputStream(final File file) throws IOException {
-            raf = new RandomAccessFile(file, "r");
-            len = raf.length();
-            start = len;
-            end = len;
-            pos = end;
+    /**
+     * Searches a log file and returns the matching lines along with their offsets in the file.
+     */
+    static class SearchLogFileOperation implements OperationStepHandler {
+
+        private final PathManager pathManager;
+
+        private SearchLogFileOperation(final PathManager pathManager) {
+            this.pathManager = pathManager;
         }
 
-        private void positionFile() throws IOException {
-            end = start;
-            // If we're at the beginning of the file, nothing more to read
-            if (end == 0) {
-                end = -1;
-                start = -1;
-                pos = -1;
-                return;
+        @Override
+        public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            final String fileName = LoggingOperations.getAddressName(operation);
+            final String logDir = pathManager.getPathEntry(ServerEnvironment.SERVER_LOG_DIR).resolvePath();
+            validateFile(context, logDir, fileName);
+            for (AttributeDefinition attribute : SEARCH_LOG_FILE.getParameters()) {
+                attribute.validateOperation(operation);
+            }
+            final ModelNode encodingModel = ENCODING.resolveModelAttribute(context, operation);
+            final ModelNode patternModel = PATTERN.resolveModelAttribute(context, operation);
+            final ModelNode levelModel = LEVEL.resolveModelAttribute(context, operation);
+            final String timestampFormat = TIMESTAMP_FORMAT.resolveModelAttribute(context, operation).asString();
+            final int maxResults = MAX_RESULTS.resolveModelAttribute(context, operation).asInt();
+
+            Pattern pattern = null;
+            if (patternModel.isDefined()) {
+                try {
+                    pattern = Pattern.compile(patternModel.asString());
+                } catch (PatternSyntaxException e) {
+                    throw LoggingLogger.ROOT_LOGGER.invalidSearchPattern(patternModel.asString(), e.getDescription());
+                }
             }
+            final DateTimeFormatter formatter;
+            try {
+                formatter = DateTimeFormatter.ofPattern(timestampFormat);
+            } catch (IllegalArgumentException e) {
+                throw LoggingLogger.ROOT_LOGGER.invalidTimestampFormat(timestampFormat, e.getMessage());
+            }
+            final LocalDateTime from = resolveTime(context, operation, FROM, formatter, timestampFormat);
+            final LocalDateTime to = resolveTime(context, operation, TO, formatter, timestampFormat);
+            final Level level = levelModel.isDefined() ? Level.parse(levelModel.asString()) : null;
 
-            long filePointer = start - 1;
-            while (true) {
-                filePointer--;
-                // We're at the start of the file
-                if (filePointer < 0) {
-                    break;
+            final Path path = Paths.get(logDir, fileName);
+            if (Files.notExists(path)) {
+                throw LoggingLogger.ROOT_LOGGER.logFileNotFound(fileName, logDir);
+            }
+            try {
+                final Charset charset = LogFileReader.resolveCharset(encodingModel.isDefined() ? encodingModel.asString() : null);
+                if (!LogFileReader.isLineFeedSingleByte(charset)) {
+                    throw new UnsupportedEncodingException(charset.name());
                 }
-                // Position the file
-                raf.seek(filePointer);
-                final byte readByte = raf.readByte();
-                // If the byte is a line feed we've found the next line ignoring the last line feed in the file
-                if (readByte == '\n' && filePointer != (len - 1)) {
-                    break;
+                final LogFileSearch search = new LogFileSearch(pattern, level, from, to, timestampFormat, maxResults, charset);
+                // The parts of large files are scanned on the server executor
+                final ServiceController<?> executorService = context.getServiceRegistry(false).getService(Services.JBOSS_SERVER_EXECUTOR);
+                final Executor executor = executorService == null ? null : (Executor) executorService.getValue();
+                final ModelNode result = context.getResult().setEmptyList();
+                for (LogFileSearch.Match match : search.search(path, executor)) {
+                    final ModelNode entry = result.add();
+                    entry.get("offset").set(match.offset);
+                    entry.get("line").set(match.line);
                 }
+            } catch (IOException e) {
+                throw LoggingLogger.ROOT_LOGGER.failedToReadLogFile(e, fileName);
             }
-            start = filePointer + 1;
-            pos = start;
+            context.completeStep(ResultHandler.NOOP_RESULT_HANDLER);
         }
 
-        @Override
-        public int read() throws IOException {
-            if (pos < end) {
-                raf.seek(pos++);
-                return raf.readByte();
-            } else if (pos < 0) {
-                return -1;
-            } else {
-                positionFile();
-                return read();
+        private static LocalDateTime resolveTime(final OperationContext context, final ModelNode operation, final AttributeDefinition attribute,
+                                                 final DateTimeFormatter formatter, final String timestampFormat) throws OperationFailedException {
+            final ModelNode value = attribute.resolveModelAttribute(context, operation);
+            if (!value.isDefined()) {
+                return null;
+            }
+            try {
+                return LocalDateTime.from(formatter.parse(value.asString()));
+            } catch (DateTimeException e) {
+                throw LoggingLogger.ROOT_LOGGER.invalidSearchTime(value.asString(), timestampFormat);
             }
-        }
-
-        @Override
-        public void close() throws IOException {
-            raf.close();
         }
     }
 
@@ -0,0 +1,494 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+
+import org.jboss.as.logging.validators.LogLevelValidator;
+
+/**
+ * Searches a log file for lines matching a pattern, a minimum level and a time window.
+ * <p>
+ * A line starting with a timestamp in the configured format starts a log record. Lines that follow it without a
+ * timestamp, like the lines of a stack trace, are part of that record and have its time and level.
+ * </p>
+ * <p>
+ * A sparse index with the time of the first record after each megabyte of the file is kept for every searched file and
+ * extended as the file grows. Assuming the records are written in chronological order, it narrows a search with a
+ * time window down to the part of the file that can contain matches. That part is split at indexed records into chunks.
+ * A few chunks at a time are scanned in parallel, in the order of the file, and no further chunks are scanned once the
+ * maximum number of results has been found.
+ * </p>
+ */
+final class LogFileSearch {
+
+    static final String DEFAULT_TIMESTAMP_FORMAT = "yyyy-MM-dd HH:mm:ss,SSS";
+
+    private static final int BLOCK_SIZE = 64 * 1024;
+    /** Distance in bytes between the records of a time index */
+    private static final long TIME_INDEX_INTERVAL = 1024 * 1024;
+    /** Minimum size of the part of the file scanned by one task */
+    private static final long MIN_CHUNK_SIZE = 4 * TIME_INDEX_INTERVAL;
+    private static final int MAX_INDEXED_FILES = 32;
+    /** How many words after the timestamp are checked for a level name */
+    private static final int LEVEL_WORDS = 3;
+    private static final int NO_LEVEL = Integer.MIN_VALUE;
+    /** Maximum number of chunks scanned at the same time */
+    static final int PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    private static final Map<String, Integer> LEVELS = new HashMap<>();
+
+    static {
+        for (Level level : LogLevelValidator.LEVELS) {
+            LEVELS.put(level.getName(), level.intValue());
+        }
+    }
+
+    private static final Map<String, TimeIndex> INDEXES = new LinkedHashMap<String, TimeIndex>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, TimeIndex> eldest) {
+            return size() > MAX_INDEXED_FILES;
+        }
+    };
+
+    /**
+     * A line matching the search.
+     */
+    static final class Match {
+        final long offset;
+        final String line;
+
+        Match(final long offset, final String line) {
+            this.offset = offset;
+            this.line = line;
+        }
+    }
+
+    private final Pattern pattern;
+    private final int minLevel;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final String timestampFormat;
+    private final DateTimeFormatter formatter;
+    private final int maxResults;
+    private final Charset charset;
+
+    /**
+     * Creates a new search.
+     *
+     * @param pattern         the pattern to find in the lines or {@code null} to match any line
+     * @param level           the minimum level of the records or {@code null} for any level
+     * @param from            the earliest time of the records or {@code null}
+     * @param to              the latest time of the records or {@code null}
+     * @param timestampFormat the format of the timestamp at the beginning of the records
+     * @param maxResults      the maximum number of lines to return
+     * @param charset         the encoding of the file, where a line feed must be the single byte {@code 0x0A}
+     */
+    LogFileSearch(final Pattern pattern, final Level level, final LocalDateTime from, final LocalDateTime to,
+                  final String timestampFormat, final int maxResults, final Charset charset) {
+        this.pattern = pattern;
+        this.minLevel = level == null ? NO_LEVEL : level.intValue();
+        this.from = from;
+        this.to = to;
+        this.timestampFormat = timestampFormat;
+        this.formatter = DateTimeFormatter.ofPattern(timestampFormat);
+        this.maxResults = maxResults;
+        this.charset = charset;
+    }
+
+    /**
+     * Searches the file.
+     *
+     * @param path     the file to search
+     * @param executor the executor to scan the chunks of the file with or {@code null} to scan them in the calling
+     *                 thread
+     *
+     * @return the matching lines in the order they appear in the file
+     *
+     * @throws IOException if the file could not be read
+     */
+    List<Match> search(final Path path, final Executor executor) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            long start = 0L;
+            long end = size;
+            final List<Long> boundaries;
+            if (usesRecords()) {
+                final TimeIndex index = getIndex(path, channel);
+                index.update(this, channel, size);
+                if (from != null) {
+                    start = index.startOf(from);
+                }
+                if (to != null) {
+                    end = index.endOf(to, size);
+                }
+                boundaries = index.boundaries(start, end);
+            } else {
+                boundaries = lineBoundaries(channel, start, end);
+            }
+
+            return scan(channel, boundaries, executor == null ? Runnable::run : executor);
+        }
+    }
+
+    /**
+     * Scans the chunks between the boundaries. The results are collected in the order of the chunks while the next
+     * chunks are scanned, up to {@link #PARALLELISM} at a time.
+     */
+    private List<Match> scan(final FileChannel channel, final List<Long> boundaries, final Executor executor) throws IOException {
+        final List<Match> matches = new ArrayList<>();
+        final Deque<FutureTask<List<Match>>> tasks = new ArrayDeque<>();
+        final AtomicBoolean done = new AtomicBoolean();
+        final int chunks = boundaries.size() - 1;
+        int submitted = 0;
+        try {
+            while (matches.size() < maxResults && (submitted < chunks || !tasks.isEmpty())) {
+                while (submitted < chunks && tasks.size() < PARALLELISM) {
+                    final long start = boundaries.get(submitted);
+                    final long end = boundaries.get(++submitted);
+                    final FutureTask<List<Match>> task = new FutureTask<>(() -> scanChunk(channel, start, end, done));
+                    tasks.addLast(task);
+                    executor.execute(task);
+                }
+                for (Match match : tasks.removeFirst().get()) {
+                    if (matches.size() == maxResults) {
+                        break;
+                    }
+                    matches.add(match);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            // Tasks which already started stop at their next line, interrupting them would close the channel
+            done.set(true);
+            for (FutureTask<List<Match>> task : tasks) {
+                task.cancel(false);
+            }
+        }
+        return matches;
+    }
+
+    private boolean usesRecords() {
+        return from != null || to != null || minLevel != NO_LEVEL;
+    }
+
+    /**
+     * Splits the file at line feeds, for searches which don't care about records.
+     */
+    private static List<Long> lineBoundaries(final FileChannel channel, final long start, final long end) throws IOException {
+        final List<Long> boundaries = new ArrayList<>();
+        boundaries.add(start);
+        long next = start + MIN_CHUNK_SIZE;
+        while (next < end) {
+            final LineCursor cursor = new LineCursor(channel, next - 1, end);
+            // Completes the line that contains the byte before the nominal boundary
+            cursor.next();
+            next = cursor.position;
+            if (next >= end) {
+                break;
+            }
+            boundaries.add(next);
+            next += MIN_CHUNK_SIZE;
+        }
+        boundaries.add(end);
+        return boundaries;
+    }
+
+    private List<Match> scanChunk(final FileChannel channel, final long start, final long end, final AtomicBoolean done) throws IOException {
+        final List<Match> matches = new ArrayList<>();
+        final boolean records = usesRecords();
+        final ParsePosition position = new ParsePosition(0);
+        LocalDateTime time = null;
+        int level = NO_LEVEL;
+        final LineCursor cursor = new LineCursor(channel, start, end);
+        while (matches.size() < maxResults && !done.get() && cursor.next()) {
+            final String line = cursor.decode(charset);
+            if (records) {
+                final LocalDateTime recordTime = parseTimestamp(line, position);
+                if (recordTime != null) {
+                    time = recordTime;
+                    level = parseLevel(line, position.getIndex());
+                }
+                if (from != null && (time == null || time.isBefore(from))) continue;
+                if (to != null && (time == null || time.isAfter(to))) continue;
+                if (minLevel != NO_LEVEL && level < minLevel) continue;
+            }
+            if (pattern == null || pattern.matcher(line).find()) {
+                matches.add(new Match(cursor.lineStart, line));
+            }
+        }
+        return matches;
+    }
+
+    private LocalDateTime parseTimestamp(final String line, final ParsePosition position) {
+        position.setIndex(0);
+        position.setErrorIndex(-1);
+        // Checks the format without the cost of an exception for every line that doesn't start a record
+        final TemporalAccessor parsed = formatter.parseUnresolved(line, position);
+        if (parsed == null || position.getErrorIndex() >= 0) {
+            return null;
+        }
+        try {
+            return LocalDateTime.from(formatter.parse(line.substring(0, position.getIndex())));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static int parseLevel(final String line, final int index) {
+        int i = index;
+        for (int word = 0; word < LEVEL_WORDS; word++) {
+            while (i < line.length() && !Character.isLetter(line.charAt(i))) {
+                i++;
+            }
+            final int start = i;
+            while (i < line.length() && Character.isLetter(line.charAt(i))) {
+                i++;
+            }
+            if (start == i) {
+                break;
+            }
+            final Integer level = LEVELS.get(line.substring(start, i));
+            if (level != null) {
+                return level;
+            }
+        }
+        return NO_LEVEL;
+    }
+
+    private TimeIndex getIndex(final Path path, final FileChannel channel) throws IOException {
+        final long size = channel.size();
+        final String key = path + "|" + timestampFormat;
+        synchronized (INDEXES) {
+            TimeIndex index = INDEXES.get(key);
+            // Log files are only appended to, anything else means it's been rotated and replaced
+            if (index == null || !index.isValidFor(path, channel, size)) {
+                index = new TimeIndex(LogFileReader.FileIdentity.of(path, channel));
+                INDEXES.put(key, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * The offsets and times of the first record after every {@link #TIME_INDEX_INTERVAL} bytes of a file.
+     */
+    private static final class TimeIndex {
+        private final LogFileReader.FileIdentity identity;
+        private long[] offsets = new long[16];
+        private LocalDateTime[] times = new LocalDateTime[16];
+        private int entries;
+        /** The start of the next part of the file to look for a record in, everything before it has been indexed */
+        private long next;
+
+        TimeIndex(final LogFileReader.FileIdentity identity) {
+            this.identity = identity;
+        }
+
+        synchronized boolean isValidFor(final Path path, final FileChannel channel, final long size) throws IOException {
+            return size >= next && identity.matches(path, channel);
+        }
+
+        synchronized void update(final LogFileSearch search, final FileChannel channel, final long size) throws IOException {
+            final ParsePosition position = new ParsePosition(0);
+            // Only complete parts are indexed, the last part is looked at again once it has been written
+            while (next + TIME_INDEX_INTERVAL <= size) {
+                final long limit = next + TIME_INDEX_INTERVAL;
+                final LineCursor cursor = new LineCursor(channel, next, limit);
+                if (next > 0) {
+                    // Most likely the end of a line that started before
+                    cursor.next();
+                }
+                boolean found = false;
+                while (!found && cursor.next()) {
+                    final LocalDateTime time = search.parseTimestamp(cursor.decode(search.charset), position);
+                    if (time != null) {
+                        add(cursor.lineStart, time);
+                        found = true;
+                    }
+                }
+                next = limit;
+            }
+        }
+
+        private void add(final long offset, final LocalDateTime time) {
+            if (entries == offsets.length) {
+                offsets = Arrays.copyOf(offsets, entries * 2);
+                times = Arrays.copyOf(times, entries * 2);
+            }
+            offsets[entries] = offset;
+            times[entries++] = time;
+        }
+
+        /**
+         * Gets the offset of the last indexed record before the time, records from that time can't be earlier.
+         */
+        synchronized long startOf(final LocalDateTime from) {
+            long start = 0L;
+            for (int i = 0; i < entries && times[i].isBefore(from); i++) {
+                start = offsets[i];
+            }
+            return start;
+        }
+
+        /**
+         * Gets the offset of the first indexed record after the time, records from that offset on are later.
+         */
+        synchronized long endOf(final LocalDateTime to, final long size) {
+            for (int i = 0; i < entries; i++) {
+                if (times[i].isAfter(to)) {
+                    return offsets[i];
+                }
+            }
+            return size;
+        }
+
+        /**
+         * Splits the part of the file at indexed records, so every chunk starts with a record.
+         */
+        synchronized List<Long> boundaries(final long start, final long end) {
+            final List<Long> boundaries = new ArrayList<>();
+            boundaries.add(start);
+            long last = start;
+            for (int i = 0; i < entries && offsets[i] < end; i++) {
+                if (offsets[i] - last >= MIN_CHUNK_SIZE) {
+                    boundaries.add(offsets[i]);
+                    last = offsets[i];
+                }
+            }
+            boundaries.add(Math.max(start, end));
+            return boundaries;
+        }
+    }
+
+    /**
+     * Reads the lines of a part of a file.
+     */
+    private static final class LineCursor {
+        private final FileChannel channel;
+        private final long limit;
+        private final ByteBuffer block = ByteBuffer.allocate(BLOCK_SIZE);
+        private long blockStart = -1L;
+        private long position;
+        private byte[] line = new byte[256];
+        private int lineLength;
+        long lineStart;
+
+        LineCursor(final FileChannel channel, final long start, final long limit) {
+            this.channel = channel;
+            this.position = start;
+            this.limit = limit;
+            block.limit(0);
+        }
+
+        /**
+         * Reads the next line, up to a line feed or the limit.
+         *
+         * @return {@code false} if the limit has been reached
+         */
+        boolean next() throws IOException {
+            if (position >= limit) {
+                return false;
+            }
+            lineStart = position;
+            lineLength = 0;
+            while (position < limit) {
+                if (blockStart < 0 || position >= blockStart + block.limit()) {
+                    LogFileReader.readFully(channel, block, position, (int) Math.min(BLOCK_SIZE, limit - position));
+                    blockStart = position;
+                    if (!block.hasRemaining()) {
+                        // Truncated
+                        position = limit;
+                        break;
+                    }
+                }
+                final int from = (int) (position - blockStart);
+                int i = from;
+                while (i < block.limit() && block.get(i) != '\n') {
+                    i++;
+                }
+                append(from, i - from);
+                position = blockStart + i;
+                if (i < block.limit()) {
+                    position++;
+                    break;
+                }
+            }
+            if (lineLength > 0 && line[lineLength - 1] == '\r') {
+                lineLength--;
+            }
+            return true;
+        }
+
+        private void append(final int from, final int length) {
+            if (lineLength + length > line.length) {
+                line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+            }
+            System.arraycopy(block.array(), from, line, lineLength, length);
+            lineLength += length;
+        }
+
+        String decode(final Charset charset) {
+            return new String(line, 0, lineLength, charset);
+        }
+    }
+}
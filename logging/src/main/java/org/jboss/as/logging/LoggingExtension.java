@@ -85,7 +85,7 @@ public class LoggingExtension implements Extension {
     static final GenericSubsystemDescribeHandler DESCRIBE_HANDLER = GenericSubsystemDescribeHandler.create(LoggingChildResourceComparator.INSTANCE);
 
     private static final int MANAGEMENT_API_MAJOR_VERSION = 5;
-    private static final int MANAGEMENT_API_MINOR_VERSION = 0;
+    private static final int MANAGEMENT_API_MINOR_VERSION = 1;
     private static final int MANAGEMENT_API_MICRO_VERSION = 0;
 
     private static final ModelVersion CURRENT_VERSION = ModelVersion.create(MANAGEMENT_API_MAJOR_VERSION, MANAGEMENT_API_MINOR_VERSION, MANAGEMENT_API_MICRO_VERSION);
@@ -238,6 +238,7 @@ public class LoggingExtension implements Extension {
         setParser(context, Namespace.LOGGING_2_0, new LoggingSubsystemParser_2_0());
         setParser(context, Namespace.LOGGING_3_0, new LoggingSubsystemParser_3_0());
         setParser(context, Namespace.LOGGING_4_0, new LoggingSubsystemParser_4_0());
+        setParser(context, Namespace.LOGGING_5_0, new LoggingSubsystemParser_5_0());
 
         // Hack to ensure the Element and Attribute enums are loaded during this call which
         // is part of concurrent boot. These enums trigger a lot of classloading and static
@@ -296,6 +297,9 @@ public class LoggingExtension implements Extension {
         final CustomHandlerResourceDefinition customHandlerResourceDefinition = new CustomHandlerResourceDefinition(includeLegacyAttributes);
         registration.registerSubModel(customHandlerResourceDefinition);
 
+        final RingBufferAsyncHandlerResourceDefinition ringBufferAsyncHandlerResourceDefinition = new RingBufferAsyncHandlerResourceDefinition();
+        registration.registerSubModel(ringBufferAsyncHandlerResourceDefinition);
+
         registration.registerSubModel(SyslogHandlerResourceDefinition.INSTANCE);
         registration.registerSubModel(PatternFormatterResourceDefinition.INSTANCE);
         registration.registerSubModel(CustomFormatterResourceDefinition.INSTANCE);
@@ -313,24 +317,36 @@ public class LoggingExtension implements Extension {
                     sizeRotatingHandlerResourceDefinition,
                     customHandlerResourceDefinition,
                     SyslogHandlerResourceDefinition.INSTANCE,
+                    ringBufferAsyncHandlerResourceDefinition,
                     PatternFormatterResourceDefinition.INSTANCE,
                     CustomFormatterResourceDefinition.INSTANCE);
         }
     }
 
     private void registerTransformers(final SubsystemRegistration registration, final TransformerResourceDefinition... defs) {
+        // Version 1.5.0 has the periodic-size-rotating-file-handler and the suffix attribute on the size-rotating-file-handler.
+        // Neither of these are in 2.0.0 (WildFly 8.x) so 2.0.0 and 1.5.0 need separate chains. Any transformer to
+        // 4.0.0 or later must be added to both chains.
         ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(registration.getSubsystemVersion());
 
-        registerTransformers(chainedBuilder, registration.getSubsystemVersion(), KnownModelVersion.VERSION_2_0_0, defs);
-        // Version 1.5.0 has the periodic-size-rotating-file-handler and the suffix attribute on the size-rotating-file-handler.
-        // Neither of these are in 2.0.0 (WildFly 8.x). Mapping from 3.0.0 to 1.5.0 is required
-        registerTransformers(chainedBuilder, KnownModelVersion.VERSION_3_0_0, KnownModelVersion.VERSION_1_5_0, defs);
+        registerTransformers(chainedBuilder, registration.getSubsystemVersion(), KnownModelVersion.VERSION_5_0_0, defs);
+        registerTransformers(chainedBuilder, KnownModelVersion.VERSION_5_0_0, KnownModelVersion.VERSION_2_0_0, defs);
 
         chainedBuilder.buildAndRegister(registration, new ModelVersion[] {
+                KnownModelVersion.VERSION_5_0_0.getModelVersion(),
                 KnownModelVersion.VERSION_2_0_0.getModelVersion(),
-        }, new ModelVersion[] {
+        });
+
+        // Mapping from 3.0.0 to 1.5.0 is required
+        ChainedTransformationDescriptionBuilder chained1xBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(registration.getSubsystemVersion());
+
+        registerTransformers(chained1xBuilder, registration.getSubsystemVersion(), KnownModelVersion.VERSION_4_0_0, defs);
+        registerTransformers(chained1xBuilder, KnownModelVersion.VERSION_3_0_0, KnownModelVersion.VERSION_1_5_0, defs);
+
+        chained1xBuilder.buildAndRegister(registration, new ModelVersion[] {
                 KnownModelVersion.VERSION_1_5_0.getModelVersion(),
                 KnownModelVersion.VERSION_3_0_0.getModelVersion(),
+                KnownModelVersion.VERSION_4_0_0.getModelVersion(),
         });
     }
 
@@ -406,6 +422,10 @@ public class LoggingExtension implements Extension {
                     result = GREATER;
                 } else if (AsyncHandlerResourceDefinition.ASYNC_HANDLER.equals(key2)) {
                     result = LESS;
+                } else if (RingBufferAsyncHandlerResourceDefinition.RING_BUFFER_ASYNC_HANDLER.equals(key1)) {
+                    result = GREATER;
+                } else if (RingBufferAsyncHandlerResourceDefinition.RING_BUFFER_ASYNC_HANDLER.equals(key2)) {
+                    result = LESS;
                 }
             }
             return result;
@@ -55,6 +55,7 @@ import static org.jboss.as.logging.PatternFormatterResourceDefinition.PATTERN_FO
 import static org.jboss.as.logging.PeriodicHandlerResourceDefinition.PERIODIC_ROTATING_FILE_HANDLER;
 import static org.jboss.as.logging.PeriodicHandlerResourceDefinition.SUFFIX;
 import static org.jboss.as.logging.PeriodicSizeRotatingHandlerResourceDefinition.PERIODIC_SIZE_ROTATING_FILE_HANDLER;
+import static org.jboss.as.logging.RingBufferAsyncHandlerResourceDefinition.RING_BUFFER_ASYNC_HANDLER;
 import static org.jboss.as.logging.RootLoggerResourceDefinition.ROOT_LOGGER_ATTRIBUTE_NAME;
 import static org.jboss.as.logging.RootLoggerResourceDefinition.ROOT_LOGGER_PATH_NAME;
 import static org.jboss.as.logging.SizeRotatingHandlerResourceDefinition.MAX_BACKUP_INDEX;
@@ -204,6 +205,17 @@ public class LoggingSubsystemWriter implements XMLStreamConstants, XMLElementWri
                 }
             }
         }
+        if (model.hasDefined(RING_BUFFER_ASYNC_HANDLER)) {
+            final ModelNode handlers = model.get(RING_BUFFER_ASYNC_HANDLER);
+
+            for (Property handlerProp : handlers.asPropertyList()) {
+                final String name = handlerProp.getName();
+                final ModelNode handler = handlerProp.getValue();
+                if (handler.isDefined()) {
+                    writeRingBufferAsyncHandler(writer, handler, name);
+                }
+            }
+        }
         if (model.hasDefined(LOGGER)) {
             for (String name : model.get(LOGGER).keys()) {
                 writeLogger(writer, name, model.get(LOGGER, name));
@@ -341,6 +353,19 @@ public class LoggingSubsystemWriter implements XMLStreamConstants, XMLElementWri
         writer.writeEndElement();
     }
 
+    private void writeRingBufferAsyncHandler(final XMLExtendedStreamWriter writer, final ModelNode model, final String name) throws XMLStreamException {
+        writer.writeStartElement(Element.RING_BUFFER_ASYNC_HANDLER.getLocalName());
+        writer.writeAttribute(HANDLER_NAME.getXmlName(), name);
+        ENABLED.marshallAsAttribute(model, false, writer);
+        LEVEL.marshallAsElement(model, writer);
+        FILTER_SPEC.marshallAsElement(model, writer);
+        RingBufferAsyncHandlerResourceDefinition.QUEUE_LENGTH.marshallAsElement(model, writer);
+        OVERFLOW_ACTION.marshallAsElement(model, writer);
+        SUBHANDLERS.marshallAsElement(model, writer);
+
+        writer.writeEndElement();
+    }
+
     private void writeLogger(final XMLExtendedStreamWriter writer, String name, final ModelNode model) throws XMLStreamException {
         writer.writeStartElement(Element.LOGGER.getLocalName());
         writer.writeAttribute(CATEGORY.getXmlName(), name);
@@ -0,0 +1,156 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.logging.AsyncHandlerResourceDefinition.OVERFLOW_ACTION;
+import static org.jboss.as.logging.AsyncHandlerResourceDefinition.SUBHANDLERS;
+import static org.jboss.as.logging.CommonAttributes.ADD_HANDLER_OPERATION_NAME;
+import static org.jboss.as.logging.CommonAttributes.ENABLED;
+import static org.jboss.as.logging.CommonAttributes.FILTER_SPEC;
+import static org.jboss.as.logging.CommonAttributes.LEVEL;
+import static org.jboss.as.logging.CommonAttributes.REMOVE_HANDLER_OPERATION_NAME;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.logging.logmanager.PropertySorter;
+import org.jboss.as.logging.logmanager.RingBufferAsyncHandler;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * An asynchronous handler queueing records in a lock-free ring buffer. Unlike the {@code async-handler} it exposes the
+ * number of queued and dropped records as metrics.
+ */
+class RingBufferAsyncHandlerResourceDefinition extends AbstractHandlerDefinition {
+
+    public static final String RING_BUFFER_ASYNC_HANDLER = "ring-buffer-async-handler";
+    static final PathElement RING_BUFFER_ASYNC_HANDLER_PATH = PathElement.pathElement(RING_BUFFER_ASYNC_HANDLER);
+
+    // With a single slot the ring buffer cannot tell a written slot from one freed for the next lap
+    public static final PropertyAttributeDefinition QUEUE_LENGTH = PropertyAttributeDefinition.Builder.of("queue-length", ModelType.INT)
+            .setAllowExpression(true)
+            .setAttributeMarshaller(ElementAttributeMarshaller.VALUE_ATTRIBUTE_MARSHALLER)
+            .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+            .setPropertyName("queueLength")
+            .setValidator(new IntRangeValidator(2, false))
+            .build();
+
+    public static final SimpleAttributeDefinition QUEUE_DEPTH = SimpleAttributeDefinitionBuilder.create("queue-depth", ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    public static final SimpleAttributeDefinition DROPPED_COUNT = SimpleAttributeDefinitionBuilder.create("dropped-count", ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    static final AttributeDefinition[] ATTRIBUTES = {ENABLED, LEVEL, FILTER_SPEC, QUEUE_LENGTH, OVERFLOW_ACTION, SUBHANDLERS};
+
+    public RingBufferAsyncHandlerResourceDefinition() {
+        super(RING_BUFFER_ASYNC_HANDLER_PATH, false, RingBufferAsyncHandler.class, PropertySorter.NO_OP, ATTRIBUTES, null, ATTRIBUTES, QUEUE_LENGTH);
+    }
+
+    /**
+     * Gets the name the handler at the address is {@linkplain RingBufferAsyncHandler#find(String) registered} with.
+     * Handlers of a logging profile are qualified with the profile name as handler names are only unique within a
+     * log context.
+     *
+     * @param address the address of the handler resource
+     *
+     * @return the registered name
+     */
+    static String getRegisteredName(final PathAddress address) {
+        final String name = address.getLastElement().getValue();
+        final String profileName = LoggingProfileOperations.getLoggingProfileName(address);
+        return profileName == null ? name : CommonAttributes.LOGGING_PROFILE + "=" + profileName + "/" + name;
+    }
+
+    @Override
+    public void registerAttributes(final ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        // The handler only exists on servers
+        if (resourceRegistration.getProcessType().isServer()) {
+            resourceRegistration.registerMetric(QUEUE_DEPTH, MetricHandler.INSTANCE);
+            resourceRegistration.registerMetric(DROPPED_COUNT, MetricHandler.INSTANCE);
+        }
+    }
+
+    @Override
+    public void registerOperations(final ManagementResourceRegistration registration) {
+        super.registerOperations(registration);
+        final ResourceDescriptionResolver resourceDescriptionResolver = getResourceDescriptionResolver();
+        registration.registerOperationHandler(new SimpleOperationDefinitionBuilder(ADD_HANDLER_OPERATION_NAME, resourceDescriptionResolver)
+                .setParameters(CommonAttributes.HANDLER_NAME)
+                .build(), HandlerOperations.ADD_SUBHANDLER);
+
+        registration.registerOperationHandler(new SimpleOperationDefinitionBuilder(REMOVE_HANDLER_OPERATION_NAME, resourceDescriptionResolver)
+                .setParameters(CommonAttributes.HANDLER_NAME)
+                .build(), HandlerOperations.REMOVE_SUBHANDLER);
+    }
+
+    @Override
+    public void registerTransformers(final KnownModelVersion modelVersion,
+                                     final ResourceTransformationDescriptionBuilder rootResourceBuilder,
+                                     final ResourceTransformationDescriptionBuilder loggingProfileBuilder) {
+        // The first step of both transformer chains rejects the handler for every older version
+        switch (modelVersion) {
+            case VERSION_4_0_0:
+            case VERSION_5_0_0: {
+                rootResourceBuilder.rejectChildResource(RING_BUFFER_ASYNC_HANDLER_PATH);
+                loggingProfileBuilder.rejectChildResource(RING_BUFFER_ASYNC_HANDLER_PATH);
+                break;
+            }
+        }
+    }
+
+    private static class MetricHandler implements OperationStepHandler {
+        static final MetricHandler INSTANCE = new MetricHandler();
+
+        @Override
+        public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            final String attributeName = operation.require(NAME).asString();
+            final RingBufferAsyncHandler handler = RingBufferAsyncHandler.find(getRegisteredName(context.getCurrentAddress()));
+            if (handler != null) {
+                if (QUEUE_DEPTH.getName().equals(attributeName)) {
+                    context.getResult().set(handler.getQueueDepth());
+                } else if (DROPPED_COUNT.getName().equals(attributeName)) {
+                    context.getResult().set(handler.getDroppedCount());
+                }
+            }
+        }
+    }
+}
@@ -943,4 +943,37 @@ public interface LoggingLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 90, value = "The following path expressions could not be resolved while attempting to determine which log files are available to be read: %s")
     void unresolvablePathExpressions(Set<String> unresolvableExpressions);
+
+    /**
+     * Creates an exception indicating the search pattern is not a valid regular expression.
+     *
+     * @param pattern the invalid pattern
+     * @param reason  why the pattern is invalid
+     *
+     * @return an {@link OperationFailedException} for the error
+     */
+    @Message(id = 91, value = "The pattern '%s' is not a valid regular expression: %s")
+    OperationFailedException invalidSearchPattern(String pattern, String reason);
+
+    /**
+     * Creates an exception indicating a time could not be parsed with the timestamp format.
+     *
+     * @param value  the value that could not be parsed
+     * @param format the timestamp format
+     *
+     * @return an {@link OperationFailedException} for the error
+     */
+    @Message(id = 92, value = "The value '%s' cannot be parsed as a date and time with the format '%s'")
+    OperationFailedException invalidSearchTime(String value, String format);
+
+    /**
+     * Creates an exception indicating the timestamp format is not valid.
+     *
+     * @param format the invalid format
+     * @param reason why the format is invalid
+     *
+     * @return an {@link OperationFailedException} for the error
+     */
+    @Message(id = 93, value = "The timestamp format '%s' is not valid: %s")
+    OperationFailedException invalidTimestampFormat(String format, String reason);
 }
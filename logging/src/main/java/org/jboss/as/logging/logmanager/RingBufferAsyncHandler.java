@@ -0,0 +1,315 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging.logmanager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+
+/**
+ * An asynchronous handler which hands records to its nested handlers from a single background thread.
+ * <p>
+ * Records are queued in a fixed size ring buffer which any number of threads can add to without taking a lock. The
+ * background thread drains every record available in one pass before it waits again. When the buffer is full a
+ * record is either discarded, and counted as dropped, or the logging thread waits for a free slot, depending on the
+ * {@link OverflowAction overflow action}.
+ * <p>
+ * Nested handlers are not closed when this handler is closed.
+ */
+public class RingBufferAsyncHandler extends ExtHandler {
+
+    private static final ConcurrentMap<String, RingBufferAsyncHandler> INSTANCES = new ConcurrentHashMap<>();
+
+    private static final int NEW = 0;
+    private static final int RUNNING = 1;
+    private static final int CLOSED = 2;
+    private static final int BLOCK_SPINS = 64;
+    private static final long BLOCK_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+
+    private final int queueLength;
+    private final AtomicReferenceArray<ExtLogRecord> records;
+    // The position a slot is ready for: equal to the position to write to, or to that position plus one once written
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicInteger state = new AtomicInteger(NEW);
+    private volatile long head;
+    private volatile boolean waiting;
+    private volatile OverflowAction overflowAction = OverflowAction.BLOCK;
+    private volatile String name;
+    private volatile Thread thread;
+
+    /**
+     * Creates a new handler.
+     *
+     * @param queueLength the number of records the buffer can hold, at least 2 as a written slot could not be told
+     *                    apart from a slot freed for the next lap with a single slot
+     */
+    public RingBufferAsyncHandler(final int queueLength) {
+        if (queueLength < 2) {
+            throw new IllegalArgumentException("queueLength must be at least 2");
+        }
+        this.queueLength = queueLength;
+        records = new AtomicReferenceArray<>(queueLength);
+        sequences = new AtomicLongArray(queueLength);
+        for (int i = 0; i < queueLength; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Finds the handler registered with the name.
+     *
+     * @param name the name the handler was registered with
+     *
+     * @return the handler or {@code null} if no open handler has the name
+     */
+    public static RingBufferAsyncHandler find(final String name) {
+        return INSTANCES.get(name);
+    }
+
+    public int getQueueLength() {
+        return queueLength;
+    }
+
+    public OverflowAction getOverflowAction() {
+        return overflowAction;
+    }
+
+    public void setOverflowAction(final OverflowAction overflowAction) {
+        checkAccess(this);
+        this.overflowAction = overflowAction;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the name the handler can be {@linkplain #find(String) found} with.
+     *
+     * @param name the name or {@code null} to unregister the handler
+     */
+    public void setName(final String name) {
+        checkAccess(this);
+        final String old = this.name;
+        if (old != null) {
+            INSTANCES.remove(old, this);
+        }
+        this.name = name;
+        if (name != null && state.get() != CLOSED) {
+            INSTANCES.put(name, this);
+        }
+    }
+
+    /**
+     * Gets the number of records waiting to be published to the nested handlers.
+     *
+     * @return the number of queued records
+     */
+    public long getQueueDepth() {
+        final long head = this.head;
+        return Math.max(0L, Math.min(tail.get() - head, queueLength));
+    }
+
+    /**
+     * Gets the number of records discarded because the buffer was full or the logging thread was interrupted while it
+     * waited for a free slot.
+     *
+     * @return the number of dropped records
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    protected void doPublish(final ExtLogRecord record) {
+        int state = this.state.get();
+        if (state == NEW) {
+            start();
+            state = this.state.get();
+        }
+        if (state == CLOSED) {
+            return;
+        }
+        if (Thread.currentThread() == thread) {
+            // A nested handler logged, waiting for the buffer here could never end
+            publish(handlers, record);
+            return;
+        }
+        // The record is published from another thread, capture the caller's details now
+        record.copyAll();
+        if (offer(record)) {
+            signal();
+            return;
+        }
+        if (overflowAction == OverflowAction.DISCARD) {
+            dropped.increment();
+            return;
+        }
+        int spins = 0;
+        boolean queued = false;
+        while (!queued) {
+            if (Thread.interrupted()) {
+                dropped.increment();
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (this.state.get() == CLOSED) {
+                return;
+            }
+            if (spins < BLOCK_SPINS) {
+                spins++;
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(this, BLOCK_WAIT_NANOS);
+            }
+            queued = offer(record);
+        }
+        signal();
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        checkAccess(this);
+        if (state.getAndSet(CLOSED) != CLOSED) {
+            final String name = this.name;
+            if (name != null) {
+                INSTANCES.remove(name, this);
+            }
+            final Thread thread = this.thread;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    private void start() {
+        if (state.compareAndSet(NEW, RUNNING)) {
+            final Thread thread = new Thread(new Consumer(), "Ring buffer async handler" + (name == null ? "" : " - " + name));
+            thread.setDaemon(true);
+            this.thread = thread;
+            thread.start();
+        }
+    }
+
+    private boolean offer(final ExtLogRecord record) {
+        for (;;) {
+            final long position = tail.get();
+            final int index = (int) (position % queueLength);
+            final long available = sequences.get(index) - position;
+            if (available == 0L) {
+                if (tail.compareAndSet(position, position + 1L)) {
+                    records.set(index, record);
+                    sequences.set(index, position + 1L);
+                    return true;
+                }
+            } else if (available < 0L) {
+                // The slot still holds the record written one lap ago
+                return false;
+            }
+            // Another thread took the slot, retry with the new tail
+        }
+    }
+
+    private void signal() {
+        if (waiting) {
+            waiting = false;
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Publishes every record in the buffer.
+     *
+     * @return the number of records published
+     */
+    private int drain() {
+        final Handler[] handlers = this.handlers;
+        long position = head;
+        int count = 0;
+        for (;;) {
+            final int index = (int) (position % queueLength);
+            if (sequences.get(index) != position + 1L) {
+                break;
+            }
+            final ExtLogRecord record = records.get(index);
+            records.set(index, null);
+            // Hand the slot back to the producers for the next lap
+            sequences.set(index, position + queueLength);
+            head = ++position;
+            publish(handlers, record);
+            count++;
+        }
+        return count;
+    }
+
+    private void publish(final Handler[] handlers, final ExtLogRecord record) {
+        if (handlers == null) {
+            return;
+        }
+        for (Handler handler : handlers) {
+            try {
+                handler.publish(record);
+            } catch (Exception e) {
+                reportError("Failed to publish record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    private class Consumer implements Runnable {
+
+        @Override
+        public void run() {
+            for (;;) {
+                if (drain() > 0) {
+                    continue;
+                }
+                if (state.get() == CLOSED) {
+                    // Publish what was queued before the close
+                    drain();
+                    return;
+                }
+                waiting = true;
+                // Re-check after announcing the wait so a record queued meanwhile is not left behind
+                if (getQueueDepth() == 0L && state.get() != CLOSED) {
+                    LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+                }
+                waiting = false;
+            }
+        }
+    }
+}
@@ -73,6 +73,7 @@ public abstract class AbstractLoggingSubsystemTest extends AbstractSubsystemBase
             PeriodicSizeRotatingHandlerResourceDefinition.PERIODIC_SIZE_ROTATING_FILE_HANDLER,
             SizeRotatingHandlerResourceDefinition.SIZE_ROTATING_FILE_HANDLER,
             SyslogHandlerResourceDefinition.SYSLOG_HANDLER,
+            RingBufferAsyncHandlerResourceDefinition.RING_BUFFER_ASYNC_HANDLER,
     };
 
     public static final PathElement SUBSYSTEM_PATH = PathElement.pathElement(ModelDescriptionConstants.SUBSYSTEM, LoggingExtension.SUBSYSTEM_NAME);
@@ -602,6 +603,10 @@ public abstract class AbstractLoggingSubsystemTest extends AbstractSubsystemBase
                 result = GREATER;
             } else if (AsyncHandlerResourceDefinition.ASYNC_HANDLER.equals(key2)) {
                 result = LESS;
+            } else if (RingBufferAsyncHandlerResourceDefinition.RING_BUFFER_ASYNC_HANDLER.equals(key1)) {
+                result = GREATER;
+            } else if (RingBufferAsyncHandlerResourceDefinition.RING_BUFFER_ASYNC_HANDLER.equals(key2)) {
+                result = LESS;
             }
             return result;
         }
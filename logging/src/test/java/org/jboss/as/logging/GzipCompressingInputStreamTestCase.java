@@ -0,0 +1,105 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+/**
+ * Tests of {@link GzipCompressingInputStream} and of the streams attached by the stream-log-file operation.
+ */
+public class GzipCompressingInputStreamTestCase {
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        assertRoundTrip(new byte[0]);
+        assertRoundTrip("one line\n".getBytes(StandardCharsets.UTF_8));
+        final StringBuilder log = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            log.append("INFO [org.jboss.as] message ").append(i).append('\n');
+        }
+        assertRoundTrip(log.toString().getBytes(StandardCharsets.UTF_8));
+        // Incompressible content larger than the buffers
+        final byte[] random = new byte[100000];
+        new Random(1).nextBytes(random);
+        assertRoundTrip(random);
+    }
+
+    @Test
+    public void testStreamLogFile() throws Exception {
+        final Path file = Files.createTempFile("stream-log-file", ".log");
+        try {
+            final byte[] content = new byte[50000];
+            for (int i = 0; i < content.length; i++) {
+                content[i] = (byte) ('a' + i % 26);
+            }
+            Files.write(file, content);
+            assertStreamLogFile(file, content, 0, -1);
+            assertStreamLogFile(file, content, 100, 1000);
+            assertStreamLogFile(file, content, content.length - 10, 100);
+            assertStreamLogFile(file, content, content.length, -1);
+            assertStreamLogFile(file, content, 0, 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static void assertStreamLogFile(final Path file, final byte[] content, final int offset, final int length) throws IOException {
+        final int end = length < 0 ? content.length : Math.min(content.length, offset + length);
+        final byte[] expected = Arrays.copyOfRange(content, Math.min(offset, content.length), end);
+        try (InputStream in = LogFileResourceDefinition.StreamLogFileOperation.openStream(file, offset, length, false)) {
+            assertArrayEquals(expected, readAll(in));
+        }
+        try (InputStream in = new GZIPInputStream(LogFileResourceDefinition.StreamLogFileOperation.openStream(file, offset, length, true))) {
+            assertArrayEquals(expected, readAll(in));
+        }
+    }
+
+    private static void assertRoundTrip(final byte[] content) throws IOException {
+        try (InputStream in = new GZIPInputStream(new GzipCompressingInputStream(new ByteArrayInputStream(content)))) {
+            assertArrayEquals(content, readAll(in));
+        }
+    }
+
+    private static byte[] readAll(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[1000];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Compares {@link LogFileReader} with reading every line of the file.
+ */
+public class LogFileReaderTestCase {
+
+    private File file;
+
+    @Before
+    public void createFile() throws IOException {
+        file = File.createTempFile("log-file-reader", ".log");
+    }
+
+    @After
+    public void deleteFile() {
+        file.delete();
+    }
+
+    @Test
+    public void testSmallFiles() throws Exception {
+        final String[] contents = {"", "\n", "one", "one\n", "one\ntwo", "one\r\ntwo\r\n", "one\n\n\nfour\n", "\n\none", "one\rtwo\n", "one\r\r\ntwo\r"};
+        for (String content : contents) {
+            Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+            for (int skip = 0; skip < 6; skip++) {
+                for (int lines = -1; lines < 6; lines++) {
+                    assertLines(content, "UTF-8", skip, lines);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testIndexedReads() throws Exception {
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < LogFileReader.INDEX_INTERVAL * 5 + 17; i++) {
+            content.append("line ").append(i).append(" \u00e9\n");
+        }
+        Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+        final int[] skips = {0, 999, 1000, 1001, 2500, 4999, 5016, 5017, 5018, 10000};
+        for (int skip : skips) {
+            assertLines(content.toString(), "UTF-8", skip, 10);
+            assertLines(content.toString(), "UTF-8", skip, -1);
+        }
+
+        // The index needs to pick up what is appended to the file
+        content.append("appended line\nand a partial one");
+        Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+        for (int skip : skips) {
+            assertLines(content.toString(), "UTF-8", skip, 10);
+        }
+    }
+
+    @Test
+    public void testReplacedFile() throws Exception {
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < LogFileReader.INDEX_INTERVAL * 3; i++) {
+            content.append("line ").append(i).append('\n');
+        }
+        Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+        assertLines(content.toString(), "UTF-8", 2500, 10);
+
+        // Truncated and written again in place, the file keeps its key and grows past the indexed size
+        final StringBuilder replaced = new StringBuilder();
+        for (int i = 0; i < LogFileReader.INDEX_INTERVAL * 4; i++) {
+            replaced.append("replaced line ").append(i).append('\n');
+        }
+        Files.write(file.toPath(), replaced.toString().getBytes(StandardCharsets.UTF_8));
+        assertLines(replaced.toString(), "UTF-8", 2500, 10);
+    }
+
+    @Test
+    public void testMultiByteLineFeed() throws Exception {
+        final String content = "one\ntwo\r\nthree\rstill three\n";
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_16));
+        for (int skip = 0; skip < 4; skip++) {
+            assertLines(content, "UTF-16", skip, 2);
+            assertLines(content, "UTF-16", skip, -1);
+        }
+    }
+
+    private void assertLines(final String content, final String encoding, final int skip, final int numberOfLines) throws IOException {
+        // Only a line feed ends a line
+        final List<String> all = new ArrayList<>();
+        int start = 0;
+        while (start < content.length()) {
+            int end = content.indexOf('\n', start);
+            final int next = end < 0 ? content.length() : end + 1;
+            if (end < 0) {
+                end = content.length();
+            }
+            if (end > start && content.charAt(end - 1) == '\r') {
+                end--;
+            }
+            all.add(content.substring(start, end));
+            start = next;
+        }
+        final String message = String.format("content=%s, skip=%d, lines=%d", content.length() < 50 ? content : "...", skip, numberOfLines);
+        assertEquals(message, expected(all, skip, numberOfLines, false), LogFileReader.readLines(file, encoding, false, skip, numberOfLines));
+        assertEquals(message, expected(all, skip, numberOfLines, true), LogFileReader.readLines(file, encoding, true, skip, numberOfLines));
+    }
+
+    private static List<String> expected(final List<String> all, final int skip, final int numberOfLines, final boolean tail) {
+        if (numberOfLines == 0 || skip >= all.size()) {
+            return Collections.emptyList();
+        }
+        if (tail) {
+            final int end = all.size() - skip;
+            final int start = numberOfLines < 0 ? 0 : Math.max(0, end - numberOfLines);
+            return all.subList(start, end);
+        }
+        final int end = numberOfLines < 0 ? all.size() : Math.min(all.size(), skip + numberOfLines);
+        return all.subList(skip, end);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.jboss.logmanager.Level;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link LogFileSearch}.
+ */
+public class LogFileSearchTestCase {
+
+    private static final LocalDateTime START = LocalDateTime.of(2018, 1, 1, 0, 0);
+    // Enough records for the file to be split into several chunks
+    private static final int RECORDS = 200_000;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private File file;
+    private byte[] content;
+
+    @Before
+    public void createFile() throws IOException {
+        file = File.createTempFile("log-file-search", ".log");
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(LogFileSearch.DEFAULT_TIMESTAMP_FORMAT);
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < RECORDS; i++) {
+            sb.append(formatter.format(START.plusSeconds(i)))
+                    .append(i % 100 == 0 ? " ERROR" : " INFO ")
+                    .append(" [org.jboss.as.test] (main) message ").append(i).append('\n');
+            if (i % 100 == 0) {
+                sb.append("\tat org.jboss.as.test.Test.method(Test.java:").append(i).append(")\n");
+            }
+        }
+        content = sb.toString().getBytes(StandardCharsets.UTF_8);
+        Files.write(file.toPath(), content);
+    }
+
+    @After
+    public void deleteFile() {
+        file.delete();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testPattern() throws Exception {
+        final List<LogFileSearch.Match> matches = search(Pattern.compile("message 1234\\d$"), null, null, null, 100);
+        assertEquals(10, matches.size());
+        for (int i = 0; i < matches.size(); i++) {
+            final LogFileSearch.Match match = matches.get(i);
+            assertEquals(true, match.line.endsWith("message 1234" + i));
+            // The offset points to the line in the file
+            assertEquals(match.line, new String(content, (int) match.offset, match.line.length(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testLevel() throws Exception {
+        final List<LogFileSearch.Match> matches = search(null, Level.ERROR, null, null, RECORDS);
+        // Each error record has a second line, which belongs to it
+        assertEquals(RECORDS / 100 * 2, matches.size());
+        assertEquals(true, matches.get(1).line.startsWith("\tat "));
+    }
+
+    @Test
+    public void testTimeWindow() throws Exception {
+        final LocalDateTime from = START.plusDays(1);
+        final List<LogFileSearch.Match> matches = search(null, null, from, from.plusMinutes(1), RECORDS);
+        // 61 records, one of them an error with a second line
+        assertEquals(62, matches.size());
+        assertEquals(true, matches.get(0).line.endsWith("message 86400"));
+        assertEquals(true, matches.get(61).line.endsWith("message 86460"));
+    }
+
+    @Test
+    public void testMaxResults() throws Exception {
+        // The first chunk has enough matches, the chunks after the first ones scanned in parallel are never scanned
+        final AtomicInteger scanned = new AtomicInteger();
+        final List<LogFileSearch.Match> matches = new LogFileSearch(null, null, null, null, LogFileSearch.DEFAULT_TIMESTAMP_FORMAT, 5, StandardCharsets.UTF_8)
+                .search(file.toPath(), task -> {
+                    scanned.incrementAndGet();
+                    executor.execute(task);
+                });
+        assertEquals(5, matches.size());
+        assertEquals(0L, matches.get(0).offset);
+        assertEquals(true, scanned.get() <= LogFileSearch.PARALLELISM);
+    }
+
+    @Test
+    public void testAppendedRecords() throws Exception {
+        final LocalDateTime from = START.plusSeconds(RECORDS - 10);
+        assertEquals(10, search(null, null, from, null, RECORDS).size());
+
+        // Less than an index interval is appended, the records have to be found with the index extended
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(LogFileSearch.DEFAULT_TIMESTAMP_FORMAT);
+        final StringBuilder sb = new StringBuilder();
+        for (int i = RECORDS; i < RECORDS + 100; i++) {
+            sb.append(formatter.format(START.plusSeconds(i))).append(" INFO  [org.jboss.as.test] (main) appended ").append(i).append('\n');
+        }
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        final List<LogFileSearch.Match> matches = search(null, null, from, null, RECORDS);
+        assertEquals(110, matches.size());
+        assertEquals(true, matches.get(109).line.endsWith("appended " + (RECORDS + 99)));
+    }
+
+    private List<LogFileSearch.Match> search(final Pattern pattern, final Level level, final LocalDateTime from,
+                                             final LocalDateTime to, final int maxResults) throws IOException {
+        return new LogFileSearch(pattern, level, from, to, LogFileSearch.DEFAULT_TIMESTAMP_FORMAT, maxResults, StandardCharsets.UTF_8)
+                .search(file.toPath(), executor);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.logging.logmanager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link RingBufferAsyncHandler}.
+ */
+public class RingBufferAsyncHandlerTestCase {
+
+    private static final int PRODUCERS = 8;
+    private static final int RECORDS = 5000;
+
+    private final List<RingBufferAsyncHandler> handlers = new ArrayList<>();
+
+    @After
+    public void cleanup() {
+        for (RingBufferAsyncHandler handler : handlers) {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        final CollectingHandler collector = new CollectingHandler(PRODUCERS * RECORDS);
+        // A small buffer makes the producers wait for free slots
+        final RingBufferAsyncHandler handler = createHandler(16, collector);
+
+        final List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < PRODUCERS; i++) {
+            final int producer = i;
+            final Thread thread = new Thread(() -> {
+                for (int r = 0; r < RECORDS; r++) {
+                    handler.publish(new ExtLogRecord(Level.INFO, producer + ":" + r, RingBufferAsyncHandlerTestCase.class.getName()));
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+        for (Thread thread : producers) {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        Assert.assertTrue(collector.latch.await(30, TimeUnit.SECONDS));
+        Assert.assertEquals(PRODUCERS * RECORDS, collector.messages.size());
+        Assert.assertEquals(0L, handler.getDroppedCount());
+        Assert.assertEquals(0L, handler.getQueueDepth());
+    }
+
+    @Test
+    public void testDiscard() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CollectingHandler collector = new CollectingHandler(1) {
+            @Override
+            protected void doPublish(final ExtLogRecord record) {
+                super.doPublish(record);
+                try {
+                    release.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        final RingBufferAsyncHandler handler = createHandler(4, collector);
+        handler.setOverflowAction(OverflowAction.DISCARD);
+
+        handler.publish(new ExtLogRecord(Level.INFO, "first", RingBufferAsyncHandlerTestCase.class.getName()));
+        // Wait until the consumer is stuck in the nested handler
+        Assert.assertTrue(collector.latch.await(30, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new ExtLogRecord(Level.INFO, "message " + i, RingBufferAsyncHandlerTestCase.class.getName()));
+        }
+        Assert.assertEquals(4L, handler.getQueueDepth());
+        Assert.assertEquals(6L, handler.getDroppedCount());
+        release.countDown();
+    }
+
+    @Test
+    public void testSmallestQueue() throws Exception {
+        try {
+            new RingBufferAsyncHandler(1);
+            Assert.fail("A queue length of 1 should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+
+        // Every slot is reused on each lap of the smallest buffer
+        final CollectingHandler collector = new CollectingHandler(RECORDS);
+        final RingBufferAsyncHandler handler = createHandler(2, collector);
+        for (int r = 0; r < RECORDS; r++) {
+            handler.publish(new ExtLogRecord(Level.INFO, "message " + r, RingBufferAsyncHandlerTestCase.class.getName()));
+        }
+        Assert.assertTrue(collector.latch.await(30, TimeUnit.SECONDS));
+        Assert.assertEquals(RECORDS, collector.messages.size());
+        Assert.assertEquals(0L, handler.getDroppedCount());
+    }
+
+    @Test
+    public void testFind() throws Exception {
+        final RingBufferAsyncHandler handler = createHandler(4, new CollectingHandler(0));
+        handler.setName("test-ring-buffer");
+        Assert.assertSame(handler, RingBufferAsyncHandler.find("test-ring-buffer"));
+
+        // A replacement handler takes over the name and is not unregistered by closing the original
+        final RingBufferAsyncHandler replacement = createHandler(4, new CollectingHandler(0));
+        replacement.setName("test-ring-buffer");
+        handler.close();
+        Assert.assertSame(replacement, RingBufferAsyncHandler.find("test-ring-buffer"));
+        replacement.close();
+        Assert.assertNull(RingBufferAsyncHandler.find("test-ring-buffer"));
+    }
+
+    private RingBufferAsyncHandler createHandler(final int queueLength, final ExtHandler nested) {
+        final RingBufferAsyncHandler handler = new RingBufferAsyncHandler(queueLength);
+        handler.addHandler(nested);
+        handlers.add(handler);
+        return handler;
+    }
+
+    private static class CollectingHandler extends ExtHandler {
+        final Set<String> messages = ConcurrentHashMap.newKeySet();
+        final CountDownLatch latch;
+
+        CollectingHandler(final int expected) {
+            latch = new CountDownLatch(expected);
+        }
+
+        @Override
+        protected void doPublish(final ExtLogRecord record) {
+            messages.add(record.getMessage());
+            latch.countDown();
+        }
+    }
+}
@@ -230,6 +230,13 @@ public class PlatformMBeanConstants {
     public static final String MEMORY_USED_NAME = "memory-used";
     public static final String TOTAL_CAPACITY = "total-capacity";
 
+    // Platform mbeans root
+    public static final String READ_METRICS_SNAPSHOT = "read-metrics-snapshot";
+    public static final String TIMESTAMP = "timestamp";
+    public static final String PREVIOUS = "previous";
+    public static final String DELTA = "delta";
+    public static final String INTERVAL = "interval";
+
     // PlatformLoggingMXBean
 
     public static final String LOGGER_NAMES = "logger-names";
@@ -16,6 +16,12 @@ public class PlatformMBeanResourceDefinition extends SimpleResourceDefinition {
                 PlatformMBeanUtil.getResolver("platform-mbeans")).setRuntime());
     }
 
+    @Override
+    public void registerOperations(ManagementResourceRegistration resourceRegistration) {
+        super.registerOperations(resourceRegistration);
+        resourceRegistration.registerOperationHandler(ReadMetricsSnapshotHandler.DEFINITION, ReadMetricsSnapshotHandler.INSTANCE);
+    }
+
     @Override
     public void registerChildren(ManagementResourceRegistration resourceRegistration) {
         super.registerChildren(resourceRegistration);
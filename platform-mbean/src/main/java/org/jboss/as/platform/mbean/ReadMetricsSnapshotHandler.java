@@ -0,0 +1,169 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.platform.mbean;
+
+import static org.jboss.as.platform.mbean.PlatformMBeanUtil.escapeMBeanName;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Reads the numeric metrics of all the platform mbeans in one pass, directly from the MXBeans rather than through the
+ * attribute handlers of each resource. The cumulative counters are returned as they are, along with the time and the
+ * JVM uptime of the snapshot. A caller which passes its own previous snapshot also gets the change of the counters
+ * since then, so the handler keeps no state shared between callers.
+ */
+public class ReadMetricsSnapshotHandler implements OperationStepHandler {
+
+    static final SimpleAttributeDefinition PREVIOUS = new SimpleAttributeDefinitionBuilder(PlatformMBeanConstants.PREVIOUS, ModelType.OBJECT, true)
+            .build();
+
+    static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder(PlatformMBeanConstants.READ_METRICS_SNAPSHOT, PlatformMBeanUtil.getResolver("platform-mbeans"))
+            .setParameters(PREVIOUS)
+            .setReplyType(ModelType.OBJECT)
+            .setReadOnly()
+            .setRuntimeOnly()
+            .build();
+
+    public static final ReadMetricsSnapshotHandler INSTANCE = new ReadMetricsSnapshotHandler();
+
+    private ReadMetricsSnapshotHandler() {
+
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+
+        final ModelNode result = context.getResult();
+        try {
+            result.get(PlatformMBeanConstants.TIMESTAMP).set(System.currentTimeMillis());
+            result.get(PlatformMBeanConstants.UPTIME).set(ManagementFactory.getRuntimeMXBean().getUptime());
+
+            final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            final ModelNode memoryNode = result.get(PlatformMBeanConstants.MEMORY);
+            setUsage(memoryNode.get(PlatformMBeanConstants.HEAP_MEMORY_USAGE), memory.getHeapMemoryUsage());
+            setUsage(memoryNode.get(PlatformMBeanConstants.NON_HEAP_MEMORY_USAGE), memory.getNonHeapMemoryUsage());
+            memoryNode.get(PlatformMBeanConstants.OBJECT_PENDING_FINALIZATION_COUNT).set(memory.getObjectPendingFinalizationCount());
+
+            final ModelNode poolsNode = result.get(PlatformMBeanConstants.MEMORY_POOL).setEmptyObject();
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                final MemoryUsage usage = pool.getUsage();
+                if (usage != null) {
+                    setUsage(poolsNode.get(escapeMBeanName(pool.getName())), usage);
+                }
+            }
+
+            final ModelNode collectorsNode = result.get(PlatformMBeanConstants.GARBAGE_COLLECTOR).setEmptyObject();
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                final ModelNode collectorNode = collectorsNode.get(escapeMBeanName(collector.getName()));
+                collectorNode.get(PlatformMBeanConstants.COLLECTION_COUNT).set(collector.getCollectionCount());
+                collectorNode.get(PlatformMBeanConstants.COLLECTION_TIME).set(collector.getCollectionTime());
+            }
+
+            final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            final ModelNode threadsNode = result.get(PlatformMBeanConstants.THREADING);
+            threadsNode.get(PlatformMBeanConstants.THREAD_COUNT).set(threads.getThreadCount());
+            threadsNode.get(PlatformMBeanConstants.DAEMON_THREAD_COUNT).set(threads.getDaemonThreadCount());
+            threadsNode.get(PlatformMBeanConstants.PEAK_THREAD_COUNT).set(threads.getPeakThreadCount());
+            threadsNode.get(PlatformMBeanConstants.TOTAL_STARTED_THREAD_COUNT).set(threads.getTotalStartedThreadCount());
+
+            final ClassLoadingMXBean classes = ManagementFactory.getClassLoadingMXBean();
+            final ModelNode classesNode = result.get(PlatformMBeanConstants.CLASS_LOADING);
+            classesNode.get(PlatformMBeanConstants.LOADED_CLASS_COUNT).set(classes.getLoadedClassCount());
+            classesNode.get(PlatformMBeanConstants.TOTAL_LOADED_CLASS_COUNT).set(classes.getTotalLoadedClassCount());
+            classesNode.get(PlatformMBeanConstants.UNLOADED_CLASS_COUNT).set(classes.getUnloadedClassCount());
+
+            final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+            final ModelNode osNode = result.get(PlatformMBeanConstants.OPERATING_SYSTEM);
+            osNode.get(PlatformMBeanConstants.AVAILABLE_PROCESSORS).set(os.getAvailableProcessors());
+            osNode.get(PlatformMBeanConstants.SYSTEM_LOAD_AVERAGE).set(os.getSystemLoadAverage());
+
+            final ModelNode buffersNode = result.get(PlatformMBeanConstants.BUFFER_POOL).setEmptyObject();
+            for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+                final ModelNode bufferNode = buffersNode.get(escapeMBeanName(pool.getName()));
+                bufferNode.get(PlatformMBeanConstants.COUNT).set(pool.getCount());
+                bufferNode.get(PlatformMBeanConstants.MEMORY_USED_NAME).set(pool.getMemoryUsed());
+                bufferNode.get(PlatformMBeanConstants.TOTAL_CAPACITY).set(pool.getTotalCapacity());
+            }
+
+            if (operation.hasDefined(PlatformMBeanConstants.PREVIOUS)) {
+                setDelta(result, operation.get(PlatformMBeanConstants.PREVIOUS));
+            }
+        } catch (SecurityException e) {
+            throw new OperationFailedException(e.toString());
+        }
+    }
+
+    /**
+     * Sets the change of the cumulative counters since the previous snapshot. Nothing is set if the previous snapshot
+     * was not taken earlier in the life of this JVM, and counters missing from it are skipped.
+     */
+    private static void setDelta(final ModelNode result, final ModelNode previous) {
+        if (!previous.hasDefined(PlatformMBeanConstants.UPTIME)) {
+            return;
+        }
+        final long interval = result.get(PlatformMBeanConstants.UPTIME).asLong() - previous.get(PlatformMBeanConstants.UPTIME).asLong();
+        if (interval < 0) {
+            return;
+        }
+        final ModelNode delta = result.get(PlatformMBeanConstants.DELTA);
+        delta.get(PlatformMBeanConstants.INTERVAL).set(interval);
+        delta.get(PlatformMBeanConstants.GARBAGE_COLLECTOR).setEmptyObject();
+        for (String collector : result.get(PlatformMBeanConstants.GARBAGE_COLLECTOR).keys()) {
+            setDelta(delta, result, previous, PlatformMBeanConstants.GARBAGE_COLLECTOR, collector, PlatformMBeanConstants.COLLECTION_COUNT);
+            setDelta(delta, result, previous, PlatformMBeanConstants.GARBAGE_COLLECTOR, collector, PlatformMBeanConstants.COLLECTION_TIME);
+        }
+        setDelta(delta, result, previous, PlatformMBeanConstants.THREADING, PlatformMBeanConstants.TOTAL_STARTED_THREAD_COUNT);
+        setDelta(delta, result, previous, PlatformMBeanConstants.CLASS_LOADING, PlatformMBeanConstants.TOTAL_LOADED_CLASS_COUNT);
+        setDelta(delta, result, previous, PlatformMBeanConstants.CLASS_LOADING, PlatformMBeanConstants.UNLOADED_CLASS_COUNT);
+    }
+
+    private static void setDelta(final ModelNode delta, final ModelNode result, final ModelNode previous, final String... path) {
+        if (previous.hasDefined(path)) {
+            delta.get(path).set(result.get(path).asLong() - previous.get(path).asLong());
+        }
+    }
+
+    private static void setUsage(final ModelNode node, final MemoryUsage usage) {
+        node.get(PlatformMBeanConstants.USED).set(usage.getUsed());
+        node.get(PlatformMBeanConstants.COMMITTED).set(usage.getCommitted());
+        node.get(PlatformMBeanConstants.MAX).set(usage.getMax());
+    }
+}
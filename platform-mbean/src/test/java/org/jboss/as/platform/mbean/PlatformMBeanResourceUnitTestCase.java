@@ -306,6 +306,44 @@ public class PlatformMBeanResourceUnitTestCase {
         // TODO validate values
     }
 
+    @Test
+    public void testReadMetricsSnapshot() throws IOException {
+        ModelNode op = getOperation(PlatformMBeanConstants.READ_METRICS_SNAPSHOT, null, null);
+        ModelNode result = executeOp(op, false);
+        Assert.assertTrue(result.get(PlatformMBeanConstants.UPTIME).asLong() > 0);
+        Assert.assertTrue(result.get(PlatformMBeanConstants.MEMORY, PlatformMBeanConstants.HEAP_MEMORY_USAGE, PlatformMBeanConstants.USED).asLong() > 0);
+        Assert.assertTrue(result.get(PlatformMBeanConstants.THREADING, PlatformMBeanConstants.THREAD_COUNT).asInt() > 0);
+        Assert.assertTrue(result.get(PlatformMBeanConstants.CLASS_LOADING, PlatformMBeanConstants.LOADED_CLASS_COUNT).asInt() > 0);
+        Assert.assertEquals(ManagementFactory.getGarbageCollectorMXBeans().size(), result.get(PlatformMBeanConstants.GARBAGE_COLLECTOR).keys().size());
+        Assert.assertEquals(ManagementFactory.getMemoryPoolMXBeans().size(), result.get(PlatformMBeanConstants.MEMORY_POOL).keys().size());
+
+        // Each snapshot stands on its own, with absolute counters and the time it was taken
+        ModelNode next = executeOp(op, false);
+        Assert.assertFalse(next.has(PlatformMBeanConstants.DELTA));
+        Assert.assertTrue(next.get(PlatformMBeanConstants.TIMESTAMP).asLong() >= result.get(PlatformMBeanConstants.TIMESTAMP).asLong());
+        Assert.assertTrue(next.get(PlatformMBeanConstants.CLASS_LOADING, PlatformMBeanConstants.TOTAL_LOADED_CLASS_COUNT).asLong()
+                >= result.get(PlatformMBeanConstants.CLASS_LOADING, PlatformMBeanConstants.TOTAL_LOADED_CLASS_COUNT).asLong());
+
+        // The deltas are relative to the snapshot the caller passes back, not to the last invocation by anyone
+        op.get(PlatformMBeanConstants.PREVIOUS).set(result);
+        ModelNode third = executeOp(op, false);
+        ModelNode delta = third.get(PlatformMBeanConstants.DELTA);
+        Assert.assertEquals(third.get(PlatformMBeanConstants.UPTIME).asLong() - result.get(PlatformMBeanConstants.UPTIME).asLong(),
+                delta.get(PlatformMBeanConstants.INTERVAL).asLong());
+        Assert.assertEquals(third.get(PlatformMBeanConstants.CLASS_LOADING, PlatformMBeanConstants.TOTAL_LOADED_CLASS_COUNT).asLong()
+                - result.get(PlatformMBeanConstants.CLASS_LOADING, PlatformMBeanConstants.TOTAL_LOADED_CLASS_COUNT).asLong(),
+                delta.get(PlatformMBeanConstants.CLASS_LOADING, PlatformMBeanConstants.TOTAL_LOADED_CLASS_COUNT).asLong());
+        for (String gc : third.get(PlatformMBeanConstants.GARBAGE_COLLECTOR).keys()) {
+            Assert.assertTrue(delta.get(PlatformMBeanConstants.GARBAGE_COLLECTOR, gc, PlatformMBeanConstants.COLLECTION_COUNT).asLong() >= 0);
+        }
+
+        // A snapshot from a later point, e.g. of a JVM which was restarted since, gives no deltas
+        ModelNode later = result.clone();
+        later.get(PlatformMBeanConstants.UPTIME).set(Long.MAX_VALUE);
+        op.get(PlatformMBeanConstants.PREVIOUS).set(later);
+        Assert.assertFalse(executeOp(op, false).has(PlatformMBeanConstants.DELTA));
+    }
+
     // Per AS7-2185 we do not support interacting with the PlatformLoggingMXBean via
     // the main management API
 //    @Ignore("[AS7-2185]")
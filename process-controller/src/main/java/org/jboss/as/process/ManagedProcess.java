@@ -24,18 +24,12 @@ package org.jboss.as.process;
 
 import static java.lang.Thread.holdsLock;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.PrintStream;
 import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -67,7 +61,8 @@ final class ManagedProcess {
     private final String authKey;
     private final boolean isPrivileged;
     private final RespawnPolicy respawnPolicy;
-    private final int id;
+    private final boolean standby;
+    private int id;
 
     private OutputStream stdin;
     private volatile State state = State.DOWN;
@@ -101,6 +96,10 @@ final class ManagedProcess {
     }
 
     ManagedProcess(final String processName, final int id, final List<String> command, final Map<String, String> env, final String workingDirectory, final Object lock, final ProcessController controller, final String authKey, final boolean privileged, final boolean respawn) {
+        this(processName, id, command, env, workingDirectory, lock, controller, authKey, privileged, respawn, false);
+    }
+
+    ManagedProcess(final String processName, final int id, final List<String> command, final Map<String, String> env, final String workingDirectory, final Object lock, final ProcessController controller, final String authKey, final boolean privileged, final boolean respawn, final boolean standby) {
         Assert.checkNotNullParam("processName", processName);
         Assert.checkNotNullParam("command", command);
         Assert.checkNotNullParam("env", env);
@@ -121,6 +120,7 @@ final class ManagedProcess {
         this.authKey = authKey;
         isPrivileged = privileged;
         respawnPolicy = respawn ? RespawnPolicy.RESPAWN : RespawnPolicy.NONE;
+        this.standby = standby;
         log = Logger.getMessageLogger(ProcessLogger.class, "org.jboss.as.process." + processName + ".status");
     }
 
@@ -190,34 +190,41 @@ final class ManagedProcess {
             //Add the restart flag to the HC process if we are respawning it
             command.add(CommandLineConstants.PROCESS_RESTARTED);
         }
-        log.startingProcess(processName);
-        log.debugf("Process name='%s' command='%s' workingDirectory='%s'", processName, command, workingDirectory);
-        List<String> list = new ArrayList<>();
-        for (String c : command) {
-            String trim = c.trim();
-            list.add(trim);
-        }
-        final ProcessBuilder builder = new ProcessBuilder(list);
-        builder.environment().putAll(env);
-        builder.directory(new File(workingDirectory));
+        // The restart flag is only ever added to the host controller, which has no standby process
+        final StandbyProcess standbyProcess = standby && !restart ? processController.takeStandbyProcess(processName, command, env, workingDirectory) : null;
         final Process process;
-        try {
-            process = builder.start();
-        } catch (IOException e) {
-            processController.operationFailed(processName, ProcessMessageHandler.OperationType.START);
-            log.failedToStartProcess(e,processName);
-            return;
+        if (standbyProcess != null) {
+            log.startingProcessFromStandby(processName);
+            process = standbyProcess.getProcess();
+            if (standbyProcess.getId() >= 0) {
+                // The OS level kill has to look for the id the standby process was launched with
+                id = standbyProcess.getId();
+            }
+        } else {
+            log.startingProcess(processName);
+            log.debugf("Process name='%s' command='%s' workingDirectory='%s'", processName, command, workingDirectory);
+            List<String> list = new ArrayList<>();
+            for (String c : command) {
+                String trim = c.trim();
+                list.add(trim);
+            }
+            final ProcessBuilder builder = new ProcessBuilder(list);
+            builder.environment().putAll(env);
+            builder.directory(new File(workingDirectory));
+            try {
+                process = builder.start();
+            } catch (IOException e) {
+                processController.operationFailed(processName, ProcessMessageHandler.OperationType.START);
+                log.failedToStartProcess(e,processName);
+                return;
+            }
         }
         final long startTime = System.currentTimeMillis();
         final OutputStream stdin = process.getOutputStream();
-        final InputStream stderr = process.getErrorStream();
-        final InputStream stdout = process.getInputStream();
-        final Thread stderrThread = new Thread(new ReadTask(stderr, processController.getStderr()));
-        stderrThread.setName(String.format("stderr for %s", processName));
-        stderrThread.start();
-        final Thread stdoutThread = new Thread(new ReadTask(stdout, processController.getStdout()));
-        stdoutThread.setName(String.format("stdout for %s", processName));
-        stdoutThread.start();
+        // A standby process is only relayed from here on; what it wrote before waits in the pipes
+        final ProcessOutputPump outputPump = processController.getOutputPump();
+        outputPump.register(processName, process, process.getErrorStream(), processController.getStderr(), log);
+        outputPump.register(processName, process, process.getInputStream(), processController.getStdout(), log);
 
         joinThread = new Thread(new JoinTask(startTime));
         joinThread.setName(String.format("reaper for %s", processName));
@@ -240,6 +247,10 @@ final class ManagedProcess {
         if(ok) {
             state = State.STARTED;
             processController.processStarted(processName);
+            if (standby) {
+                // Have a process ready for the next start
+                processController.launchStandbyProcess(processName, this.command, env, workingDirectory);
+            }
         } else {
             processController.operationFailed(processName, ProcessMessageHandler.OperationType.START);
         }
@@ -443,61 +454,4 @@ final class ManagedProcess {
             }
         }
     }
-
-    private final class ReadTask implements Runnable {
-        private final InputStream source;
-        private final PrintStream target;
-
-        private ReadTask(final InputStream source, final PrintStream target) {
-            this.source = source;
-            this.target = target;
-        }
-
-        public void run() {
-            final InputStream source = this.source;
-            final String processName = ManagedProcess.this.processName;
-            try {
-                final BufferedReader reader = new BufferedReader(new InputStreamReader(new BufferedInputStream(source), StandardCharsets.UTF_8));
-                final OutputStreamWriter writer = new OutputStreamWriter(target, StandardCharsets.UTF_8);
-                String s;
-                String prevEscape = "";
-                while ((s = reader.readLine()) != null) {
-                    // Has ANSI?
-                    int i = s.lastIndexOf('\033');
-                    int j = i != -1 ? s.indexOf('m', i) : 0;
-
-                    synchronized (target) {
-                        writer.write('[');
-                        writer.write(processName);
-                        writer.write("] ");
-                        writer.write(prevEscape);
-                        writer.write(s);
-
-                        // Reset if there was ANSI
-                        if (j != 0 || prevEscape != "") {
-                            writer.write("\033[0m");
-                        }
-                        writer.write('\n');
-                        writer.flush();
-                    }
-
-
-                    // Remember escape code for the next line
-                    if (j != 0) {
-                        String escape = s.substring(i, j + 1);
-                        if (!"\033[0m".equals(escape)) {
-                            prevEscape = escape;
-                        } else {
-                            prevEscape = "";
-                        }
-                    }
-                }
-                source.close();
-            } catch (IOException e) {
-                log.streamProcessingFailed(processName, e);
-            } finally {
-                StreamUtils.safeClose(source);
-            }
-        }
-    }
 }
@@ -60,14 +60,29 @@ public final class ProcessController {
     private final Map<String, ManagedProcess> processes = Collections.synchronizedMap(new HashMap<String, ManagedProcess>());
     private final Map<Key, ManagedProcess> processesByKey = new HashMap<Key, ManagedProcess>();
     private final Set<Connection> managedConnections = new CopyOnWriteArraySet<Connection>();
+    /** Standby processes by the name of the process they stand in for. Protected by {@link #lock} */
+    private final Map<String, StandbyProcess> standbyProcesses = new HashMap<String, StandbyProcess>();
 
     private volatile boolean shutdown;
 
     public static final short AUTH_BYTES_LENGTH = 16;
     public static final short AUTH_BYTES_ENCODED_LENGTH = 24;
 
+    /**
+     * System property a standby process receives its logging configuration in, instead of
+     * {@code logging.configuration}. The process applies it once it has been adopted.
+     */
+    public static final String STANDBY_LOGGING_CONFIGURATION = "org.jboss.as.process.standby.logging.configuration";
+
+    /**
+     * How long a standby process is kept after the process it stands in for has been removed. The host controller
+     * removes a server's process when the server stops and adds it again when it starts.
+     */
+    static final long STANDBY_RETENTION_MILLIS = 60000;
+
     private final PrintStream stdout;
     private final PrintStream stderr;
+    private final ProcessOutputPump outputPump = new ProcessOutputPump();
 
     public ProcessController(final ProtocolServer.Configuration configuration, final PrintStream stdout, final PrintStream stderr) throws IOException {
         this.stdout = stdout;
@@ -101,6 +116,10 @@ public final class ProcessController {
     }
 
     public void addProcess(final String processName, int id, final String authKey, final List<String> command, final Map<String, String> env, final String workingDirectory, final boolean isPrivileged, final boolean respawn) {
+        addProcess(processName, id, authKey, command, env, workingDirectory, isPrivileged, respawn, false);
+    }
+
+    public void addProcess(final String processName, int id, final String authKey, final List<String> command, final Map<String, String> env, final String workingDirectory, final boolean isPrivileged, final boolean respawn, final boolean standby) {
         for (String s : command) {
             if (s == null) {
                 throw ProcessLogger.ROOT_LOGGER.nullCommandComponent();
@@ -116,7 +135,13 @@ public final class ProcessController {
                 // ignore
                 return;
             }
-            final ManagedProcess process = new ManagedProcess(processName, id, command, env, workingDirectory, lock, this, authKey, isPrivileged, respawn);
+            if (!standby) {
+                final StandbyProcess standbyProcess = standbyProcesses.remove(processName);
+                if (standbyProcess != null) {
+                    standbyProcess.destroy();
+                }
+            }
+            final ManagedProcess process = new ManagedProcess(processName, id, command, env, workingDirectory, lock, this, authKey, isPrivileged, respawn, standby);
             processes.put(processName, process);
             processesByKey.put(new Key(authKey.getBytes(Charset.forName("US-ASCII"))), process);
             processAdded(processName);
@@ -190,6 +215,10 @@ public final class ProcessController {
             if(removed) {
                 processRemoved(processName);
             }
+            final StandbyProcess standbyProcess = standbyProcesses.get(processName);
+            if (standbyProcess != null) {
+                expireStandbyProcess(processName, standbyProcess);
+            }
             lock.notifyAll();
         }
     }
@@ -217,6 +246,11 @@ public final class ProcessController {
             ProcessLogger.ROOT_LOGGER.shuttingDown();
             shutdown = true;
 
+            for (StandbyProcess standbyProcess : standbyProcesses.values()) {
+                standbyProcess.destroy();
+            }
+            standbyProcesses.clear();
+
             // In order to do a controlled shutdown we stop the host controller first
             // it will stop all managed servers and wait until they shutdown
             final ManagedProcess hc = processes.get(Main.HOST_CONTROLLER_PROCESS_NAME);
@@ -412,6 +446,85 @@ public final class ProcessController {
         return stderr;
     }
 
+    ProcessOutputPump getOutputPump() {
+        return outputPump;
+    }
+
+    /**
+     * Takes the standby process launched for a process, if it can be used for the given configuration.
+     * A standby process that cannot be used is destroyed.
+     *
+     * @return the standby process, or {@code null} if there is none that can be used
+     */
+    StandbyProcess takeStandbyProcess(final String processName, final List<String> command, final Map<String, String> env, final String workingDirectory) {
+        synchronized (lock) {
+            final StandbyProcess standbyProcess = standbyProcesses.remove(processName);
+            if (standbyProcess == null) {
+                return null;
+            }
+            if (standbyProcess.matches(command, env, workingDirectory)) {
+                return standbyProcess;
+            }
+            standbyProcess.destroy();
+            return null;
+        }
+    }
+
+    /**
+     * Launches a standby process for a process, unless one is already available.
+     */
+    void launchStandbyProcess(final String processName, final List<String> command, final Map<String, String> env, final String workingDirectory) {
+        synchronized (lock) {
+            if (shutdown || standbyProcesses.containsKey(processName)) {
+                return;
+            }
+            final String unsupportedOption = StandbyProcess.getUnsupportedOption(command);
+            if (unsupportedOption != null) {
+                ProcessLogger.ROOT_LOGGER.standbyProcessNotSupported(processName, unsupportedOption);
+                return;
+            }
+            try {
+                standbyProcesses.put(processName, StandbyProcess.launch(command, env, workingDirectory));
+                ProcessLogger.ROOT_LOGGER.debugf("Launched standby process for %s", processName);
+            } catch (IOException e) {
+                ProcessLogger.ROOT_LOGGER.failedToLaunchStandbyProcess(e, processName);
+            }
+        }
+    }
+
+    /**
+     * Destroys the standby process of a removed process, unless the process is added again within
+     * {@link #STANDBY_RETENTION_MILLIS}.
+     */
+    private void expireStandbyProcess(final String processName, final StandbyProcess standbyProcess) {
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                final long deadline = System.currentTimeMillis() + STANDBY_RETENTION_MILLIS;
+                synchronized (lock) {
+                    long remaining;
+                    while (!processes.containsKey(processName) && standbyProcesses.get(processName) == standbyProcess
+                            && (remaining = deadline - System.currentTimeMillis()) > 0) {
+                        try {
+                            lock.wait(remaining);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            break;
+                        }
+                    }
+                    if (!processes.containsKey(processName) && standbyProcesses.get(processName) == standbyProcess) {
+                        standbyProcesses.remove(processName);
+                        standbyProcess.destroy();
+                        ProcessLogger.ROOT_LOGGER.debugf("Destroyed standby process for removed process %s", processName);
+                    }
+                }
+            }
+        });
+        thread.setName(String.format("standby expiry for %s", processName));
+        thread.setDaemon(true);
+        thread.start();
+    }
+
     private static final class Key {
         private final byte[] authKey;
         private final int hashCode;
@@ -191,6 +191,16 @@ public final class ProcessControllerClient implements Closeable {
     }
 
     public void addProcess(String processName, int processId, String authKey, String[] cmd, String workingDir, Map<String, String> env) throws IOException {
+        addProcess(processName, processId, authKey, cmd, workingDir, env, false);
+    }
+
+    /**
+     * Adds a process.
+     *
+     * @param standby {@code true} if the process controller should keep a pre-launched process ready to be used
+     *                for the next start of the process
+     */
+    public void addProcess(String processName, int processId, String authKey, String[] cmd, String workingDir, Map<String, String> env, boolean standby) throws IOException {
         Assert.checkNotNullParam("processName", processName);
         Assert.checkNotNullParam("authKey", authKey);
         Assert.checkNotNullParam("cmd", cmd);
@@ -223,6 +233,7 @@ public final class ProcessControllerClient implements Closeable {
                 }
             }
             writeUTFZBytes(os, workingDir);
+            writeBoolean(os, standby);
             os.close();
         } finally {
             safeClose(os);
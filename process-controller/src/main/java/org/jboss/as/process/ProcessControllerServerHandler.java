@@ -162,9 +162,11 @@ public final class ProcessControllerServerHandler implements ConnectionHandler {
                                     env.put(readUTFZBytes(dataStream), readUTFZBytes(dataStream));
                                 }
                                 final String workingDirectory = readUTFZBytes(dataStream);
+                                // Older clients do not send the standby flag
+                                final boolean standby = dataStream.read() == 1;
                                 ProcessLogger.SERVER_LOGGER.tracef("Received add_process for process %s", processName);
                                 final String authKey = new String(authBytes, Charset.forName("US-ASCII"));
-                                processController.addProcess(processName, processId, authKey, Arrays.asList(command), env, workingDirectory, false, false);
+                                processController.addProcess(processName, processId, authKey, Arrays.asList(command), env, workingDirectory, false, false, standby);
                             } else {
                                 ProcessLogger.SERVER_LOGGER.tracef("Ignoring add_process message from untrusted source");
                             }
@@ -0,0 +1,261 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.process;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.as.process.logging.ProcessLogger;
+import org.jboss.as.process.protocol.StreamUtils;
+
+/**
+ * Relays the stdout and stderr of all managed processes to the process controller's own streams
+ * using a single thread.
+ * <p>
+ * Process pipes cannot be selected on, so the pump polls each registered stream for available bytes and
+ * only ever reads what can be read without blocking. While any stream has output the pump keeps going round
+ * without waiting; once all of them are quiet it waits a little longer each pass, up to {@link #MAX_IDLE_WAIT}
+ * milliseconds. Bytes are buffered per stream until a complete line is available; all complete lines read from a
+ * stream in one pass are prefixed with the process name and written to the target as a single batch, under one
+ * lock acquisition and with one flush. A stream is drained one last time and closed once its process has
+ * terminated.
+ */
+final class ProcessOutputPump implements Runnable {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+    /** Longest run of bytes without a line terminator that is held back before it is relayed anyway. */
+    private static final int MAX_LINE_LENGTH = 65536;
+    private static final long MIN_IDLE_WAIT = 1;
+    private static final long MAX_IDLE_WAIT = 50;
+    private static final String RESET = "\033[0m";
+
+    private final Object lock = new Object();
+    private final List<Source> sources = new ArrayList<>();
+    private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+    private Thread thread;
+
+    /**
+     * Starts relaying a stream of a managed process.
+     *
+     * @param processName the name of the process, used as line prefix
+     * @param process the process owning the stream
+     * @param stream the stream to read
+     * @param target the stream to relay the lines to
+     * @param log the process' logger
+     */
+    void register(final String processName, final Process process, final InputStream stream, final PrintStream target, final ProcessLogger log) {
+        synchronized (lock) {
+            sources.add(new Source(processName, process, stream, target, log));
+            if (thread == null) {
+                thread = new Thread(this, "Process output pump");
+                thread.setDaemon(true);
+                thread.start();
+            }
+            lock.notifyAll();
+        }
+    }
+
+    public void run() {
+        final List<Source> active = new ArrayList<>();
+        long idleWait = MIN_IDLE_WAIT;
+        for (;;) {
+            try {
+                synchronized (lock) {
+                    while (sources.isEmpty()) {
+                        lock.wait();
+                    }
+                    active.clear();
+                    active.addAll(sources);
+                }
+                boolean progress = false;
+                for (Source source : active) {
+                    final int result = pump(source);
+                    if (result < 0) {
+                        synchronized (lock) {
+                            sources.remove(source);
+                        }
+                    } else if (result > 0) {
+                        progress = true;
+                    }
+                }
+                if (progress) {
+                    idleWait = MIN_IDLE_WAIT;
+                } else {
+                    synchronized (lock) {
+                        // a newly registered stream ends the wait
+                        lock.wait(idleWait);
+                    }
+                    idleWait = Math.min(idleWait << 1, MAX_IDLE_WAIT);
+                }
+            } catch (InterruptedException e) {
+                // ignore; the pump lives as long as the process controller
+            }
+        }
+    }
+
+    /**
+     * Reads whatever the source has available and relays all complete lines.
+     *
+     * @return the number of bytes read, or {@code -1} if the source is exhausted and has been closed
+     */
+    private int pump(final Source source) {
+        try {
+            // Check for termination before looking at the stream so that nothing written before exit is lost
+            final boolean terminated = !source.process.isAlive();
+            int total = 0;
+            int available;
+            while ((available = source.stream.available()) > 0) {
+                final int read = source.stream.read(readBuffer, 0, Math.min(available, readBuffer.length));
+                if (read == -1) {
+                    break;
+                }
+                source.append(readBuffer, read);
+                total += read;
+                if (!terminated && total >= MAX_LINE_LENGTH) {
+                    // Give the other processes a turn
+                    break;
+                }
+            }
+            if (terminated) {
+                source.flushPartialLine();
+            }
+            source.write();
+            if (terminated) {
+                StreamUtils.safeClose(source.stream);
+                return -1;
+            }
+            return total;
+        } catch (IOException | RuntimeException e) {
+            source.batch.setLength(0);
+            source.log.streamProcessingFailed(source.processName, e);
+            StreamUtils.safeClose(source.stream);
+            return -1;
+        }
+    }
+
+    private static final class Source {
+        private final String processName;
+        private final Process process;
+        private final InputStream stream;
+        private final PrintStream target;
+        private final Writer writer;
+        private final ProcessLogger log;
+        private final StringBuilder batch = new StringBuilder();
+        private byte[] pending = new byte[256];
+        private int pendingLength;
+        private String prevEscape = "";
+
+        private Source(final String processName, final Process process, final InputStream stream, final PrintStream target, final ProcessLogger log) {
+            this.processName = processName;
+            this.process = process;
+            this.stream = stream;
+            this.target = target;
+            this.writer = new OutputStreamWriter(target, StandardCharsets.UTF_8);
+            this.log = log;
+        }
+
+        /**
+         * Appends the bytes to the pending line and moves every completed line to the batch.
+         */
+        private void append(final byte[] bytes, final int length) {
+            int start = 0;
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] == '\n') {
+                    if (pendingLength == 0) {
+                        formatLine(bytes, start, i);
+                    } else {
+                        addPending(bytes, start, i - start);
+                        formatLine(pending, 0, pendingLength);
+                        pendingLength = 0;
+                    }
+                    start = i + 1;
+                }
+            }
+            if (start < length) {
+                addPending(bytes, start, length - start);
+                if (pendingLength >= MAX_LINE_LENGTH) {
+                    flushPartialLine();
+                }
+            }
+        }
+
+        private void flushPartialLine() {
+            if (pendingLength > 0) {
+                formatLine(pending, 0, pendingLength);
+                pendingLength = 0;
+            }
+        }
+
+        private void addPending(final byte[] bytes, final int offset, final int length) {
+            if (pendingLength + length > pending.length) {
+                pending = Arrays.copyOf(pending, Math.max(pending.length << 1, pendingLength + length));
+            }
+            System.arraycopy(bytes, offset, pending, pendingLength, length);
+            pendingLength += length;
+        }
+
+        private void formatLine(final byte[] bytes, final int start, int end) {
+            if (end > start && bytes[end - 1] == '\r') {
+                end--;
+            }
+            final String s = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+            // Has ANSI?
+            final int i = s.lastIndexOf('\033');
+            final int j = i != -1 ? s.indexOf('m', i) : -1;
+
+            batch.append('[').append(processName).append("] ").append(prevEscape).append(s);
+            // Reset if there was ANSI
+            if (j != -1 || !prevEscape.isEmpty()) {
+                batch.append(RESET);
+            }
+            batch.append('\n');
+
+            // Remember escape code for the next line
+            if (j != -1) {
+                final String escape = s.substring(i, j + 1);
+                prevEscape = RESET.equals(escape) ? "" : escape;
+            }
+        }
+
+        private void write() throws IOException {
+            if (batch.length() == 0) {
+                return;
+            }
+            try {
+                synchronized (target) {
+                    writer.append(batch);
+                    writer.flush();
+                }
+            } finally {
+                batch.setLength(0);
+            }
+        }
+    }
+}
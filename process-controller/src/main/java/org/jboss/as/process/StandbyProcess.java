@@ -0,0 +1,198 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.process;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A pre-launched process kept in standby for a managed process. The process is started with the managed process'
+ * command, so its JVM has started and loaded the boot modules by the time it is needed, and then waits for the
+ * authentication key on its stdin. Starting the managed process adopts the standby process instead of launching a
+ * new one, provided it was launched with the same command, environment and working directory.
+ * <p>
+ * The standby process runs next to the process it stands in for, so its command differs in a few options:
+ * <ul>
+ *     <li>It has its own process controller id ({@code -D[pcid:...]}), so that it can be told apart.</li>
+ *     <li>The initial heap size and heap pre-touching are left out, so that it does not hold on to the heap the
+ *     running process already reserves. Once adopted, its heap grows up to the maximum size as needed.</li>
+ *     <li>The logging configuration is passed as {@link ProcessController#STANDBY_LOGGING_CONFIGURATION}, so that it
+ *     does not open the log files of the running process. The process reads it once it has been adopted.</li>
+ * </ul>
+ * No standby process is launched for a command with options that use a fixed file or port, such as a GC log file or
+ * a debug agent listening on a port, see {@link #getUnsupportedOption(List)}.
+ */
+final class StandbyProcess {
+
+    private static final String PROCESS_ID_PREFIX = "-D[pcid:";
+    private static final String LOGGING_CONFIGURATION_PREFIX = "-Dlogging.configuration=";
+    /** Options that may differ between launches of the same process, and so are ignored when matching */
+    private static final String[] LAUNCH_OPTION_PREFIXES = {
+            PROCESS_ID_PREFIX, "-XX:SharedArchiveFile=", "-XX:ArchiveClassesAtExit=", "-XX:+AutoCreateSharedArchive"
+    };
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final List<String> command;
+    private final Map<String, String> env;
+    private final String workingDirectory;
+    private final Process process;
+    private final int id;
+
+    StandbyProcess(final List<String> command, final Map<String, String> env, final String workingDirectory, final Process process, final int id) {
+        this.command = command;
+        this.env = env;
+        this.workingDirectory = workingDirectory;
+        this.process = process;
+        this.id = id;
+    }
+
+    /**
+     * Launches a standby process. Its output is not relayed until it is adopted, see {@link ManagedProcess}.
+     *
+     * @param command the command of the managed process, as sent by the host controller
+     * @param env the environment of the managed process
+     * @param workingDirectory the working directory of the managed process
+     * @return the standby process
+     * @throws IOException if the process cannot be started
+     */
+    static StandbyProcess launch(final List<String> command, final Map<String, String> env, final String workingDirectory) throws IOException {
+        final int newId = RANDOM.nextInt() & Integer.MAX_VALUE;
+        final List<String> launchCommand = getLaunchCommand(command, newId);
+        final ProcessBuilder builder = new ProcessBuilder(launchCommand);
+        builder.environment().putAll(env);
+        builder.directory(new File(workingDirectory));
+        final Process process = builder.start();
+        int id = -1;
+        for (String c : launchCommand) {
+            if (c.startsWith(PROCESS_ID_PREFIX)) {
+                id = newId;
+            }
+        }
+        return new StandbyProcess(command, env, workingDirectory, process, id);
+    }
+
+    /**
+     * Gets the command a standby process is launched with.
+     *
+     * @param command the command of the managed process
+     * @param id the process controller id for the standby process
+     * @return the command
+     */
+    static List<String> getLaunchCommand(final List<String> command, final int id) {
+        final List<String> launchCommand = new ArrayList<>(command.size());
+        for (String c : trim(command)) {
+            if (c.startsWith(PROCESS_ID_PREFIX)) {
+                c = PROCESS_ID_PREFIX + id + "]";
+            } else if (c.startsWith("-Xms") || c.equals("-XX:+AlwaysPreTouch")) {
+                continue;
+            } else if (c.startsWith(LOGGING_CONFIGURATION_PREFIX)) {
+                c = "-D" + ProcessController.STANDBY_LOGGING_CONFIGURATION + "=" + c.substring(LOGGING_CONFIGURATION_PREFIX.length());
+            }
+            launchCommand.add(c);
+        }
+        return launchCommand;
+    }
+
+    /**
+     * Gets the option that prevents launching a standby process for a command. These are options that make the JVM
+     * write to a fixed file or listen on a fixed port, since the running process already uses it.
+     *
+     * @param command the command of the managed process
+     * @return the first option that prevents a standby process, or {@code null} if there is none
+     */
+    static String getUnsupportedOption(final List<String> command) {
+        for (String c : trim(command)) {
+            if (c.startsWith("-Xloggc:") || c.startsWith("-XX:LogFile=") || c.startsWith("-Dcom.sun.management.jmxremote.port=")
+                    || c.startsWith("-XX:StartFlightRecording") && c.contains("filename=")) {
+                return c;
+            }
+            if (c.startsWith("-Xlog:")) {
+                // -Xlog:<what>:<output>:..., where an output other than stdout or stderr is a file
+                final String[] parts = c.substring("-Xlog:".length()).split(":");
+                if (parts.length > 1 && !parts[1].isEmpty() && !parts[1].equals("stdout") && !parts[1].equals("stderr")) {
+                    return c;
+                }
+            }
+            if ((c.startsWith("-agentlib:jdwp=") || c.startsWith("-Xrunjdwp:")) && c.contains("server=y")) {
+                return c;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets whether this standby process can be used in place of a process with the given configuration.
+     */
+    boolean matches(final List<String> command, final Map<String, String> env, final String workingDirectory) {
+        return process.isAlive() && this.workingDirectory.equals(workingDirectory) && this.env.equals(env)
+                && withoutLaunchOptions(this.command).equals(withoutLaunchOptions(command));
+    }
+
+    Process getProcess() {
+        return process;
+    }
+
+    /**
+     * Gets the process controller id the standby process was launched with.
+     *
+     * @return the id, or {@code -1} if the command does not carry one
+     */
+    int getId() {
+        return id;
+    }
+
+    void destroy() {
+        process.destroyForcibly();
+    }
+
+    private static List<String> trim(final List<String> command) {
+        final List<String> result = new ArrayList<>(command.size());
+        for (String c : command) {
+            result.add(c.trim());
+        }
+        return result;
+    }
+
+    private static List<String> withoutLaunchOptions(final List<String> command) {
+        final List<String> result = new ArrayList<>(command.size());
+        for (String c : trim(command)) {
+            if (!isLaunchOption(c)) {
+                result.add(c);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isLaunchOption(final String option) {
+        for (String prefix : LAUNCH_OPTION_PREFIXES) {
+            if (option.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
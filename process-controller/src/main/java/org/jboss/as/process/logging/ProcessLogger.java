@@ -819,4 +819,34 @@ public interface ProcessLogger extends BasicLogger {
     @Message(id = 67, value = "Process '%s' did not complete normal stop within %d ms; attempting to destroy process " +
             "using java.lang.Process.destroyForcibly()")
     void destroyingProcess(String process, long timeout);
+
+    /**
+     * Logs a warning message indicating a standby process could not be launched.
+     *
+     * @param cause       the cause of the error.
+     * @param processName the name of the process the standby process was to stand in for.
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 68, value = "Failed to launch standby process for '%s'")
+    void failedToLaunchStandbyProcess(@Cause Throwable cause, String processName);
+
+    /**
+     * Logs an informational message indicating a process is being started from its standby process.
+     *
+     * @param processName the process name.
+     */
+    @LogMessage(level = INFO)
+    @Message(id = 69, value = "Starting process '%s' from its standby process")
+    void startingProcessFromStandby(String processName);
+
+    /**
+     * Logs a warning message indicating no standby process is launched for a process because of an option in its
+     * command.
+     *
+     * @param processName the process name.
+     * @param option      the option.
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 70, value = "Not launching a standby process for '%s': option '%s' uses a file or port the running process holds")
+    void standbyProcessNotSupported(String processName, String option);
 }
@@ -22,15 +22,16 @@
 
 package org.jboss.as.process.protocol;
 
-import java.io.BufferedOutputStream;
+import java.io.BufferedInputStream;
 import java.io.FilterInputStream;
-import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.net.InetAddress;
 import java.net.Socket;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.concurrent.Executor;
 
 import org.jboss.as.process.logging.ProcessLogger;
@@ -41,12 +42,24 @@ import org.wildfly.common.Assert;
  */
 final class ConnectionImpl implements Connection {
 
+    /** Size of the chunk header: the {@code CHUNK_START} byte followed by the chunk length */
+    private static final int HEADER_LENGTH = 5;
+    private static final int CHUNK_SIZE = 8192;
+    /** Header, payload and room for a trailing {@code CHUNK_END} byte */
+    private static final int FRAME_BUFFER_SIZE = HEADER_LENGTH + CHUNK_SIZE + 1;
+    private static final int MAX_POOLED_BUFFERS = 8;
+
     private final Socket socket;
 
     private final Object lock = new Object();
 
     // protected by {@link #lock}
-    private OutputStream sender;
+    /** The message currently streaming its chunks to the socket, if any */
+    private MessageOutputStream sender;
+    // protected by {@link #lock}
+    private int openMessages;
+    // protected by {@link #lock}
+    private final Deque<byte[]> bufferPool = new ArrayDeque<>(MAX_POOLED_BUFFERS);
     // protected by {@link #lock}
     private boolean readDone;
     // protected by {@link #lock}
@@ -71,39 +84,25 @@ final class ConnectionImpl implements Connection {
 
     @Override
     public OutputStream writeMessage() throws IOException {
-        final OutputStream os;
+        byte[] buffer;
         synchronized (lock) {
             if (writeDone) {
                 throw ProcessLogger.ROOT_LOGGER.writesAlreadyShutdown();
             }
-            while (sender != null) {
-                try {
-                    lock.wait();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new InterruptedIOException();
-                }
-            }
-            boolean ok = false;
-            try {
-                sender = new MessageOutputStream();
-                os = new BufferedOutputStream(sender);
-                ok = true;
-            } finally {
-                if (! ok) {
-                    // let someone else try
-                    lock.notify();
-                }
-            }
+            openMessages++;
+            buffer = bufferPool.poll();
+        }
+        if (buffer == null) {
+            buffer = new byte[FRAME_BUFFER_SIZE];
         }
-        return os;
+        return new MessageOutputStream(buffer);
     }
 
     @Override
     public void shutdownWrites() throws IOException {
         synchronized (lock) {
             if (writeDone) return;
-            while (sender != null) {
+            while (sender != null || openMessages > 0) {
                 try {
                     lock.wait();
                 } catch (InterruptedException e) {
@@ -180,8 +179,9 @@ final class ConnectionImpl implements Connection {
                 OutputStream mos = null;
                 try {
                     Pipe pipe = null;
-                    final InputStream is = socket.getInputStream();
                     final int bufferSize = 8192;
+                    // Buffered, as the command byte and chunk length are read one byte at a time
+                    final InputStream is = new BufferedInputStream(socket.getInputStream(), bufferSize);
                     final byte[] buffer = new byte[bufferSize];
                     for (;;) {
 
@@ -319,73 +319,155 @@ final class ConnectionImpl implements Connection {
         }
     }
 
-    final class MessageOutputStream extends FilterOutputStream {
-
-        private final byte[] hdr = new byte[5];
-
-        MessageOutputStream() throws IOException {
-            super(socket.getOutputStream());
+    /**
+     * The output stream of a single message. Message content is written to a frame buffer taken from the connection's
+     * pool without holding the connection lock, so several messages can be composed concurrently. A message that fits
+     * into a single chunk is written to the socket as one frame once it is closed; the lock is only held for that
+     * write. A larger message, or one that is flushed, becomes the connection's current sender and streams its chunks
+     * until it is closed, during which time other messages wait to be written.
+     */
+    final class MessageOutputStream extends OutputStream {
+
+        private byte[] buffer;
+        private int position = HEADER_LENGTH;
+        private boolean closed;
+
+        MessageOutputStream(final byte[] buffer) {
+            this.buffer = buffer;
         }
 
         @Override
         public void write(final int b) throws IOException {
-            throw new IllegalStateException();
+            if (closed) {
+                throw ProcessLogger.ROOT_LOGGER.writeChannelClosed();
+            }
+            if (position == HEADER_LENGTH + CHUNK_SIZE) {
+                writeChunk();
+            }
+            buffer[position++] = (byte) b;
         }
 
         @Override
-        public void write(final byte[] b, final int off, final int len) throws IOException {
-            if (len == 0) {
-                return;
+        public void write(final byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw ProcessLogger.ROOT_LOGGER.writeChannelClosed();
             }
-            final byte[] hdr = this.hdr;
-            hdr[0] = (byte) ProtocolConstants.CHUNK_START;
-            hdr[1] = (byte) (len >> 24);
-            hdr[2] = (byte) (len >> 16);
-            hdr[3] = (byte) (len >> 8);
-            hdr[4] = (byte) (len >> 0);
-            synchronized (lock) {
-                if (sender != this || writeDone) {
-                    if (sender == this) sender = null;
-                    lock.notifyAll();
-                    throw ProcessLogger.ROOT_LOGGER.writeChannelClosed();
+            while (len > 0) {
+                final int remaining = HEADER_LENGTH + CHUNK_SIZE - position;
+                if (remaining == 0) {
+                    writeChunk();
+                    continue;
                 }
+                final int cnt = Math.min(len, remaining);
+                System.arraycopy(b, off, buffer, position, cnt);
+                position += cnt;
+                off += cnt;
+                len -= cnt;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (! closed && position > HEADER_LENGTH) {
+                writeChunk();
+            }
+        }
+
+        /**
+         * Writes the buffered content as a chunk, making this message the current sender if it is not yet.
+         */
+        private void writeChunk() throws IOException {
+            final int len = position - HEADER_LENGTH;
+            writeHeader(len);
+            synchronized (lock) {
+                awaitSender();
                 ProcessLogger.PROTOCOL_CONNECTION_LOGGER.tracef("Sending data chunk of size %d", Integer.valueOf(len));
-                out.write(hdr);
-                out.write(b, off, len);
+                socket.getOutputStream().write(buffer, 0, position);
             }
+            position = HEADER_LENGTH;
         }
 
         @Override
         public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            final int len = position - HEADER_LENGTH;
+            final int frameLength;
+            if (len > 0) {
+                writeHeader(len);
+                buffer[position] = (byte) ProtocolConstants.CHUNK_END;
+                frameLength = position + 1;
+            } else {
+                buffer[0] = (byte) ProtocolConstants.CHUNK_END;
+                frameLength = 1;
+            }
             synchronized (lock) {
-                if (sender != this) {
-                    return;
+                try {
+                    awaitSender();
+                    if (readDone) {
+                        readExecutor.execute(new Runnable() {
+                            @Override
+                            public void run() {
+                                safeHandleFinished();
+                            }
+                        });
+                    }
+                    if (len > 0) {
+                        ProcessLogger.PROTOCOL_CONNECTION_LOGGER.tracef("Sending data chunk of size %d", Integer.valueOf(len));
+                    }
+                    ProcessLogger.PROTOCOL_CONNECTION_LOGGER.tracef("Sending end of message");
+                    socket.getOutputStream().write(buffer, 0, frameLength);
+                } finally {
+                    if (sender == this) {
+                        sender = null;
+                    }
+                    openMessages--;
+                    if (bufferPool.size() < MAX_POOLED_BUFFERS) {
+                        bufferPool.push(buffer);
+                    }
+                    buffer = null;
+                    // wake up waiters
+                    lock.notifyAll();
                 }
-                sender = null;
-                // wake up waiters
-                lock.notify();
-                if (writeDone) throw ProcessLogger.ROOT_LOGGER.writeChannelClosed();
-                if (readDone) {
-                    readExecutor.execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            safeHandleFinished();
-                        }
-                    });
+            }
+        }
+
+        private void writeHeader(final int len) {
+            final byte[] hdr = buffer;
+            hdr[0] = (byte) ProtocolConstants.CHUNK_START;
+            hdr[1] = (byte) (len >> 24);
+            hdr[2] = (byte) (len >> 16);
+            hdr[3] = (byte) (len >> 8);
+            hdr[4] = (byte) (len >> 0);
+        }
+
+        /**
+         * Waits until no other message is streaming its chunks and makes this message the current sender.
+         * Must be called while holding the connection lock.
+         */
+        private void awaitSender() throws IOException {
+            while (sender != null && sender != this && ! writeDone) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
                 }
-                ProcessLogger.PROTOCOL_CONNECTION_LOGGER.tracef("Sending end of message");
-                out.write(ProtocolConstants.CHUNK_END);
             }
+            if (writeDone) {
+                throw ProcessLogger.ROOT_LOGGER.writeChannelClosed();
+            }
+            sender = this;
         }
 
         @Override
         protected void finalize() throws Throwable {
             super.finalize();
-            synchronized (lock) {
-                if (sender == this) {
-                    ProcessLogger.PROTOCOL_CONNECTION_LOGGER.leakedMessageOutputStream();
-                    close();
-                }
+            if (! closed) {
+                ProcessLogger.PROTOCOL_CONNECTION_LOGGER.leakedMessageOutputStream();
+                close();
             }
         }
     }
@@ -0,0 +1,187 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.process;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.process.logging.ProcessLogger;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ProcessOutputPump}.
+ */
+public class ProcessOutputPumpTestCase {
+
+    private final ProcessOutputPump pump = new ProcessOutputPump();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final PrintStream target = new PrintStream(output, true);
+
+    @Test
+    public void testLines() throws Exception {
+        relay("one\ntwo\r\n\nthree");
+        // The line terminators are normalized and the last line is relayed at the end of the stream
+        assertEquals("[test] one\n[test] two\n[test] \n[test] three\n", output());
+    }
+
+    @Test
+    public void testAnsi() throws Exception {
+        relay("\033[31mred\nstill red\n\033[0mplain\n");
+        // The colour of a line is carried over to the next lines until it is reset
+        assertEquals("[test] \033[31mred\033[0m\n[test] \033[31mstill red\033[0m\n[test] \033[31m\033[0mplain\033[0m\n", output());
+    }
+
+    @Test
+    public void testLongLine() throws Exception {
+        final StringBuilder line = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            line.append('x');
+        }
+        relay(line.toString());
+        final String relayed = output();
+        assertTrue(relayed.startsWith("[test] xxx"));
+        // Held back lines are relayed once they get too long
+        assertEquals(100000, relayed.replace("[test] ", "").replace("\n", "").length());
+    }
+
+    @Test
+    public void testRelayedWithoutWaiting() throws Exception {
+        final PipedOutputStream process = new PipedOutputStream();
+        final TestStream stream = new TestStream(new PipedInputStream(process));
+        final TestProcess owner = new TestProcess(true);
+        pump.register("test", owner, stream, target, ProcessLogger.ROOT_LOGGER);
+        process.write("first\npartial".getBytes(StandardCharsets.UTF_8));
+        process.flush();
+        // The complete line is relayed while the process is running
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (output().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("[test] first\n", output());
+        assertFalse(stream.closed.await(0, TimeUnit.SECONDS));
+        owner.alive = false;
+        assertTrue(stream.closed.await(10, TimeUnit.SECONDS));
+        assertEquals("[test] first\n[test] partial\n", output());
+    }
+
+    @Test
+    public void testSharedPump() throws Exception {
+        final TestStream first = new TestStream(new ByteArrayInputStream("one\n".getBytes(StandardCharsets.UTF_8)));
+        final TestStream second = new TestStream(new ByteArrayInputStream("two\n".getBytes(StandardCharsets.UTF_8)));
+        final TestProcess owner = new TestProcess(true);
+        pump.register("first", owner, first, target, ProcessLogger.ROOT_LOGGER);
+        pump.register("second", new TestProcess(false), second, target, ProcessLogger.ROOT_LOGGER);
+        // A terminated process is done with while the streams of the running ones are still relayed
+        assertTrue(second.closed.await(10, TimeUnit.SECONDS));
+        assertFalse(first.closed.await(0, TimeUnit.SECONDS));
+        owner.alive = false;
+        assertTrue(first.closed.await(10, TimeUnit.SECONDS));
+        final String relayed = output();
+        assertTrue(relayed.contains("[first] one\n"));
+        assertTrue(relayed.contains("[second] two\n"));
+    }
+
+    private void relay(final String content) throws InterruptedException {
+        final TestStream stream = new TestStream(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        pump.register("test", new TestProcess(false), stream, target, ProcessLogger.ROOT_LOGGER);
+        assertTrue(stream.closed.await(10, TimeUnit.SECONDS));
+    }
+
+    private String output() {
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static final class TestStream extends FilterInputStream {
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        private TestStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            closed.countDown();
+        }
+    }
+
+    private static final class TestProcess extends Process {
+        private volatile boolean alive;
+
+        private TestProcess(final boolean alive) {
+            this.alive = alive;
+        }
+
+        @Override
+        public boolean isAlive() {
+            return alive;
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InputStream getErrorStream() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int waitFor() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int exitValue() {
+            if (alive) {
+                throw new IllegalThreadStateException();
+            }
+            return 0;
+        }
+
+        @Override
+        public void destroy() {
+            alive = false;
+        }
+    }
+}
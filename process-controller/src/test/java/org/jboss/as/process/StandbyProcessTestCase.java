@@ -0,0 +1,174 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.process;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.net.ServerSocketFactory;
+
+import org.jboss.as.process.protocol.ProtocolServer;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests of {@link StandbyProcess} and how the {@link ProcessController} hands them out.
+ */
+public class StandbyProcessTestCase {
+
+    private static final Map<String, String> ENV = Collections.singletonMap("STANDBY_TEST", "true");
+    private static final String WORKING_DIRECTORY = new File(".").getAbsolutePath();
+
+    private final List<StandbyProcess> launched = new ArrayList<>();
+
+    @After
+    public void destroy() throws Exception {
+        for (StandbyProcess standbyProcess : launched) {
+            standbyProcess.destroy();
+            standbyProcess.getProcess().waitFor(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testLaunchCommand() {
+        final List<String> command = Arrays.asList("java", " -D[pcid:1] ", "-Xms1g", "-Xmx2g", "-XX:+AlwaysPreTouch",
+                "-Dlogging.configuration=file:/logging.properties", "-jar", "jboss-modules.jar");
+        // The standby process has its own id, leaves the heap to the running process and defers its logging configuration
+        assertEquals(Arrays.asList("java", "-D[pcid:7]", "-Xmx2g",
+                "-D" + ProcessController.STANDBY_LOGGING_CONFIGURATION + "=file:/logging.properties", "-jar", "jboss-modules.jar"),
+                StandbyProcess.getLaunchCommand(command, 7));
+    }
+
+    @Test
+    public void testUnsupportedOption() {
+        assertNull(StandbyProcess.getUnsupportedOption(Arrays.asList("java", "-Xlog:gc", "-Xlog:gc*:stdout",
+                "-agentlib:jdwp=transport=dt_socket,server=n,address=localhost:8787")));
+        assertEquals("-Xloggc:gc.log", StandbyProcess.getUnsupportedOption(Arrays.asList("java", "-Xloggc:gc.log")));
+        assertEquals("-Xlog:gc*:file=gc.log", StandbyProcess.getUnsupportedOption(Arrays.asList("java", "-Xlog:gc*:file=gc.log")));
+        assertEquals("-agentlib:jdwp=transport=dt_socket,server=y,address=8787",
+                StandbyProcess.getUnsupportedOption(Arrays.asList("java", "-agentlib:jdwp=transport=dt_socket,server=y,address=8787")));
+        assertEquals("-Dcom.sun.management.jmxremote.port=9999",
+                StandbyProcess.getUnsupportedOption(Arrays.asList("java", "-Dcom.sun.management.jmxremote.port=9999")));
+    }
+
+    @Test
+    public void testMatches() throws Exception {
+        final StandbyProcess standbyProcess = launch(command("-D[pcid:1]"));
+        assertTrue(standbyProcess.getId() >= 0);
+        assertTrue(standbyProcess.getId() != 1);
+
+        // The process id and the class data sharing options differ between launches
+        assertTrue(standbyProcess.matches(command("-D[pcid:2]"), ENV, WORKING_DIRECTORY));
+        assertTrue(standbyProcess.matches(command("-D[pcid:2]", "-XX:SharedArchiveFile=server.jsa"), ENV, WORKING_DIRECTORY));
+        assertTrue(standbyProcess.matches(command("-D[pcid:2]", "-XX:+AutoCreateSharedArchive", "-XX:SharedArchiveFile=server.jsa"), ENV, WORKING_DIRECTORY));
+        assertFalse(standbyProcess.matches(command("-D[pcid:2]", "-Dother=true"), ENV, WORKING_DIRECTORY));
+        assertFalse(standbyProcess.matches(command("-D[pcid:2]"), Collections.<String, String>emptyMap(), WORKING_DIRECTORY));
+        assertFalse(standbyProcess.matches(command("-D[pcid:2]"), ENV, new File("..").getAbsolutePath()));
+
+        standbyProcess.destroy();
+        assertTrue(standbyProcess.getProcess().waitFor(10, TimeUnit.SECONDS));
+        assertFalse(standbyProcess.matches(command("-D[pcid:1]"), ENV, WORKING_DIRECTORY));
+    }
+
+    @Test
+    public void testTakeStandbyProcess() throws Exception {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        final ProtocolServer.Configuration configuration = new ProtocolServer.Configuration();
+        configuration.setBindAddress(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        configuration.setSocketFactory(ServerSocketFactory.getDefault());
+        configuration.setThreadFactory(Executors.defaultThreadFactory());
+        configuration.setReadExecutor(executor);
+        final ProcessController processController = new ProcessController(configuration, System.out, System.err);
+        try {
+            assertNull(processController.takeStandbyProcess("test", command("-D[pcid:1]"), ENV, WORKING_DIRECTORY));
+
+            processController.launchStandbyProcess("test", command("-D[pcid:1]"), ENV, WORKING_DIRECTORY);
+            final StandbyProcess standbyProcess = processController.takeStandbyProcess("test", command("-D[pcid:2]"), ENV, WORKING_DIRECTORY);
+            assertNotNull(standbyProcess);
+            launched.add(standbyProcess);
+            // A standby process is handed out once
+            assertNull(processController.takeStandbyProcess("test", command("-D[pcid:2]"), ENV, WORKING_DIRECTORY));
+
+            // A standby process that does not match is destroyed
+            processController.launchStandbyProcess("test", command("-D[pcid:1]"), ENV, WORKING_DIRECTORY);
+            final StandbyProcess other = processController.takeStandbyProcess("test", command("-D[pcid:1]"), ENV, WORKING_DIRECTORY);
+            assertNotNull(other);
+            launched.add(other);
+            assertTrue(other.matches(command("-D[pcid:1]"), ENV, WORKING_DIRECTORY));
+            processController.launchStandbyProcess("test", command("-D[pcid:1]"), ENV, WORKING_DIRECTORY);
+            assertNull(processController.takeStandbyProcess("test", command("-D[pcid:1]", "-Dother=true"), ENV, WORKING_DIRECTORY));
+
+            // No standby process is launched for a command that holds a fixed file
+            processController.launchStandbyProcess("test", command("-D[pcid:1]", "-Xloggc:gc.log"), ENV, WORKING_DIRECTORY);
+            assertNull(processController.takeStandbyProcess("test", command("-D[pcid:1]", "-Xloggc:gc.log"), ENV, WORKING_DIRECTORY));
+
+        } finally {
+            processController.shutdown();
+            processController.getServer().stop();
+            executor.shutdownNow();
+        }
+    }
+
+    private StandbyProcess launch(final List<String> command) throws IOException {
+        final StandbyProcess standbyProcess = StandbyProcess.launch(command, ENV, WORKING_DIRECTORY);
+        launched.add(standbyProcess);
+        return standbyProcess;
+    }
+
+    private static List<String> command(final String... options) {
+        final List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(Arrays.asList(options));
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(WaitForInput.class.getName());
+        return command;
+    }
+
+    /**
+     * Stands in for a server: waits for its input like a server waits for the authentication key.
+     */
+    public static final class WaitForInput {
+
+        public static void main(final String[] args) throws IOException {
+            while (System.in.read() != -1) {
+                // wait
+            }
+        }
+    }
+}
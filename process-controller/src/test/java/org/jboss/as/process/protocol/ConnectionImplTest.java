@@ -0,0 +1,178 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.process.protocol;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of the message framing of {@link ConnectionImpl}.
+ */
+public final class ConnectionImplTest {
+
+    private static final int PROCESSES = 100;
+
+    private ExecutorService executor;
+    private ServerSocket serverSocket;
+    private Socket clientSocket;
+    private Socket acceptedSocket;
+
+    @Before
+    public void setup() throws IOException {
+        executor = Executors.newCachedThreadPool();
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        clientSocket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+        acceptedSocket = serverSocket.accept();
+    }
+
+    @After
+    public void cleanup() {
+        StreamUtils.safeClose(clientSocket);
+        StreamUtils.safeClose(acceptedSocket);
+        StreamUtils.safeClose(serverSocket);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentMessages() throws Exception {
+        final Map<String, byte[]> received = new ConcurrentHashMap<>();
+        final CountDownLatch latch = new CountDownLatch(PROCESSES * 2);
+        final ConnectionImpl receiver = new ConnectionImpl(acceptedSocket, new CollectingHandler(received, latch), executor, null);
+        executor.execute(receiver.getReadTask());
+        final ConnectionImpl sender = new ConnectionImpl(clientSocket, MessageHandler.NULL, executor, null);
+
+        // Simulate a start/started exchange for each process, with every other process sending a
+        // multi-chunk payload, all from concurrent writers
+        final List<Future<?>> writers = new ArrayList<>();
+        for (int i = 0; i < PROCESSES; i++) {
+            final int process = i;
+            writers.add(executor.submit(() -> {
+                writeMessage(sender, "start-" + process, payload(process, process % 2 == 0 ? 20000 + process : 16));
+                writeMessage(sender, "started-" + process, payload(process, 8));
+                return null;
+            }));
+        }
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        assertEquals(PROCESSES * 2, received.size());
+        for (int i = 0; i < PROCESSES; i++) {
+            assertArrayEquals(payload(i, i % 2 == 0 ? 20000 + i : 16), received.get("start-" + i));
+            assertArrayEquals(payload(i, 8), received.get("started-" + i));
+        }
+        sender.shutdownWrites();
+    }
+
+    @Test
+    public void testEmptyMessageAndFlush() throws Exception {
+        final Map<String, byte[]> received = new ConcurrentHashMap<>();
+        final CountDownLatch latch = new CountDownLatch(2);
+        final ConnectionImpl receiver = new ConnectionImpl(acceptedSocket, new CollectingHandler(received, latch), executor, null);
+        executor.execute(receiver.getReadTask());
+        final ConnectionImpl sender = new ConnectionImpl(clientSocket, MessageHandler.NULL, executor, null);
+
+        writeMessage(sender, "empty", new byte[0]);
+        try (OutputStream os = sender.writeMessage()) {
+            StreamUtils.writeUTFZBytes(os, "flushed");
+            os.write(1);
+            os.flush();
+            os.write(2);
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        assertArrayEquals(new byte[0], received.get("empty"));
+        assertArrayEquals(new byte[] {1, 2}, received.get("flushed"));
+    }
+
+    private static void writeMessage(final Connection connection, final String name, final byte[] payload) throws IOException {
+        final OutputStream os = connection.writeMessage();
+        try {
+            StreamUtils.writeUTFZBytes(os, name);
+            os.write(payload);
+            os.close();
+        } finally {
+            StreamUtils.safeClose(os);
+        }
+    }
+
+    private static byte[] payload(final int seed, final int length) {
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (seed + i);
+        }
+        return bytes;
+    }
+
+    private static final class CollectingHandler implements MessageHandler {
+        private final Map<String, byte[]> received;
+        private final CountDownLatch latch;
+
+        private CollectingHandler(final Map<String, byte[]> received, final CountDownLatch latch) {
+            this.received = received;
+            this.latch = latch;
+        }
+
+        @Override
+        public void handleMessage(final Connection connection, final InputStream dataStream) throws IOException {
+            final String name = StreamUtils.readUTFZBytes(dataStream);
+            final ByteArrayOutputStream content = new ByteArrayOutputStream();
+            StreamUtils.copyStream(dataStream, content);
+            received.put(name, content.toByteArray());
+            latch.countDown();
+        }
+
+        @Override
+        public void handleShutdown(final Connection connection) {
+        }
+
+        @Override
+        public void handleFailure(final Connection connection, final IOException e) {
+        }
+
+        @Override
+        public void handleFinished(final Connection connection) {
+        }
+    }
+}
@@ -28,8 +28,10 @@ import java.io.InputStream;
 import java.io.InterruptedIOException;
 import java.io.PrintStream;
 import java.net.URI;
+import java.net.URL;
 import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.logging.LogManager;
 import org.jboss.as.network.NetworkUtils;
 
 import org.jboss.as.process.ExitCodes;
@@ -95,6 +97,22 @@ public final class DomainServerMain {
         );
         StdioContext.setStdioContextSelector(new SimpleStdioContextSelector(context));
 
+        // Do everything that does not depend on the process controller's input before blocking on it, so that
+        // a process launched ahead of time by the process controller is ready to run the server task
+        final MarshallerFactory factory = Marshalling.getMarshallerFactory("river", DomainServerMain.class.getClassLoader());
+        final Unmarshaller unmarshaller;
+        try {
+            Module.registerURLStreamHandlerFactoryModule(Module.getBootModuleLoader().loadModule(ModuleIdentifier.create("org.jboss.vfs")));
+            final MarshallingConfiguration configuration = new MarshallingConfiguration();
+            configuration.setVersion(2);
+            configuration.setClassResolver(new SimpleClassResolver(DomainServerMain.class.getClassLoader()));
+            unmarshaller = factory.createUnmarshaller(configuration);
+        } catch (Throwable t) {
+            t.printStackTrace(initialError);
+            SystemExiter.abort(ExitCodes.FAILED);
+            throw new IllegalStateException(); // not reached
+        }
+
         final byte[] asAuthBytes = new byte[ProcessController.AUTH_BYTES_ENCODED_LENGTH];
         try {
             StreamUtils.readFully(initialInput, asAuthBytes);
@@ -104,16 +122,22 @@ public final class DomainServerMain {
             throw new IllegalStateException(); // not reached
         }
 
-        final MarshallerFactory factory = Marshalling.getMarshallerFactory("river", DomainServerMain.class.getClassLoader());
-        final Unmarshaller unmarshaller;
+        // A standby process defers its logging configuration, so that it leaves the log files of the process it
+        // was launched next to alone until now
+        final String loggingConfiguration = System.getProperty(ProcessController.STANDBY_LOGGING_CONFIGURATION);
+        if (loggingConfiguration != null) {
+            System.clearProperty(ProcessController.STANDBY_LOGGING_CONFIGURATION);
+            System.setProperty("logging.configuration", loggingConfiguration);
+            try (InputStream in = new URL(loggingConfiguration).openStream()) {
+                LogManager.getLogManager().readConfiguration(in);
+            } catch (IOException e) {
+                e.printStackTrace(initialError);
+            }
+        }
+
         final ByteInput byteInput;
         final AsyncFuture<ServiceContainer> containerFuture;
         try {
-            Module.registerURLStreamHandlerFactoryModule(Module.getBootModuleLoader().loadModule(ModuleIdentifier.create("org.jboss.vfs")));
-            final MarshallingConfiguration configuration = new MarshallingConfiguration();
-            configuration.setVersion(2);
-            configuration.setClassResolver(new SimpleClassResolver(DomainServerMain.class.getClassLoader()));
-            unmarshaller = factory.createUnmarshaller(configuration);
             byteInput = Marshalling.createByteInput(initialInput);
             unmarshaller.start(byteInput);
             final ServerTask task = unmarshaller.readObject(ServerTask.class);
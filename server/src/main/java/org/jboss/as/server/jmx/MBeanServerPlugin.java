@@ -21,6 +21,8 @@
 */
 package org.jboss.as.server.jmx;
 
+import java.util.Set;
+
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
 
@@ -38,6 +40,16 @@ public interface MBeanServerPlugin extends MBeanServer {
      */
     boolean accepts(ObjectName objectName);
 
+    /**
+     * Return the domains of the mbeans this plugin can handle, if they are known up front. The {@link PluggableMBeanServer}
+     * then only asks this plugin to {@link #accepts(ObjectName) accept} names in one of these domains, or domain patterns.
+     *
+     * @return the domains, or {@code null} if this plugin has to be asked about the names in any domain
+     */
+    default Set<String> getAcceptedDomains() {
+        return null;
+    }
+
     /**
      * Return {@code true} if this plugin should audit log
      *
@@ -53,6 +53,10 @@ public class ServerToHostRemoteFileRequestAndHandler extends RemoteFileRequestAn
         public byte fileEnd() {
             return DomainServerProtocol.FILE_END;
         }
+
+        public byte paramFileOffset() {
+            return DomainServerProtocol.PARAM_FILE_OFFSET;
+        }
     };
 
     public static final ServerToHostRemoteFileRequestAndHandler INSTANCE = new ServerToHostRemoteFileRequestAndHandler(MAPPER);
@@ -0,0 +1,214 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.util.Locale;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+/**
+ * Adjusts the core size of a bounded queue thread pool between its configured core and maximum sizes.
+ * <p>
+ * At each interval, configured with the {@code adaptive-sizing-interval} attribute of the pool, the controller looks at
+ * the tasks started and completed since the previous interval. If tasks are queued and the started ones waited for
+ * longer than {@link #TARGET_WAIT} on average, the core size grows by a step. If the previous step grew the pool but fewer tasks
+ * completed than before, the threads didn't help, e.g. because they contend for the same resource, so the step is
+ * reverted and the pool doesn't grow for a few intervals. This is a simple form of hill climbing on the throughput. If
+ * nothing is queued and some core threads are idle, the core size shrinks by one thread, so the pool slowly returns to
+ * its configured core size, and the idle threads time out if core threads are allowed to time out.
+ */
+class AdaptiveSizingController {
+
+    /** Average wait above which the pool is considered short of threads */
+    static final long TARGET_WAIT = TimeUnit.MILLISECONDS.toNanos(1);
+    /** Relative drop of the throughput after which a growth step is reverted */
+    private static final double TOLERANCE = 0.05;
+    /** Number of intervals the pool doesn't grow after a reverted step */
+    private static final int COOLDOWN = 5;
+    /** Number of steps to grow from the minimum to the maximum size */
+    private static final int STEPS = 8;
+
+    enum Decision {
+        HOLD, GROW, SHRINK, REVERT;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ENGLISH);
+        }
+    }
+
+    private final String name;
+    private final ThreadPoolStatistics statistics;
+    private final IntSupplier queueSize;
+    private final IntConsumer coreThreadsSetter;
+    private final long interval;
+    private final AtomicLong adjustments = new AtomicLong();
+
+    // Guarded by this
+    private int minCoreThreads;
+    private int maxCoreThreads;
+    private int coreThreads;
+    private long lastTime;
+    private long lastStarted;
+    private long lastCompleted;
+    private long lastWaitTime;
+    private double lastThroughput;
+    private int lastStep;
+    private int cooldown;
+    private ScheduledFuture<?> future;
+
+    private volatile Decision lastDecision = Decision.HOLD;
+
+    /**
+     * Creates the controller of a pool.
+     *
+     * @param name the name of the pool
+     * @param statistics the statistics of the pool, timing its tasks
+     * @param queueSize gets the number of tasks in the queue of the pool
+     * @param coreThreadsSetter sets the core size of the pool
+     * @param minCoreThreads the configured core size
+     * @param maxCoreThreads the configured maximum size
+     * @param interval the interval between two decisions in milliseconds
+     */
+    AdaptiveSizingController(final String name, final ThreadPoolStatistics statistics, final IntSupplier queueSize,
+                             final IntConsumer coreThreadsSetter, final int minCoreThreads, final int maxCoreThreads,
+                             final long interval) {
+        this.name = name;
+        this.interval = interval;
+        this.statistics = statistics;
+        this.queueSize = queueSize;
+        this.coreThreadsSetter = coreThreadsSetter;
+        this.minCoreThreads = minCoreThreads;
+        this.maxCoreThreads = Math.max(minCoreThreads, maxCoreThreads);
+        this.coreThreads = minCoreThreads;
+    }
+
+    synchronized void start() {
+        lastTime = System.nanoTime();
+        lastStarted = statistics.getStartedTasks();
+        lastCompleted = statistics.getCompletedTasks();
+        lastWaitTime = statistics.getTotalWaitTime();
+        future = ThreadPoolStatistics.schedule(this::adjust, interval);
+    }
+
+    synchronized void stop() {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+    }
+
+    /**
+     * Changes the bounds of the core size after the pool was reconfigured, and applies them to the pool.
+     *
+     * @param minCoreThreads the configured core size
+     * @param maxCoreThreads the configured maximum size
+     */
+    synchronized void setBounds(final int minCoreThreads, final int maxCoreThreads) {
+        this.minCoreThreads = minCoreThreads;
+        this.maxCoreThreads = Math.max(minCoreThreads, maxCoreThreads);
+        coreThreads = Math.min(this.maxCoreThreads, Math.max(minCoreThreads, coreThreads));
+        lastStep = 0;
+        coreThreadsSetter.accept(coreThreads);
+    }
+
+    synchronized int getCoreThreads() {
+        return coreThreads;
+    }
+
+    Decision getLastDecision() {
+        return lastDecision;
+    }
+
+    long getAdjustments() {
+        return adjustments.get();
+    }
+
+    private void adjust() {
+        try {
+            synchronized (this) {
+                final long time = System.nanoTime();
+                final long started = statistics.getStartedTasks();
+                final long completed = statistics.getCompletedTasks();
+                final long waitTime = statistics.getTotalWaitTime();
+                decide(completed - lastCompleted, started - lastStarted, waitTime - lastWaitTime, queueSize.getAsInt(),
+                        statistics.getRunningTasks(), time - lastTime);
+                lastTime = time;
+                lastStarted = started;
+                lastCompleted = completed;
+                lastWaitTime = waitTime;
+            }
+        } catch (RuntimeException e) {
+            // Don't let the exception cancel the periodic task
+            ThreadsLogger.ROOT_LOGGER.adaptiveSizingFailed(e, name);
+        }
+    }
+
+    /**
+     * Decides on the core size of the pool, and applies it.
+     *
+     * @param completed the number of tasks completed during the interval
+     * @param started the number of tasks started during the interval
+     * @param waitTime the total time the tasks started during the interval waited, in nanoseconds
+     * @param queued the number of tasks in the queue
+     * @param running the number of tasks running
+     * @param elapsed the length of the interval in nanoseconds
+     * @return the decision
+     */
+    synchronized Decision decide(final long completed, final long started, final long waitTime, final int queued,
+                                 final int running, final long elapsed) {
+        final double throughput = elapsed > 0 ? completed * (double) TimeUnit.SECONDS.toNanos(1) / elapsed : 0;
+        final long averageWait = started > 0 ? waitTime / started : 0;
+        final int previous = coreThreads;
+        Decision decision = Decision.HOLD;
+        if (cooldown > 0) {
+            cooldown--;
+        }
+        if (queued > 0 && averageWait > TARGET_WAIT) {
+            if (lastStep > 0 && throughput < lastThroughput * (1 - TOLERANCE)) {
+                coreThreads = Math.max(minCoreThreads, coreThreads - lastStep);
+                cooldown = COOLDOWN;
+                decision = Decision.REVERT;
+            } else if (cooldown == 0 && coreThreads < maxCoreThreads) {
+                coreThreads = Math.min(maxCoreThreads, coreThreads + Math.max(1, (maxCoreThreads - minCoreThreads) / STEPS));
+                decision = Decision.GROW;
+            }
+        } else if (queued == 0 && running < coreThreads && coreThreads > minCoreThreads) {
+            coreThreads--;
+            decision = Decision.SHRINK;
+        }
+        lastStep = coreThreads - previous;
+        lastThroughput = throughput;
+        lastDecision = decision;
+        if (decision != Decision.HOLD) {
+            adjustments.incrementAndGet();
+            coreThreadsSetter.accept(coreThreads);
+            ThreadsLogger.ROOT_LOGGER.adaptiveSizingDecision(name, decision, previous, coreThreads, throughput,
+                    TimeUnit.NANOSECONDS.toMicros(averageWait), queued);
+        }
+        return decision;
+    }
+}
@@ -45,6 +45,10 @@ public class BoundedQueueThreadPoolAdd extends AbstractAddStepHandler {
 
     static final AttributeDefinition[] NON_BLOCKING_ATTRIBUTES = new AttributeDefinition[BLOCKING_ATTRIBUTES.length + 1] ;
 
+    /** Attributes only the pools of the threads subsystem have, the pools of other subsystems share the ones above */
+    static final AttributeDefinition[] THREADS_SUBSYSTEM_ATTRIBUTES = new AttributeDefinition[] {PoolAttributeDefinitions.ADAPTIVE_SIZING,
+        PoolAttributeDefinitions.ADAPTIVE_SIZING_INTERVAL, PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL};
+
     static final AttributeDefinition[] RW_ATTRIBUTES = new AttributeDefinition[] {PoolAttributeDefinitions.KEEPALIVE_TIME,
         PoolAttributeDefinitions.MAX_THREADS, PoolAttributeDefinitions.CORE_THREADS, PoolAttributeDefinitions.QUEUE_LENGTH,
         PoolAttributeDefinitions.ALLOW_CORE_TIMEOUT};
@@ -61,7 +65,12 @@ public class BoundedQueueThreadPoolAdd extends AbstractAddStepHandler {
 
     public BoundedQueueThreadPoolAdd(boolean blocking, ThreadFactoryResolver threadFactoryResolver,
                                      HandoffExecutorResolver handoffExecutorResolver, ServiceName serviceNameBase) {
-        super(blocking ? BLOCKING_ATTRIBUTES : NON_BLOCKING_ATTRIBUTES);
+        this(blocking, threadFactoryResolver, handoffExecutorResolver, serviceNameBase, false);
+    }
+
+    BoundedQueueThreadPoolAdd(boolean blocking, ThreadFactoryResolver threadFactoryResolver,
+                              HandoffExecutorResolver handoffExecutorResolver, ServiceName serviceNameBase, boolean threadsSubsystem) {
+        super(getAttributes(blocking, threadsSubsystem));
         this.blocking = blocking;
         this.threadFactoryResolver = threadFactoryResolver;
         this.handoffExecutorResolver = handoffExecutorResolver;
@@ -79,7 +88,10 @@ public class BoundedQueueThreadPoolAdd extends AbstractAddStepHandler {
                 params.getQueueLength(),
                 blocking,
                 params.getKeepAliveTime(),
-                params.isAllowCoreTimeout());
+                params.isAllowCoreTimeout(),
+                params.isAdaptiveSizing(),
+                params.getAdaptiveSizingInterval(),
+                params.getStatisticsSamplingInterval());
 
         ThreadPoolManagementUtils.installThreadPoolService(service, params.getName(), serviceNameBase,
                 params.getThreadFactory(), threadFactoryResolver, service.getThreadFactoryInjector(),
@@ -87,6 +99,11 @@ public class BoundedQueueThreadPoolAdd extends AbstractAddStepHandler {
                 context.getServiceTarget());
     }
 
+    static AttributeDefinition[] getAttributes(boolean blocking, boolean threadsSubsystem) {
+        return ThreadPoolManagementUtils.getAttributes(blocking ? BLOCKING_ATTRIBUTES : NON_BLOCKING_ATTRIBUTES,
+                THREADS_SUBSYSTEM_ATTRIBUTES, threadsSubsystem);
+    }
+
     boolean isBlocking() {
         return blocking;
     }
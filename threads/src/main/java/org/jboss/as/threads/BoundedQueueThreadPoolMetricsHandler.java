@@ -22,7 +22,9 @@
 package org.jboss.as.threads;
 
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.jboss.as.controller.AttributeDefinition;
@@ -43,8 +45,27 @@ public class BoundedQueueThreadPoolMetricsHandler extends ThreadPoolMetricsHandl
             PoolAttributeDefinitions.LARGEST_THREAD_COUNT, PoolAttributeDefinitions.REJECTED_COUNT,
             PoolAttributeDefinitions.QUEUE_SIZE);
 
+    /** The metrics of the pools of the threads subsystem, which are the only ones that can be sized adaptively */
+    static final List<AttributeDefinition> THREADS_SUBSYSTEM_METRICS;
+
+    static {
+        final List<AttributeDefinition> metrics = new ArrayList<>(METRICS);
+        metrics.addAll(Arrays.asList(PoolAttributeDefinitions.ADAPTIVE_CORE_THREADS, PoolAttributeDefinitions.ADAPTIVE_SIZING_DECISION,
+                PoolAttributeDefinitions.ADAPTIVE_SIZING_ADJUSTMENTS));
+        THREADS_SUBSYSTEM_METRICS = Collections.unmodifiableList(metrics);
+    }
+
     public BoundedQueueThreadPoolMetricsHandler(final ServiceName serviceNameBase) {
-        super(METRICS, serviceNameBase);
+        this(serviceNameBase, false);
+    }
+
+    BoundedQueueThreadPoolMetricsHandler(final ServiceName serviceNameBase, final boolean threadsSubsystem) {
+        super(threadsSubsystem ? THREADS_SUBSYSTEM_METRICS : METRICS, serviceNameBase, threadsSubsystem);
+    }
+
+    @Override
+    ThreadPoolStatistics getStatistics(final Service<?> service) {
+        return ((BoundedQueueThreadPoolService) service).getStatistics();
     }
 
     @Override
@@ -59,6 +80,21 @@ public class BoundedQueueThreadPoolMetricsHandler extends ThreadPoolMetricsHandl
             context.getResult().set(bounded.getRejectedCount());
         } else if (attributeName.equals(CommonAttributes.QUEUE_SIZE)) {
             context.getResult().set(bounded.getQueueSize());
+        } else if (attributeName.equals(CommonAttributes.ADAPTIVE_CORE_THREADS)) {
+            final AdaptiveSizingController sizingController = bounded.getSizingController();
+            if (sizingController != null) {
+                context.getResult().set(sizingController.getCoreThreads());
+            }
+        } else if (attributeName.equals(CommonAttributes.ADAPTIVE_SIZING_DECISION)) {
+            final AdaptiveSizingController sizingController = bounded.getSizingController();
+            if (sizingController != null) {
+                context.getResult().set(sizingController.getLastDecision().toString());
+            }
+        } else if (attributeName.equals(CommonAttributes.ADAPTIVE_SIZING_ADJUSTMENTS)) {
+            final AdaptiveSizingController sizingController = bounded.getSizingController();
+            if (sizingController != null) {
+                context.getResult().set(sizingController.getAdjustments());
+            }
         } else {
             // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
             throw ThreadsLogger.ROOT_LOGGER.unsupportedBoundedQueueThreadPoolMetric(attributeName);
@@ -47,12 +47,20 @@ public class BoundedQueueThreadPoolResourceDefinition extends PersistentResource
     private final boolean registerRuntimeOnly;
 
     public static BoundedQueueThreadPoolResourceDefinition create(boolean blocking, boolean registerRuntimeOnly) {
+        return create(blocking, registerRuntimeOnly, false);
+    }
+
+    /**
+     * Creates the definition of a pool of the threads subsystem itself, if {@code threadsSubsystem} is {@code true}. These pools
+     * also get the attributes and metrics which the schemas and transformers of other subsystems using this definition don't know.
+     */
+    static BoundedQueueThreadPoolResourceDefinition create(boolean blocking, boolean registerRuntimeOnly, boolean threadsSubsystem) {
         if (blocking) {
             return create(CommonAttributes.BLOCKING_BOUNDED_QUEUE_THREAD_POOL, ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER,
-                    null, ThreadsServices.EXECUTOR, registerRuntimeOnly);
+                    null, ThreadsServices.EXECUTOR, registerRuntimeOnly, threadsSubsystem);
         } else {
             return create(CommonAttributes.BOUNDED_QUEUE_THREAD_POOL, ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER,
-                    ThreadsServices.STANDARD_HANDOFF_EXECUTOR_RESOLVER, ThreadsServices.EXECUTOR, registerRuntimeOnly);
+                    ThreadsServices.STANDARD_HANDOFF_EXECUTOR_RESOLVER, ThreadsServices.EXECUTOR, registerRuntimeOnly, threadsSubsystem);
         }
     }
 
@@ -68,11 +76,20 @@ public class BoundedQueueThreadPoolResourceDefinition extends PersistentResource
     public static BoundedQueueThreadPoolResourceDefinition create(String type, ThreadFactoryResolver threadFactoryResolver,
                                                                   HandoffExecutorResolver handoffExecutorResolver,
                                                                   ServiceName poolNameBase, boolean registerRuntimeOnly) {
+        return create(type, threadFactoryResolver, handoffExecutorResolver, poolNameBase, registerRuntimeOnly, false);
+    }
+
+    private static BoundedQueueThreadPoolResourceDefinition create(String type, ThreadFactoryResolver threadFactoryResolver,
+                                                                   HandoffExecutorResolver handoffExecutorResolver,
+                                                                   ServiceName poolNameBase, boolean registerRuntimeOnly,
+                                                                   boolean threadsSubsystem) {
         final boolean blocking = handoffExecutorResolver == null;
         final String resolverPrefix = blocking ? CommonAttributes.BLOCKING_BOUNDED_QUEUE_THREAD_POOL : CommonAttributes.BOUNDED_QUEUE_THREAD_POOL;
-        final BoundedQueueThreadPoolAdd addHandler = new BoundedQueueThreadPoolAdd(blocking, threadFactoryResolver, handoffExecutorResolver, poolNameBase);
+        final BoundedQueueThreadPoolAdd addHandler = new BoundedQueueThreadPoolAdd(blocking, threadFactoryResolver, handoffExecutorResolver,
+                poolNameBase, threadsSubsystem);
         final OperationStepHandler removeHandler = new BoundedQueueThreadPoolRemove(addHandler);
-        return new BoundedQueueThreadPoolResourceDefinition(blocking, registerRuntimeOnly, type, poolNameBase, resolverPrefix, addHandler, removeHandler);
+        return new BoundedQueueThreadPoolResourceDefinition(blocking, registerRuntimeOnly, type, poolNameBase, resolverPrefix, addHandler,
+                removeHandler, threadsSubsystem);
     }
 
     /**
@@ -82,13 +99,19 @@ public class BoundedQueueThreadPoolResourceDefinition extends PersistentResource
     protected BoundedQueueThreadPoolResourceDefinition(boolean blocking, boolean registerRuntimeOnly,
                                                      String type, ServiceName serviceNameBase, String resolverPrefix, OperationStepHandler addHandler,
                                                      OperationStepHandler removeHandler) {
+        this(blocking, registerRuntimeOnly, type, serviceNameBase, resolverPrefix, addHandler, removeHandler, false);
+    }
+
+    private BoundedQueueThreadPoolResourceDefinition(boolean blocking, boolean registerRuntimeOnly,
+                                                     String type, ServiceName serviceNameBase, String resolverPrefix, OperationStepHandler addHandler,
+                                                     OperationStepHandler removeHandler, boolean threadsSubsystem) {
         super(PathElement.pathElement(type),
                 new ThreadPoolResourceDescriptionResolver(resolverPrefix, ThreadsExtension.RESOURCE_NAME, ThreadsExtension.class.getClassLoader()),
                 addHandler, removeHandler);
         this.registerRuntimeOnly = registerRuntimeOnly;
         this.blocking = blocking;
-        metricsHandler = new BoundedQueueThreadPoolMetricsHandler(serviceNameBase);
-        writeHandler = new BoundedQueueThreadPoolWriteAttributeHandler(blocking, serviceNameBase);
+        metricsHandler = new BoundedQueueThreadPoolMetricsHandler(serviceNameBase, threadsSubsystem);
+        writeHandler = new BoundedQueueThreadPoolWriteAttributeHandler(blocking, serviceNameBase, threadsSubsystem);
     }
 
 
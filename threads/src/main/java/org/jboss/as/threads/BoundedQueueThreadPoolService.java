@@ -45,8 +45,12 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
     private final InjectedValue<Executor> handoffExecutorValue = new InjectedValue<Executor>();
     private final boolean blocking;
     private final int queueLength;
+    private final boolean adaptiveSizing;
+    private final long adaptiveSizingInterval;
+    private final long statisticsSamplingInterval;
 
     private ManagedQueueExecutorService executor;
+    private AdaptiveSizingController sizingController;
 
     private int coreThreads;
     private int maxThreads;
@@ -54,27 +58,65 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
     private boolean allowCoreTimeout;
 
     public BoundedQueueThreadPoolService(int coreThreads, int maxThreads, int queueLength, boolean blocking, TimeSpec keepAlive, boolean allowCoreTimeout) {
+        this(coreThreads, maxThreads, queueLength, blocking, keepAlive, allowCoreTimeout, false, 0, 0);
+    }
+
+    /**
+     * Creates the service.
+     *
+     * @param adaptiveSizing whether the core size is adjusted between {@code coreThreads} and {@code maxThreads}
+     *                       depending on the load, see {@link AdaptiveSizingController}
+     * @param adaptiveSizingInterval the interval between two adjustments of the core size in milliseconds
+     * @param statisticsSamplingInterval the interval in milliseconds at which the pool statistics are sampled, or
+     *                                   {@code 0} if they are disabled, see {@link ThreadPoolStatistics}
+     */
+    public BoundedQueueThreadPoolService(int coreThreads, int maxThreads, int queueLength, boolean blocking, TimeSpec keepAlive, boolean allowCoreTimeout,
+                                         boolean adaptiveSizing, long adaptiveSizingInterval, long statisticsSamplingInterval) {
         this.coreThreads = coreThreads;
         this.maxThreads = maxThreads;
         this.queueLength = queueLength;
         this.blocking = blocking;
         this.keepAlive = keepAlive;
         this.allowCoreTimeout = allowCoreTimeout;
+        this.adaptiveSizing = adaptiveSizing;
+        this.adaptiveSizingInterval = adaptiveSizingInterval;
+        this.statisticsSamplingInterval = statisticsSamplingInterval;
     }
 
     public synchronized void start(final StartContext context) throws StartException {
         final TimeSpec keepAliveSpec = keepAlive;
         long keepAliveTime = keepAliveSpec == null ? Long.MAX_VALUE : keepAliveSpec.getUnit().toNanos(keepAliveSpec.getDuration());
-        QueueExecutor queueExecutor = new QueueExecutor(coreThreads, maxThreads, keepAliveTime, TimeUnit.NANOSECONDS, queueLength, threadFactoryValue.getValue(), blocking, handoffExecutorValue.getOptionalValue());
+        final ThreadPoolStatistics statistics = ThreadPoolStatistics.create(statisticsSamplingInterval, adaptiveSizing);
+        QueueExecutor queueExecutor = new QueueExecutor(coreThreads, maxThreads, keepAliveTime, TimeUnit.NANOSECONDS, queueLength, threadFactoryValue.getValue(), blocking,
+                ThreadPoolStatistics.handoff(handoffExecutorValue.getOptionalValue(), statistics));
         queueExecutor.setAllowCoreThreadTimeout(allowCoreTimeout);
-        executor = new ManagedQueueExecutorService(queueExecutor);
+        final ManagedQueueExecutorService executor = new ManagedQueueExecutorService(queueExecutor, statistics);
+        if (statistics != null) {
+            statistics.start(executor::getMaxThreads, executor::getQueueSize);
+        }
+        if (adaptiveSizing) {
+            sizingController = new AdaptiveSizingController(context.getController().getName().getSimpleName(), statistics,
+                    executor::getQueueSize, executor::setCoreThreads, coreThreads, maxThreads, adaptiveSizingInterval);
+            sizingController.start();
+        }
+        this.executor = executor;
     }
 
     public void stop(final StopContext context) {
         final ManagedQueueExecutorService executor;
+        final AdaptiveSizingController sizingController;
         synchronized (this) {
             executor = this.executor;
             this.executor = null;
+            sizingController = this.sizingController;
+            this.sizingController = null;
+        }
+        if (sizingController != null) {
+            sizingController.stop();
+        }
+        final ThreadPoolStatistics statistics = executor.getStatistics();
+        if (statistics != null) {
+            statistics.stop();
         }
         context.asynchronous();
         executor.internalShutdown();
@@ -92,6 +134,14 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
         return value;
     }
 
+    ThreadPoolStatistics getStatistics() {
+        return getValue().getStatistics();
+    }
+
+    synchronized AdaptiveSizingController getSizingController() {
+        return sizingController;
+    }
+
     public Injector<ThreadFactory> getThreadFactoryInjector() {
         return threadFactoryValue;
     }
@@ -103,7 +153,10 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
     public synchronized void setCoreThreads(int coreThreads) {
         this.coreThreads = coreThreads;
         final ManagedQueueExecutorService executor = this.executor;
-        if(executor != null) {
+        if (sizingController != null) {
+            // The configured core size is the lower bound of the adjusted one
+            sizingController.setBounds(coreThreads, maxThreads);
+        } else if(executor != null) {
             executor.setCoreThreads(coreThreads);
         }
     }
@@ -114,6 +167,9 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
         if(executor != null) {
             executor.setMaxThreads(maxThreads);
         }
+        if (sizingController != null) {
+            sizingController.setBounds(coreThreads, maxThreads);
+        }
     }
 
     public synchronized void setKeepAlive(TimeSpec keepAlive) {
@@ -43,8 +43,11 @@ public class BoundedQueueThreadPoolWriteAttributeHandler extends ThreadsWriteAtt
     private final ServiceName serviceNameBase;
 
     public  BoundedQueueThreadPoolWriteAttributeHandler(boolean blocking, ServiceName serviceNameBase) {
-        super(blocking ? BoundedQueueThreadPoolAdd.BLOCKING_ATTRIBUTES : BoundedQueueThreadPoolAdd.NON_BLOCKING_ATTRIBUTES,
-                BoundedQueueThreadPoolAdd.RW_ATTRIBUTES);
+        this(blocking, serviceNameBase, false);
+    }
+
+    BoundedQueueThreadPoolWriteAttributeHandler(boolean blocking, ServiceName serviceNameBase, boolean threadsSubsystem) {
+        super(BoundedQueueThreadPoolAdd.getAttributes(blocking, threadsSubsystem), BoundedQueueThreadPoolAdd.RW_ATTRIBUTES);
         this.serviceNameBase = serviceNameBase;
     }
 
@@ -26,7 +26,13 @@ package org.jboss.as.threads;
  */
 public interface CommonAttributes {
     String ACTIVE_COUNT = "active-count";
+    String ADAPTIVE_CORE_THREADS = "adaptive-core-threads";
+    String ADAPTIVE_SIZING = "adaptive-sizing";
+    String ADAPTIVE_SIZING_ADJUSTMENTS = "adaptive-sizing-adjustments";
+    String ADAPTIVE_SIZING_DECISION = "adaptive-sizing-decision";
+    String ADAPTIVE_SIZING_INTERVAL = "adaptive-sizing-interval";
     String ALLOW_CORE_TIMEOUT = "allow-core-timeout";
+    String AVERAGE_QUEUE_SIZE = "average-queue-size";
     String BLOCKING = "blocking";
     String BLOCKING_BOUNDED_QUEUE_THREAD_POOL = "blocking-bounded-queue-thread-pool";
     String BLOCKING_QUEUELESS_THREAD_POOL = "blocking-queueless-thread-pool";
@@ -35,12 +41,15 @@ public interface CommonAttributes {
     String CORE_THREADS = "core-threads";
     String COUNT = "count";
     String CURRENT_THREAD_COUNT = "current-thread-count";
+    String PEAK_QUEUE_SIZE = "peak-queue-size";
     String PER_CPU = "per-cpu";
     String HANDOFF_EXECUTOR = "handoff-executor";
+    String HASHED_WHEEL_TIMER = "hashed-wheel-timer";
     String LARGEST_THREAD_COUNT = "largest-thread-count";
     String NAME = "name";
     String GROUP_NAME = "group-name";
     String KEEPALIVE_TIME = "keepalive-time";
+    String MAX_CONCURRENCY = "max-concurrency";
     String MAX_THREADS = "max-threads";
     String PRIORITY = "priority";
     String PROPERTIES = "properties";
@@ -50,12 +59,20 @@ public interface CommonAttributes {
     String QUEUE_SIZE = "queue-size";
     String REJECTED_COUNT = "rejected-count";
     String SCHEDULED_THREAD_POOL = "scheduled-thread-pool";
+    String STATISTICS_SAMPLING_INTERVAL = "statistics-sampling-interval";
+    String SUBMITTED_COUNT = "submitted-count";
     String TASK_COUNT = "task-count";
+    String TASK_EXECUTION_TIME = "task-execution-time";
+    String TASK_WAIT_TIME = "task-wait-time";
     String THREADS = "threads";
     String TIME = "time";
     String THREAD_FACTORY = "thread-factory";
     String THREAD_NAME_PATTERN = "thread-name-pattern";
+    String TICK_DURATION = "tick-duration";
     String UNBOUNDED_QUEUE_THREAD_POOL = "unbounded-queue-thread-pool";
     String UNIT = "unit";
+    String UTILIZATION = "utilization";
     String VALUE = "value";
+    String VIRTUAL = "virtual";
+    String VIRTUAL_THREAD_EXECUTOR = "virtual-thread-executor";
 }
@@ -0,0 +1,482 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A scheduled executor keeping its delayed tasks in a hierarchical hashed timing wheel rather than in a heap, so
+ * scheduling and cancelling a task take constant time and no lock, and a cancelled task leaves the wheel on the next
+ * tick instead of staying queued until it is due, as it does in a {@link java.util.concurrent.ScheduledThreadPoolExecutor}
+ * without the remove-on-cancel policy.
+ * <p>
+ * Time advances in ticks of a fixed duration, and a task runs on the first tick after its delay elapsed, i.e. up to one
+ * tick late. Each level of the wheel has {@value #WHEEL_SIZE} slots; a slot of the lowest level holds the tasks due in
+ * one tick, and a slot of a higher level holds the tasks due in as many ticks as the whole level below covers. When a
+ * lower level wraps around, the tasks of the next slot of the level above are moved down. Tasks due after the range of
+ * the highest level are moved down from its last slot again until they are in range.
+ * <p>
+ * A single ticker thread owns the wheel: scheduled and cancelled tasks are handed to it through lock-free queues, and it
+ * hands the due tasks to a fixed size pool of worker threads. Delayed tasks which did not run yet are cancelled when
+ * the executor is shut down.
+ */
+class HashedWheelScheduledExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    /** Longer delays are cut down, so the deadlines can't overflow */
+    private static final long MAX_DELAY = Long.MAX_VALUE >> 2;
+
+    private final ThreadFactory threadFactory;
+    private final long tickNanos;
+    private final long startTime = System.nanoTime();
+    private final Workers workers;
+
+    private final Queue<TimerTask<?>> added = new ConcurrentLinkedQueue<>();
+    private final Queue<TimerTask<?>> cancelled = new ConcurrentLinkedQueue<>();
+    /** The number of tasks which are scheduled but not handed to the workers yet */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    // Written holding the lock
+    private volatile Thread ticker;
+    private volatile boolean shutdown;
+
+    // Only used by the ticker thread
+    private final Slot[][] wheel = new Slot[LEVELS][WHEEL_SIZE];
+    private long tick;
+
+    /**
+     * Creates the executor.
+     *
+     * @param threadFactory the factory of the worker threads and of the ticker thread
+     * @param maxThreads the number of worker threads
+     * @param tickDuration the duration of a tick
+     * @param tickUnit the unit of the tick duration
+     */
+    HashedWheelScheduledExecutor(final ThreadFactory threadFactory, final int maxThreads, final long tickDuration, final TimeUnit tickUnit) {
+        this.threadFactory = threadFactory;
+        this.tickNanos = Math.max(1, tickUnit.toNanos(tickDuration));
+        // Like a ScheduledThreadPoolExecutor, a pool without core threads still starts a thread for queued tasks
+        this.workers = new Workers(maxThreads, Math.max(1, maxThreads), threadFactory);
+        for (Slot[] level : wheel) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                level[i] = new Slot();
+            }
+        }
+    }
+
+    void setKeepAliveTime(final long time, final TimeUnit unit) {
+        workers.setKeepAliveTime(time, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+        return schedule(new TimerTask<Void>(command, null, triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(final Callable<V> callable, final long delay, final TimeUnit unit) {
+        return schedule(new TimerTask<>(callable, triggerTime(delay, unit)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(final Runnable command, final long initialDelay, final long period, final TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return schedule(new TimerTask<Void>(command, null, triggerTime(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable command, final long initialDelay, final long delay, final TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return schedule(new TimerTask<Void>(command, null, triggerTime(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        if (shutdown) {
+            throw ThreadsLogger.ROOT_LOGGER.scheduledExecutorTaskRejected();
+        }
+        // Nothing to wait for, so skip the wheel
+        workers.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        final Thread thread;
+        synchronized (this) {
+            if (shutdown) {
+                return;
+            }
+            shutdown = true;
+            thread = ticker;
+        }
+        if (thread == null) {
+            workers.shutdown();
+        } else {
+            // The ticker cancels the delayed tasks and shuts the workers down once it stops
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        return workers.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return workers.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return workers.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Called once the executor is shut down and all its tasks completed.
+     */
+    protected void terminated() {
+    }
+
+    int getActiveCount() {
+        return workers.getActiveCount();
+    }
+
+    long getCompletedTaskCount() {
+        return workers.getCompletedTaskCount();
+    }
+
+    int getLargestPoolSize() {
+        return workers.getLargestPoolSize();
+    }
+
+    int getPoolSize() {
+        return workers.getPoolSize();
+    }
+
+    long getTaskCount() {
+        return workers.getTaskCount() + pending.get();
+    }
+
+    int getQueueSize() {
+        return pending.get() + workers.getQueue().size();
+    }
+
+    private long triggerTime(final long delay, final TimeUnit unit) {
+        return System.nanoTime() + Math.min(Math.max(0, unit.toNanos(delay)), MAX_DELAY);
+    }
+
+    private <V> TimerTask<V> schedule(final TimerTask<V> task) {
+        if (shutdown) {
+            throw ThreadsLogger.ROOT_LOGGER.scheduledExecutorTaskRejected();
+        }
+        if (ticker == null) {
+            startTicker();
+        }
+        enqueue(task);
+        return task;
+    }
+
+    private void enqueue(final TimerTask<?> task) {
+        pending.incrementAndGet();
+        added.add(task);
+        if (shutdown) {
+            // The ticker may have stopped before it could see the task
+            task.cancel(false);
+        }
+    }
+
+    private synchronized void startTicker() {
+        if (ticker == null && !shutdown) {
+            final Thread thread = threadFactory.newThread(this::tick);
+            if (thread == null) {
+                throw ThreadsLogger.ROOT_LOGGER.scheduledExecutorTaskRejected();
+            }
+            thread.start();
+            ticker = thread;
+        }
+    }
+
+    /**
+     * The loop of the ticker thread.
+     */
+    private void tick() {
+        try {
+            while (!shutdown) {
+                addTasks();
+                removeCancelledTasks();
+                final long elapsed = System.nanoTime() - startTime;
+                final long next = (tick + 1) * tickNanos;
+                if (elapsed >= next) {
+                    advance();
+                } else {
+                    LockSupport.parkNanos(this, next - elapsed);
+                }
+            }
+        } finally {
+            cancelAll();
+            workers.shutdown();
+        }
+    }
+
+    private void addTasks() {
+        TimerTask<?> task;
+        while ((task = added.poll()) != null) {
+            if (task.isCancelled()) {
+                pending.decrementAndGet();
+            } else {
+                // Round up, so tasks never run early
+                task.expires = (task.deadline - startTime + tickNanos - 1) / tickNanos;
+                place(task);
+            }
+        }
+    }
+
+    private void removeCancelledTasks() {
+        TimerTask<?> task;
+        while ((task = cancelled.poll()) != null) {
+            // Tasks which are not in a slot yet are dropped when they are added, and handed out tasks are done
+            if (task.slot != null) {
+                task.slot.remove(task);
+                pending.decrementAndGet();
+            }
+        }
+    }
+
+    private void advance() {
+        tick++;
+        // Move the tasks of the higher levels down once the level below wrapped around
+        for (int level = 1; level < LEVELS && (tick & ((1L << (WHEEL_BITS * level)) - 1)) == 0; level++) {
+            placeAll(wheel[level][(int) ((tick >>> (WHEEL_BITS * level)) & WHEEL_MASK)]);
+        }
+        placeAll(wheel[0][(int) (tick & WHEEL_MASK)]);
+    }
+
+    private void placeAll(final Slot slot) {
+        TimerTask<?> task = slot.removeAll();
+        while (task != null) {
+            final TimerTask<?> next = task.next;
+            task.next = null;
+            task.prev = null;
+            task.slot = null;
+            place(task);
+            task = next;
+        }
+    }
+
+    /**
+     * Puts a task in the slot of the lowest level whose range covers its delay, or hands it out if it is due.
+     */
+    private void place(final TimerTask<?> task) {
+        final long delta = task.expires - tick;
+        if (delta <= 0) {
+            pending.decrementAndGet();
+            try {
+                workers.execute(task);
+            } catch (RejectedExecutionException e) {
+                task.cancel(false);
+            }
+            return;
+        }
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+        final long index;
+        if (delta >= 1L << (WHEEL_BITS * LEVELS)) {
+            // Out of range: the last slot of the highest level, from where it is placed again
+            index = (tick >>> (WHEEL_BITS * level)) + WHEEL_MASK;
+        } else {
+            index = task.expires >>> (WHEEL_BITS * level);
+        }
+        wheel[level][(int) (index & WHEEL_MASK)].add(task);
+    }
+
+    private void cancelAll() {
+        for (Slot[] level : wheel) {
+            for (Slot slot : level) {
+                for (TimerTask<?> task = slot.removeAll(); task != null; task = task.next) {
+                    task.cancel(false);
+                }
+            }
+        }
+        TimerTask<?> task;
+        while ((task = added.poll()) != null) {
+            task.cancel(false);
+        }
+        cancelled.clear();
+        pending.set(0);
+    }
+
+    /**
+     * The tasks of a slot, in a doubly linked list so a cancelled task is removed in constant time.
+     */
+    private static final class Slot {
+        private TimerTask<?> head;
+        private TimerTask<?> tail;
+
+        void add(final TimerTask<?> task) {
+            task.slot = this;
+            task.prev = tail;
+            task.next = null;
+            if (tail == null) {
+                head = task;
+            } else {
+                tail.next = task;
+            }
+            tail = task;
+        }
+
+        void remove(final TimerTask<?> task) {
+            if (task.prev == null) {
+                head = task.next;
+            } else {
+                task.prev.next = task.next;
+            }
+            if (task.next == null) {
+                tail = task.prev;
+            } else {
+                task.next.prev = task.prev;
+            }
+            task.prev = null;
+            task.next = null;
+            task.slot = null;
+        }
+
+        /**
+         * Empties the slot.
+         *
+         * @return the first task of the slot, followed by the others through {@link TimerTask#next}
+         */
+        TimerTask<?> removeAll() {
+            final TimerTask<?> first = head;
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+
+    private final class TimerTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+        /** The period of a fixed rate task if positive, the negated delay of a fixed delay task if negative */
+        private final long period;
+        private volatile long deadline;
+
+        // Only used by the ticker thread
+        long expires;
+        Slot slot;
+        TimerTask<?> prev;
+        TimerTask<?> next;
+
+        TimerTask(final Callable<V> callable, final long deadline) {
+            super(callable);
+            this.deadline = deadline;
+            this.period = 0;
+        }
+
+        TimerTask(final Runnable runnable, final V result, final long deadline, final long period) {
+            super(runnable, result);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(final TimeUnit unit) {
+            return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(final Delayed other) {
+            return other == this ? 0 : Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            final boolean result = super.cancel(mayInterruptIfRunning);
+            if (result) {
+                cancelled.add(this);
+            }
+            return result;
+        }
+
+        @Override
+        public void run() {
+            if (period == 0) {
+                super.run();
+            } else if (runAndReset()) {
+                deadline = period > 0 ? deadline + period : System.nanoTime() - period;
+                if (shutdown) {
+                    cancel(false);
+                } else {
+                    enqueue(this);
+                }
+            }
+        }
+    }
+
+    private final class Workers extends ThreadPoolExecutor {
+
+        Workers(final int corePoolSize, final int maximumPoolSize, final ThreadFactory threadFactory) {
+            super(corePoolSize, maximumPoolSize, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        }
+
+        @Override
+        protected void terminated() {
+            super.terminated();
+            HashedWheelScheduledExecutor.this.terminated();
+        }
+    }
+}
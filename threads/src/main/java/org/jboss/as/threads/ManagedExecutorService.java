@@ -28,6 +28,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -41,10 +42,16 @@ import org.wildfly.common.Assert;
 public abstract class ManagedExecutorService implements ExecutorService {
 
     private final ExecutorService executor;
+    private final ThreadPoolStatistics statistics;
 
     public ManagedExecutorService(ExecutorService executor) {
+        this(executor, null);
+    }
+
+    ManagedExecutorService(ExecutorService executor, ThreadPoolStatistics statistics) {
         Assert.checkNotNullParam("executor", executor);
         this.executor = protectExecutor(executor);
+        this.statistics = statistics;
     }
 
     protected ExecutorService protectExecutor(ExecutorService executor) {
@@ -53,13 +60,29 @@ public abstract class ManagedExecutorService implements ExecutorService {
 
     abstract void internalShutdown();
 
+    /**
+     * Gets the statistics of the pool.
+     *
+     * @return the statistics, or {@code null} if they are not gathered
+     */
+    ThreadPoolStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Wraps a task so it is timed if the statistics of the pool are gathered.
+     */
+    Runnable wrap(Runnable task) {
+        return statistics == null ? task : statistics.wrap(task);
+    }
+
     /**
      * {@inheritDoc}
      * @see java.util.concurrent.Executor#execute(java.lang.Runnable)
      */
     @Override
     public void execute(Runnable command) {
-        this.executor.execute(command);
+        this.executor.execute(wrap(command));
     }
 
     /**
@@ -114,6 +137,9 @@ public abstract class ManagedExecutorService implements ExecutorService {
      */
     @Override
     public <T> Future<T> submit(Callable<T> task) {
+        if (statistics != null) {
+            return submitTimed(new FutureTask<>(task));
+        }
         return this.executor.submit(task);
     }
 
@@ -123,6 +149,9 @@ public abstract class ManagedExecutorService implements ExecutorService {
      */
     @Override
     public <T> Future<T> submit(Runnable task, T result) {
+        if (statistics != null) {
+            return submitTimed(new FutureTask<>(task, result));
+        }
         return this.executor.submit(task, result);
     }
 
@@ -132,9 +161,19 @@ public abstract class ManagedExecutorService implements ExecutorService {
      */
     @Override
     public Future<?> submit(Runnable task) {
+        if (statistics != null) {
+            return submitTimed(new FutureTask<Void>(task, null));
+        }
         return this.executor.submit(task);
     }
 
+    private <T> Future<T> submitTimed(FutureTask<T> future) {
+        this.executor.execute(statistics.wrap(future));
+        return future;
+    }
+
+    // The tasks of invokeAll and invokeAny are not included in the statistics
+
     /**
      * {@inheritDoc}
      * @see java.util.concurrent.ExecutorService#invokeAll(java.util.Collection)
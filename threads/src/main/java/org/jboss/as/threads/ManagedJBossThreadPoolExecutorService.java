@@ -43,6 +43,11 @@ public class ManagedJBossThreadPoolExecutorService extends ManagedExecutorServic
         this.executor = executor;
     }
 
+    ManagedJBossThreadPoolExecutorService(JBossThreadPoolExecutor executor, ThreadPoolStatistics statistics) {
+        super(executor, statistics);
+        this.executor = executor;
+    }
+
     @Override
     protected ExecutorService protectExecutor(ExecutorService executor) {
         return JBossExecutors.protectedBlockingExecutorService((BlockingExecutor) executor);
@@ -133,18 +138,18 @@ public class ManagedJBossThreadPoolExecutorService extends ManagedExecutorServic
     @Override
     public void executeBlocking(Runnable task)
             throws RejectedExecutionException, InterruptedException {
-        executor.executeBlocking(task);
+        executor.executeBlocking(wrap(task));
     }
 
     @Override
     public void executeBlocking(Runnable task, long timeout, TimeUnit unit)
             throws RejectedExecutionException, InterruptedException {
-        executor.executeBlocking(task, timeout, unit);
+        executor.executeBlocking(wrap(task), timeout, unit);
     }
 
     @Override
     public void executeNonBlocking(Runnable task)
             throws RejectedExecutionException {
-        executor.executeNonBlocking(task);
+        executor.executeNonBlocking(wrap(task));
     }
 }
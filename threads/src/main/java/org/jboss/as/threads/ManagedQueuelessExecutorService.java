@@ -43,6 +43,11 @@ public class ManagedQueuelessExecutorService extends ManagedExecutorService impl
         this.executor = executor;
     }
 
+    ManagedQueuelessExecutorService(QueuelessExecutor executor, ThreadPoolStatistics statistics) {
+        super(executor, statistics);
+        this.executor = executor;
+    }
+
     @Override
     protected ExecutorService protectExecutor(ExecutorService executor) {
         return JBossExecutors.protectedBlockingExecutorService((BlockingExecutor) executor);
@@ -100,18 +105,18 @@ public class ManagedQueuelessExecutorService extends ManagedExecutorService impl
     @Override
     public void executeBlocking(Runnable task)
             throws RejectedExecutionException, InterruptedException {
-        executor.executeBlocking(task);
+        executor.executeBlocking(wrap(task));
     }
 
     @Override
     public void executeBlocking(Runnable task, long timeout, TimeUnit unit)
             throws RejectedExecutionException, InterruptedException {
-        executor.executeBlocking(task, timeout, unit);
+        executor.executeBlocking(wrap(task), timeout, unit);
     }
 
     @Override
     public void executeNonBlocking(Runnable task)
             throws RejectedExecutionException {
-        executor.executeNonBlocking(task);
+        executor.executeNonBlocking(wrap(task));
     }
 }
@@ -36,11 +36,23 @@ import org.jboss.threads.JBossExecutors;
  */
 public class ManagedScheduledExecutorService extends ManagedExecutorService implements ScheduledExecutorService {
 
-    private final ScheduledThreadPoolExecutor executor;
+    private final ScheduledExecutorService executor;
+    // One of them is null, depending on the executor
+    private final ScheduledThreadPoolExecutor poolExecutor;
+    private final HashedWheelScheduledExecutor wheelExecutor;
 
     public ManagedScheduledExecutorService(ScheduledThreadPoolExecutor executor) {
         super(executor);
         this.executor = executor;
+        this.poolExecutor = executor;
+        this.wheelExecutor = null;
+    }
+
+    ManagedScheduledExecutorService(HashedWheelScheduledExecutor executor) {
+        super(executor);
+        this.executor = executor;
+        this.poolExecutor = null;
+        this.wheelExecutor = executor;
     }
 
     @Override
@@ -74,26 +86,26 @@ public class ManagedScheduledExecutorService extends ManagedExecutorService impl
     }
 
    public int getActiveCount() {
-        return executor.getActiveCount();
+        return poolExecutor != null ? poolExecutor.getActiveCount() : wheelExecutor.getActiveCount();
     }
 
     public long getCompletedTaskCount() {
-        return executor.getCompletedTaskCount();
+        return poolExecutor != null ? poolExecutor.getCompletedTaskCount() : wheelExecutor.getCompletedTaskCount();
     }
 
     public int getLargestPoolSize() {
-        return executor.getLargestPoolSize();
+        return poolExecutor != null ? poolExecutor.getLargestPoolSize() : wheelExecutor.getLargestPoolSize();
     }
 
     public int getPoolSize() {
-        return executor.getPoolSize();
+        return poolExecutor != null ? poolExecutor.getPoolSize() : wheelExecutor.getPoolSize();
     }
 
     public long getTaskCount() {
-        return executor.getTaskCount();
+        return poolExecutor != null ? poolExecutor.getTaskCount() : wheelExecutor.getTaskCount();
     }
 
     public int getQueueSize() {
-        return executor.getQueue().size();
+        return poolExecutor != null ? poolExecutor.getQueue().size() : wheelExecutor.getQueueSize();
     }
 }
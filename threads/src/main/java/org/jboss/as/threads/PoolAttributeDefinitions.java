@@ -25,7 +25,11 @@ package org.jboss.as.threads;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleMapAttributeDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -63,6 +67,45 @@ public interface PoolAttributeDefinitions {
             .setDefaultValue(new ModelNode(false))
             .build();
 
+    SimpleAttributeDefinition ADAPTIVE_SIZING = new SimpleAttributeDefinitionBuilder(CommonAttributes.ADAPTIVE_SIZING, ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(false))
+            .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+            .build();
+
+    SimpleAttributeDefinition ADAPTIVE_SIZING_INTERVAL = new SimpleAttributeDefinitionBuilder(CommonAttributes.ADAPTIVE_SIZING_INTERVAL, ModelType.LONG, true)
+            .setValidator(new LongRangeValidator(1, Long.MAX_VALUE, true, true))
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(1000L))
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+            .build();
+
+    SimpleAttributeDefinition STATISTICS_SAMPLING_INTERVAL = new SimpleAttributeDefinitionBuilder(CommonAttributes.STATISTICS_SAMPLING_INTERVAL, ModelType.LONG, true)
+            .setValidator(new LongRangeValidator(0, Long.MAX_VALUE, true, true))
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(0L))
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+            .build();
+
+    SimpleAttributeDefinition HASHED_WHEEL_TIMER = new SimpleAttributeDefinitionBuilder(CommonAttributes.HASHED_WHEEL_TIMER, ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(false))
+            .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+            .build();
+
+    SimpleAttributeDefinition TICK_DURATION = new SimpleAttributeDefinitionBuilder(CommonAttributes.TICK_DURATION, ModelType.LONG, true)
+            .setValidator(new LongRangeValidator(1, Long.MAX_VALUE, true, true))
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(10L))
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+            .build();
+
+    SimpleAttributeDefinition MAX_CONCURRENCY = new SimpleAttributeDefinitionBuilder(CommonAttributes.MAX_CONCURRENCY, ModelType.INT, true)
+            .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true)).setAllowExpression(true).setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES).build();
+
     SimpleAttributeDefinition GROUP_NAME = new SimpleAttributeDefinitionBuilder(CommonAttributes.GROUP_NAME, ModelType.STRING, true)
             .setAllowExpression(true)
             .build();
@@ -98,4 +141,33 @@ public interface PoolAttributeDefinitions {
     AttributeDefinition QUEUE_SIZE = new SimpleAttributeDefinitionBuilder(CommonAttributes.QUEUE_SIZE, ModelType.INT)
             .setUndefinedMetricValue(new ModelNode(0))
             .build();
+
+    AttributeDefinition SUBMITTED_COUNT = new SimpleAttributeDefinitionBuilder(CommonAttributes.SUBMITTED_COUNT, ModelType.LONG)
+            .setUndefinedMetricValue(new ModelNode(0))
+            .build();
+    AttributeDefinition VIRTUAL = new SimpleAttributeDefinitionBuilder(CommonAttributes.VIRTUAL, ModelType.BOOLEAN)
+            .setUndefinedMetricValue(new ModelNode(false))
+            .build();
+
+    // Statistics metrics, only defined if the pool statistics are enabled
+    AttributeDefinition UTILIZATION = new SimpleAttributeDefinitionBuilder(CommonAttributes.UTILIZATION, ModelType.DOUBLE, true)
+            .setMeasurementUnit(MeasurementUnit.PERCENTAGE)
+            .build();
+    AttributeDefinition AVERAGE_QUEUE_SIZE = new SimpleAttributeDefinitionBuilder(CommonAttributes.AVERAGE_QUEUE_SIZE, ModelType.DOUBLE, true)
+            .build();
+    AttributeDefinition PEAK_QUEUE_SIZE = new SimpleAttributeDefinitionBuilder(CommonAttributes.PEAK_QUEUE_SIZE, ModelType.INT, true)
+            .build();
+    AttributeDefinition TASK_WAIT_TIME = new SimpleMapAttributeDefinition.Builder(CommonAttributes.TASK_WAIT_TIME, ModelType.LONG, true)
+            .build();
+    AttributeDefinition TASK_EXECUTION_TIME = new SimpleMapAttributeDefinition.Builder(CommonAttributes.TASK_EXECUTION_TIME, ModelType.LONG, true)
+            .build();
+
+    // Adaptive sizing metrics, only defined if the pool sizes itself
+    AttributeDefinition ADAPTIVE_CORE_THREADS = new SimpleAttributeDefinitionBuilder(CommonAttributes.ADAPTIVE_CORE_THREADS, ModelType.INT, true)
+            .build();
+    AttributeDefinition ADAPTIVE_SIZING_DECISION = new SimpleAttributeDefinitionBuilder(CommonAttributes.ADAPTIVE_SIZING_DECISION, ModelType.STRING, true)
+            .setValidator(new EnumValidator<>(AdaptiveSizingController.Decision.class, true, false))
+            .build();
+    AttributeDefinition ADAPTIVE_SIZING_ADJUSTMENTS = new SimpleAttributeDefinitionBuilder(CommonAttributes.ADAPTIVE_SIZING_ADJUSTMENTS, ModelType.LONG, true)
+            .build();
 }
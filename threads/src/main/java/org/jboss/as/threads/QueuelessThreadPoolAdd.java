@@ -42,6 +42,9 @@ public class QueuelessThreadPoolAdd extends AbstractAddStepHandler {
 
     static final AttributeDefinition[] NON_BLOCKING_ATTRIBUTES = new AttributeDefinition[BLOCKING_ATTRIBUTES.length + 1];
 
+    /** Attributes only the pools of the threads subsystem have, the pools of other subsystems share the ones above */
+    static final AttributeDefinition[] THREADS_SUBSYSTEM_ATTRIBUTES = new AttributeDefinition[] {PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL};
+
     static final AttributeDefinition[] RW_ATTRIBUTES = new AttributeDefinition[] {PoolAttributeDefinitions.KEEPALIVE_TIME,
         PoolAttributeDefinitions.MAX_THREADS};
 
@@ -57,7 +60,12 @@ public class QueuelessThreadPoolAdd extends AbstractAddStepHandler {
 
     public QueuelessThreadPoolAdd(boolean blocking, ThreadFactoryResolver threadFactoryResolver,
                                   HandoffExecutorResolver handoffExecutorResolver, ServiceName serviceNameBase) {
-        super(blocking ? BLOCKING_ATTRIBUTES : NON_BLOCKING_ATTRIBUTES);
+        this(blocking, threadFactoryResolver, handoffExecutorResolver, serviceNameBase, false);
+    }
+
+    QueuelessThreadPoolAdd(boolean blocking, ThreadFactoryResolver threadFactoryResolver,
+                           HandoffExecutorResolver handoffExecutorResolver, ServiceName serviceNameBase, boolean threadsSubsystem) {
+        super(getAttributes(blocking, threadsSubsystem));
         this.blocking = blocking;
         this.threadFactoryResolver = threadFactoryResolver;
         this.handoffExecutorResolver = handoffExecutorResolver;
@@ -69,7 +77,8 @@ public class QueuelessThreadPoolAdd extends AbstractAddStepHandler {
 
         final QueuelessThreadPoolParameters params = ThreadPoolManagementUtils.parseQueuelessThreadPoolParameters(context, operation, model, blocking);
 
-        final QueuelessThreadPoolService service = new QueuelessThreadPoolService(params.getMaxThreads(), blocking, params.getKeepAliveTime());
+        final QueuelessThreadPoolService service = new QueuelessThreadPoolService(params.getMaxThreads(), blocking, params.getKeepAliveTime(),
+                params.getStatisticsSamplingInterval());
 
         ThreadPoolManagementUtils.installThreadPoolService(service, params.getName(), serviceNameBase,
                 params.getThreadFactory(), threadFactoryResolver, service.getThreadFactoryInjector(),
@@ -77,6 +86,11 @@ public class QueuelessThreadPoolAdd extends AbstractAddStepHandler {
                 context.getServiceTarget());
     }
 
+    static AttributeDefinition[] getAttributes(boolean blocking, boolean threadsSubsystem) {
+        return ThreadPoolManagementUtils.getAttributes(blocking ? BLOCKING_ATTRIBUTES : NON_BLOCKING_ATTRIBUTES,
+                THREADS_SUBSYSTEM_ATTRIBUTES, threadsSubsystem);
+    }
+
     boolean isBlocking() {
         return blocking;
     }
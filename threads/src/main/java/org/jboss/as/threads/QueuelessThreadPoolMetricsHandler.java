@@ -42,7 +42,16 @@ public class QueuelessThreadPoolMetricsHandler extends ThreadPoolMetricsHandler
             PoolAttributeDefinitions.REJECTED_COUNT,PoolAttributeDefinitions.QUEUE_SIZE);
 
     public QueuelessThreadPoolMetricsHandler(final ServiceName serviceNameBase) {
-        super(METRICS, serviceNameBase);
+        this(serviceNameBase, false);
+    }
+
+    QueuelessThreadPoolMetricsHandler(final ServiceName serviceNameBase, final boolean threadsSubsystem) {
+        super(METRICS, serviceNameBase, threadsSubsystem);
+    }
+
+    @Override
+    ThreadPoolStatistics getStatistics(final Service<?> service) {
+        return ((QueuelessThreadPoolService) service).getStatistics();
     }
 
     @Override
@@ -48,12 +48,20 @@ public class QueuelessThreadPoolResourceDefinition extends PersistentResourceDef
 
 
     public static QueuelessThreadPoolResourceDefinition create(boolean blocking, boolean registerRuntimeOnly) {
+        return create(blocking, registerRuntimeOnly, false);
+    }
+
+    /**
+     * Creates the definition of a pool of the threads subsystem itself, if {@code threadsSubsystem} is {@code true}. These pools
+     * also get the attributes and metrics which the schemas and transformers of other subsystems using this definition don't know.
+     */
+    static QueuelessThreadPoolResourceDefinition create(boolean blocking, boolean registerRuntimeOnly, boolean threadsSubsystem) {
         if (blocking) {
             return create(CommonAttributes.BLOCKING_QUEUELESS_THREAD_POOL, ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER,
-                    null, ThreadsServices.EXECUTOR, registerRuntimeOnly);
+                    null, ThreadsServices.EXECUTOR, registerRuntimeOnly, threadsSubsystem);
         } else {
             return create(CommonAttributes.QUEUELESS_THREAD_POOL, ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER,
-                    ThreadsServices.STANDARD_HANDOFF_EXECUTOR_RESOLVER, ThreadsServices.EXECUTOR, registerRuntimeOnly);
+                    ThreadsServices.STANDARD_HANDOFF_EXECUTOR_RESOLVER, ThreadsServices.EXECUTOR, registerRuntimeOnly, threadsSubsystem);
         }
     }
 
@@ -71,24 +79,33 @@ public class QueuelessThreadPoolResourceDefinition extends PersistentResourceDef
     public static QueuelessThreadPoolResourceDefinition create(String type, ThreadFactoryResolver threadFactoryResolver,
                                                                HandoffExecutorResolver handoffExecutorResolver,
                                                                ServiceName serviceNameBase, boolean registerRuntimeOnly) {
+        return create(type, threadFactoryResolver, handoffExecutorResolver, serviceNameBase, registerRuntimeOnly, false);
+    }
+
+    private static QueuelessThreadPoolResourceDefinition create(String type, ThreadFactoryResolver threadFactoryResolver,
+                                                                HandoffExecutorResolver handoffExecutorResolver,
+                                                                ServiceName serviceNameBase, boolean registerRuntimeOnly,
+                                                                boolean threadsSubsystem) {
         final boolean blocking = handoffExecutorResolver == null;
         final String resolverPrefix = blocking ? CommonAttributes.BLOCKING_QUEUELESS_THREAD_POOL : CommonAttributes.QUEUELESS_THREAD_POOL;
-        final QueuelessThreadPoolAdd addHandler = new QueuelessThreadPoolAdd(blocking, threadFactoryResolver, handoffExecutorResolver, serviceNameBase);
+        final QueuelessThreadPoolAdd addHandler = new QueuelessThreadPoolAdd(blocking, threadFactoryResolver, handoffExecutorResolver,
+                serviceNameBase, threadsSubsystem);
         final OperationStepHandler removeHandler = new QueuelessThreadPoolRemove(addHandler);
-        return new QueuelessThreadPoolResourceDefinition(blocking, registerRuntimeOnly, type, serviceNameBase, resolverPrefix, addHandler, removeHandler);
+        return new QueuelessThreadPoolResourceDefinition(blocking, registerRuntimeOnly, type, serviceNameBase, resolverPrefix, addHandler,
+                removeHandler, threadsSubsystem);
     }
 
 
     private QueuelessThreadPoolResourceDefinition(boolean blocking, boolean registerRuntimeOnly,
                                                   String type, ServiceName serviceNameBase, String resolverPrefix, OperationStepHandler addHandler,
-                                                  OperationStepHandler removeHandler) {
+                                                  OperationStepHandler removeHandler, boolean threadsSubsystem) {
         super(PathElement.pathElement(type),
                 new ThreadPoolResourceDescriptionResolver(resolverPrefix, ThreadsExtension.RESOURCE_NAME, ThreadsExtension.class.getClassLoader()),
                 addHandler, removeHandler);
         this.registerRuntimeOnly = registerRuntimeOnly;
         this.blocking = blocking;
-        writeHandler = new QueuelessThreadPoolWriteAttributeHandler(blocking, serviceNameBase);
-        metricsHandler = new QueuelessThreadPoolMetricsHandler(serviceNameBase);
+        writeHandler = new QueuelessThreadPoolWriteAttributeHandler(blocking, serviceNameBase, threadsSubsystem);
+        metricsHandler = new QueuelessThreadPoolMetricsHandler(serviceNameBase, threadsSubsystem);
     }
 
 
@@ -47,22 +47,41 @@ public class QueuelessThreadPoolService implements Service<ManagedQueuelessExecu
 
     private ManagedQueuelessExecutorService executor;
 
+    private final long statisticsSamplingInterval;
+
     private int maxThreads;
     private TimeSpec keepAlive;
 
     public QueuelessThreadPoolService(int maxThreads, boolean blocking, TimeSpec keepAlive) {
+        this(maxThreads, blocking, keepAlive, 0);
+    }
+
+    /**
+     * Creates the service.
+     *
+     * @param statisticsSamplingInterval the interval in milliseconds at which the pool statistics are sampled, or
+     *                                   {@code 0} if they are disabled, see {@link ThreadPoolStatistics}
+     */
+    public QueuelessThreadPoolService(int maxThreads, boolean blocking, TimeSpec keepAlive, long statisticsSamplingInterval) {
         this.maxThreads = maxThreads;
         this.blocking = blocking;
         this.keepAlive = keepAlive;
+        this.statisticsSamplingInterval = statisticsSamplingInterval;
     }
 
     public synchronized void start(final StartContext context) throws StartException {
         final TimeSpec keepAliveSpec = keepAlive;
         long keepAlive = keepAliveSpec == null ? Long.MAX_VALUE : keepAliveSpec.getUnit().toMillis(keepAliveSpec.getDuration());
-        final QueuelessExecutor queuelessExecutor = new QueuelessExecutor(threadFactoryValue.getValue(), JBossExecutors.directExecutor(), handoffExecutorValue.getOptionalValue(), keepAlive);
+        final ThreadPoolStatistics statistics = ThreadPoolStatistics.create(statisticsSamplingInterval);
+        final QueuelessExecutor queuelessExecutor = new QueuelessExecutor(threadFactoryValue.getValue(), JBossExecutors.directExecutor(),
+                ThreadPoolStatistics.handoff(handoffExecutorValue.getOptionalValue(), statistics), keepAlive);
         queuelessExecutor.setMaxThreads(maxThreads);
         queuelessExecutor.setBlocking(blocking);
-        executor = new ManagedQueuelessExecutorService(queuelessExecutor);
+        final ManagedQueuelessExecutorService executor = new ManagedQueuelessExecutorService(queuelessExecutor, statistics);
+        if (statistics != null) {
+            statistics.start(executor::getMaxThreads, executor::getQueueSize);
+        }
+        this.executor = executor;
     }
 
     public void stop(final StopContext context) {
@@ -71,6 +90,10 @@ public class QueuelessThreadPoolService implements Service<ManagedQueuelessExecu
             executor = this.executor;
             this.executor = null;
         }
+        final ThreadPoolStatistics statistics = executor.getStatistics();
+        if (statistics != null) {
+            statistics.stop();
+        }
         context.asynchronous();
         executor.internalShutdown();
         executor.addShutdownListener(StopContextEventListener.getInstance(), context);
@@ -87,6 +110,10 @@ public class QueuelessThreadPoolService implements Service<ManagedQueuelessExecu
         return value;
     }
 
+    ThreadPoolStatistics getStatistics() {
+        return getValue().getStatistics();
+    }
+
     public Injector<ThreadFactory> getThreadFactoryInjector() {
         return threadFactoryValue;
     }
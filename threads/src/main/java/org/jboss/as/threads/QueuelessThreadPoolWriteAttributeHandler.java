@@ -45,7 +45,11 @@ public class QueuelessThreadPoolWriteAttributeHandler extends ThreadsWriteAttrib
     private final ServiceName serviceNameBase;
 
     public QueuelessThreadPoolWriteAttributeHandler(boolean blocking, ServiceName serviceNameBase) {
-        super(blocking ? QueuelessThreadPoolAdd.BLOCKING_ATTRIBUTES : QueuelessThreadPoolAdd.NON_BLOCKING_ATTRIBUTES, QueuelessThreadPoolAdd.RW_ATTRIBUTES);
+        this(blocking, serviceNameBase, false);
+    }
+
+    QueuelessThreadPoolWriteAttributeHandler(boolean blocking, ServiceName serviceNameBase, boolean threadsSubsystem) {
+        super(QueuelessThreadPoolAdd.getAttributes(blocking, threadsSubsystem), QueuelessThreadPoolAdd.RW_ATTRIBUTES);
         this.serviceNameBase = serviceNameBase;
     }
 
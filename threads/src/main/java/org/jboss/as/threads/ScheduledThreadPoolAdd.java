@@ -25,7 +25,7 @@ import org.jboss.as.controller.AbstractAddStepHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
-import org.jboss.as.threads.ThreadPoolManagementUtils.BaseThreadPoolParameters;
+import org.jboss.as.threads.ThreadPoolManagementUtils.ScheduledThreadPoolParameters;
 import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceName;
 
@@ -40,13 +40,21 @@ public class ScheduledThreadPoolAdd extends AbstractAddStepHandler {
     static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] {PoolAttributeDefinitions.KEEPALIVE_TIME,
         PoolAttributeDefinitions.MAX_THREADS, PoolAttributeDefinitions.THREAD_FACTORY};
 
+    /** Attributes only the pools of the threads subsystem have, the pools of other subsystems share the ones above */
+    static final AttributeDefinition[] THREADS_SUBSYSTEM_ATTRIBUTES = new AttributeDefinition[] {PoolAttributeDefinitions.HASHED_WHEEL_TIMER,
+        PoolAttributeDefinitions.TICK_DURATION};
+
     static final AttributeDefinition[] RW_ATTRIBUTES = new AttributeDefinition[]{};
 
     private final ThreadFactoryResolver threadFactoryResolver;
     private final ServiceName serviceNameBase;
 
     public ScheduledThreadPoolAdd(ThreadFactoryResolver threadFactoryResolver, ServiceName serviceNameBase) {
-        super(ATTRIBUTES);
+        this(threadFactoryResolver, serviceNameBase, false);
+    }
+
+    ScheduledThreadPoolAdd(ThreadFactoryResolver threadFactoryResolver, ServiceName serviceNameBase, boolean threadsSubsystem) {
+        super(getAttributes(threadsSubsystem));
         this.threadFactoryResolver = threadFactoryResolver;
         this.serviceNameBase = serviceNameBase;
     }
@@ -54,15 +62,20 @@ public class ScheduledThreadPoolAdd extends AbstractAddStepHandler {
     @Override
     protected void performRuntime(final OperationContext context, final ModelNode operation, final ModelNode model) throws OperationFailedException {
 
-        final BaseThreadPoolParameters params = ThreadPoolManagementUtils.parseScheduledThreadPoolParameters(context, operation, model);
+        final ScheduledThreadPoolParameters params = ThreadPoolManagementUtils.parseScheduledThreadPoolParameters(context, operation, model);
 
-        final ScheduledThreadPoolService service = new ScheduledThreadPoolService(params.getMaxThreads(), params.getKeepAliveTime());
+        final ScheduledThreadPoolService service = new ScheduledThreadPoolService(params.getMaxThreads(), params.getKeepAliveTime(),
+                params.isHashedWheelTimer(), params.getTickDuration());
 
         ThreadPoolManagementUtils.installThreadPoolService(service, params.getName(), serviceNameBase,
                 params.getThreadFactory(), threadFactoryResolver, service.getThreadFactoryInjector(),
                 context.getServiceTarget());
     }
 
+    static AttributeDefinition[] getAttributes(boolean threadsSubsystem) {
+        return ThreadPoolManagementUtils.getAttributes(ATTRIBUTES, THREADS_SUBSYSTEM_ATTRIBUTES, threadsSubsystem);
+    }
+
     ServiceName getServiceNameBase() {
         return serviceNameBase;
     }
@@ -43,23 +43,38 @@ public class ScheduledThreadPoolResourceDefinition extends PersistentResourceDef
     private final boolean registerRuntimeOnly;
 
     public static ScheduledThreadPoolResourceDefinition create(boolean registerRuntimeOnly) {
-        return create(CommonAttributes.SCHEDULED_THREAD_POOL, ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER, ThreadsServices.EXECUTOR, registerRuntimeOnly);
+        return create(registerRuntimeOnly, false);
+    }
+
+    /**
+     * Creates the definition of a pool of the threads subsystem itself, if {@code threadsSubsystem} is {@code true}. These pools
+     * also get the attributes which the schemas and transformers of other subsystems using this definition don't know.
+     */
+    static ScheduledThreadPoolResourceDefinition create(boolean registerRuntimeOnly, boolean threadsSubsystem) {
+        return create(CommonAttributes.SCHEDULED_THREAD_POOL, ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER, ThreadsServices.EXECUTOR,
+                registerRuntimeOnly, threadsSubsystem);
     }
 
     public static ScheduledThreadPoolResourceDefinition create(String type, ThreadFactoryResolver threadFactoryResolver,
                                                                ServiceName serviceNameBase, boolean registerRuntimeOnly) {
-        ScheduledThreadPoolAdd addHandler = new ScheduledThreadPoolAdd(threadFactoryResolver, serviceNameBase);
-        return new ScheduledThreadPoolResourceDefinition(type, addHandler, serviceNameBase, registerRuntimeOnly);
+        return create(type, threadFactoryResolver, serviceNameBase, registerRuntimeOnly, false);
+    }
+
+    private static ScheduledThreadPoolResourceDefinition create(String type, ThreadFactoryResolver threadFactoryResolver,
+                                                                ServiceName serviceNameBase, boolean registerRuntimeOnly,
+                                                                boolean threadsSubsystem) {
+        ScheduledThreadPoolAdd addHandler = new ScheduledThreadPoolAdd(threadFactoryResolver, serviceNameBase, threadsSubsystem);
+        return new ScheduledThreadPoolResourceDefinition(type, addHandler, serviceNameBase, registerRuntimeOnly, threadsSubsystem);
     }
 
     private ScheduledThreadPoolResourceDefinition(String type, ScheduledThreadPoolAdd addHandler,
-                                                  ServiceName serviceNameBase, boolean registerRuntimeOnly) {
+                                                  ServiceName serviceNameBase, boolean registerRuntimeOnly, boolean threadsSubsystem) {
         super(PathElement.pathElement(type),
                 new ThreadPoolResourceDescriptionResolver(CommonAttributes.SCHEDULED_THREAD_POOL, ThreadsExtension.RESOURCE_NAME,
                         ThreadsExtension.class.getClassLoader()),
                 addHandler, new ScheduledThreadPoolRemove(addHandler));
         this.registerRuntimeOnly = registerRuntimeOnly;
-        this.writeAttributeHandler = new ScheduledThreadPoolWriteAttributeHandler(serviceNameBase);
+        this.writeAttributeHandler = new ScheduledThreadPoolWriteAttributeHandler(serviceNameBase, threadsSubsystem);
         this.metricsHandler = new ScheduledThreadPoolMetricsHandler(serviceNameBase);
     }
 
@@ -24,6 +24,7 @@ package org.jboss.as.threads;
 
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.msc.inject.Injector;
 import org.jboss.msc.service.Service;
@@ -46,17 +47,40 @@ public final class ScheduledThreadPoolService implements Service<ManagedSchedule
 
     private final int maxThreads;
     private final TimeSpec keepAlive;
+    private final boolean hashedWheelTimer;
+    private final long tickDuration;
 
     public ScheduledThreadPoolService(final int maxThreads, final TimeSpec keepAlive) {
+        this(maxThreads, keepAlive, false, 0);
+    }
+
+    /**
+     * Creates the service.
+     *
+     * @param maxThreads the number of threads
+     * @param keepAlive how long idle threads are kept, or {@code null}
+     * @param hashedWheelTimer whether the delayed tasks are kept in a hashed timing wheel rather than in a heap
+     * @param tickDuration the tick duration of the timing wheel in milliseconds
+     */
+    public ScheduledThreadPoolService(final int maxThreads, final TimeSpec keepAlive, final boolean hashedWheelTimer, final long tickDuration) {
         this.maxThreads = maxThreads;
         this.keepAlive = keepAlive;
+        this.hashedWheelTimer = hashedWheelTimer;
+        this.tickDuration = tickDuration;
     }
 
     public void start(final StartContext context) throws StartException {
-        ScheduledThreadPoolExecutor scheduledExecutor = new ExecutorImpl(0, threadFactoryValue.getValue());
-        scheduledExecutor.setCorePoolSize(maxThreads);
-        if (keepAlive != null) scheduledExecutor.setKeepAliveTime(keepAlive.getDuration(), keepAlive.getUnit());
-        final ManagedScheduledExecutorService executorService = new ManagedScheduledExecutorService(scheduledExecutor);
+        final ManagedScheduledExecutorService executorService;
+        if (hashedWheelTimer) {
+            HashedWheelScheduledExecutor wheelExecutor = new WheelExecutorImpl(threadFactoryValue.getValue(), maxThreads, tickDuration);
+            if (keepAlive != null) wheelExecutor.setKeepAliveTime(keepAlive.getDuration(), keepAlive.getUnit());
+            executorService = new ManagedScheduledExecutorService(wheelExecutor);
+        } else {
+            ScheduledThreadPoolExecutor scheduledExecutor = new ExecutorImpl(0, threadFactoryValue.getValue());
+            scheduledExecutor.setCorePoolSize(maxThreads);
+            if (keepAlive != null) scheduledExecutor.setKeepAliveTime(keepAlive.getDuration(), keepAlive.getUnit());
+            executorService = new ManagedScheduledExecutorService(scheduledExecutor);
+        }
         synchronized (this) {
             executor = executorService;
         }
@@ -126,12 +150,28 @@ public final class ScheduledThreadPoolService implements Service<ManagedSchedule
 
         protected void terminated() {
             super.terminated();
-            StopContext context;
-            synchronized (ScheduledThreadPoolService.this) {
-                context = ScheduledThreadPoolService.this.context;
-                ScheduledThreadPoolService.this.context = null;
-            }
-            context.complete();
+            stopped();
+        }
+    }
+
+    private class WheelExecutorImpl extends HashedWheelScheduledExecutor {
+
+        WheelExecutorImpl(final ThreadFactory threadFactory, final int maxThreads, final long tickDuration) {
+            super(threadFactory, maxThreads, tickDuration, TimeUnit.MILLISECONDS);
+        }
+
+        protected void terminated() {
+            super.terminated();
+            stopped();
+        }
+    }
+
+    private void stopped() {
+        StopContext context;
+        synchronized (this) {
+            context = this.context;
+            this.context = null;
         }
+        context.complete();
     }
 }
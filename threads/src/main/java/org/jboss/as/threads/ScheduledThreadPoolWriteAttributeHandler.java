@@ -42,7 +42,11 @@ public class ScheduledThreadPoolWriteAttributeHandler extends ThreadsWriteAttrib
     private final ServiceName serviceNameBase;
 
     public ScheduledThreadPoolWriteAttributeHandler(ServiceName serviceNameBase) {
-        super(ScheduledThreadPoolAdd.ATTRIBUTES, ScheduledThreadPoolAdd.RW_ATTRIBUTES);
+        this(serviceNameBase, false);
+    }
+
+    ScheduledThreadPoolWriteAttributeHandler(ServiceName serviceNameBase, boolean threadsSubsystem) {
+        super(ScheduledThreadPoolAdd.getAttributes(threadsSubsystem), ScheduledThreadPoolAdd.RW_ATTRIBUTES);
         this.serviceNameBase = serviceNameBase;
     }
 
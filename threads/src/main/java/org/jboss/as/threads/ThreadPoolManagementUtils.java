@@ -26,11 +26,13 @@ import static org.jboss.as.threads.CommonAttributes.KEEPALIVE_TIME;
 import static org.jboss.as.threads.CommonAttributes.TIME;
 import static org.jboss.as.threads.CommonAttributes.UNIT;
 
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
@@ -49,6 +51,24 @@ import org.jboss.msc.service.ServiceTarget;
  */
 class ThreadPoolManagementUtils {
 
+    /**
+     * Adds the attributes only the pools of the threads subsystem itself have to the attributes of a pool.
+     *
+     * @param attributes the attributes every pool of the type has
+     * @param threadsSubsystemAttributes the attributes only known to the schema and the transformers of the threads subsystem
+     * @param threadsSubsystem whether the pool belongs to the threads subsystem
+     * @return the attributes of the pool
+     */
+    static AttributeDefinition[] getAttributes(final AttributeDefinition[] attributes, final AttributeDefinition[] threadsSubsystemAttributes,
+                                               final boolean threadsSubsystem) {
+        if (!threadsSubsystem) {
+            return attributes;
+        }
+        final AttributeDefinition[] result = Arrays.copyOf(attributes, attributes.length + threadsSubsystemAttributes.length);
+        System.arraycopy(threadsSubsystemAttributes, 0, result, attributes.length, threadsSubsystemAttributes.length);
+        return result;
+    }
+
     static <T> void installThreadPoolService(final Service<T> threadPoolService,
                                              final String threadPoolName,
                                              final ServiceName serviceNameBase,
@@ -121,14 +141,19 @@ class ThreadPoolManagementUtils {
 
     }
 
-    static BaseThreadPoolParameters parseUnboundedQueueThreadPoolParameters(final OperationContext context, final ModelNode operation, final ModelNode model) throws OperationFailedException {
+    static UnboundedQueueThreadPoolParameters parseUnboundedQueueThreadPoolParameters(final OperationContext context, final ModelNode operation, final ModelNode model) throws OperationFailedException {
         ThreadPoolParametersImpl params = new ThreadPoolParametersImpl();
-        return parseBaseThreadPoolOperationParameters(context, operation, model, params);
+        parseBaseThreadPoolOperationParameters(context, operation, model, params);
+        params.statisticsSamplingInterval = PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL.resolveModelAttribute(context, model).asLong();
+        return params;
     }
 
-    static BaseThreadPoolParameters parseScheduledThreadPoolParameters(final OperationContext context, final ModelNode operation, final ModelNode model) throws OperationFailedException {
+    static ScheduledThreadPoolParameters parseScheduledThreadPoolParameters(final OperationContext context, final ModelNode operation, final ModelNode model) throws OperationFailedException {
         ThreadPoolParametersImpl params = new ThreadPoolParametersImpl();
-        return parseBaseThreadPoolOperationParameters(context, operation, model, params);
+        parseBaseThreadPoolOperationParameters(context, operation, model, params);
+        params.hashedWheelTimer = PoolAttributeDefinitions.HASHED_WHEEL_TIMER.resolveModelAttribute(context, model).asBoolean();
+        params.tickDuration = PoolAttributeDefinitions.TICK_DURATION.resolveModelAttribute(context, model).asLong();
+        return params;
     }
 
     static QueuelessThreadPoolParameters parseQueuelessThreadPoolParameters(final OperationContext context, final ModelNode operation, final ModelNode model, boolean blocking) throws OperationFailedException {
@@ -139,6 +164,7 @@ class ThreadPoolManagementUtils {
             ModelNode handoffEx = PoolAttributeDefinitions.HANDOFF_EXECUTOR.resolveModelAttribute(context, model);
             params.handoffExecutor = handoffEx.isDefined() ? handoffEx.asString() : null;
         }
+        params.statisticsSamplingInterval = PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL.resolveModelAttribute(context, model).asLong();
 
         return params;
     }
@@ -155,6 +181,9 @@ class ThreadPoolManagementUtils {
         ModelNode coreTh = PoolAttributeDefinitions.CORE_THREADS.resolveModelAttribute(context, model);
         params.coreThreads = coreTh.isDefined() ? coreTh.asInt() : params.maxThreads;
         params.queueLength = PoolAttributeDefinitions.QUEUE_LENGTH.resolveModelAttribute(context, model).asInt();
+        params.adaptiveSizing = PoolAttributeDefinitions.ADAPTIVE_SIZING.resolveModelAttribute(context, model).asBoolean();
+        params.adaptiveSizingInterval = PoolAttributeDefinitions.ADAPTIVE_SIZING_INTERVAL.resolveModelAttribute(context, model).asLong();
+        params.statisticsSamplingInterval = PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL.resolveModelAttribute(context, model).asLong();
         return params;
     }
 
@@ -198,18 +227,30 @@ class ThreadPoolManagementUtils {
         TimeSpec getKeepAliveTime();
     }
 
-    interface QueuelessThreadPoolParameters extends BaseThreadPoolParameters {
+    interface UnboundedQueueThreadPoolParameters extends BaseThreadPoolParameters {
+
+        long getStatisticsSamplingInterval();
+    }
+
+    interface QueuelessThreadPoolParameters extends UnboundedQueueThreadPoolParameters {
 
         String getHandoffExecutor();
     }
 
+    interface ScheduledThreadPoolParameters extends BaseThreadPoolParameters {
+        boolean isHashedWheelTimer();
+        long getTickDuration();
+    }
+
     interface BoundedThreadPoolParameters extends QueuelessThreadPoolParameters {
         boolean isAllowCoreTimeout();
         int getCoreThreads();
         int getQueueLength();
+        boolean isAdaptiveSizing();
+        long getAdaptiveSizingInterval();
     }
 
-    private static class ThreadPoolParametersImpl implements QueuelessThreadPoolParameters, BoundedThreadPoolParameters {
+    private static class ThreadPoolParametersImpl implements QueuelessThreadPoolParameters, BoundedThreadPoolParameters, ScheduledThreadPoolParameters {
         ModelNode address;
         String name;
         String threadFactory;
@@ -219,6 +260,11 @@ class ThreadPoolManagementUtils {
         boolean allowCoreTimeout;
         int coreThreads;
         int queueLength;
+        boolean adaptiveSizing;
+        long adaptiveSizingInterval;
+        long statisticsSamplingInterval;
+        boolean hashedWheelTimer;
+        long tickDuration;
 
         @Override
         public ModelNode getAddress() {
@@ -264,6 +310,31 @@ class ThreadPoolManagementUtils {
         public int getQueueLength() {
             return queueLength;
         }
+
+        @Override
+        public boolean isAdaptiveSizing() {
+            return adaptiveSizing;
+        }
+
+        @Override
+        public long getAdaptiveSizingInterval() {
+            return adaptiveSizingInterval;
+        }
+
+        @Override
+        public long getStatisticsSamplingInterval() {
+            return statisticsSamplingInterval;
+        }
+
+        @Override
+        public boolean isHashedWheelTimer() {
+            return hashedWheelTimer;
+        }
+
+        @Override
+        public long getTickDuration() {
+            return tickDuration;
+        }
     }
 
 }
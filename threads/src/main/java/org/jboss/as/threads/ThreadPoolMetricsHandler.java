@@ -47,16 +47,31 @@ public abstract class ThreadPoolMetricsHandler extends AbstractRuntimeOnlyHandle
 
     private final List<AttributeDefinition> metrics;
     private final ServiceName serviceNameBase;
+    private final boolean statistics;
 
     protected ThreadPoolMetricsHandler(List<AttributeDefinition> metrics, ServiceName serviceNameBase) {
+        this(metrics, serviceNameBase, false);
+    }
+
+    /**
+     * @param statistics whether to also register the {@link ThreadPoolStatistics} metrics, which are only available for the pools
+     *                   of the threads subsystem itself
+     */
+    ThreadPoolMetricsHandler(List<AttributeDefinition> metrics, ServiceName serviceNameBase, boolean statistics) {
         this.metrics = metrics;
         this.serviceNameBase = serviceNameBase;
+        this.statistics = statistics;
     }
 
     public void registerAttributes(final ManagementResourceRegistration registration) {
         for (AttributeDefinition metric : metrics) {
             registration.registerMetric(metric, this);
         }
+        if (statistics) {
+            for (AttributeDefinition metric : ThreadPoolStatistics.METRICS) {
+                registration.registerMetric(metric, this);
+            }
+        }
     }
 
     @Override
@@ -65,7 +80,15 @@ public abstract class ThreadPoolMetricsHandler extends AbstractRuntimeOnlyHandle
         if (context.getRunningMode() == RunningMode.NORMAL) {
             ServiceController<?> serviceController = getService(context, operation);
             final Service<?> service = serviceController.getService();
-            setResult(context, attributeName, service);
+            if (ThreadPoolStatistics.isMetric(attributeName)) {
+                final ThreadPoolStatistics statistics = getStatistics(service);
+                // Left undefined if the statistics are disabled
+                if (statistics != null) {
+                    statistics.setResult(attributeName, context.getResult());
+                }
+            } else {
+                setResult(context, attributeName, service);
+            }
         }
 
         context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
@@ -73,6 +96,16 @@ public abstract class ThreadPoolMetricsHandler extends AbstractRuntimeOnlyHandle
 
     protected abstract void setResult(OperationContext context, String attributeName, Service<?> service) throws OperationFailedException;
 
+    /**
+     * Gets the statistics of the pool, if the pool gathers any.
+     *
+     * @param service the service of the pool
+     * @return the statistics, or {@code null} if the statistics are disabled or not supported by the pool
+     */
+    ThreadPoolStatistics getStatistics(Service<?> service) {
+        return null;
+    }
+
     protected ServiceController<?> getService(final OperationContext context, final ModelNode operation)
             throws OperationFailedException {
         final String name = Util.getNameFromAddress(operation.require(OP_ADDR));
@@ -49,7 +49,12 @@ class ThreadPoolResourceDescriptionResolver extends StandardResourceDescriptionR
                 PoolAttributeDefinitions.THREAD_FACTORY.getName(), PoolAttributeDefinitions.ACTIVE_COUNT.getName(),
                 PoolAttributeDefinitions.COMPLETED_TASK_COUNT.getName(), PoolAttributeDefinitions.CURRENT_THREAD_COUNT.getName(),
                 PoolAttributeDefinitions.LARGEST_THREAD_COUNT.getName(), PoolAttributeDefinitions.TASK_COUNT.getName(),
-                PoolAttributeDefinitions.QUEUE_SIZE.getName()));
+                PoolAttributeDefinitions.QUEUE_SIZE.getName(), PoolAttributeDefinitions.UTILIZATION.getName(),
+                PoolAttributeDefinitions.AVERAGE_QUEUE_SIZE.getName(), PoolAttributeDefinitions.PEAK_QUEUE_SIZE.getName(),
+                PoolAttributeDefinitions.TASK_WAIT_TIME.getName(), PoolAttributeDefinitions.TASK_EXECUTION_TIME.getName(),
+                PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL.getName(), PoolAttributeDefinitions.ADAPTIVE_SIZING.getName(),
+                PoolAttributeDefinitions.ADAPTIVE_SIZING_INTERVAL.getName(), PoolAttributeDefinitions.ADAPTIVE_CORE_THREADS.getName(),
+                PoolAttributeDefinitions.ADAPTIVE_SIZING_DECISION.getName(), PoolAttributeDefinitions.ADAPTIVE_SIZING_ADJUSTMENTS.getName()));
 
         // note we don't include REJECTED_COUNT as it has a different definition in different resources
     }
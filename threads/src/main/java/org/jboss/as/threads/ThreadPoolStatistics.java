@@ -0,0 +1,332 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntSupplier;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Utilization, queue depth and task timing statistics of a thread pool.
+ * <p>
+ * The statistics are only gathered if the {@code statistics-sampling-interval} attribute of the pool is set to a
+ * positive number of milliseconds, or if a pool needs the task timings to size itself. The tasks submitted to the pool
+ * are then timed from their submission to their start and from their start to their end. If the interval is set, a
+ * shared background thread also samples the pool at that interval. The sampled values are averaged over roughly the
+ * last minute, like the load average of an operating system.
+ * <p>
+ * The timed tasks are wrappers of the submitted ones. Wherever the pool hands tasks back, such as to its handoff
+ * executor, they are unwrapped again with {@link #unwrap(Runnable)}.
+ */
+class ThreadPoolStatistics {
+
+    static final List<AttributeDefinition> METRICS = Arrays.asList(PoolAttributeDefinitions.UTILIZATION,
+            PoolAttributeDefinitions.AVERAGE_QUEUE_SIZE, PoolAttributeDefinitions.PEAK_QUEUE_SIZE,
+            PoolAttributeDefinitions.TASK_WAIT_TIME, PoolAttributeDefinitions.TASK_EXECUTION_TIME);
+
+    private static final long AVERAGING_PERIOD = TimeUnit.MINUTES.toMillis(1);
+
+    /** The upper bounds of the histogram buckets in nanoseconds; the last bucket holds everything else */
+    private static final long[] BUCKET_BOUNDS = {
+            TimeUnit.MICROSECONDS.toNanos(10), TimeUnit.MICROSECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(1),
+            TimeUnit.MILLISECONDS.toNanos(10), TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.SECONDS.toNanos(1),
+            TimeUnit.SECONDS.toNanos(10)
+    };
+    private static final String[] BUCKET_NAMES = {"10us", "100us", "1ms", "10ms", "100ms", "1s", "10s", "more"};
+
+    private final AtomicInteger runningTasks = new AtomicInteger();
+    private final AtomicLong startedTasks = new AtomicLong();
+    private final AtomicLong completedTasks = new AtomicLong();
+    private final AtomicLong totalWaitTime = new AtomicLong();
+    private final Histogram waitTimes = new Histogram();
+    private final Histogram executionTimes = new Histogram();
+    private final long samplingInterval;
+    /** Weight of a new sample in the moving averages */
+    private final double alpha;
+
+    // Written by the sampler thread only
+    private volatile double utilization;
+    private volatile double averageQueueSize;
+    private volatile int peakQueueSize;
+
+    private ScheduledFuture<?> sampling;
+
+    /**
+     * Creates the statistics.
+     *
+     * @param samplingInterval the interval in milliseconds at which the pool is sampled, or {@code 0} to only time
+     *                         the tasks
+     */
+    ThreadPoolStatistics(final long samplingInterval) {
+        this.samplingInterval = samplingInterval;
+        this.alpha = 1 - Math.exp(-(double) samplingInterval / AVERAGING_PERIOD);
+    }
+
+    /**
+     * Creates the statistics of a pool.
+     *
+     * @param samplingInterval the configured sampling interval in milliseconds; the statistics are disabled if it
+     *                         is {@code 0}
+     * @return the statistics, or {@code null} if the statistics are disabled
+     */
+    static ThreadPoolStatistics create(final long samplingInterval) {
+        return create(samplingInterval, false);
+    }
+
+    /**
+     * Creates the statistics of a pool.
+     *
+     * @param samplingInterval the configured sampling interval in milliseconds; the statistics are disabled if it
+     *                         is {@code 0}
+     * @param required whether the pool needs the task timings even if the statistics are disabled
+     * @return the statistics, or {@code null} if the statistics are disabled and not required
+     */
+    static ThreadPoolStatistics create(final long samplingInterval, final boolean required) {
+        return required || samplingInterval > 0 ? new ThreadPoolStatistics(samplingInterval) : null;
+    }
+
+    /**
+     * Gets whether the pool is sampled, i.e. whether the sampling interval is configured.
+     */
+    boolean isSampling() {
+        return samplingInterval > 0;
+    }
+
+    /**
+     * Runs a task periodically in the thread sampling the pools.
+     *
+     * @param task the task, which must be quick
+     * @param interval the interval in milliseconds
+     * @return the future to cancel the task with
+     */
+    static ScheduledFuture<?> schedule(final Runnable task, final long interval) {
+        return Sampler.INSTANCE.scheduleAtFixedRate(task, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Wraps a task submitted to the pool so its wait and execution times are recorded.
+     *
+     * @param task the task
+     * @return the wrapped task
+     */
+    Runnable wrap(final Runnable task) {
+        return new TimedTask(task, System.nanoTime());
+    }
+
+    /**
+     * Gets the task submitted to the pool.
+     *
+     * @param task a task as executed by the pool
+     * @return the task as submitted, without the wrapper timing it
+     */
+    static Runnable unwrap(final Runnable task) {
+        return task instanceof TimedTask ? ((TimedTask) task).task : task;
+    }
+
+    /**
+     * Gets the executor a pool hands the tasks it cannot accept off to. The tasks are unwrapped first, so that they
+     * are not timed as tasks of this pool, nor twice if the handoff executor is a pool with statistics itself.
+     *
+     * @param handoffExecutor the configured handoff executor, or {@code null} if there is none
+     * @param statistics the statistics of the pool, or {@code null} if they are disabled
+     * @return the executor to pass to the pool
+     */
+    static Executor handoff(final Executor handoffExecutor, final ThreadPoolStatistics statistics) {
+        if (handoffExecutor == null || statistics == null) {
+            return handoffExecutor;
+        }
+        return task -> handoffExecutor.execute(unwrap(task));
+    }
+
+    /**
+     * Starts sampling the pool.
+     *
+     * @param maxThreads gets the maximum number of threads of the pool
+     * @param queueSize gets the number of queued tasks of the pool
+     */
+    synchronized void start(final IntSupplier maxThreads, final IntSupplier queueSize) {
+        if (isSampling()) {
+            sampling = schedule(() -> sample(maxThreads.getAsInt(), queueSize.getAsInt()), samplingInterval);
+        }
+    }
+
+    synchronized void stop() {
+        if (sampling != null) {
+            sampling.cancel(false);
+            sampling = null;
+        }
+    }
+
+    private void sample(final int maxThreads, final int queueSize) {
+        final double sampledUtilization = maxThreads > 0 ? Math.min(1.0, (double) runningTasks.get() / maxThreads) : 0.0;
+        utilization += alpha * (sampledUtilization - utilization);
+        averageQueueSize += alpha * (queueSize - averageQueueSize);
+        if (queueSize > peakQueueSize) {
+            peakQueueSize = queueSize;
+        }
+    }
+
+    int getRunningTasks() {
+        return runningTasks.get();
+    }
+
+    long getStartedTasks() {
+        return startedTasks.get();
+    }
+
+    long getCompletedTasks() {
+        return completedTasks.get();
+    }
+
+    /**
+     * Gets the total time the started tasks waited between their submission and their start, in nanoseconds.
+     */
+    long getTotalWaitTime() {
+        return totalWaitTime.get();
+    }
+
+    double getUtilization() {
+        return utilization;
+    }
+
+    double getAverageQueueSize() {
+        return averageQueueSize;
+    }
+
+    Histogram getWaitTimes() {
+        return waitTimes;
+    }
+
+    Histogram getExecutionTimes() {
+        return executionTimes;
+    }
+
+    static boolean isMetric(final String attributeName) {
+        for (AttributeDefinition metric : METRICS) {
+            if (metric.getName().equals(attributeName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void setResult(final String attributeName, final ModelNode result) {
+        // The sampled values are left undefined if the statistics are only gathered for adaptive sizing
+        if (attributeName.equals(CommonAttributes.UTILIZATION)) {
+            if (isSampling()) {
+                result.set(utilization * 100);
+            }
+        } else if (attributeName.equals(CommonAttributes.AVERAGE_QUEUE_SIZE)) {
+            if (isSampling()) {
+                result.set(averageQueueSize);
+            }
+        } else if (attributeName.equals(CommonAttributes.PEAK_QUEUE_SIZE)) {
+            if (isSampling()) {
+                result.set(peakQueueSize);
+            }
+        } else if (attributeName.equals(CommonAttributes.TASK_WAIT_TIME)) {
+            waitTimes.setResult(result);
+        } else if (attributeName.equals(CommonAttributes.TASK_EXECUTION_TIME)) {
+            executionTimes.setResult(result);
+        }
+    }
+
+    /**
+     * Counts durations in buckets growing by a factor of ten, from 10 microseconds up to 10 seconds.
+     */
+    static final class Histogram {
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKET_NAMES.length);
+
+        void record(final long nanos) {
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS.length && nanos > BUCKET_BOUNDS[bucket]) {
+                bucket++;
+            }
+            counts.incrementAndGet(bucket);
+        }
+
+        long getCount(final int bucket) {
+            return counts.get(bucket);
+        }
+
+        void setResult(final ModelNode result) {
+            for (int i = 0; i < BUCKET_NAMES.length; i++) {
+                result.get(BUCKET_NAMES[i]).set(counts.get(i));
+            }
+        }
+    }
+
+    private final class TimedTask implements Runnable {
+        private final Runnable task;
+        private final long submitted;
+
+        TimedTask(final Runnable task, final long submitted) {
+            this.task = task;
+            this.submitted = submitted;
+        }
+
+        @Override
+        public void run() {
+            final long start = System.nanoTime();
+            waitTimes.record(start - submitted);
+            totalWaitTime.addAndGet(start - submitted);
+            startedTasks.incrementAndGet();
+            runningTasks.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                runningTasks.decrementAndGet();
+                completedTasks.incrementAndGet();
+                executionTimes.record(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Holds the thread sampling all the pools, which is only started once a pool gathers statistics.
+     */
+    private static final class Sampler {
+        static final ScheduledExecutorService INSTANCE;
+
+        static {
+            final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, task -> {
+                final Thread thread = new Thread(task, "thread-pool-statistics-sampler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            INSTANCE = executor;
+        }
+    }
+}
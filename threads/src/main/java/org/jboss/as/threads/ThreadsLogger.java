@@ -24,6 +24,7 @@ package org.jboss.as.threads;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import javax.xml.stream.Location;
@@ -32,6 +33,7 @@ import javax.xml.stream.XMLStreamException;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -145,4 +147,39 @@ interface ThreadsLogger extends BasicLogger {
     OperationFailedException failedToParseUnit(String unit, List<TimeUnit> allowed);
 
     // id = 31; redundant parameter null check message
+
+    // id = 32; invalid statistics sampling interval system property, replaced by the statistics-sampling-interval attribute
+
+    @Message(id = 33, value = "The executor service is shut down or failed to create a thread for the task.")
+    RejectedExecutionException virtualThreadExecutorTaskRejected();
+
+    @Message(id = 34, value = "The executor service hasn't been initialized.")
+    IllegalStateException virtualThreadExecutorUninitialized();
+
+    @Message(id = 35, value = "Service '%s' not found.")
+    OperationFailedException virtualThreadExecutorServiceNotFound(ServiceName serviceName);
+
+    @Message(id = 36, value = "Unsupported attribute '%s'")
+    IllegalStateException unsupportedVirtualThreadExecutorMetric(String attributeName);
+
+    @Message(id = 37, value = "Unsupported attribute '%s'")
+    IllegalStateException unsupportedVirtualThreadExecutorAttribute(String attributeName);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 38, value = "Virtual threads are not supported by this JVM; executor '%s' starts a platform thread for each task instead")
+    void virtualThreadsNotSupported(String name);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 39, value = "Thread pool '%s': %s core threads from %d to %d (%.1f tasks/s, %d us average wait, %d tasks queued)")
+    void adaptiveSizingDecision(String name, Object decision, int previous, int coreThreads, double throughput,
+                                long averageWait, int queued);
+
+    @LogMessage(level = Logger.Level.ERROR)
+    @Message(id = 40, value = "Failed to adjust the size of thread pool '%s'")
+    void adaptiveSizingFailed(@Cause Throwable cause, String name);
+
+    // id = 41; invalid adaptive sizing interval system property, replaced by the adaptive-sizing-interval attribute
+
+    @Message(id = 42, value = "The scheduled executor service is shut down.")
+    RejectedExecutionException scheduledExecutorTaskRejected();
 }
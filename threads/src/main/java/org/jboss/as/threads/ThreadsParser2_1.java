@@ -0,0 +1,80 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.threads;
+
+import static org.jboss.as.controller.PersistentResourceXMLDescription.builder;
+
+import org.jboss.as.controller.PersistentResourceXMLDescription;
+import org.jboss.as.controller.PersistentResourceXMLDescription.PersistentResourceXMLBuilder;
+
+/**
+ * Parser and marshaller for the threads subsystem 2.1 schema, adding the virtual thread executor, the statistics
+ * sampling interval of thread pools, the adaptive sizing of bounded queue thread pools and the hashed wheel timer of
+ * scheduled thread pools.
+ */
+public class ThreadsParser2_1 extends ThreadsParser2_0 {
+
+    @SuppressWarnings("deprecation")
+    private final PersistentResourceXMLDescription xmlDescription = builder(new ThreadSubsystemResourceDefinition(false), Namespace.THREADS_2_1.getUriString())
+            .addChild(THREAD_FACTORY_PARSER)
+            .addChild(getUnboundedQueueThreadPoolParser(UnboundedQueueThreadPoolResourceDefinition.create(false)))
+            .addChild(getBoundedQueueThreadPoolParser(BoundedQueueThreadPoolResourceDefinition.create(false, false)))
+            .addChild(getBoundedQueueThreadPoolParser(BoundedQueueThreadPoolResourceDefinition.create(true, false)))
+            .addChild(getQueuelessThreadPoolParser(QueuelessThreadPoolResourceDefinition.create(false, false)))
+            .addChild(getQueuelessThreadPoolParser(QueuelessThreadPoolResourceDefinition.create(true, false)))
+            .addChild(getScheduledThreadPoolParser(ScheduledThreadPoolResourceDefinition.create(false)))
+            .addChild(getVirtualThreadExecutorParser(VirtualThreadExecutorResourceDefinition.create(false)))
+            .build();
+
+
+    @Override
+    public PersistentResourceXMLDescription getParserDescription() {
+        return xmlDescription;
+    }
+
+    public static PersistentResourceXMLBuilder getUnboundedQueueThreadPoolParser(UnboundedQueueThreadPoolResourceDefinition resourceDefinition) {
+        return ThreadsParser2_0.getUnboundedQueueThreadPoolParser(resourceDefinition)
+                .addAttribute(PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL);
+    }
+
+    public static PersistentResourceXMLBuilder getQueuelessThreadPoolParser(QueuelessThreadPoolResourceDefinition definition) {
+        return ThreadsParser2_0.getQueuelessThreadPoolParser(definition)
+                .addAttribute(PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL);
+    }
+
+    public static PersistentResourceXMLBuilder getBoundedQueueThreadPoolParser(BoundedQueueThreadPoolResourceDefinition definition) {
+        return ThreadsParser2_0.getBoundedQueueThreadPoolParser(definition)
+                .addAttributes(PoolAttributeDefinitions.ADAPTIVE_SIZING, PoolAttributeDefinitions.ADAPTIVE_SIZING_INTERVAL,
+                        PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL);
+    }
+
+    public static PersistentResourceXMLBuilder getScheduledThreadPoolParser(ScheduledThreadPoolResourceDefinition resourceDefinition) {
+        return ThreadsParser2_0.getScheduledThreadPoolParser(resourceDefinition)
+                .addAttributes(PoolAttributeDefinitions.HASHED_WHEEL_TIMER, PoolAttributeDefinitions.TICK_DURATION);
+    }
+
+    public static PersistentResourceXMLBuilder getVirtualThreadExecutorParser(VirtualThreadExecutorResourceDefinition resourceDefinition) {
+        return builder(resourceDefinition.getPathElement())
+                .addAttributes(PoolAttributeDefinitions.MAX_CONCURRENCY, PoolAttributeDefinitions.THREAD_FACTORY);
+
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.threads;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
+import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
+import org.jboss.as.controller.transform.description.AttributeTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.ChainedTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+
+/**
+ * Transformers of the threads subsystem to the model versions of earlier releases.
+ */
+public class ThreadsSubsystemTransformers implements ExtensionTransformerRegistration {
+
+    static final ModelVersion VERSION_2_0 = ModelVersion.create(2, 0, 0);
+
+    @Override
+    public String getSubsystemName() {
+        return ThreadsExtension.SUBSYSTEM_NAME;
+    }
+
+    @Override
+    public void registerTransformers(SubsystemTransformerRegistration registration) {
+        ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(registration.getCurrentSubsystemVersion());
+
+        // Current 2.1.0 to 2.0.0
+        buildTransformers_2_0(chainedBuilder.createBuilder(registration.getCurrentSubsystemVersion(), VERSION_2_0));
+
+        chainedBuilder.buildAndRegister(registration, new ModelVersion[]{VERSION_2_0});
+    }
+
+    private void buildTransformers_2_0(ResourceTransformationDescriptionBuilder builder) {
+        builder.rejectChildResource(PathElement.pathElement(CommonAttributes.VIRTUAL_THREAD_EXECUTOR));
+
+        rejectDefined(builder, CommonAttributes.UNBOUNDED_QUEUE_THREAD_POOL, PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL);
+        rejectDefined(builder, CommonAttributes.QUEUELESS_THREAD_POOL, PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL);
+        rejectDefined(builder, CommonAttributes.BLOCKING_QUEUELESS_THREAD_POOL, PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL);
+        rejectDefined(builder, CommonAttributes.BOUNDED_QUEUE_THREAD_POOL, PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL,
+                PoolAttributeDefinitions.ADAPTIVE_SIZING, PoolAttributeDefinitions.ADAPTIVE_SIZING_INTERVAL);
+        rejectDefined(builder, CommonAttributes.BLOCKING_BOUNDED_QUEUE_THREAD_POOL, PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL,
+                PoolAttributeDefinitions.ADAPTIVE_SIZING, PoolAttributeDefinitions.ADAPTIVE_SIZING_INTERVAL);
+        rejectDefined(builder, CommonAttributes.SCHEDULED_THREAD_POOL, PoolAttributeDefinitions.HASHED_WHEEL_TIMER,
+                PoolAttributeDefinitions.TICK_DURATION);
+    }
+
+    /**
+     * Discards the given attributes of the child resources of the given type if they are undefined or have their default value,
+     * as the legacy model behaves the same then, and rejects them otherwise.
+     */
+    private static void rejectDefined(ResourceTransformationDescriptionBuilder builder, String type, AttributeDefinition... attributes) {
+        AttributeTransformationDescriptionBuilder attributeBuilder = builder.addChildResource(PathElement.pathElement(type)).getAttributeBuilder();
+        for (AttributeDefinition attribute : attributes) {
+            attributeBuilder.setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(false, true, attribute.getDefaultValue()), attribute);
+        }
+        attributeBuilder.addRejectCheck(RejectAttributeChecker.DEFINED, attributes).end();
+    }
+}
@@ -25,7 +25,7 @@ import org.jboss.as.controller.AbstractAddStepHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
-import org.jboss.as.threads.ThreadPoolManagementUtils.BaseThreadPoolParameters;
+import org.jboss.as.threads.ThreadPoolManagementUtils.UnboundedQueueThreadPoolParameters;
 import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceName;
 
@@ -41,6 +41,9 @@ public class UnboundedQueueThreadPoolAdd extends AbstractAddStepHandler {
     static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] {PoolAttributeDefinitions.KEEPALIVE_TIME,
         PoolAttributeDefinitions.MAX_THREADS, PoolAttributeDefinitions.THREAD_FACTORY};
 
+    /** Attributes only the pools of the threads subsystem have, the pools of other subsystems share the ones above */
+    static final AttributeDefinition[] THREADS_SUBSYSTEM_ATTRIBUTES = new AttributeDefinition[] {PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL};
+
     static final AttributeDefinition[] RW_ATTRIBUTES = new AttributeDefinition[] {PoolAttributeDefinitions.KEEPALIVE_TIME,
         PoolAttributeDefinitions.MAX_THREADS};
 
@@ -48,7 +51,11 @@ public class UnboundedQueueThreadPoolAdd extends AbstractAddStepHandler {
     private final ServiceName serviceNameBase;
 
     public UnboundedQueueThreadPoolAdd(ThreadFactoryResolver threadFactoryResolver, ServiceName serviceNameBase) {
-        super(ATTRIBUTES);
+        this(threadFactoryResolver, serviceNameBase, false);
+    }
+
+    UnboundedQueueThreadPoolAdd(ThreadFactoryResolver threadFactoryResolver, ServiceName serviceNameBase, boolean threadsSubsystem) {
+        super(getAttributes(threadsSubsystem));
         this.threadFactoryResolver = threadFactoryResolver;
         this.serviceNameBase = serviceNameBase;
     }
@@ -56,15 +63,20 @@ public class UnboundedQueueThreadPoolAdd extends AbstractAddStepHandler {
     @Override
     protected void performRuntime(final OperationContext context, final ModelNode operation, final ModelNode model) throws OperationFailedException {
 
-        final BaseThreadPoolParameters params = ThreadPoolManagementUtils.parseUnboundedQueueThreadPoolParameters(context, operation, model);
+        final UnboundedQueueThreadPoolParameters params = ThreadPoolManagementUtils.parseUnboundedQueueThreadPoolParameters(context, operation, model);
 
-        final UnboundedQueueThreadPoolService service = new UnboundedQueueThreadPoolService(params.getMaxThreads(), params.getKeepAliveTime());
+        final UnboundedQueueThreadPoolService service = new UnboundedQueueThreadPoolService(params.getMaxThreads(), params.getKeepAliveTime(),
+                params.getStatisticsSamplingInterval());
 
         ThreadPoolManagementUtils.installThreadPoolService(service, params.getName(), serviceNameBase,
                 params.getThreadFactory(), threadFactoryResolver, service.getThreadFactoryInjector(),
                 context.getServiceTarget());
     }
 
+    static AttributeDefinition[] getAttributes(boolean threadsSubsystem) {
+        return ThreadPoolManagementUtils.getAttributes(ATTRIBUTES, THREADS_SUBSYSTEM_ATTRIBUTES, threadsSubsystem);
+    }
+
     ServiceName getServiceNameBase() {
         return serviceNameBase;
     }
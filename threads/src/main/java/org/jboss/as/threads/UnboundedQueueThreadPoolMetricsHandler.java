@@ -44,7 +44,16 @@ public class UnboundedQueueThreadPoolMetricsHandler extends ThreadPoolMetricsHan
             PoolAttributeDefinitions.TASK_COUNT, PoolAttributeDefinitions.QUEUE_SIZE);
 
     public UnboundedQueueThreadPoolMetricsHandler(final ServiceName serviceNameBase) {
-        super(METRICS, serviceNameBase);
+        this(serviceNameBase, false);
+    }
+
+    UnboundedQueueThreadPoolMetricsHandler(final ServiceName serviceNameBase, final boolean threadsSubsystem) {
+        super(METRICS, serviceNameBase, threadsSubsystem);
+    }
+
+    @Override
+    ThreadPoolStatistics getStatistics(final Service<?> service) {
+        return ((UnboundedQueueThreadPoolService) service).getStatistics();
     }
 
     @Override
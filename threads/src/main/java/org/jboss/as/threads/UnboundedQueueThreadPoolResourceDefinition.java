@@ -55,19 +55,35 @@ public class UnboundedQueueThreadPoolResourceDefinition extends PersistentResour
 
     public static UnboundedQueueThreadPoolResourceDefinition create(PathElement path, ThreadFactoryResolver threadFactoryResolver,
                                                                     ServiceName serviceNameBase, boolean registerRuntimeOnly) {
-        UnboundedQueueThreadPoolAdd addHandler = new UnboundedQueueThreadPoolAdd(threadFactoryResolver, serviceNameBase);
-        return new UnboundedQueueThreadPoolResourceDefinition(path, addHandler, serviceNameBase, registerRuntimeOnly);
+        return create(path, threadFactoryResolver, serviceNameBase, registerRuntimeOnly, false);
+    }
+
+    /**
+     * Creates the definition of a pool of the threads subsystem itself, if {@code threadsSubsystem} is {@code true}. These pools
+     * also get the attributes and metrics which the schemas and transformers of other subsystems using this definition don't know.
+     */
+    static UnboundedQueueThreadPoolResourceDefinition create(boolean registerRuntimeOnly, boolean threadsSubsystem) {
+        return create(PathElement.pathElement(CommonAttributes.UNBOUNDED_QUEUE_THREAD_POOL), ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER,
+                ThreadsServices.EXECUTOR, registerRuntimeOnly, threadsSubsystem);
+    }
+
+    private static UnboundedQueueThreadPoolResourceDefinition create(PathElement path, ThreadFactoryResolver threadFactoryResolver,
+                                                                     ServiceName serviceNameBase, boolean registerRuntimeOnly,
+                                                                     boolean threadsSubsystem) {
+        UnboundedQueueThreadPoolAdd addHandler = new UnboundedQueueThreadPoolAdd(threadFactoryResolver, serviceNameBase, threadsSubsystem);
+        return new UnboundedQueueThreadPoolResourceDefinition(path, addHandler, serviceNameBase, registerRuntimeOnly, threadsSubsystem);
     }
 
     private UnboundedQueueThreadPoolResourceDefinition(PathElement path, UnboundedQueueThreadPoolAdd addHandler,
-                                                       ServiceName serviceNameBase, boolean registerRuntimeOnly) {
+                                                       ServiceName serviceNameBase, boolean registerRuntimeOnly,
+                                                       boolean threadsSubsystem) {
         super(path,
                 new ThreadPoolResourceDescriptionResolver(CommonAttributes.UNBOUNDED_QUEUE_THREAD_POOL, ThreadsExtension.RESOURCE_NAME,
                         ThreadsExtension.class.getClassLoader()),
                 addHandler, new UnboundedQueueThreadPoolRemove(addHandler));
         this.registerRuntimeOnly = registerRuntimeOnly;
-        this.writeAttributeHandler = new UnboundedQueueThreadPoolWriteAttributeHandler(serviceNameBase);
-        this.metricsHandler = new UnboundedQueueThreadPoolMetricsHandler(serviceNameBase);
+        this.writeAttributeHandler = new UnboundedQueueThreadPoolWriteAttributeHandler(serviceNameBase, threadsSubsystem);
+        this.metricsHandler = new UnboundedQueueThreadPoolMetricsHandler(serviceNameBase, threadsSubsystem);
     }
 
 
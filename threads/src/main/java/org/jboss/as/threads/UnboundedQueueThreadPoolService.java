@@ -44,19 +44,37 @@ public class UnboundedQueueThreadPoolService implements Service<ManagedJBossThre
 
     private ManagedJBossThreadPoolExecutorService executor;
 
+    private final long statisticsSamplingInterval;
+
     private int maxThreads;
     private TimeSpec keepAlive;
 
     public UnboundedQueueThreadPoolService(int maxThreads, TimeSpec keepAlive) {
+        this(maxThreads, keepAlive, 0);
+    }
+
+    /**
+     * Creates the service.
+     *
+     * @param statisticsSamplingInterval the interval in milliseconds at which the pool statistics are sampled, or
+     *                                   {@code 0} if they are disabled, see {@link ThreadPoolStatistics}
+     */
+    public UnboundedQueueThreadPoolService(int maxThreads, TimeSpec keepAlive, long statisticsSamplingInterval) {
         this.maxThreads = maxThreads;
         this.keepAlive = keepAlive;
+        this.statisticsSamplingInterval = statisticsSamplingInterval;
     }
 
     public synchronized void start(final StartContext context) throws StartException {
         final TimeSpec keepAliveSpec = keepAlive;
         long keepAliveTime = keepAliveSpec == null ? Long.MAX_VALUE : keepAliveSpec.getUnit().toNanos(keepAliveSpec.getDuration());
         final JBossThreadPoolExecutor jbossExecutor = new JBossThreadPoolExecutor(maxThreads, maxThreads, keepAliveTime, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<Runnable>(), threadFactoryValue.getValue());
-        executor = new ManagedJBossThreadPoolExecutorService(jbossExecutor);
+        final ThreadPoolStatistics statistics = ThreadPoolStatistics.create(statisticsSamplingInterval);
+        final ManagedJBossThreadPoolExecutorService executor = new ManagedJBossThreadPoolExecutorService(jbossExecutor, statistics);
+        if (statistics != null) {
+            statistics.start(executor::getMaxThreads, executor::getQueueSize);
+        }
+        this.executor = executor;
     }
 
     public void stop(final StopContext context) {
@@ -65,6 +83,10 @@ public class UnboundedQueueThreadPoolService implements Service<ManagedJBossThre
             executor = this.executor;
             this.executor = null;
         }
+        final ThreadPoolStatistics statistics = executor.getStatistics();
+        if (statistics != null) {
+            statistics.stop();
+        }
         context.asynchronous();
         executor.internalShutdown();
         executor.addShutdownListener(StopContextEventListener.getInstance(), context);
@@ -78,6 +100,10 @@ public class UnboundedQueueThreadPoolService implements Service<ManagedJBossThre
         return value;
     }
 
+    ThreadPoolStatistics getStatistics() {
+        return getValue().getStatistics();
+    }
+
     public Injector<ThreadFactory> getThreadFactoryInjector() {
         return threadFactoryValue;
     }
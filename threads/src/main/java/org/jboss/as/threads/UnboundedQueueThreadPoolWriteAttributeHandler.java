@@ -44,7 +44,11 @@ public class UnboundedQueueThreadPoolWriteAttributeHandler extends ThreadsWriteA
     private final ServiceName serviceNameBase;
 
     public UnboundedQueueThreadPoolWriteAttributeHandler(ServiceName serviceNameBase) {
-        super(UnboundedQueueThreadPoolAdd.ATTRIBUTES, UnboundedQueueThreadPoolAdd.RW_ATTRIBUTES);
+        this(serviceNameBase, false);
+    }
+
+    UnboundedQueueThreadPoolWriteAttributeHandler(ServiceName serviceNameBase, boolean threadsSubsystem) {
+        super(UnboundedQueueThreadPoolAdd.getAttributes(threadsSubsystem), UnboundedQueueThreadPoolAdd.RW_ATTRIBUTES);
         this.serviceNameBase = serviceNameBase;
     }
 
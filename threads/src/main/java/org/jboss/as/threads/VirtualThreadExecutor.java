@@ -0,0 +1,307 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An executor starting a new thread for each task, rather than keeping a pool of threads.
+ * <p>
+ * The threads are virtual threads if the JVM supports them; they are looked up reflectively so the subsystem still runs
+ * on older JVMs, where the given thread factory is used instead. The number of tasks running at the same time may be
+ * limited, in which case the other tasks are queued, and the thread of a queued task is only created once one of the
+ * running tasks completes. So there are never more threads than the limit, which matters for platform threads.
+ */
+class VirtualThreadExecutor extends AbstractExecutorService {
+
+    private final ThreadFactory threadFactory;
+    private final boolean virtual;
+    private final Semaphore permits;
+
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong completedTaskCount = new AtomicLong();
+
+    // Guarded by this
+    private final Set<Thread> threads = new HashSet<>();
+    private final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+    private boolean shutdown;
+    private boolean terminated;
+
+    /**
+     * Creates the executor.
+     *
+     * @param name the name of the executor, used as the name prefix of virtual threads
+     * @param fallbackThreadFactory the thread factory used if the JVM doesn't support virtual threads
+     * @param maxConcurrency the maximum number of tasks running at the same time, or {@code 0} for no limit
+     */
+    VirtualThreadExecutor(final String name, final ThreadFactory fallbackThreadFactory, final int maxConcurrency) {
+        final ThreadFactory virtualThreadFactory = createVirtualThreadFactory(name + "-");
+        this.virtual = virtualThreadFactory != null;
+        this.threadFactory = virtual ? virtualThreadFactory : fallbackThreadFactory;
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+    }
+
+    boolean isVirtual() {
+        return virtual;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        final Thread thread;
+        synchronized (this) {
+            if (shutdown) {
+                throw ThreadsLogger.ROOT_LOGGER.virtualThreadExecutorTaskRejected();
+            }
+            if (permits != null && !permits.tryAcquire()) {
+                // The permit of the next task to complete is handed over to this one, see Worker.next()
+                queue.add(command);
+                submittedCount.incrementAndGet();
+                return;
+            }
+            try {
+                thread = newThread(command);
+            } catch (RejectedExecutionException e) {
+                if (permits != null) {
+                    permits.release();
+                }
+                throw e;
+            }
+            submittedCount.incrementAndGet();
+        }
+        try {
+            thread.start();
+        } catch (Error | RuntimeException e) {
+            if (permits != null) {
+                permits.release();
+            }
+            threadDone(thread);
+            throw e;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        final boolean nowTerminated;
+        synchronized (this) {
+            if (shutdown) {
+                return;
+            }
+            shutdown = true;
+            nowTerminated = checkTerminated();
+        }
+        if (nowTerminated) {
+            terminated();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> queued;
+        final List<Thread> running;
+        final boolean nowTerminated;
+        synchronized (this) {
+            shutdown = true;
+            queued = new ArrayList<>(queue);
+            queue.clear();
+            running = new ArrayList<>(threads);
+            nowTerminated = checkTerminated();
+        }
+        if (nowTerminated) {
+            terminated();
+        }
+        for (Thread thread : running) {
+            thread.interrupt();
+        }
+        return queued;
+    }
+
+    @Override
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public synchronized boolean isTerminated() {
+        return terminated;
+    }
+
+    @Override
+    public synchronized boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        final long deadline = System.nanoTime() + remaining;
+        while (!terminated) {
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            remaining = deadline - System.nanoTime();
+        }
+        return true;
+    }
+
+    /**
+     * Called once the executor is shut down and all its tasks completed.
+     */
+    protected void terminated() {
+    }
+
+    int getActiveCount() {
+        return activeCount.get();
+    }
+
+    long getSubmittedCount() {
+        return submittedCount.get();
+    }
+
+    long getCompletedTaskCount() {
+        return completedTaskCount.get();
+    }
+
+    synchronized int getCurrentThreadCount() {
+        return threads.size();
+    }
+
+    synchronized int getQueueSize() {
+        return queue.size();
+    }
+
+    // Must be called holding the lock
+    private Thread newThread(final Runnable task) {
+        final Thread thread = threadFactory.newThread(new Worker(task));
+        if (thread == null) {
+            throw ThreadsLogger.ROOT_LOGGER.virtualThreadExecutorTaskRejected();
+        }
+        threads.add(thread);
+        return thread;
+    }
+
+    private void threadDone(final Thread thread) {
+        final boolean nowTerminated;
+        synchronized (this) {
+            threads.remove(thread);
+            nowTerminated = checkTerminated();
+        }
+        if (nowTerminated) {
+            terminated();
+        }
+    }
+
+    // Must be called holding the lock; returns whether the executor just terminated
+    private boolean checkTerminated() {
+        if (shutdown && !terminated && threads.isEmpty() && queue.isEmpty()) {
+            terminated = true;
+            notifyAll();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Creates a factory of virtual threads, using {@code Thread.ofVirtual()} reflectively.
+     *
+     * @param namePrefix the prefix of the names of the threads, followed by a counter
+     * @return the factory, or {@code null} if the JVM doesn't support virtual threads
+     */
+    static ThreadFactory createVirtualThreadFactory(final String namePrefix) {
+        try {
+            final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Not available, or a preview feature which isn't enabled
+            return null;
+        }
+    }
+
+    private final class Worker implements Runnable {
+        private final Runnable task;
+
+        Worker(final Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Runnable next = task;
+                while (next != null) {
+                    activeCount.incrementAndGet();
+                    try {
+                        next.run();
+                    } finally {
+                        activeCount.decrementAndGet();
+                        completedTaskCount.incrementAndGet();
+                    }
+                    next = next();
+                }
+            } finally {
+                threadDone(Thread.currentThread());
+            }
+        }
+
+        /**
+         * Passes the permit of the completed task on to the first queued task, starting a thread for it.
+         *
+         * @return the queued task if no thread could be started for it, so that it runs in this thread instead
+         */
+        private Runnable next() {
+            if (permits == null) {
+                return null;
+            }
+            final Runnable queued;
+            Thread thread = null;
+            synchronized (VirtualThreadExecutor.this) {
+                queued = queue.poll();
+                if (queued == null) {
+                    permits.release();
+                    return null;
+                }
+                try {
+                    thread = newThread(queued);
+                } catch (RejectedExecutionException e) {
+                    return queued;
+                }
+            }
+            try {
+                thread.start();
+            } catch (Error | RuntimeException e) {
+                threadDone(thread);
+                return queued;
+            }
+            return null;
+        }
+    }
+}
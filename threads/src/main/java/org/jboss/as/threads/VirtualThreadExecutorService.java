@@ -0,0 +1,120 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.threads;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.jboss.msc.inject.Injector;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.jboss.msc.value.InjectedValue;
+
+/**
+ * Service responsible for creating, starting and stopping a virtual thread executor.
+ */
+public final class VirtualThreadExecutorService implements Service<ManagedVirtualThreadExecutorService> {
+
+    private final InjectedValue<ThreadFactory> threadFactoryValue = new InjectedValue<ThreadFactory>();
+
+    private ManagedVirtualThreadExecutorService executor;
+    private StopContext context;
+
+    private final String name;
+    private final int maxConcurrency;
+
+    public VirtualThreadExecutorService(final String name, final int maxConcurrency) {
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public void start(final StartContext context) throws StartException {
+        final VirtualThreadExecutor virtualExecutor = new ExecutorImpl(threadFactoryValue.getValue());
+        if (!virtualExecutor.isVirtual()) {
+            ThreadsLogger.ROOT_LOGGER.virtualThreadsNotSupported(name);
+        }
+        final ManagedVirtualThreadExecutorService executorService = new ManagedVirtualThreadExecutorService(virtualExecutor);
+        synchronized (this) {
+            executor = executorService;
+        }
+    }
+
+    public void stop(final StopContext context) {
+        final ManagedVirtualThreadExecutorService executor;
+        synchronized (this) {
+            executor = this.executor;
+            this.context = context;
+            this.executor = null;
+        }
+        context.asynchronous();
+        executor.internalShutdown();
+    }
+
+    public ManagedVirtualThreadExecutorService getValue() throws IllegalStateException {
+        final ManagedVirtualThreadExecutorService value;
+        synchronized (this) {
+            value = this.executor;
+        }
+        if (value == null) {
+            throw ThreadsLogger.ROOT_LOGGER.virtualThreadExecutorUninitialized();
+        }
+        return value;
+    }
+
+    public Injector<ThreadFactory> getThreadFactoryInjector() {
+        return threadFactoryValue;
+    }
+
+    public int getActiveCount() {
+        return getValue().getActiveCount();
+    }
+
+    public long getSubmittedCount() {
+        return getValue().getSubmittedCount();
+    }
+
+    public long getCompletedTaskCount() {
+        return getValue().getCompletedTaskCount();
+    }
+
+    public int getCurrentThreadCount() {
+        return getValue().getCurrentThreadCount();
+    }
+
+    private class ExecutorImpl extends VirtualThreadExecutor {
+
+        ExecutorImpl(final ThreadFactory fallbackThreadFactory) {
+            super(name, fallbackThreadFactory, maxConcurrency);
+        }
+
+        @Override
+        protected void terminated() {
+            StopContext context;
+            synchronized (VirtualThreadExecutorService.this) {
+                context = VirtualThreadExecutorService.this.context;
+                VirtualThreadExecutorService.this.context = null;
+            }
+            context.complete();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.threads.AdaptiveSizingController.Decision;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link AdaptiveSizingController}.
+ */
+public class AdaptiveSizingControllerTestCase {
+
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    private static final long LONG_WAIT = AdaptiveSizingController.TARGET_WAIT * 5;
+
+    private final AtomicInteger coreThreads = new AtomicInteger();
+    private final AdaptiveSizingController controller = new AdaptiveSizingController("test", new ThreadPoolStatistics(0),
+            () -> 0, coreThreads::set, 2, 18, 1000);
+
+    @Test
+    public void testGrowAndRevert() {
+        // Tasks wait in the queue, so the pool grows by an eighth of its range
+        Assert.assertEquals(Decision.GROW, controller.decide(100, 100, 100 * LONG_WAIT, 10, 2, INTERVAL));
+        Assert.assertEquals(4, coreThreads.get());
+        Assert.assertEquals(Decision.GROW, controller.decide(100, 100, 100 * LONG_WAIT, 10, 4, INTERVAL));
+        Assert.assertEquals(6, coreThreads.get());
+
+        // Growing lowered the throughput, so the last step is reverted and the pool doesn't grow for a while
+        Assert.assertEquals(Decision.REVERT, controller.decide(50, 50, 50 * LONG_WAIT, 10, 6, INTERVAL));
+        Assert.assertEquals(4, coreThreads.get());
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals(Decision.HOLD, controller.decide(50, 50, 50 * LONG_WAIT, 10, 4, INTERVAL));
+        }
+        Assert.assertEquals(Decision.GROW, controller.decide(50, 50, 50 * LONG_WAIT, 10, 4, INTERVAL));
+        Assert.assertEquals(6, coreThreads.get());
+        Assert.assertEquals(4, controller.getAdjustments());
+
+        // Tasks don't wait long enough
+        Assert.assertEquals(Decision.HOLD, controller.decide(100, 100, 0, 10, 6, INTERVAL));
+        Assert.assertEquals(Decision.HOLD, controller.getLastDecision());
+    }
+
+    @Test
+    public void testLongRunningTasks() {
+        // No task completed during the interval, but the started ones waited
+        Assert.assertEquals(Decision.GROW, controller.decide(0, 10, 10 * LONG_WAIT, 10, 2, INTERVAL));
+        Assert.assertEquals(4, coreThreads.get());
+    }
+
+    @Test
+    public void testBounds() {
+        for (int i = 0; i < 10; i++) {
+            controller.decide(100, 100, 100 * LONG_WAIT, 10, 18, INTERVAL);
+        }
+        Assert.assertEquals(18, coreThreads.get());
+        Assert.assertEquals(Decision.HOLD, controller.decide(100, 100, 100 * LONG_WAIT, 10, 18, INTERVAL));
+
+        // Lowering the maximum size lowers the adjusted core size
+        controller.setBounds(2, 10);
+        Assert.assertEquals(10, coreThreads.get());
+        Assert.assertEquals(10, controller.getCoreThreads());
+    }
+
+    @Test
+    public void testShrink() {
+        controller.setBounds(4, 20);
+        Assert.assertEquals(4, coreThreads.get());
+        Assert.assertEquals(Decision.GROW, controller.decide(100, 100, 100 * LONG_WAIT, 10, 4, INTERVAL));
+        Assert.assertEquals(6, coreThreads.get());
+
+        // The queue is empty and threads are idle, so the pool shrinks one thread at a time down to the core size
+        Assert.assertEquals(Decision.SHRINK, controller.decide(10, 10, 0, 0, 1, INTERVAL));
+        Assert.assertEquals(5, coreThreads.get());
+        Assert.assertEquals(Decision.SHRINK, controller.decide(10, 10, 0, 0, 1, INTERVAL));
+        Assert.assertEquals(4, coreThreads.get());
+        Assert.assertEquals(Decision.HOLD, controller.decide(10, 10, 0, 0, 1, INTERVAL));
+        Assert.assertEquals(4, coreThreads.get());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link HashedWheelScheduledExecutor}.
+ */
+public class HashedWheelScheduledExecutorTestCase {
+
+    @Test
+    public void testSchedule() throws Exception {
+        // Short ticks, so the delays end up in different levels of the wheel
+        final HashedWheelScheduledExecutor executor = new HashedWheelScheduledExecutor(Executors.defaultThreadFactory(), 2, 10, TimeUnit.MICROSECONDS);
+        try {
+            final long[] delays = {0, TimeUnit.MICROSECONDS.toNanos(300), TimeUnit.MILLISECONDS.toNanos(5), TimeUnit.MILLISECONDS.toNanos(200)};
+            final CountDownLatch done = new CountDownLatch(delays.length);
+            final List<ScheduledFuture<Long>> futures = new ArrayList<>();
+            for (long delay : delays) {
+                final long deadline = System.nanoTime() + delay;
+                futures.add(executor.schedule(() -> {
+                    done.countDown();
+                    return System.nanoTime() - deadline;
+                }, delay, TimeUnit.NANOSECONDS));
+            }
+            Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+            for (ScheduledFuture<Long> future : futures) {
+                // Never early
+                Assert.assertTrue(future.get() >= 0);
+            }
+            Assert.assertEquals(delays.length, executor.getCompletedTaskCount());
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        final HashedWheelScheduledExecutor executor = new HashedWheelScheduledExecutor(Executors.defaultThreadFactory(), 1, 1, TimeUnit.MILLISECONDS);
+        try {
+            final AtomicInteger runs = new AtomicInteger();
+            final List<ScheduledFuture<?>> futures = new ArrayList<>();
+            // Long enough delays that none of the tasks is due before all of them are scheduled, even on a slow machine
+            final long start = System.nanoTime();
+            for (int i = 0; i < 10000; i++) {
+                futures.add(executor.schedule(runs::incrementAndGet, 1000 + i % 100, TimeUnit.MILLISECONDS));
+            }
+            Assert.assertEquals(10000, executor.getQueueSize());
+            for (ScheduledFuture<?> future : futures) {
+                Assert.assertTrue(future.cancel(false));
+            }
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (executor.getQueueSize() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(0, executor.getQueueSize());
+            // Past the delays of all the tasks
+            Thread.sleep(Math.max(0, TimeUnit.NANOSECONDS.toMillis(start - System.nanoTime()) + 1200));
+            Assert.assertEquals(0, runs.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFixedRate() throws Exception {
+        final HashedWheelScheduledExecutor executor = new HashedWheelScheduledExecutor(Executors.defaultThreadFactory(), 1, 1, TimeUnit.MILLISECONDS);
+        try {
+            final CountDownLatch runs = new CountDownLatch(5);
+            final ScheduledFuture<?> future = executor.scheduleAtFixedRate(runs::countDown, 0, 10, TimeUnit.MILLISECONDS);
+            Assert.assertTrue(runs.await(10, TimeUnit.SECONDS));
+            Assert.assertTrue(future.cancel(false));
+            Assert.assertTrue(future.isCancelled());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testShutdown() throws Exception {
+        final HashedWheelScheduledExecutor executor = new HashedWheelScheduledExecutor(Executors.defaultThreadFactory(), 1, 1, TimeUnit.MILLISECONDS);
+        final ScheduledFuture<?> delayed = executor.schedule(() -> { }, 1, TimeUnit.HOURS);
+        executor.shutdown();
+        Assert.assertTrue(executor.isShutdown());
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        // Delayed tasks are dropped
+        Assert.assertTrue(delayed.isCancelled());
+        try {
+            executor.schedule(() -> { }, 1, TimeUnit.MILLISECONDS);
+            Assert.fail("Task should have been rejected");
+        } catch (RejectedExecutionException expected) {
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.threads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Compares the schedule and cancel throughput of {@link HashedWheelScheduledExecutor} with
+ * {@link ScheduledThreadPoolExecutor}, both as the scheduled thread pools configure it and with the removal of cancelled
+ * tasks enabled. Several threads schedule timeouts which are cancelled before they expire, keeping a window of pending
+ * ones, like connections arming and disarming their idle timeouts. The fastest of several rounds is printed rather than
+ * asserted, since the numbers depend on the machine; what is asserted is that no cancelled task runs.
+ */
+public class HashedWheelScheduledExecutorThroughputTestCase {
+
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int PENDING = 1000;
+    private static final int ROUNDS = 5;
+    private static final int ITERATIONS = 100000;
+
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @Test
+    public void testScheduleAndCancel() throws Exception {
+        // The first rounds warm up the compiler, the fastest round of each executor is reported
+        long wheelNanos = Long.MAX_VALUE;
+        long heapNanos = Long.MAX_VALUE;
+        long removingHeapNanos = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            wheelNanos = Math.min(wheelNanos, run(new HashedWheelScheduledExecutor(Executors.defaultThreadFactory(), 1, 10, TimeUnit.MILLISECONDS)));
+            heapNanos = Math.min(heapNanos, run(new ScheduledThreadPoolExecutor(1)));
+            final ScheduledThreadPoolExecutor removing = new ScheduledThreadPoolExecutor(1);
+            removing.setRemoveOnCancelPolicy(true);
+            removingHeapNanos = Math.min(removingHeapNanos, run(removing));
+        }
+        System.out.printf("schedule and cancel with %d threads: heap %d ops/ms, heap removing cancelled tasks %d ops/ms, timing wheel %d ops/ms%n",
+                THREADS, opsPerMilli(heapNanos), opsPerMilli(removingHeapNanos), opsPerMilli(wheelNanos));
+        Assert.assertEquals(0, runs.get());
+    }
+
+    /**
+     * Runs the iterations in each of the threads at once, returning the time taken by all of them.
+     */
+    private long run(final ScheduledExecutorService scheduler) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final CyclicBarrier barrier = new CyclicBarrier(THREADS + 1);
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    scheduleAndCancel(scheduler);
+                    return null;
+                }));
+            }
+            barrier.await();
+            final long start = System.nanoTime();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - start;
+        } finally {
+            executor.shutdownNow();
+            scheduler.shutdownNow();
+            Assert.assertTrue(scheduler.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private void scheduleAndCancel(final ScheduledExecutorService scheduler) {
+        final ScheduledFuture<?>[] pending = new ScheduledFuture<?>[PENDING];
+        for (int i = 0; i < ITERATIONS; i++) {
+            final int slot = i % PENDING;
+            if (pending[slot] != null) {
+                Assert.assertTrue(pending[slot].cancel(false));
+            }
+            pending[slot] = scheduler.schedule(runs::incrementAndGet, 30, TimeUnit.SECONDS);
+        }
+        for (ScheduledFuture<?> future : pending) {
+            Assert.assertTrue(future.cancel(false));
+        }
+    }
+
+    private static long opsPerMilli(final long nanos) {
+        return (long) THREADS * ITERATIONS * TimeUnit.MILLISECONDS.toNanos(1) / Math.max(nanos, 1L);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ThreadPoolStatistics}.
+ */
+public class ThreadPoolStatisticsTestCase {
+
+    @Test
+    public void testHistogram() {
+        final ThreadPoolStatistics.Histogram histogram = new ThreadPoolStatistics.Histogram();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(5));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(10));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(50));
+        histogram.record(TimeUnit.MINUTES.toNanos(1));
+
+        final ModelNode result = new ModelNode();
+        histogram.setResult(result);
+        Assert.assertEquals(2, result.get("10us").asLong());
+        Assert.assertEquals(0, result.get("100us").asLong());
+        Assert.assertEquals(1, result.get("100ms").asLong());
+        Assert.assertEquals(1, result.get("more").asLong());
+        Assert.assertEquals(8, result.keys().size());
+    }
+
+    @Test
+    public void testTimedTask() {
+        final ThreadPoolStatistics statistics = new ThreadPoolStatistics(0);
+        final int[] running = new int[1];
+        statistics.wrap(() -> running[0] = statistics.getRunningTasks()).run();
+        Assert.assertEquals(1, running[0]);
+        Assert.assertEquals(0, statistics.getRunningTasks());
+
+        final ModelNode waitTimes = new ModelNode();
+        statistics.setResult(CommonAttributes.TASK_WAIT_TIME, waitTimes);
+        final ModelNode executionTimes = new ModelNode();
+        statistics.setResult(CommonAttributes.TASK_EXECUTION_TIME, executionTimes);
+        long waits = 0;
+        long executions = 0;
+        for (String bucket : waitTimes.keys()) {
+            waits += waitTimes.get(bucket).asLong();
+            executions += executionTimes.get(bucket).asLong();
+        }
+        Assert.assertEquals(1, waits);
+        Assert.assertEquals(1, executions);
+    }
+
+    @Test
+    public void testCreate() {
+        Assert.assertNull(ThreadPoolStatistics.create(0));
+        Assert.assertFalse(ThreadPoolStatistics.create(0, true).isSampling());
+        Assert.assertTrue(ThreadPoolStatistics.create(1000).isSampling());
+
+        // Only the task timings are defined if the pool is not sampled
+        final ModelNode utilization = new ModelNode();
+        ThreadPoolStatistics.create(0, true).setResult(CommonAttributes.UTILIZATION, utilization);
+        Assert.assertFalse(utilization.isDefined());
+    }
+
+    @Test
+    public void testHandoff() {
+        final ThreadPoolStatistics statistics = new ThreadPoolStatistics(0);
+        final List<Runnable> handedOff = new ArrayList<>();
+        final Runnable task = () -> { };
+        ThreadPoolStatistics.handoff(handedOff::add, statistics).execute(statistics.wrap(task));
+        Assert.assertEquals(1, handedOff.size());
+        Assert.assertSame(task, handedOff.get(0));
+        Assert.assertSame(task, ThreadPoolStatistics.unwrap(task));
+        Assert.assertNull(ThreadPoolStatistics.handoff(null, statistics));
+    }
+
+    @Test
+    public void testMetrics() {
+        for (String name : new String[] {CommonAttributes.UTILIZATION, CommonAttributes.AVERAGE_QUEUE_SIZE,
+                CommonAttributes.PEAK_QUEUE_SIZE, CommonAttributes.TASK_WAIT_TIME, CommonAttributes.TASK_EXECUTION_TIME}) {
+            Assert.assertTrue(name, ThreadPoolStatistics.isMetric(name));
+        }
+        Assert.assertFalse(ThreadPoolStatistics.isMetric(CommonAttributes.QUEUE_SIZE));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.threads;
+
+import static org.jboss.as.model.test.ModelTestControllerVersion.EAP_7_1_0;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.model.test.FailedOperationTransformationConfig;
+import org.jboss.as.model.test.ModelTestControllerVersion;
+import org.jboss.as.model.test.ModelTestUtils;
+import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
+import org.jboss.as.subsystem.test.AdditionalInitialization;
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.as.subsystem.test.KernelServicesBuilder;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+public class ThreadsSubsystemTransformersTestCase extends AbstractSubsystemBaseTest {
+
+    public ThreadsSubsystemTransformersTestCase() {
+        super(ThreadsExtension.SUBSYSTEM_NAME, new ThreadsExtension());
+    }
+
+    @Override
+    protected String getSubsystemXml() throws IOException {
+        return readResource("threads-subsystem-2_0.xml");
+    }
+
+    @Override
+    public void testSubsystem() throws Exception {
+        standardSubsystemTest(null, false);
+    }
+
+    @Test
+    public void testTransformerEAP710() throws Exception {
+        ModelTestControllerVersion controllerVersion = EAP_7_1_0;
+        ModelVersion modelVersion = controllerVersion.getSubsystemModelVersion(getMainSubsystemName());
+
+        KernelServicesBuilder builder = createKernelServicesBuilder(AdditionalInitialization.MANAGEMENT).setSubsystemXml(getSubsystemXml());
+        builder.createLegacyKernelServicesBuilder(AdditionalInitialization.MANAGEMENT, controllerVersion, modelVersion)
+                .addMavenResourceURL(controllerVersion.getCoreMavenGroupId() + ":wildfly-threads:" + controllerVersion.getCoreVersion())
+                .skipReverseControllerCheck()
+                .dontPersistXml();
+
+        KernelServices mainServices = builder.build();
+        assertTrue(mainServices.isSuccessfulBoot());
+        assertTrue(mainServices.getLegacyServices(modelVersion).isSuccessfulBoot());
+
+        // the attributes added in 2.1.0 are undefined and discarded
+        checkSubsystemModelTransformation(mainServices, modelVersion, null, false);
+    }
+
+    @Test
+    public void testRejectingTransformersEAP710() throws Exception {
+        ModelTestControllerVersion controllerVersion = EAP_7_1_0;
+        ModelVersion modelVersion = controllerVersion.getSubsystemModelVersion(getMainSubsystemName());
+
+        KernelServicesBuilder builder = createKernelServicesBuilder(AdditionalInitialization.MANAGEMENT);
+        builder.createLegacyKernelServicesBuilder(AdditionalInitialization.MANAGEMENT, controllerVersion, modelVersion)
+                .addMavenResourceURL(controllerVersion.getCoreMavenGroupId() + ":wildfly-threads:" + controllerVersion.getCoreVersion())
+                .dontPersistXml();
+
+        KernelServices mainServices = builder.build();
+        assertTrue(mainServices.isSuccessfulBoot());
+        assertTrue(mainServices.getLegacyServices(modelVersion).isSuccessfulBoot());
+
+        PathAddress subsystemAddress = PathAddress.pathAddress(ThreadsExtension.SUBSYSTEM_PATH);
+        List<ModelNode> ops = builder.parseXmlResource("threads-subsystem-2_1.xml");
+        ModelTestUtils.checkFailedTransformedBootOperations(mainServices, modelVersion, ops, new FailedOperationTransformationConfig()
+                .addFailedAttribute(subsystemAddress.append(CommonAttributes.UNBOUNDED_QUEUE_THREAD_POOL, "unbounded-2"),
+                        new FailedOperationTransformationConfig.NewAttributesConfig(PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL))
+                .addFailedAttribute(subsystemAddress.append(CommonAttributes.BOUNDED_QUEUE_THREAD_POOL, "bounded-2"),
+                        new FailedOperationTransformationConfig.NewAttributesConfig(PoolAttributeDefinitions.ADAPTIVE_SIZING,
+                                PoolAttributeDefinitions.ADAPTIVE_SIZING_INTERVAL, PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL))
+                .addFailedAttribute(subsystemAddress.append(CommonAttributes.BLOCKING_BOUNDED_QUEUE_THREAD_POOL, "blocking-bounded-2"),
+                        new FailedOperationTransformationConfig.NewAttributesConfig(PoolAttributeDefinitions.ADAPTIVE_SIZING))
+                .addFailedAttribute(subsystemAddress.append(CommonAttributes.QUEUELESS_THREAD_POOL, "queueless-2"),
+                        new FailedOperationTransformationConfig.NewAttributesConfig(PoolAttributeDefinitions.STATISTICS_SAMPLING_INTERVAL))
+                .addFailedAttribute(subsystemAddress.append(CommonAttributes.SCHEDULED_THREAD_POOL, "scheduled-2"),
+                        new FailedOperationTransformationConfig.NewAttributesConfig(PoolAttributeDefinitions.HASHED_WHEEL_TIMER,
+                                PoolAttributeDefinitions.TICK_DURATION))
+                .addFailedAttribute(subsystemAddress.append(CommonAttributes.VIRTUAL_THREAD_EXECUTOR, "virtual-1"),
+                        FailedOperationTransformationConfig.REJECTED_RESOURCE)
+                .addFailedAttribute(subsystemAddress.append(CommonAttributes.VIRTUAL_THREAD_EXECUTOR, "virtual-2"),
+                        FailedOperationTransformationConfig.REJECTED_RESOURCE)
+        );
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.threads;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link VirtualThreadExecutor}.
+ */
+public class VirtualThreadExecutorTestCase {
+
+    @Test
+    public void testMaxConcurrency() throws Exception {
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor("test", Executors.defaultThreadFactory(), 2);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(2);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(5, executor.getSubmittedCount());
+        Assert.assertEquals(2, executor.getActiveCount());
+        // No threads are created for the queued tasks
+        Assert.assertEquals(2, executor.getCurrentThreadCount());
+        Assert.assertEquals(3, executor.getQueueSize());
+
+        release.countDown();
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(2, maxRunning.get());
+        Assert.assertEquals(5, executor.getCompletedTaskCount());
+        Assert.assertEquals(0, executor.getCurrentThreadCount());
+    }
+
+    @Test
+    public void testShutdownNow() throws Exception {
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor("test", Executors.defaultThreadFactory(), 1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        final Runnable queued = () -> { };
+        executor.execute(queued);
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        final List<Runnable> notRun = executor.shutdownNow();
+        Assert.assertEquals(1, notRun.size());
+        Assert.assertSame(queued, notRun.get(0));
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(1, executor.getCompletedTaskCount());
+    }
+
+    @Test
+    public void testShutdown() throws Exception {
+        final CountDownLatch terminated = new CountDownLatch(1);
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor("test", Executors.defaultThreadFactory(), 0) {
+            @Override
+            protected void terminated() {
+                terminated.countDown();
+            }
+        };
+        executor.submit(() -> { }).get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        Assert.assertTrue(terminated.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(executor.isTerminated());
+        try {
+            executor.execute(() -> { });
+            Assert.fail("Task accepted after shutdown");
+        } catch (RejectedExecutionException expected) {
+            // expected
+        }
+    }
+}